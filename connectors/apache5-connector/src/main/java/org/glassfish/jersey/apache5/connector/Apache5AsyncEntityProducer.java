@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.apache5.connector;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Set;
+
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.apache.hc.core5.http.nio.support.classic.SharedOutputBuffer;
+
+/**
+ * {@link AsyncEntityProducer} of a request entity written by Jersey, used by the {@link Apache5ClientProperties#ASYNC
+ * asynchronous} mode of the {@link Apache5Connector}.
+ */
+abstract class Apache5AsyncEntityProducer implements AsyncEntityProducer {
+
+    private final String contentType;
+    private final String contentEncoding;
+
+    private Apache5AsyncEntityProducer(final String contentType, final String contentEncoding) {
+        this.contentType = contentType;
+        this.contentEncoding = contentEncoding;
+    }
+
+    /**
+     * Create a producer of an entity already written into a byte array. The producer is repeatable, i.e. the request can
+     * be retried, redirected or authenticated with the entity.
+     *
+     * @param content         entity bytes.
+     * @param length          number of entity bytes in the {@code content}.
+     * @param contentType     entity content type or {@code null}.
+     * @param contentEncoding entity content encoding or {@code null}.
+     * @return buffered entity producer.
+     */
+    static Apache5AsyncEntityProducer buffered(final byte[] content, final int length,
+                                               final String contentType, final String contentEncoding) {
+        return new Buffered(content, length, contentType, contentEncoding);
+    }
+
+    /**
+     * Create a producer of an entity written into its {@link Streaming#getOutputStream() output stream} while the request
+     * is being sent. Writes into the stream block while the connection cannot accept more data, so the entity writer
+     * runs at the pace of the transport.
+     *
+     * @param bufferSize      size of the buffer between the entity writer and the transport.
+     * @param contentType     entity content type or {@code null}.
+     * @param contentEncoding entity content encoding or {@code null}.
+     * @return streaming entity producer.
+     */
+    static Streaming streaming(final int bufferSize, final String contentType, final String contentEncoding) {
+        return new Streaming(bufferSize, contentType, contentEncoding);
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    @Override
+    public Set<String> getTrailerNames() {
+        return null;
+    }
+
+    /**
+     * Producer of a buffered entity.
+     */
+    private static final class Buffered extends Apache5AsyncEntityProducer {
+
+        private final ByteBuffer content;
+
+        private Buffered(final byte[] content, final int length, final String contentType, final String contentEncoding) {
+            super(contentType, contentEncoding);
+            this.content = ByteBuffer.wrap(content, 0, length);
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        @Override
+        public long getContentLength() {
+            return content.limit();
+        }
+
+        @Override
+        public boolean isChunked() {
+            return false;
+        }
+
+        @Override
+        public int available() {
+            return content.remaining();
+        }
+
+        @Override
+        public void produce(final DataStreamChannel channel) throws IOException {
+            if (content.hasRemaining()) {
+                channel.write(content);
+            }
+            if (!content.hasRemaining()) {
+                channel.endStream();
+            }
+        }
+
+        @Override
+        public void failed(final Exception cause) {
+        }
+
+        @Override
+        public void releaseResources() {
+            // rewind for a repeated request
+            content.rewind();
+        }
+    }
+
+    /**
+     * Producer of a streamed entity.
+     */
+    static final class Streaming extends Apache5AsyncEntityProducer {
+
+        private final SharedOutputBuffer buffer;
+        private final OutputStream outputStream = new EntityOutputStream();
+
+        private volatile DataStreamChannel channel;
+        private volatile Throwable failure;
+
+        private Streaming(final int bufferSize, final String contentType, final String contentEncoding) {
+            super(contentType, contentEncoding);
+            this.buffer = new SharedOutputBuffer(bufferSize);
+        }
+
+        /**
+         * Get the stream the entity is written into. Closing the stream does not complete the entity, the entity
+         * is either {@link #complete() completed} or {@link #fail(Throwable) failed} once written.
+         *
+         * @return entity output stream.
+         */
+        OutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        /**
+         * Complete the entity once it has been written. Blocks until the buffered rest of the entity is sent.
+         *
+         * @throws IOException if the request has failed meanwhile.
+         */
+        void complete() throws IOException {
+            buffer.writeCompleted();
+        }
+
+        /**
+         * Fail the request as the entity could not be written. The truncated entity is never completed.
+         *
+         * @param cause entity writer failure.
+         */
+        void fail(final Throwable cause) {
+            failure = cause;
+            buffer.abort();
+            final DataStreamChannel channel = this.channel;
+            if (channel != null) {
+                // let the transport fail the exchange in produce
+                channel.requestOutput();
+            }
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return false;
+        }
+
+        @Override
+        public long getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public boolean isChunked() {
+            return true;
+        }
+
+        @Override
+        public int available() {
+            return buffer.length();
+        }
+
+        @Override
+        public void produce(final DataStreamChannel channel) throws IOException {
+            this.channel = channel;
+            final Throwable failure = this.failure;
+            if (failure != null) {
+                throw failure instanceof IOException ? (IOException) failure : new IOException(failure);
+            }
+            buffer.flush(channel);
+        }
+
+        @Override
+        public void failed(final Exception cause) {
+            // unblocks the entity writer
+            buffer.abort();
+        }
+
+        @Override
+        public void releaseResources() {
+            buffer.abort();
+        }
+
+        private final class EntityOutputStream extends OutputStream {
+
+            @Override
+            public void write(final int b) throws IOException {
+                buffer.write(b);
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                buffer.write(b, off, len);
+            }
+        }
+    }
+}
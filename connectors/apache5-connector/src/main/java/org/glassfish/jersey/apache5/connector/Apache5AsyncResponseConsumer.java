@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.apache5.connector;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.Consumer;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.protocol.RedirectLocations;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.support.classic.ContentInputStream;
+import org.apache.hc.core5.http.nio.support.classic.SharedInputBuffer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.message.internal.Statuses;
+
+/**
+ * {@link AsyncResponseConsumer} used by the {@link Apache5ClientProperties#ASYNC asynchronous} mode of the
+ * {@link Apache5Connector}. The {@link ClientResponse} is handed over as soon as the response headers arrive,
+ * the response entity is streamed to its entity stream. The exchange itself is completed once the whole response
+ * has been received, an exchange completed earlier would be cancelled by the client.
+ */
+final class Apache5AsyncResponseConsumer implements AsyncResponseConsumer<ClientResponse> {
+
+    private final ClientRequest clientRequest;
+    private final SharedInputBuffer buffer;
+    private final Consumer<ClientResponse> responseConsumer;
+
+    private volatile ClientResponse response;
+    private volatile FutureCallback<ClientResponse> resultCallback;
+    private volatile Exception failure;
+
+    private volatile CapacityChannel capacityChannel;
+    private volatile boolean chunked;
+    private volatile boolean ended;
+    private volatile boolean aborted;
+
+    /**
+     * Create new response consumer.
+     *
+     * @param clientRequest    the Jersey request.
+     * @param bufferSize       initial size of the buffer between the transport and the entity stream.
+     * @param responseConsumer consumer of the response, invoked once the response headers arrive.
+     */
+    Apache5AsyncResponseConsumer(final ClientRequest clientRequest, final int bufferSize,
+                                 final Consumer<ClientResponse> responseConsumer) {
+        this.clientRequest = clientRequest;
+        this.buffer = new SharedInputBuffer(bufferSize);
+        this.responseConsumer = responseConsumer;
+    }
+
+    @Override
+    public void consumeResponse(final HttpResponse response,
+                                final EntityDetails entityDetails,
+                                final HttpContext context,
+                                final FutureCallback<ClientResponse> resultCallback) throws HttpException, IOException {
+        final Response.StatusType status = response.getReasonPhrase() == null
+                ? Statuses.from(response.getCode())
+                : Statuses.from(response.getCode(), response.getReasonPhrase());
+
+        final ClientResponse responseContext = new ClientResponse(status, clientRequest);
+        final RedirectLocations redirects = HttpClientContext.adapt(context).getRedirectLocations();
+        final List<URI> redirectLocations = redirects != null ? redirects.getAll() : null;
+        if (redirectLocations != null && !redirectLocations.isEmpty()) {
+            responseContext.setResolvedRequestUri(redirectLocations.get(redirectLocations.size() - 1));
+        }
+
+        final MultivaluedMap<String, String> headers = responseContext.getHeaders();
+        for (final Header header : response.getHeaders()) {
+            headers.add(header.getName(), header.getValue());
+        }
+
+        if (entityDetails != null) {
+            chunked = entityDetails.getContentLength() < 0;
+            if (headers.get(HttpHeaders.CONTENT_LENGTH) == null) {
+                headers.add(HttpHeaders.CONTENT_LENGTH, String.valueOf(entityDetails.getContentLength()));
+            }
+
+            final String contentEncoding = entityDetails.getContentEncoding();
+            if (headers.get(HttpHeaders.CONTENT_ENCODING) == null && contentEncoding != null && !contentEncoding.isEmpty()) {
+                headers.add(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+            }
+            responseContext.setEntityStream(new EntityInputStream());
+        } else {
+            ended = true;
+            responseContext.setEntityStream(new ByteArrayInputStream(new byte[0]));
+        }
+
+        this.response = responseContext;
+        this.resultCallback = resultCallback;
+        responseConsumer.accept(responseContext);
+        if (ended) {
+            resultCallback.completed(responseContext);
+        }
+    }
+
+    @Override
+    public void informationResponse(final HttpResponse response, final HttpContext context) {
+    }
+
+    @Override
+    public void updateCapacity(final CapacityChannel capacityChannel) throws IOException {
+        this.capacityChannel = capacityChannel;
+        buffer.updateCapacity(capacityChannel);
+    }
+
+    @Override
+    public void consume(final ByteBuffer src) throws IOException {
+        if (aborted) {
+            // fails the exchange and discards the connection
+            throw new IOException(LocalizationMessages.RESPONSE_ENTITY_ABORTED());
+        }
+        buffer.fill(src);
+    }
+
+    @Override
+    public void streamEnd(final List<? extends Header> trailers) {
+        ended = true;
+        buffer.markEndStream();
+        resultCallback.completed(response);
+    }
+
+    @Override
+    public void failed(final Exception cause) {
+        if (ended) {
+            // the whole response has been received already
+            return;
+        }
+        failure = cause;
+        buffer.abort();
+    }
+
+    @Override
+    public void releaseResources() {
+    }
+
+    /**
+     * Response entity stream. Closing the stream of an unread chunked entity aborts the response, other entities are read
+     * to the end so that the connection can be reused.
+     */
+    private final class EntityInputStream extends FilterInputStream {
+
+        private EntityInputStream() {
+            super(new ContentInputStream(buffer));
+        }
+
+        @Override
+        public int read() throws IOException {
+            return checkFailure(super.read());
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            return checkFailure(super.read(b, off, len));
+        }
+
+        private int checkFailure(final int read) throws IOException {
+            final Exception cause = failure;
+            if (read < 0 && cause != null && !aborted) {
+                // do not report a truncated entity as a complete one
+                throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!ended && chunked) {
+                aborted = true;
+                buffer.abort();
+                final CapacityChannel channel = capacityChannel;
+                if (channel != null) {
+                    // let the transport deliver more data to abort the exchange on
+                    channel.update(Integer.MAX_VALUE);
+                }
+            } else {
+                super.close();
+            }
+        }
+    }
+}
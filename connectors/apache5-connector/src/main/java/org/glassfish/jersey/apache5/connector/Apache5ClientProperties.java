@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -180,6 +180,49 @@ public final class Apache5ClientProperties {
      */
     public static final String USE_SYSTEM_PROPERTIES = "jersey.config.apache5.client.useSystemProperties";
 
+    /**
+     * A value of {@code true} makes the connector execute requests using the non-blocking
+     * {@link org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient} instead of the classic
+     * {@link org.apache.hc.client5.http.classic.HttpClient}. Asynchronous requests do not hold a thread while waiting
+     * for the response and responses are processed as soon as their headers arrive, while the response entity
+     * is streamed to the application.
+     * <p>
+     * In the asynchronous mode, the {@link #CONNECTION_MANAGER} property expects an instance of
+     * {@link org.apache.hc.client5.http.nio.AsyncClientConnectionManager}, the {@link Apache5HttpAsyncClientBuilderConfigurator}
+     * is used instead of the {@link Apache5HttpClientBuilderConfigurator} and the {@link #CONNECTION_CLOSING_STRATEGY}
+     * property is ignored. An unread chunked response entity is aborted when its stream is closed, other entities are
+     * read to the end.
+     * <p>
+     * This property may only be set prior to constructing Apache connector using {@link Apache5ConnectorProvider}.
+     * <p/>
+     * The value MUST be an instance of {@link java.lang.Boolean}.
+     * <p/>
+     * The default value is {@code false}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     *
+     * @since 3.1.2
+     */
+    public static final String ASYNC = "jersey.config.apache5.client.async";
+
+    /**
+     * A value of {@code true} makes the asynchronous client negotiate HTTP/2 with {@code https} servers using ALPN.
+     * Concurrent requests to the same HTTP/2 server are multiplexed over a single connection. Plain {@code http}
+     * requests and servers not supporting HTTP/2 use HTTP/1.1.
+     * <p>
+     * The property is only supported with the {@link #ASYNC} mode and may only be set prior to constructing Apache
+     * connector using {@link Apache5ConnectorProvider}.
+     * <p/>
+     * The value MUST be an instance of {@link java.lang.Boolean}.
+     * <p/>
+     * The default value is {@code false}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     *
+     * @since 3.1.2
+     */
+    public static final String HTTP2 = "jersey.config.apache5.client.http2";
+
     /**
      * Get the value of the specified property.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -32,7 +32,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -62,6 +66,8 @@ import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.cookie.BasicCookieStore;
 import org.apache.hc.client5.http.cookie.CookieStore;
 import org.apache.hc.client5.http.cookie.StandardCookieSpec;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.auth.BasicAuthCache;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.impl.auth.BasicScheme;
@@ -70,22 +76,31 @@ import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
 import org.apache.hc.client5.http.socket.LayeredConnectionSocketFactory;
 import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ConnectionReuseStrategy;
 import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
 import org.apache.hc.core5.http.config.Http1Config;
 import org.apache.hc.core5.http.config.Registry;
 import org.apache.hc.core5.http.config.RegistryBuilder;
 import org.apache.hc.core5.http.impl.DefaultContentLengthStrategy;
 import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
 import org.apache.hc.core5.http.io.entity.BufferedHttpEntity;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
 import org.apache.hc.core5.ssl.SSLContexts;
 import org.apache.hc.core5.util.TextUtils;
 import org.apache.hc.core5.util.Timeout;
@@ -97,6 +112,7 @@ import org.glassfish.jersey.client.RequestEntityProcessing;
 import org.glassfish.jersey.client.innate.ClientProxy;
 import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
 import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.message.internal.HeaderUtils;
 import org.glassfish.jersey.message.internal.OutboundMessageContext;
@@ -124,8 +140,16 @@ import org.glassfish.jersey.message.internal.Statuses;
  * <li>{@link Apache5ClientProperties#RETRY_STRATEGY}</li>
  * <li>{@link Apache5ClientProperties#REUSE_STRATEGY}</li>
  * <li>{@link Apache5ClientProperties#USE_SYSTEM_PROPERTIES}</li>
+ * <li>{@link Apache5ClientProperties#ASYNC}</li>
+ * <li>{@link Apache5ClientProperties#HTTP2}</li>
  * </ul>
  * <p>
+ * By default, requests are executed by the classic blocking {@link HttpClient}, asynchronous requests block a thread of
+ * the Jersey client asynchronous executor until the response arrives. If the {@link Apache5ClientProperties#ASYNC} property
+ * is set to {@code true}, requests are executed by the non-blocking {@link CloseableHttpAsyncClient}, the asynchronous
+ * response callbacks are invoked as soon as the response headers arrive.
+ * </p>
+ * <p>
  * This connector uses {@link RequestEntityProcessing#CHUNKED chunked encoding} as a default setting. This can
  * be overridden by the {@link ClientProperties#REQUEST_ENTITY_PROCESSING}. By default the
  * {@link ClientProperties#CHUNKED_ENCODING_SIZE} property is only supported by using default connection manager. If custom
@@ -185,9 +209,12 @@ class Apache5Connector implements Connector {
     }
 
     private final CloseableHttpClient client;
+    private final CloseableHttpAsyncClient asyncClient;
+    private final ExecutorService executorService;
     private final CookieStore cookieStore;
     private final boolean preemptiveBasicAuth;
     private final RequestConfig requestConfig;
+    private final int bufferSize;
 
     /**
      * Create the new Apache HTTP Client connector.
@@ -196,15 +223,17 @@ class Apache5Connector implements Connector {
      * @param config client configuration.
      */
     Apache5Connector(final Client client, final Configuration config) {
+        final boolean async = PropertiesHelper.isProperty(config.getProperties(), Apache5ClientProperties.ASYNC);
+        final Class<?> connectionManagerType = async ? AsyncClientConnectionManager.class : HttpClientConnectionManager.class;
         final Object connectionManager = config.getProperties().get(Apache5ClientProperties.CONNECTION_MANAGER);
         if (connectionManager != null) {
-            if (!(connectionManager instanceof HttpClientConnectionManager)) {
+            if (!connectionManagerType.isInstance(connectionManager)) {
                 LOGGER.log(
                         Level.WARNING,
                         LocalizationMessages.IGNORING_VALUE_OF_PROPERTY(
                                 Apache5ClientProperties.CONNECTION_MANAGER,
                                 connectionManager.getClass().getName(),
-                                HttpClientConnectionManager.class.getName())
+                                connectionManagerType.getName())
                 );
             }
         }
@@ -252,50 +281,40 @@ class Apache5Connector implements Connector {
         }
 
         final SSLContext sslContext = client.getSslContext();
-        final HttpClientBuilder clientBuilder = HttpClientBuilder.create();
-
-        clientBuilder.setConnectionManager(getConnectionManager(client, config, sslContext));
-        clientBuilder.setConnectionManagerShared(
-                PropertiesHelper.getValue(
-                        config.getProperties(),
-                        Apache5ClientProperties.CONNECTION_MANAGER_SHARED,
-                        false,
-                        null
-                )
+        final boolean connectionManagerShared = PropertiesHelper.getValue(
+                config.getProperties(),
+                Apache5ClientProperties.CONNECTION_MANAGER_SHARED,
+                false,
+                null
         );
-        if (keepAliveStrategy != null) {
-            clientBuilder.setKeepAliveStrategy((ConnectionKeepAliveStrategy) keepAliveStrategy);
-        }
-        if (reuseStrategy != null) {
-            clientBuilder.setConnectionReuseStrategy((ConnectionReuseStrategy) reuseStrategy);
-        }
 
         final RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
 
+        CredentialsProvider defaultCredentialsProvider = null;
         final Object credentialsProvider = config.getProperty(Apache5ClientProperties.CREDENTIALS_PROVIDER);
         if (credentialsProvider != null && (credentialsProvider instanceof CredentialsProvider)) {
-            clientBuilder.setDefaultCredentialsProvider((CredentialsProvider) credentialsProvider);
+            defaultCredentialsProvider = (CredentialsProvider) credentialsProvider;
         }
 
         final Object retryHandler = config.getProperties().get(Apache5ClientProperties.RETRY_STRATEGY);
-        if (retryHandler != null && (retryHandler instanceof HttpRequestRetryStrategy)) {
-            clientBuilder.setRetryStrategy((HttpRequestRetryStrategy) retryHandler);
-        }
+        final HttpRequestRetryStrategy retryStrategy = retryHandler instanceof HttpRequestRetryStrategy
+                ? (HttpRequestRetryStrategy) retryHandler : null;
 
+        HttpHost proxyHost = null;
         final Optional<ClientProxy> proxy = ClientProxy.proxyFromConfiguration(config);
-        proxy.ifPresent(clientProxy -> {
+        if (proxy.isPresent()) {
+            final ClientProxy clientProxy = proxy.get();
             final URI u = clientProxy.uri();
-            final HttpHost proxyHost = new HttpHost(u.getScheme(), u.getHost(), u.getPort());
+            proxyHost = new HttpHost(u.getScheme(), u.getHost(), u.getPort());
             if (clientProxy.userName() != null && clientProxy.password() != null) {
                 final CredentialsStore credsProvider = new BasicCredentialsProvider();
                 credsProvider.setCredentials(
                         new AuthScope(u.getHost(), u.getPort()),
                         new UsernamePasswordCredentials(clientProxy.userName(), clientProxy.password().toCharArray())
                 );
-                clientBuilder.setDefaultCredentialsProvider(credsProvider);
+                defaultCredentialsProvider = credsProvider;
             }
-            clientBuilder.setProxy(proxyHost);
-        });
+        }
 
         final Boolean preemptiveBasicAuthProperty = (Boolean) config.getProperties()
                 .get(Apache5ClientProperties.PREEMPTIVE_BASIC_AUTHENTICATION);
@@ -321,22 +340,103 @@ class Apache5Connector implements Connector {
 
         if (requestConfig.getCookieSpec() == null || !requestConfig.getCookieSpec().equals(StandardCookieSpec.IGNORE)) {
             this.cookieStore = new BasicCookieStore();
-            clientBuilder.setDefaultCookieStore(cookieStore);
         } else {
             this.cookieStore = null;
         }
-        clientBuilder.setDefaultRequestConfig(requestConfig);
 
-        LinkedList<Object> contracts = config.getInstances().stream()
-                .filter(Apache5HttpClientBuilderConfigurator.class::isInstance)
-                .collect(Collectors.toCollection(LinkedList::new));
+        this.bufferSize = ClientProperties.getValue(config.getProperties(),
+                ClientProperties.CHUNKED_ENCODING_SIZE, ClientProperties.DEFAULT_CHUNK_SIZE, Integer.class);
 
-        HttpClientBuilder configuredBuilder = clientBuilder;
-        for (Object configurator : contracts) {
-            configuredBuilder = ((Apache5HttpClientBuilderConfigurator) configurator).configure(configuredBuilder);
-        }
+        if (async) {
+            final HttpAsyncClientBuilder clientBuilder = HttpAsyncClientBuilder.create();
+
+            clientBuilder.setConnectionManager(getAsyncConnectionManager(client, config, sslContext));
+            clientBuilder.setConnectionManagerShared(connectionManagerShared);
+            if (keepAliveStrategy != null) {
+                clientBuilder.setKeepAliveStrategy((ConnectionKeepAliveStrategy) keepAliveStrategy);
+            }
+            if (reuseStrategy != null) {
+                clientBuilder.setConnectionReuseStrategy((ConnectionReuseStrategy) reuseStrategy);
+            }
+            if (defaultCredentialsProvider != null) {
+                clientBuilder.setDefaultCredentialsProvider(defaultCredentialsProvider);
+            }
+            if (retryStrategy != null) {
+                clientBuilder.setRetryStrategy(retryStrategy);
+            }
+            if (proxyHost != null) {
+                clientBuilder.setProxy(proxyHost);
+            }
+            if (cookieStore != null) {
+                clientBuilder.setDefaultCookieStore(cookieStore);
+            }
+            clientBuilder.setDefaultRequestConfig(requestConfig);
+            clientBuilder.setVersionPolicy(
+                    PropertiesHelper.isProperty(config.getProperties(), Apache5ClientProperties.HTTP2)
+                            ? HttpVersionPolicy.NEGOTIATE
+                            : HttpVersionPolicy.FORCE_HTTP_1);
+
+            HttpAsyncClientBuilder configuredBuilder = clientBuilder;
+            for (Object configurator : config.getInstances()) {
+                if (configurator instanceof Apache5HttpAsyncClientBuilderConfigurator) {
+                    final HttpAsyncClientBuilder configured =
+                            ((Apache5HttpAsyncClientBuilderConfigurator) configurator).configure(configuredBuilder);
+                    configuredBuilder = configured != null ? configured : configuredBuilder;
+                }
+            }
+
+            final ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                    .setNameFormat("jersey-apache5-connector-async-%d")
+                    .setDaemon(true)
+                    .build();
+            final Object threadPoolSize = config.getProperties().get(ClientProperties.ASYNC_THREADPOOL_SIZE);
+            if (threadPoolSize instanceof Integer && (Integer) threadPoolSize > 0) {
+                this.executorService = Executors.newFixedThreadPool((Integer) threadPoolSize, threadFactory);
+            } else {
+                this.executorService = Executors.newCachedThreadPool(threadFactory);
+            }
+
+            this.client = null;
+            this.asyncClient = configuredBuilder.build();
+            this.asyncClient.start();
+        } else {
+            final HttpClientBuilder clientBuilder = HttpClientBuilder.create();
+
+            clientBuilder.setConnectionManager(getConnectionManager(client, config, sslContext));
+            clientBuilder.setConnectionManagerShared(connectionManagerShared);
+            if (keepAliveStrategy != null) {
+                clientBuilder.setKeepAliveStrategy((ConnectionKeepAliveStrategy) keepAliveStrategy);
+            }
+            if (reuseStrategy != null) {
+                clientBuilder.setConnectionReuseStrategy((ConnectionReuseStrategy) reuseStrategy);
+            }
+            if (defaultCredentialsProvider != null) {
+                clientBuilder.setDefaultCredentialsProvider(defaultCredentialsProvider);
+            }
+            if (retryStrategy != null) {
+                clientBuilder.setRetryStrategy(retryStrategy);
+            }
+            if (proxyHost != null) {
+                clientBuilder.setProxy(proxyHost);
+            }
+            if (cookieStore != null) {
+                clientBuilder.setDefaultCookieStore(cookieStore);
+            }
+            clientBuilder.setDefaultRequestConfig(requestConfig);
+
+            LinkedList<Object> contracts = config.getInstances().stream()
+                    .filter(Apache5HttpClientBuilderConfigurator.class::isInstance)
+                    .collect(Collectors.toCollection(LinkedList::new));
 
-        this.client = configuredBuilder.build();
+            HttpClientBuilder configuredBuilder = clientBuilder;
+            for (Object configurator : contracts) {
+                configuredBuilder = ((Apache5HttpClientBuilderConfigurator) configurator).configure(configuredBuilder);
+            }
+
+            this.executorService = null;
+            this.asyncClient = null;
+            this.client = configuredBuilder.build();
+        }
     }
 
     private HttpClientConnectionManager getConnectionManager(final Client client,
@@ -423,6 +523,54 @@ class Apache5Connector implements Connector {
         return connectionManager;
     }
 
+    private AsyncClientConnectionManager getAsyncConnectionManager(final Client client,
+                                                                   final Configuration config,
+                                                                   final SSLContext sslContext) {
+        final Object cmObject = config.getProperties().get(Apache5ClientProperties.CONNECTION_MANAGER);
+
+        // Connection manager from configuration, a warning has been logged for a value of other type.
+        if (cmObject instanceof AsyncClientConnectionManager) {
+            return (AsyncClientConnectionManager) cmObject;
+        }
+
+        final boolean useSystemProperties =
+            PropertiesHelper.isProperty(config.getProperties(), Apache5ClientProperties.USE_SYSTEM_PROPERTIES);
+
+        final String[] supportedProtocols = useSystemProperties ? split(
+                System.getProperty("https.protocols")) : null;
+        final String[] supportedCipherSuites = useSystemProperties ? split(
+                System.getProperty("https.cipherSuites")) : null;
+
+        final SSLContext tlsContext;
+        if (sslContext != null) {
+            tlsContext = sslContext;
+        } else {
+            tlsContext = useSystemProperties ? SSLContexts.createSystemDefault() : SSLContexts.createDefault();
+        }
+
+        final TlsStrategy tlsStrategy = ClientTlsStrategyBuilder.create()
+                .setSslContext(tlsContext)
+                .setTlsVersions(supportedProtocols)
+                .setCiphers(supportedCipherSuites)
+                .setHostnameVerifier(client.getHostnameVerifier())
+                .build();
+
+        final PoolingAsyncClientConnectionManagerBuilder connectionManagerBuilder =
+                PoolingAsyncClientConnectionManagerBuilder.create().setTlsStrategy(tlsStrategy);
+
+        if (useSystemProperties) {
+            String s = System.getProperty("http.keepAlive", "true");
+            if ("true".equalsIgnoreCase(s)) {
+                s = System.getProperty("http.maxConnections", "5");
+                final int max = Integer.parseInt(s);
+                connectionManagerBuilder.setMaxConnPerRoute(max);
+                connectionManagerBuilder.setMaxConnTotal(2 * max);
+            }
+        }
+
+        return connectionManagerBuilder.build();
+    }
+
     private static String[] split(final String s) {
         if (TextUtils.isBlank(s)) {
             return null;
@@ -433,13 +581,22 @@ class Apache5Connector implements Connector {
     /**
      * Get the {@link HttpClient}.
      *
-     * @return the {@link HttpClient}.
+     * @return the {@link HttpClient} or {@code null} in the {@link Apache5ClientProperties#ASYNC asynchronous} mode.
      */
     @SuppressWarnings("UnusedDeclaration")
     public HttpClient getHttpClient() {
         return client;
     }
 
+    /**
+     * Get the {@link CloseableHttpAsyncClient} used in the {@link Apache5ClientProperties#ASYNC asynchronous} mode.
+     *
+     * @return the {@link CloseableHttpAsyncClient} or {@code null} if the connector is not in the asynchronous mode.
+     */
+    public CloseableHttpAsyncClient getHttpAsyncClient() {
+        return asyncClient;
+    }
+
     /**
      * Get the {@link CookieStore}.
      *
@@ -452,25 +609,24 @@ class Apache5Connector implements Connector {
 
     @Override
     public ClientResponse apply(final ClientRequest clientRequest) throws ProcessingException {
+        if (asyncClient != null) {
+            try {
+                return execute(clientRequest).get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProcessingException(e);
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof ProcessingException
+                        ? (ProcessingException) e.getCause() : new ProcessingException(e.getCause());
+            }
+        }
+
         final HttpUriRequest request = getUriHttpRequest(clientRequest);
         final Map<String, String> clientHeadersSnapshot = writeOutBoundHeaders(clientRequest, request);
 
         try {
             final CloseableHttpResponse response;
-            final HttpClientContext context = HttpClientContext.create();
-            if (preemptiveBasicAuth) {
-                final AuthCache authCache = new BasicAuthCache();
-                final BasicScheme basicScheme = new BasicScheme();
-                authCache.put(getHost(request), basicScheme);
-                context.setAuthCache(authCache);
-            }
-
-            // If a request-specific CredentialsProvider exists, use it instead of the default one
-            CredentialsProvider credentialsProvider =
-                    clientRequest.resolveProperty(Apache5ClientProperties.CREDENTIALS_PROVIDER, CredentialsProvider.class);
-            if (credentialsProvider != null) {
-                context.setCredentialsProvider(credentialsProvider);
-            }
+            final HttpClientContext context = createContext(clientRequest, getHost(request));
 
             response = client.execute(getHost(request), request, context);
             HeaderUtils.checkHeaderChanges(clientHeadersSnapshot, clientRequest.getHeaders(),
@@ -526,6 +682,19 @@ class Apache5Connector implements Connector {
 
     @Override
     public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+        if (asyncClient != null) {
+            final CompletableFuture<ClientResponse> response = execute(request);
+            // the response entity must not be read on an I/O reactor thread
+            response.whenCompleteAsync((r, th) -> {
+                if (th == null) {
+                    callback.response(r);
+                } else {
+                    callback.failure(th);
+                }
+            }, executorService);
+            return response;
+        }
+
         try {
             ClientResponse response = apply(request);
             callback.response(response);
@@ -546,17 +715,169 @@ class Apache5Connector implements Connector {
     @Override
     public void close() {
         try {
-            client.close();
+            if (asyncClient != null) {
+                executorService.shutdown();
+                asyncClient.close();
+            } else {
+                client.close();
+            }
         } catch (final IOException e) {
             throw new ProcessingException(LocalizationMessages.FAILED_TO_STOP_CLIENT(), e);
         }
     }
 
+    /**
+     * Execute the request using the {@link CloseableHttpAsyncClient}. A streamed request entity is written in the calling
+     * thread while the request is being sent.
+     *
+     * @param clientRequest the Jersey request.
+     * @return the response completed once the response headers arrive.
+     */
+    private CompletableFuture<ClientResponse> execute(final ClientRequest clientRequest) {
+        final CompletableFuture<ClientResponse> responseFuture = new CompletableFuture<>();
+        try {
+            final Apache5AsyncEntityProducer entityProducer = getAsyncEntityProducer(clientRequest);
+            final BasicHttpRequest request = new BasicHttpRequest(clientRequest.getMethod(), clientRequest.getUri());
+            final Map<String, String> clientHeadersSnapshot = writeOutBoundHeaders(clientRequest, request);
+
+            final URI uri = clientRequest.getUri();
+            final HttpClientContext context =
+                    createContext(clientRequest, new HttpHost(uri.getScheme(), uri.getHost(), uri.getPort()));
+            context.setRequestConfig(getRequestConfig(clientRequest));
+
+            final Future<ClientResponse> exchange = asyncClient.execute(
+                    new BasicRequestProducer(request, entityProducer),
+                    new Apache5AsyncResponseConsumer(clientRequest, bufferSize, responseFuture::complete),
+                    context,
+                    new FutureCallback<ClientResponse>() {
+                        @Override
+                        public void completed(final ClientResponse response) {
+                            responseFuture.complete(response);
+                        }
+
+                        @Override
+                        public void failed(final Exception ex) {
+                            responseFuture.completeExceptionally(new ProcessingException(ex));
+                        }
+
+                        @Override
+                        public void cancelled() {
+                            responseFuture.cancel(true);
+                        }
+                    });
+            // cancelling the returned future aborts the exchange
+            responseFuture.whenComplete((response, throwable) -> {
+                if (responseFuture.isCancelled()) {
+                    exchange.cancel(true);
+                }
+            });
+
+            if (entityProducer instanceof Apache5AsyncEntityProducer.Streaming) {
+                final Apache5AsyncEntityProducer.Streaming streaming = (Apache5AsyncEntityProducer.Streaming) entityProducer;
+                try {
+                    writeEntity(clientRequest, streaming.getOutputStream());
+                    streaming.complete();
+                } catch (final IOException | RuntimeException e) {
+                    streaming.fail(e);
+                    // the server may have responded without reading the whole entity, the response is kept then
+                    throw e;
+                }
+            }
+            HeaderUtils.checkHeaderChanges(clientHeadersSnapshot, clientRequest.getHeaders(),
+                    this.getClass().getName(), clientRequest.getConfiguration());
+        } catch (final ProcessingException e) {
+            responseFuture.completeExceptionally(e);
+        } catch (final Exception e) {
+            responseFuture.completeExceptionally(new ProcessingException(e));
+        }
+        return responseFuture;
+    }
+
+    private Apache5AsyncEntityProducer getAsyncEntityProducer(final ClientRequest clientRequest) throws IOException {
+        final Object entity = clientRequest.getEntity();
+
+        if (entity == null) {
+            return null;
+        }
+
+        String contentType = clientRequest.getHeaderString(HttpHeaders.CONTENT_TYPE);
+        String contentEncoding = clientRequest.getHeaderString(HttpHeaders.CONTENT_ENCODING);
+        final boolean bufferingEnabled;
+
+        if (HttpEntity.class.isInstance(entity)) {
+            final HttpEntity httpEntity = (HttpEntity) entity;
+            try {
+                clientRequest.setEntity(httpEntity.getContent());
+            } catch (IOException e) {
+                throw new ProcessingException(LocalizationMessages.ERROR_READING_HTTPENTITY_STREAM(e.getMessage()), e);
+            }
+            contentType = httpEntity.getContentType() != null ? httpEntity.getContentType() : contentType;
+            contentEncoding = httpEntity.getContentEncoding() != null ? httpEntity.getContentEncoding() : contentEncoding;
+            bufferingEnabled = BufferedHttpEntity.class.isInstance(httpEntity);
+        } else {
+            bufferingEnabled = clientRequest.resolveProperty(ClientProperties.REQUEST_ENTITY_PROCESSING,
+                    RequestEntityProcessing.class) == RequestEntityProcessing.BUFFERED;
+        }
+
+        if (bufferingEnabled) {
+            final BufferOutputStream buffer = new BufferOutputStream();
+            try {
+                writeEntity(clientRequest, buffer);
+            } catch (final IOException e) {
+                throw new ProcessingException(LocalizationMessages.ERROR_BUFFERING_ENTITY(), e);
+            }
+            // the entity writer may have changed the headers
+            return buffer.getEntityProducer(clientRequest.getHeaderString(HttpHeaders.CONTENT_TYPE),
+                    clientRequest.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        }
+        return Apache5AsyncEntityProducer.streaming(bufferSize, contentType, contentEncoding);
+    }
+
+    private static void writeEntity(final ClientRequest clientRequest, final OutputStream outputStream) throws IOException {
+        clientRequest.setStreamProvider(new OutboundMessageContext.StreamProvider() {
+            @Override
+            public OutputStream getOutputStream(final int contentLength) throws IOException {
+                return outputStream;
+            }
+        });
+        clientRequest.writeEntity();
+    }
+
+    private HttpClientContext createContext(final ClientRequest clientRequest, final HttpHost host) {
+        final HttpClientContext context = HttpClientContext.create();
+        if (preemptiveBasicAuth) {
+            final AuthCache authCache = new BasicAuthCache();
+            final BasicScheme basicScheme = new BasicScheme();
+            authCache.put(host, basicScheme);
+            context.setAuthCache(authCache);
+        }
+
+        // If a request-specific CredentialsProvider exists, use it instead of the default one
+        CredentialsProvider credentialsProvider =
+                clientRequest.resolveProperty(Apache5ClientProperties.CREDENTIALS_PROVIDER, CredentialsProvider.class);
+        if (credentialsProvider != null) {
+            context.setCredentialsProvider(credentialsProvider);
+        }
+        return context;
+    }
+
     private HttpHost getHost(final HttpUriRequest request) throws URISyntaxException {
         return new HttpHost(request.getUri().getScheme(), request.getUri().getHost(), request.getUri().getPort());
     }
 
     private HttpUriRequest getUriHttpRequest(final ClientRequest clientRequest) {
+        final Boolean bufferingEnabled = clientRequest.resolveProperty(ClientProperties.REQUEST_ENTITY_PROCESSING,
+                RequestEntityProcessing.class) == RequestEntityProcessing.BUFFERED;
+        final HttpEntity entity = getHttpEntity(clientRequest, bufferingEnabled);
+
+        HttpUriRequestBase httpUriRequestBase = new HttpUriRequestBase(clientRequest.getMethod(), clientRequest.getUri());
+        httpUriRequestBase.setConfig(getRequestConfig(clientRequest));
+        httpUriRequestBase.setEntity(entity);
+
+        return httpUriRequestBase;
+    }
+
+    private RequestConfig getRequestConfig(final ClientRequest clientRequest) {
         final RequestConfig.Builder requestConfigBuilder = RequestConfig.copy(requestConfig);
 
         final int connectTimeout = clientRequest.resolveProperty(ClientProperties.CONNECT_TIMEOUT, -1);
@@ -573,15 +894,7 @@ class Apache5Connector implements Connector {
                 clientRequest.resolveProperty(ClientProperties.FOLLOW_REDIRECTS, requestConfig.isRedirectsEnabled());
         requestConfigBuilder.setRedirectsEnabled(redirectsEnabled);
 
-        final Boolean bufferingEnabled = clientRequest.resolveProperty(ClientProperties.REQUEST_ENTITY_PROCESSING,
-                RequestEntityProcessing.class) == RequestEntityProcessing.BUFFERED;
-        final HttpEntity entity = getHttpEntity(clientRequest, bufferingEnabled);
-
-        HttpUriRequestBase httpUriRequestBase = new HttpUriRequestBase(clientRequest.getMethod(), clientRequest.getUri());
-        httpUriRequestBase.setConfig(requestConfigBuilder.build());
-        httpUriRequestBase.setEntity(entity);
-
-        return httpUriRequestBase;
+        return requestConfigBuilder.build();
     }
 
     private HttpEntity getHttpEntity(final ClientRequest clientRequest, final boolean bufferingEnabled) {
@@ -712,7 +1025,7 @@ class Apache5Connector implements Connector {
     }
 
     private static Map<String, String> writeOutBoundHeaders(final ClientRequest clientRequest,
-                                                            final HttpUriRequest request) {
+                                                            final HttpRequest request) {
         final Map<String, String> stringHeaders =
                 HeaderUtils.asStringHeadersSingleValue(clientRequest.getHeaders(), clientRequest.getConfiguration());
 
@@ -786,6 +1099,20 @@ class Apache5Connector implements Connector {
         }
     }
 
+    /**
+     * {@link ByteArrayOutputStream} producing its internal buffer without copying it.
+     */
+    private static class BufferOutputStream extends ByteArrayOutputStream {
+
+        private BufferOutputStream() {
+            super(512);
+        }
+
+        private Apache5AsyncEntityProducer getEntityProducer(final String contentType, final String contentEncoding) {
+            return Apache5AsyncEntityProducer.buffered(buf, count, contentType, contentEncoding);
+        }
+    }
+
     private static class ConnectionFactory extends ManagedHttpClientConnectionFactory {
         private ConnectionFactory(final int chunkSize) {
             super(
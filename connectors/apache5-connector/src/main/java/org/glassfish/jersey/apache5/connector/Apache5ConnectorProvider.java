@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,6 +22,7 @@ import jakarta.ws.rs.core.Configuration;
 
 import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.cookie.CookieStore;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.glassfish.jersey.client.Initializable;
 import org.glassfish.jersey.client.spi.Connector;
 import org.glassfish.jersey.client.spi.ConnectorProvider;
@@ -48,6 +49,8 @@ import org.glassfish.jersey.client.spi.ConnectorProvider;
  * <li>{@link Apache5ClientProperties#RETRY_STRATEGY}</li>
  * <li>{@link Apache5ClientProperties#REUSE_STRATEGY}</li>
  * <li>{@link Apache5ClientProperties#USE_SYSTEM_PROPERTIES}</li>
+ * <li>{@link Apache5ClientProperties#ASYNC}</li>
+ * <li>{@link Apache5ClientProperties#HTTP2}</li>
  * </ul>
  * </p>
  * <p>
@@ -121,6 +124,25 @@ public class Apache5ConnectorProvider implements ConnectorProvider {
         return getConnector(component).getHttpClient();
     }
 
+    /**
+     * Retrieve the underlying Apache {@link CloseableHttpAsyncClient} instance from
+     * {@link org.glassfish.jersey.client.JerseyClient} or {@link org.glassfish.jersey.client.JerseyWebTarget}
+     * configured to use {@code Apache5ConnectorProvider} in the {@link Apache5ClientProperties#ASYNC asynchronous} mode.
+     *
+     * @param component {@code JerseyClient} or {@code JerseyWebTarget} instance that is configured to use
+     *                  {@code Apache5ConnectorProvider}.
+     * @return underlying Apache {@code CloseableHttpAsyncClient} instance or {@code null} if the connector is not
+     * in the asynchronous mode.
+     *
+     * @throws java.lang.IllegalArgumentException in case the {@code component} is neither {@code JerseyClient}
+     *                                            nor {@code JerseyWebTarget} instance or in case the component
+     *                                            is not configured to use a {@code Apache5ConnectorProvider}.
+     * @since 3.1.2
+     */
+    public static CloseableHttpAsyncClient getHttpAsyncClient(final Configurable<?> component) {
+        return getConnector(component).getHttpAsyncClient();
+    }
+
     /**
      * Retrieve the underlying Apache {@link CookieStore} instance from
      * {@link org.glassfish.jersey.client.JerseyClient} or {@link org.glassfish.jersey.client.JerseyWebTarget}
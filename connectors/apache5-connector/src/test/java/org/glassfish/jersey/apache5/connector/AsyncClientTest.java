@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.apache5.connector;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.UriBuilder;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.logging.LoggingFeature;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link Apache5ClientProperties#ASYNC asynchronous} mode of the {@link Apache5Connector}.
+ */
+public class AsyncClientTest extends JerseyTest {
+
+    private static final Logger LOGGER = Logger.getLogger(AsyncClientTest.class.getName());
+    // default maximum of HTTP/1.1 connections per route of the asynchronous client
+    private static final int CONCURRENT_REQUESTS = 5;
+
+    private static final CountDownLatch SUSPENDED = new CountDownLatch(CONCURRENT_REQUESTS);
+    private static final List<AsyncResponse> SUSPENDED_RESPONSES = new ArrayList<>();
+    private static final CountDownLatch HANGING = new CountDownLatch(CONCURRENT_REQUESTS);
+
+    @Path("test")
+    public static class AsyncClientResource {
+
+        @GET
+        public String get() {
+            return "GET";
+        }
+
+        @POST
+        @Path("echo")
+        public byte[] echo(final byte[] entity) {
+            return entity;
+        }
+
+        @GET
+        @Path("suspended/{id}")
+        public void suspended(@PathParam("id") final String id, @Suspended final AsyncResponse asyncResponse) {
+            synchronized (SUSPENDED_RESPONSES) {
+                SUSPENDED_RESPONSES.add(asyncResponse);
+            }
+            SUSPENDED.countDown();
+        }
+
+        @GET
+        @Path("hanging")
+        public void hanging(@Suspended final AsyncResponse asyncResponse) {
+            HANGING.countDown();
+        }
+
+        @GET
+        @Path("chunked")
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public StreamingOutput chunked() {
+            return output -> {
+                final byte[] chunk = new byte[8192];
+                for (int i = 0; i < 1024; i++) {
+                    output.write(chunk);
+                    output.flush();
+                }
+            };
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(AsyncClientResource.class)
+                .register(new LoggingFeature(LOGGER, LoggingFeature.Verbosity.HEADERS_ONLY));
+    }
+
+    @Override
+    protected void configureClient(ClientConfig config) {
+        config.property(Apache5ClientProperties.ASYNC, true);
+        config.property(ClientProperties.ASYNC_THREADPOOL_SIZE, 1);
+        config.connectorProvider(new Apache5ConnectorProvider());
+    }
+
+    @Test
+    public void testHttpClientAccess() {
+        assertNotNull(Apache5ConnectorProvider.getHttpAsyncClient(client()));
+        assertNull(Apache5ConnectorProvider.getHttpClient(client()));
+    }
+
+    @Test
+    public void testGet() throws Exception {
+        assertEquals("GET", target("test").request().get(String.class));
+        assertEquals("GET", target("test").request().async().get(String.class).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testPostChunked() {
+        testPost(RequestEntityProcessing.CHUNKED);
+    }
+
+    @Test
+    public void testPostBuffered() {
+        testPost(RequestEntityProcessing.BUFFERED);
+    }
+
+    private void testPost(final RequestEntityProcessing processing) {
+        final byte[] entity = new byte[1024 * 1024 + 3];
+        for (int i = 0; i < entity.length; i++) {
+            entity[i] = (byte) i;
+        }
+        final Response response = target("test/echo").property(ClientProperties.REQUEST_ENTITY_PROCESSING, processing)
+                .request().post(Entity.entity(entity, MediaType.APPLICATION_OCTET_STREAM_TYPE));
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(entity, response.readEntity(byte[].class));
+    }
+
+    /**
+     * More requests than threads of the client asynchronous executor are in flight at once.
+     */
+    @Test
+    public void testConcurrentRequests() throws Exception {
+        final List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            responses.add(target("test/suspended").path(String.valueOf(i)).request().async().get(String.class));
+        }
+        assertTrue(SUSPENDED.await(10, TimeUnit.SECONDS), "Requests have not been sent concurrently.");
+        synchronized (SUSPENDED_RESPONSES) {
+            for (final AsyncResponse asyncResponse : SUSPENDED_RESPONSES) {
+                asyncResponse.resume("DONE");
+            }
+        }
+        for (final Future<String> response : responses) {
+            assertEquals("DONE", response.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Cancelling the future returned by the connector aborts the exchange and releases its connection.
+     */
+    @Test
+    public void testCancel() throws Exception {
+        final AtomicReference<ClientRequest> request = new AtomicReference<>();
+        final WebTarget target = target("test/hanging").register((ClientRequestFilter) requestContext -> {
+            request.set((ClientRequest) requestContext);
+            requestContext.abortWith(Response.ok().build());
+        });
+        target.request().get().close();
+        final Connector connector = ((ClientConfig) target.getConfiguration()).getConnector();
+
+        final List<Future<?>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            responses.add(connector.apply(new ClientRequest(request.get()), new AsyncConnectorCallback() {
+                @Override
+                public void response(final ClientResponse response) {
+                }
+
+                @Override
+                public void failure(final Throwable failure) {
+                }
+            }));
+        }
+        assertTrue(HANGING.await(10, TimeUnit.SECONDS), "Requests have not been sent concurrently.");
+        for (final Future<?> response : responses) {
+            assertTrue(response.cancel(true));
+        }
+
+        // all the connections of the route would be leased by the hanging requests otherwise
+        final ClientRequest get = new ClientRequest(request.get());
+        get.setUri(UriBuilder.fromUri(get.getUri()).replacePath("test").build());
+        final CompletableFuture<ClientResponse> result = new CompletableFuture<>();
+        connector.apply(get, new AsyncConnectorCallback() {
+            @Override
+            public void response(final ClientResponse response) {
+                result.complete(response);
+            }
+
+            @Override
+            public void failure(final Throwable failure) {
+                result.completeExceptionally(failure);
+            }
+        });
+        final ClientResponse response = result.get(10, TimeUnit.SECONDS);
+        assertEquals(200, response.getStatus());
+        assertEquals("GET", response.readEntity(String.class));
+    }
+
+    @Test
+    public void testCloseUnreadChunkedEntity() throws Exception {
+        final Response response = target("test/chunked").request().get();
+        assertEquals(200, response.getStatus());
+        final InputStream entity = response.readEntity(InputStream.class);
+        assertTrue(entity.read(new byte[1024]) > 0);
+        entity.close();
+
+        assertEquals("GET", target("test").request().get(String.class));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -96,6 +96,27 @@ public final class JdkConnectorProperties {
      */
     public static final String CONNECTION_IDLE_TIMEOUT = "jersey.config.client.JdkConnectorProvider.connectionIdleTimeout";
 
+    /**
+     * A maximum number of requests ({@link Integer} value) waiting for a connection to each destination. A request
+     * submitted when the limit has been reached fails with an {@link java.io.IOException}.
+     * <p/>
+     * The default value is {@value #DEFAULT_MAX_PENDING_REQUESTS_PER_DESTINATION}
+     *
+     * @since 3.1.2
+     */
+    public static final String MAX_PENDING_REQUESTS_PER_DESTINATION = "jersey.config.client.JdkConnectorProvider"
+            + ".maxPendingRequestsPerDestination";
+
+    /**
+     * An amount of time in milliseconds ({@link Integer} value) after which a connection is not reused any more and gets
+     * closed once it becomes idle. {@code 0} means the connection lifetime is not limited.
+     * <p/>
+     * The default value is {@value #DEFAULT_MAX_CONNECTION_LIFETIME}
+     *
+     * @since 3.1.2
+     */
+    public static final String MAX_CONNECTION_LIFETIME = "jersey.config.client.JdkConnectorProvider.maxConnectionLifetime";
+
     /**
      * Default value for the {@link org.glassfish.jersey.client.ClientProperties#CHUNKED_ENCODING_SIZE} property.
      */
@@ -126,6 +147,20 @@ public final class JdkConnectorProperties {
      */
     public static final int DEFAULT_CONNECTION_IDLE_TIMEOUT = 1000000;
 
+    /**
+     * Default value for the {@link #MAX_PENDING_REQUESTS_PER_DESTINATION} property.
+     *
+     * @since 3.1.2
+     */
+    public static final int DEFAULT_MAX_PENDING_REQUESTS_PER_DESTINATION = Integer.MAX_VALUE;
+
+    /**
+     * Default value for the {@link #MAX_CONNECTION_LIFETIME} property.
+     *
+     * @since 3.1.2
+     */
+    public static final int DEFAULT_MAX_CONNECTION_LIFETIME = 0;
+
     /**
      * Default value for the {@link #CONTAINER_IDLE_TIMEOUT} property.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -52,6 +52,8 @@ class ConnectorConfiguration {
     private final CookiePolicy cookiePolicy;
     private final int maxConnectionsPerDestination;
     private final int connectionIdleTimeout;
+    private final int maxPendingRequestsPerDestination;
+    private final int maxConnectionLifetime;
     private final SSLContext sslContext;
     private final HostnameVerifier hostnameVerifier;
     private final int responseTimeout;
@@ -95,6 +97,14 @@ class ConnectorConfiguration {
                 .getValue(properties, JdkConnectorProperties.CONNECTION_IDLE_TIMEOUT,
                         JdkConnectorProperties.DEFAULT_CONNECTION_IDLE_TIMEOUT, Integer.class);
 
+        maxPendingRequestsPerDestination = JdkConnectorProperties.getValue(properties,
+                JdkConnectorProperties.MAX_PENDING_REQUESTS_PER_DESTINATION,
+                JdkConnectorProperties.DEFAULT_MAX_PENDING_REQUESTS_PER_DESTINATION, Integer.class);
+
+        maxConnectionLifetime = JdkConnectorProperties.getValue(properties,
+                JdkConnectorProperties.MAX_CONNECTION_LIFETIME,
+                JdkConnectorProperties.DEFAULT_MAX_CONNECTION_LIFETIME, Integer.class);
+
         responseTimeout = ClientProperties.getValue(properties, ClientProperties.READ_TIMEOUT, 0, Integer.class);
 
         connectTimeout = ClientProperties.getValue(properties, ClientProperties.CONNECT_TIMEOUT, 0, Integer.class);
@@ -150,6 +160,14 @@ class ConnectorConfiguration {
         return connectionIdleTimeout;
     }
 
+    int getMaxPendingRequestsPerDestination() {
+        return maxPendingRequestsPerDestination;
+    }
+
+    int getMaxConnectionLifetime() {
+        return maxConnectionLifetime;
+    }
+
     SSLContext getSslContext() {
         return sslContext;
     }
@@ -182,6 +200,8 @@ class ConnectorConfiguration {
                 + ", cookiePolicy=" + cookiePolicy
                 + ", maxConnectionsPerDestination=" + maxConnectionsPerDestination
                 + ", connectionIdleTimeout=" + connectionIdleTimeout
+                + ", maxPendingRequestsPerDestination=" + maxPendingRequestsPerDestination
+                + ", maxConnectionLifetime=" + maxConnectionLifetime
                 + ", sslContext=" + sslContext
                 + ", hostnameVerifier=" + hostnameVerifier
                 + ", responseTimeout=" + responseTimeout
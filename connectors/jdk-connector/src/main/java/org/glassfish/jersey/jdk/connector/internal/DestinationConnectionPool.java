@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,31 +20,53 @@ import java.io.IOException;
 import java.net.CookieManager;
 import java.net.URI;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
+ * Pool of connections to a single destination.
+ * <p/>
+ * The pool does not use any locks. Requests waiting for a connection are kept in a bounded FIFO queue, idle connections
+ * in a LIFO stack (so that the least recently used connections get evicted by the idle timeout). Pairing the pending
+ * requests with idle connections, as well as opening new connections, is done in {@link #dispatch()} which is entered by
+ * a single thread at a time. Any thread that changes the state of the queues afterwards requests another dispatch round,
+ * so no hand-off opportunity is lost without the threads having to wait for each other.
+ *
  * @author Petr Janouch
  */
 class DestinationConnectionPool {
 
+    private static final Logger LOGGER = Logger.getLogger(DestinationConnectionPool.class.getName());
+
     private final ConnectorConfiguration configuration;
-    private final Queue<HttpConnection> idleConnections = new ConcurrentLinkedDeque<>();
+    private final Deque<HttpConnection> idleConnections = new ConcurrentLinkedDeque<>();
     private final Set<HttpConnection> connections = Collections.newSetFromMap(new ConcurrentHashMap<>());
-    private final Queue<RequestRecord> pendingRequests = new ConcurrentLinkedDeque<>();
+    private final Deque<RequestRecord> pendingRequests = new ConcurrentLinkedDeque<>();
     private final Map<HttpConnection, RequestRecord> requestsInProgress = new ConcurrentHashMap<>();
     private final CookieManager cookieManager;
     private final ScheduledExecutorService scheduler;
     private final ConnectionStateListener connectionStateListener;
+    private final long maxConnectionLifetimeNanos;
 
     private volatile ConnectionCloseListener connectionCloseListener;
 
-    private int connectionCounter = 0;
-    private boolean closed = false;
+    // number of open connections and of connections being opened
+    private final AtomicInteger connectionCounter = new AtomicInteger();
+    // number of connections being opened, each of them is going to serve one pending request
+    private final AtomicInteger connectingCounter = new AtomicInteger();
+    private final AtomicInteger pendingCounter = new AtomicInteger();
+    // number of requested dispatch rounds, only the thread that increments it from 0 dispatches
+    private final AtomicInteger dispatchRequests = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
 
     DestinationConnectionPool(ConnectorConfiguration configuration,
                               CookieManager cookieManager,
@@ -53,6 +75,7 @@ class DestinationConnectionPool {
         this.cookieManager = cookieManager;
         this.scheduler = scheduler;
         this.connectionStateListener = new ConnectionStateListener();
+        this.maxConnectionLifetimeNanos = TimeUnit.MILLISECONDS.toNanos(configuration.getMaxConnectionLifetime());
     }
 
     void setConnectionCloseListener(ConnectionCloseListener connectionCloseListener) {
@@ -60,92 +83,130 @@ class DestinationConnectionPool {
     }
 
     void send(HttpRequest httpRequest, CompletionHandler<HttpResponse> completionHandler) {
-        pendingRequests.add(new RequestRecord(httpRequest, completionHandler));
-        processPendingRequests();
-    }
-
-    private void processPendingRequests(HttpConnection connection) {
-        HttpRequest httpRequest;
-        CompletionHandler<HttpResponse> completionHandler;
-
-        synchronized (this) {
-        /* this is synchronized so that another thread does not steal the pending request at the head of the queue
-           while we investigate if we can execute it. */
-            RequestRecord pendingHead = pendingRequests.poll();
-            if (pendingHead == null) {
-
-                idleConnections.add(connection);
-
-                // no pending requests
+        final int maxPending = configuration.getMaxPendingRequestsPerDestination();
+        int pending;
+        do {
+            pending = pendingCounter.get();
+            if (pending >= maxPending) {
+                completionHandler.failed(new IOException(LocalizationMessages.PENDING_REQUESTS_LIMIT_REACHED(
+                        maxPending, httpRequest.getUri().getHost())));
                 return;
             }
+        } while (!pendingCounter.compareAndSet(pending, pending + 1));
+
+        pendingRequests.offer(new RequestRecord(httpRequest, completionHandler));
+        dispatch();
+    }
 
-            httpRequest = pendingHead.request;
-            completionHandler = pendingHead.completionHandler;
+    /**
+     * Return a connection that has become idle to the pool.
+     *
+     * @param connection idle connection.
+     */
+    private void release(HttpConnection connection) {
+        if (maxConnectionLifetimeNanos > 0
+                && System.nanoTime() - connection.getCreationTime() >= maxConnectionLifetimeNanos) {
+            // the connection is too old to be reused, closing it will dispatch the pending requests
+            connection.close();
+            return;
         }
 
-        // if there was a connection available just use it
-        requestsInProgress.put(connection, new RequestRecord(httpRequest, completionHandler));
-        connection.send(httpRequest);
+        idleConnections.push(connection);
+        dispatch();
     }
 
-    private void processPendingRequests() {
-        HttpConnection connection;
-        HttpRequest httpRequest;
-        CompletionHandler<HttpResponse> completionHandler;
-
-        synchronized (this) {
-            /* this is synchronized so that another thread does not steal the pending request at the head of the queue
-            while we investigate if we can execute it. */
-            RequestRecord pendingHead = pendingRequests.peek();
-            if (pendingHead == null) {
-                // no pending requests
-                return;
+    /**
+     * Pair the pending requests with idle connections and open new connections for the requests that cannot be paired.
+     * <p/>
+     * Only one thread dispatches at a time, the other threads just record that another round is needed and leave.
+     */
+    private void dispatch() {
+        if (dispatchRequests.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            RequestRecord pendingHead;
+            while (!closed.get() && (pendingHead = pendingRequests.peek()) != null) {
+                final HttpConnection connection = idleConnections.poll();
+                if (connection != null) {
+                    pendingRequests.poll();
+                    if (!send(connection, pendingHead)) {
+                        // the connection has timed out in the meantime, keep the request at the head of the queue
+                        pendingRequests.offerFirst(pendingHead);
+                    }
+                } else {
+                    while (openConnectionIfNeeded(pendingHead)) {
+                        // open a connection for each request that will not be served by the connections being opened
+                    }
+                    break;
+                }
             }
 
-            httpRequest = pendingHead.request;
-            completionHandler = pendingHead.completionHandler;
+            missed = dispatchRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
 
-            connection = idleConnections.poll();
-            if (connection != null) {
-                pendingRequests.poll();
-            }
+    private boolean send(HttpConnection connection, RequestRecord requestRecord) {
+        requestsInProgress.put(connection, requestRecord);
+        try {
+            connection.send(requestRecord.request);
+        } catch (IllegalStateException e) {
+            requestsInProgress.remove(connection, requestRecord);
+            return false;
+        } catch (RuntimeException e) {
+            // e.g. a completion handler has failed, only the request being sent is affected
+            requestsInProgress.remove(connection, requestRecord);
+            pendingCounter.decrementAndGet();
+            failRequest(requestRecord, e);
+            return true;
         }
 
-        if (connection != null) {
-            // if there was a connection available just use it
-            requestsInProgress.put(connection, new RequestRecord(httpRequest, completionHandler));
-            connection.send(httpRequest);
-            return;
-        }
+        pendingCounter.decrementAndGet();
+        return true;
+    }
 
-        // if there was not a connection available keep this requests in pending list and try to create a connection
-        synchronized (this) {
-            // synchronized because other thread might open/close connections, so we have to make sure we get the limits right.
+    private boolean openConnectionIfNeeded(RequestRecord pendingHead) {
+        if (connectingCounter.get() >= pendingCounter.get()) {
+            // the connections being opened will serve all the pending requests
+            return false;
+        }
 
-            if (configuration.getMaxConnectionsPerDestination() == connectionCounter) {
+        final int maxConnections = configuration.getMaxConnectionsPerDestination();
+        int count;
+        do {
+            count = connectionCounter.get();
+            if (count >= maxConnections) {
                 // we are at the limit for this destination, just wait for a connection to become idle or close
-                return;
+                return false;
             }
-
-            // create a connection
-            connection = new HttpConnection(httpRequest.getUri(), cookieManager, configuration, scheduler,
-                    connectionStateListener);
-            connections.add(connection);
-            connectionCounter++;
+        } while (!connectionCounter.compareAndSet(count, count + 1));
+
+        connectingCounter.incrementAndGet();
+        final HttpConnection connection = new HttpConnection(pendingHead.request.getUri(), cookieManager, configuration,
+                scheduler, connectionStateListener);
+        connections.add(connection);
+        try {
+            connection.connect();
+        } catch (RuntimeException e) {
+            // e.g. the host cannot be resolved, fail the request at the head of the queue, closing the connection
+            // requests another dispatch round that tries to connect for the following requests
+            if (pendingRequests.removeFirstOccurrence(pendingHead)) {
+                pendingCounter.decrementAndGet();
+                failRequest(pendingHead, e);
+            }
+            connection.close();
+            return false;
         }
-
-        // we don't want to connect inside the synchronized block
-        connection.connect();
+        return true;
     }
 
-    synchronized void close() {
-        if (closed) {
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
             return;
         }
 
-        closed = true;
-
         connections.forEach(HttpConnection::close);
     }
 
@@ -168,35 +229,40 @@ class DestinationConnectionPool {
     }
 
     private void cleanClosedConnection(HttpConnection connection) {
-        if (closed) {
+        if (closed.get()) {
             return;
         }
 
-        RequestRecord pendingRequest;
-        synchronized (this) {
-            idleConnections.remove(connection);
-            connections.remove(connection);
-            connectionCounter--;
+        idleConnections.remove(connection);
+        if (!connections.remove(connection)) {
+            // already cleaned
+            return;
+        }
 
-            pendingRequest = pendingRequests.peek();
-            if (pendingRequest == null) {
-                if (connectionCounter == 0) {
-                    connectionCloseListener.onLastConnectionClosed();
-                }
-                return;
-            }
+        if (connectionCounter.decrementAndGet() == 0 && pendingRequests.isEmpty()) {
+            connectionCloseListener.onLastConnectionClosed();
+            return;
         }
 
-        processPendingRequests();
+        dispatch();
     }
 
     private void handleIllegalStateTransition(HttpConnection.State oldState, HttpConnection.State newState) {
         throw new IllegalStateException("Illegal state transition, old state: " + oldState + " new state: " + newState);
     }
 
+    private void failRequest(RequestRecord requestRecord, Throwable t) {
+        try {
+            requestRecord.completionHandler.failed(t);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, LocalizationMessages.COMPLETION_HANDLER_FAILED(requestRecord.request.getUri()), e);
+        }
+    }
+
     private void removeAllPendingWithError(Throwable t) {
         RequestRecord requestRecord = null;
         while ((requestRecord = pendingRequests.poll()) != null) {
+            pendingCounter.decrementAndGet();
             requestRecord.completionHandler.failed(t);
         }
     }
@@ -205,13 +271,17 @@ class DestinationConnectionPool {
 
         @Override
         public void onStateChanged(HttpConnection connection, HttpConnection.State oldState, HttpConnection.State newState) {
+            if (oldState == HttpConnection.State.CONNECTING) {
+                connectingCounter.decrementAndGet();
+            }
+
             switch (newState) {
 
                 case IDLE: {
                     switch (oldState) {
                         case RECEIVED:
                         case CONNECTING: {
-                            processPendingRequests(connection);
+                            release(connection);
                             return;
                         }
 
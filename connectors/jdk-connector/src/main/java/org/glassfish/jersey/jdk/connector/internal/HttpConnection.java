@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -61,6 +61,7 @@ class HttpConnection {
     private final StateChangeListener stateListener;
     private final ScheduledExecutorService scheduler;
     private final ConnectorConfiguration configuration;
+    private final long creationTime = System.nanoTime();
 
     private HttpRequest httpRequest;
     private HttpResponse httResponse;
@@ -323,6 +324,15 @@ class HttpConnection {
         changeState(State.IDLE);
     }
 
+    /**
+     * Get the time the connection has been created at.
+     *
+     * @return {@link System#nanoTime()} at the time of creation.
+     */
+    long getCreationTime() {
+        return creationTime;
+    }
+
     Throwable getError() {
         return error;
     }
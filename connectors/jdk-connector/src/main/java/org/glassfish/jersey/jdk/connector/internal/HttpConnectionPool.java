@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -50,25 +50,18 @@ class HttpConnectionPool {
         DestinationConnectionPool destinationConnectionPool = destinationPools.get(destinationKey);
 
         if (destinationConnectionPool == null) {
-            synchronized (this) {
-                // check again while holding the lock
-                destinationConnectionPool = destinationPools.get(destinationKey);
-
-                if (destinationConnectionPool == null) {
-                    final DestinationConnectionPool pool = new DestinationConnectionPool(connectorConfiguration, cookieManager,
-                            scheduler);
-                    pool.setConnectionCloseListener(() -> {
-                        /* There is a potential race when there is a request just about to be submitted to the pool
-                        we are just removing. Such request will be executed on the removed pool without any problems.
-                        The only issue is that this listener will be called for the second time in such a case, so we
-                        have to make sure we don't remove a new pool that might have been created in the meantime. */
-                        destinationPools.remove(destinationKey, pool);
-                    });
-
-                    destinationConnectionPool = pool;
-                    destinationPools.put(destinationKey, destinationConnectionPool);
-                }
-            }
+            destinationConnectionPool = destinationPools.computeIfAbsent(destinationKey, key -> {
+                final DestinationConnectionPool pool = new DestinationConnectionPool(connectorConfiguration, cookieManager,
+                        scheduler);
+                pool.setConnectionCloseListener(() -> {
+                    /* There is a potential race when there is a request just about to be submitted to the pool
+                    we are just removing. Such request will be executed on the removed pool without any problems.
+                    The only issue is that this listener will be called for the second time in such a case, so we
+                    have to make sure we don't remove a new pool that might have been created in the meantime. */
+                    destinationPools.remove(key, pool);
+                });
+                return pool;
+            });
         }
 
         destinationConnectionPool.send(httpRequest, completionHandler);
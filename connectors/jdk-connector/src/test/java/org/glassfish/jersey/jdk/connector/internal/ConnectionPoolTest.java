@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -126,6 +126,46 @@ public class ConnectionPoolTest extends JerseyTest {
         }
     }
 
+    @Test
+    public void testUnresolvableHost() throws InterruptedException {
+        // connecting fails right away, the failure must not prevent the pool from dispatching the following requests
+        for (int i = 0; i < 2; i++) {
+            CountDownLatch latch = new CountDownLatch(1);
+            getClient().target("http://unresolvable.invalid").request().async().get(new InvocationCallback<String>() {
+                @Override
+                public void completed(String response) {
+                }
+
+                @Override
+                public void failed(Throwable throwable) {
+                    latch.countDown();
+                }
+            });
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testConcurrentRequestsToUnresolvableHost() throws InterruptedException {
+        // each failed connection attempt fails a single request, the other requests are dispatched in the next rounds
+        CountDownLatch latch = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            getClient().target("http://unresolvable.invalid").request().async().get(new InvocationCallback<String>() {
+                @Override
+                public void completed(String response) {
+                }
+
+                @Override
+                public void failed(Throwable throwable) {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
     private void sendGetToTestServer(final AtomicInteger result, final CountDownLatch latch) {
         getClient().target("http://localhost:" + TestServer.PORT).request().async().get(new InvocationCallback<Integer>() {
             @Override
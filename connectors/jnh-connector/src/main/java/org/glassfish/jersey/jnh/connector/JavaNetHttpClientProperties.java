@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -75,6 +75,25 @@ public class JavaNetHttpClientProperties {
     public static final String DISABLE_COOKIES =
             "jersey.config.jnh.client.disableCookies";
 
+    /**
+     * <p>
+     *     If set to {@code true}, the {@link HttpClient} prefers HTTP/2. Requests to {@code https} destinations negotiate
+     *     {@code h2} using ALPN and requests to {@code http} destinations attempt the {@code h2c} upgrade; the client falls
+     *     back to HTTP/1.1 if the server does not support HTTP/2. Concurrent HTTP/2 requests to the same destination are
+     *     multiplexed over a single connection.
+     * </p>
+     * <p>
+     *     A provided value to this option has to be of type {@link java.lang.Boolean}. The default value is {@code false},
+     *     i.e. HTTP/1.1 is used.
+     * </p>
+     * <p>
+     *     The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 3.1.2
+     */
+    public static final String HTTP2 = "jersey.config.jnh.client.http2";
+
 
     /**
      * Prevent this class from instantiation.
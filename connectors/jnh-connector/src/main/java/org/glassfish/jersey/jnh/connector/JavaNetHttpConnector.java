@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,6 +23,7 @@ import jakarta.ws.rs.core.MultivaluedMap;
 import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.ClientRequest;
 import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.RequestEntityProcessing;
 import org.glassfish.jersey.client.innate.ClientProxy;
 import org.glassfish.jersey.client.innate.Expect100ContinueUsage;
 import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
@@ -54,6 +55,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.logging.Logger;
 import java.util.zip.GZIPOutputStream;
@@ -66,7 +68,14 @@ import java.util.zip.GZIPOutputStream;
  *     <li>{@link ClientProperties#FOLLOW_REDIRECTS}</li>
  *     <li>{@link JavaNetHttpClientProperties#COOKIE_HANDLER}</li>
  *     <li>{@link JavaNetHttpClientProperties#SSL_PARAMETERS}</li>
+ *     <li>{@link JavaNetHttpClientProperties#HTTP2}</li>
  * </ul>
+ * <p>
+ * Request entities are buffered and sent with a known length by default. If the
+ * {@link ClientProperties#REQUEST_ENTITY_PROCESSING} property is set to {@link RequestEntityProcessing#CHUNKED}, the entity
+ * is streamed to the {@link HttpClient} as it is being written, at the pace of the transport. A streamed entity cannot be
+ * re-sent, i.e. it cannot follow a {@code 307} or {@code 308} redirect or answer an authentication challenge.
+ * </p>
  *
  * @author Steffen Nießing
  */
@@ -83,7 +92,8 @@ public class JavaNetHttpConnector implements Connector {
      */
     public JavaNetHttpConnector(final Client client, final Configuration configuration) {
         HttpClient.Builder httpClientBuilder = HttpClient.newBuilder();
-        httpClientBuilder.version(HttpClient.Version.HTTP_1_1);
+        final Boolean http2 = getPropertyOrNull(configuration, JavaNetHttpClientProperties.HTTP2, Boolean.class);
+        httpClientBuilder.version(Boolean.TRUE.equals(http2) ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1);
         SSLContext sslContext = client.getSslContext();
         if (sslContext != null) {
             httpClientBuilder.sslContext(sslContext);
@@ -149,39 +159,60 @@ public class JavaNetHttpConnector implements Connector {
      * for a {@link ByteArrayOutputStream}.
      */
     private static class ByteArrayOutputStreamProvider implements OutboundMessageContext.StreamProvider {
-        private ByteArrayOutputStream byteArrayOutputStream;
+        private BodyOutputStream byteArrayOutputStream;
 
-        public ByteArrayOutputStream getByteArrayOutputStream() {
-            return byteArrayOutputStream;
+        /**
+         * Get the body publisher of the written entity. The publisher shares the written bytes without copying them.
+         *
+         * @return body publisher of the written entity.
+         */
+        public HttpRequest.BodyPublisher getBodyPublisher() {
+            return byteArrayOutputStream.getBodyPublisher();
         }
 
         @Override
         public OutputStream getOutputStream(int contentLength) throws IOException {
-            this.byteArrayOutputStream = contentLength > 0 ? new ByteArrayOutputStream(contentLength)
-                    : new ByteArrayOutputStream();
+            this.byteArrayOutputStream = contentLength > 0 ? new BodyOutputStream(contentLength)
+                    : new BodyOutputStream(32);
             return this.byteArrayOutputStream;
         }
     }
 
+    /**
+     * {@link ByteArrayOutputStream} publishing its internal buffer.
+     */
+    private static class BodyOutputStream extends ByteArrayOutputStream {
+
+        BodyOutputStream(int size) {
+            super(size);
+        }
+
+        HttpRequest.BodyPublisher getBodyPublisher() {
+            return HttpRequest.BodyPublishers.ofByteArray(buf, 0, count);
+        }
+    }
+
     /**
      * Builds a request for the {@link HttpClient} from Jersey's {@link ClientRequest}.
      *
      * @param request the Jersey request to get request data from
+     * @param streamingPublisher publisher of the streamed entity or {@code null} if the entity is buffered
      * @return the {@link HttpRequest} instance for the {@link HttpClient} request
      */
-    private HttpRequest getHttpRequest(ClientRequest request) {
+    private HttpRequest getHttpRequest(ClientRequest request, StreamingBodyPublisher streamingPublisher) {
         HttpRequest.Builder builder = HttpRequest.newBuilder();
         builder.uri(request.getUri());
         HttpRequest.BodyPublisher bodyPublisher = HttpRequest.BodyPublishers.noBody();
-        if (request.hasEntity()) {
+        if (streamingPublisher != null) {
+            // the entity is written once the request is being sent
+            bodyPublisher = streamingPublisher;
+        } else if (request.hasEntity()) {
             try {
                 request.enableBuffering();
                 ByteArrayOutputStreamProvider byteBufferStreamProvider = new ByteArrayOutputStreamProvider();
                 request.setStreamProvider(byteBufferStreamProvider);
                 request.writeEntity();
-                bodyPublisher = HttpRequest.BodyPublishers.ofByteArray(
-                        byteBufferStreamProvider.getByteArrayOutputStream().toByteArray()
-                );
+                bodyPublisher = byteBufferStreamProvider.getBodyPublisher();
             } catch (IOException e) {
                 throw new ProcessingException(LocalizationMessages.ERROR_INVALID_ENTITY(), e);
             }
@@ -205,6 +236,62 @@ public class JavaNetHttpConnector implements Connector {
         builder.expectContinue(Expect100ContinueUsage.isAllowed(request, request.getMethod()));
     }
 
+    /**
+     * Creates the publisher of the streamed request entity, if the entity should be streamed.
+     *
+     * @param request the Jersey request
+     * @return the streaming body publisher or {@code null} if the request has no entity or the entity should be buffered
+     */
+    private static StreamingBodyPublisher getStreamingPublisher(ClientRequest request) {
+        if (request.hasEntity() && request.resolveProperty(ClientProperties.REQUEST_ENTITY_PROCESSING,
+                RequestEntityProcessing.class) == RequestEntityProcessing.CHUNKED) {
+            return new StreamingBodyPublisher();
+        }
+        return null;
+    }
+
+    /**
+     * Sends the request with a streamed entity. The entity is written in the calling thread while the {@link HttpClient}
+     * is sending it. The {@link HttpClient} request is built once the entity stream is committed, so that the headers
+     * added by the message body writers and writer interceptors (e.g. the multipart boundary) are sent.
+     *
+     * @param request the Jersey request to write the entity of
+     * @param streamingPublisher publisher of the streamed entity
+     * @return the future {@link HttpClient} response
+     */
+    private CompletableFuture<HttpResponse<InputStream>> sendStreaming(ClientRequest request,
+                                                                        StreamingBodyPublisher streamingPublisher) {
+        CompletableFuture<HttpResponse<InputStream>> response = new CompletableFuture<>();
+        request.setStreamProvider(contentLength -> {
+            HttpRequest httpRequest = getHttpRequest(request, streamingPublisher);
+            this.httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofInputStream())
+                    .whenComplete((httpResponse, throwable) -> {
+                        // stop writing the entity if the request has completed before, e.g. it failed or the server
+                        // did not read the entity
+                        streamingPublisher.abort(throwable != null
+                                ? throwable : new IOException(LocalizationMessages.ERROR_STREAMING_ENTITY_CANCELLED()));
+                        if (throwable != null) {
+                            response.completeExceptionally(throwable);
+                        } else {
+                            response.complete(httpResponse);
+                        }
+                    });
+            return streamingPublisher.getOutputStream();
+        });
+        try {
+            request.writeEntity();
+        } catch (IOException | RuntimeException e) {
+            streamingPublisher.fail(e);
+            if (!response.isDone() || response.isCompletedExceptionally()) {
+                // the request has not been sent if the entity stream has not been committed
+                response.completeExceptionally(e);
+                throw new ProcessingException(LocalizationMessages.ERROR_INVALID_ENTITY(), e);
+            }
+            // the server has responded without reading the whole entity
+        }
+        return response;
+    }
+
     /**
      * Retrieves a property from the configuration, if it was provided.
      *
@@ -260,20 +347,26 @@ public class JavaNetHttpConnector implements Connector {
 
     @Override
     public ClientResponse apply(ClientRequest request) {
-        HttpRequest httpRequest = getHttpRequest(request);
+        StreamingBodyPublisher streamingPublisher = getStreamingPublisher(request);
         try {
-            HttpResponse<InputStream> response = this.httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
+            HttpResponse<InputStream> response = streamingPublisher == null
+                    ? this.httpClient.send(getHttpRequest(request, null), HttpResponse.BodyHandlers.ofInputStream())
+                    : sendStreaming(request, streamingPublisher).get();
             return buildClientResponse(request, response);
         } catch (IOException | InterruptedException e) {
             throw new ProcessingException(e);
+        } catch (ExecutionException e) {
+            throw new ProcessingException(e.getCause());
         }
     }
 
     @Override
     public Future<?> apply(ClientRequest request, AsyncConnectorCallback callback) {
-        HttpRequest httpRequest = getHttpRequest(request);
-        CompletableFuture<ClientResponse> response = this.httpClient
-                .sendAsync(httpRequest, HttpResponse.BodyHandlers.ofInputStream())
+        StreamingBodyPublisher streamingPublisher = getStreamingPublisher(request);
+        CompletableFuture<HttpResponse<InputStream>> httpResponseFuture = streamingPublisher == null
+                ? this.httpClient.sendAsync(getHttpRequest(request, null), HttpResponse.BodyHandlers.ofInputStream())
+                : sendStreaming(request, streamingPublisher);
+        CompletableFuture<ClientResponse> response = httpResponseFuture
                 .thenApply(httpResponse -> buildClientResponse(request, httpResponse));
         response.thenAccept(callback::response);
         return response;
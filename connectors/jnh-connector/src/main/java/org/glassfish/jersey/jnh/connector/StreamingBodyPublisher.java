@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jnh.connector;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+
+/**
+ * {@link HttpRequest.BodyPublisher} streaming the request entity written by Jersey into its {@link #getOutputStream()
+ * output stream}.
+ * <p>
+ * The bytes written into the stream are published in buffers of a limited size. A write blocks while the
+ * {@link java.net.http.HttpClient} has not requested more buffers, so the entity is never buffered as a whole and
+ * the entity writer runs at the pace of the transport. The publisher supports a single subscription, i.e. the request
+ * cannot be retried or redirected with the entity by the {@code HttpClient}.
+ * </p>
+ */
+final class StreamingBodyPublisher implements HttpRequest.BodyPublisher {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Object lock = new Object();
+    private final OutputStream outputStream = new EntityOutputStream();
+
+    // the following fields are guarded by the lock
+    private Flow.Subscriber<? super ByteBuffer> subscriber;
+    private boolean subscribed;
+    private long demand;
+    private boolean cancelled;
+    private boolean completed;
+    private Throwable failure;
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+        final Throwable error;
+        synchronized (lock) {
+            if (this.subscriber != null) {
+                error = new IOException(LocalizationMessages.ERROR_STREAMING_ENTITY_RESUBSCRIBED());
+            } else {
+                this.subscriber = subscriber;
+                error = null;
+            }
+        }
+        if (error != null) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(error);
+            return;
+        }
+
+        subscriber.onSubscribe(new EntitySubscription());
+
+        final Throwable failed;
+        synchronized (lock) {
+            // the entity writer may signal the subscriber only once onSubscribe returned
+            subscribed = true;
+            failed = completed ? failure : null;
+            lock.notifyAll();
+        }
+        if (failed != null) {
+            subscriber.onError(failed);
+        }
+    }
+
+    /**
+     * Get the output stream the request entity is written to. The stream has to be written by a single thread.
+     * Closing the stream completes the request body.
+     *
+     * @return entity output stream.
+     */
+    OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    /**
+     * Fail the request body, e.g. when writing the entity failed.
+     *
+     * @param error failure propagated to the {@code HttpClient}.
+     */
+    void fail(final Throwable error) {
+        final Flow.Subscriber<? super ByteBuffer> s;
+        synchronized (lock) {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            failure = error;
+            s = subscribed ? subscriber : null;
+            lock.notifyAll();
+        }
+        // the subscriber is failed on subscription otherwise
+        if (s != null) {
+            s.onError(error);
+        }
+    }
+
+    /**
+     * Stop writing the entity, e.g. when the response has been received before the entity has been sent. The subsequent
+     * writes into the entity stream fail.
+     *
+     * @param cause reason of stopping the entity writer.
+     */
+    void abort(final Throwable cause) {
+        synchronized (lock) {
+            if (failure == null) {
+                failure = cause;
+            }
+            lock.notifyAll();
+        }
+    }
+
+    private Flow.Subscriber<? super ByteBuffer> await(final boolean needsDemand) throws IOException {
+        synchronized (lock) {
+            while (!completed && !cancelled && failure == null && (!subscribed || (needsDemand && demand == 0))) {
+                try {
+                    lock.wait();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+            if (failure != null) {
+                throw failure instanceof IOException ? (IOException) failure : new IOException(failure);
+            }
+            if (cancelled || completed) {
+                throw new IOException(LocalizationMessages.ERROR_STREAMING_ENTITY_CANCELLED());
+            }
+            if (needsDemand) {
+                demand--;
+            }
+            return subscriber;
+        }
+    }
+
+    private void publish(final ByteBuffer buffer) throws IOException {
+        await(true).onNext(buffer);
+    }
+
+    private void complete() throws IOException {
+        final Flow.Subscriber<? super ByteBuffer> s = await(false);
+        synchronized (lock) {
+            completed = true;
+        }
+        s.onComplete();
+    }
+
+    private final class EntitySubscription implements Flow.Subscription {
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException(LocalizationMessages.ERROR_STREAMING_ENTITY_DEMAND(n)));
+                return;
+            }
+            synchronized (lock) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                lock.notifyAll();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (lock) {
+                cancelled = true;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Entity stream publishing the written bytes.
+     */
+    private final class EntityOutputStream extends OutputStream {
+
+        private ByteBuffer buffer;
+        private boolean closed;
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException(LocalizationMessages.ERROR_STREAMING_ENTITY_CANCELLED());
+            }
+            while (len > 0) {
+                if (buffer == null) {
+                    buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                }
+                final int count = Math.min(len, buffer.remaining());
+                buffer.put(b, off, count);
+                off += count;
+                len -= count;
+                if (!buffer.hasRemaining()) {
+                    publishBuffer();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (buffer != null && buffer.position() > 0) {
+                publishBuffer();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            flush();
+            closed = true;
+            complete();
+        }
+
+        private void publishBuffer() throws IOException {
+            final ByteBuffer published = buffer.flip();
+            buffer = null;
+            publish(published);
+        }
+    }
+}
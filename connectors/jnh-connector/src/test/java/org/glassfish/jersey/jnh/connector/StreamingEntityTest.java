@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jnh.connector;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.media.multipart.FormDataMultiPart;
+import org.glassfish.jersey.media.multipart.FormDataParam;
+import org.glassfish.jersey.media.multipart.MultiPartFeature;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the streaming of request entities by the {@link JavaNetHttpConnector}.
+ */
+public class StreamingEntityTest extends AbstractJavaConnectorTest {
+
+    @Path("multipart")
+    public static class MultiPartResource {
+        @POST
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String post(@FormDataParam("greeting") String greeting, @FormDataParam("name") String name) {
+            return greeting + " " + name + "!";
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return ((ResourceConfig) super.configure())
+                .register(MultiPartResource.class)
+                .register(MultiPartFeature.class);
+    }
+
+    @Override
+    protected void configureClient(ClientConfig config) {
+        super.configureClient(config);
+        config.register(MultiPartFeature.class);
+        config.property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED);
+    }
+
+    @Test
+    public void testPostString() {
+        Response response = requestWithEntity(RESOURCE_PATH + "/echo", "POST", Entity.text("Hello World!"));
+        assertEquals(200, response.getStatus());
+        assertEquals("Hello World!", response.readEntity(String.class));
+    }
+
+    @Test
+    public void testPostLargeEntity() {
+        byte[] entity = new byte[4 * 1024 * 1024 + 7];
+        for (int i = 0; i < entity.length; i++) {
+            entity[i] = (byte) i;
+        }
+        Response response = requestWithEntity(RESOURCE_PATH + "/echo-byte-array", "POST",
+                Entity.entity(entity, MediaType.APPLICATION_OCTET_STREAM_TYPE));
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(entity, response.readEntity(byte[].class));
+    }
+
+    @Test
+    public void testPostAsync() throws Exception {
+        Response response = requestAsyncWithEntity(RESOURCE_PATH + "/echo", "POST", Entity.text("Hello World!"))
+                .get(10, TimeUnit.SECONDS);
+        assertEquals(200, response.getStatus());
+        assertEquals("Hello World!", response.readEntity(String.class));
+    }
+
+    @Test
+    public void testPostMultiPart() {
+        // the multipart boundary is added to the Content-Type header by the message body writer
+        FormDataMultiPart multiPart = new FormDataMultiPart()
+                .field("greeting", "Hello")
+                .field("name", "World");
+        Response response = requestWithEntity("multipart", "POST", Entity.entity(multiPart, multiPart.getMediaType()));
+        assertEquals(200, response.getStatus());
+        assertEquals("Hello World!", response.readEntity(String.class));
+    }
+
+    @Test
+    public void testHttp2Version() {
+        // the test container does not support the h2c upgrade of requests with an entity, no request is sent
+        Client client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(new JavaNetHttpConnectorProvider())
+                .property(JavaNetHttpClientProperties.HTTP2, true));
+        try {
+            HttpClient httpClient = JavaNetHttpConnectorProvider.getHttpClient(client);
+            assertEquals(HttpClient.Version.HTTP_2, httpClient.version());
+        } finally {
+            client.close();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -168,7 +168,7 @@ class JerseyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
             if ((response.headers().contains(HttpHeaderNames.CONTENT_LENGTH) && HttpUtil.getContentLength(response) > 0)
                     || HttpUtil.isTransferEncodingChunked(response)) {
 
-                nis = new NettyInputStream();
+                nis = new NettyResponseInputStream();
                 responseDone.whenComplete((_r, th) -> nis.complete(th));
 
                 jerseyResponse.setEntityStream(nis);
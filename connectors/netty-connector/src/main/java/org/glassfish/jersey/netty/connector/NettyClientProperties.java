@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -82,4 +82,70 @@ public class NettyClientProperties {
      * @see org.glassfish.jersey.netty.connector.internal.RedirectException
      */
     public static final String MAX_REDIRECTS = "jersey.config.client.NettyConnectorProvider.maxRedirects";
+
+    /**
+     * Enables HTTP/2 client mode.
+     * <p/>
+     * When enabled, requests to {@code http} destinations are sent using HTTP/2 with prior knowledge (h2c) and requests
+     * to {@code https} destinations negotiate {@code h2} using ALPN. Requests to the same destination are multiplexed
+     * as streams over a small number of connections, see {@link #MAX_HTTP2_CONNECTIONS}. {@code http} destinations must
+     * support HTTP/2, {@code https} destinations which select {@code http/1.1} during ALPN are served over HTTP/1.1.
+     * Requests sent through an HTTP proxy always use HTTP/1.1.
+     * <p/>
+     * Value is expected to be {@link Boolean}. Default value is {@code false}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     *
+     * @since 3.1.2
+     */
+    public static final String HTTP2 = "jersey.config.client.NettyConnectorProvider.http2";
+
+    /**
+     * The maximal number of HTTP/2 connections opened per destination in {@link #HTTP2 HTTP/2 mode}. All concurrent
+     * requests to the destination are multiplexed over these connections.
+     * <p/>
+     * Value is expected to be positive {@link Integer}. Default value is {@value #DEFAULT_MAX_HTTP2_CONNECTIONS}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     *
+     * @since 3.1.2
+     */
+    public static final String MAX_HTTP2_CONNECTIONS = "jersey.config.client.NettyConnectorProvider.maxHttp2Connections";
+
+    /**
+     * Default value of {@link #MAX_HTTP2_CONNECTIONS}.
+     *
+     * @since 3.1.2
+     */
+    public static final int DEFAULT_MAX_HTTP2_CONNECTIONS = 1;
+
+    /**
+     * Netty {@link io.netty.channel.EventLoopGroup} used by the connector instead of creating its own one.
+     * <p/>
+     * Sharing the event loop group among clients keeps the number of I/O threads independent of the number of clients.
+     * The group is owned by the application; it is not shut down when the client is closed. An
+     * {@link io.netty.channel.epoll.EpollEventLoopGroup} is used with the native epoll transport, any other group
+     * with the NIO transport.
+     * <p/>
+     * Value is expected to be an {@link io.netty.channel.EventLoopGroup} instance. There is no default value.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     *
+     * @since 3.1.2
+     */
+    public static final String EVENT_LOOP_GROUP = "jersey.config.client.NettyConnectorProvider.eventLoopGroup";
+
+    /**
+     * Use the native epoll transport instead of NIO when it is available on the current platform.
+     * <p/>
+     * Applies only to the event loop group created by the connector, i.e. when {@link #EVENT_LOOP_GROUP} is not set.
+     * Falls back to NIO when the native transport cannot be loaded.
+     * <p/>
+     * Value is expected to be {@link Boolean}. Default value is {@code false}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     *
+     * @since 3.1.2
+     */
+    public static final String PREFER_NATIVE_TRANSPORT = "jersey.config.client.NettyConnectorProvider.preferNativeTransport";
 }
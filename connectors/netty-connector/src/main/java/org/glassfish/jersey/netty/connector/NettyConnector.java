@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,8 +21,7 @@ import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.URI;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -31,10 +30,13 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
@@ -51,7 +53,13 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.channel.pool.FixedChannelPool;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
@@ -66,9 +74,17 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.codec.http2.HttpConversionUtil;
 import io.netty.handler.proxy.HttpProxyHandler;
 import io.netty.handler.proxy.ProxyHandler;
 import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.IdentityCipherSuiteFilter;
 import io.netty.handler.ssl.JdkSslContext;
@@ -98,7 +114,7 @@ class NettyConnector implements Connector {
     final ExecutorService executorService;
     final EventLoopGroup group;
     final Client client;
-    final HashMap<String, ArrayList<Channel>> connections = new HashMap<>();
+    final ConcurrentHashMap<String, Deque<Channel>> connections = new ConcurrentHashMap<>();
 
     // If HTTP keepalive is enabled the value of "http.maxConnections" determines the maximum number
     // of idle connections that will be simultaneously kept alive, per destination.
@@ -117,6 +133,17 @@ class NettyConnector implements Connector {
     private final Integer maxPoolSize; // either from system property, or from Jersey config, or default
     private final Integer maxPoolSizeTotal; //either from Jersey config, or default
     private final Integer maxPoolIdle; // either from Jersey config, or default
+    private final AtomicInteger idleConnections = new AtomicInteger(); // idle connections in all destination pools
+
+    private final boolean ownGroup; // false if the event loop group is shared, i.e. not shut down by the connector
+    private final Class<? extends SocketChannel> channelClass;
+
+    private final boolean http2;
+    private final int maxHttp2Connections;
+    // HTTP/2 connections per destination, every connection carries many concurrent streams
+    private final ConcurrentHashMap<String, ChannelPool> http2Connections = new ConcurrentHashMap<>();
+    // https destinations which did not select h2 during ALPN, served over HTTP/1.1 from then on
+    private final Set<String> http1Destinations = ConcurrentHashMap.newKeySet();
 
     static final String INACTIVE_POOLED_CONNECTION_HANDLER = "inactive_pooled_connection_handler";
     private static final String PRUNE_INACTIVE_POOL = "prune_inactive_pool";
@@ -127,14 +154,29 @@ class NettyConnector implements Connector {
 
         final Map<String, Object> properties = client.getConfiguration().getProperties();
         final Object threadPoolSize = properties.get(ClientProperties.ASYNC_THREADPOOL_SIZE);
+        final Object sharedGroup = properties.get(NettyClientProperties.EVENT_LOOP_GROUP);
+        final boolean preferNative = ClientProperties.getValue(properties, NettyClientProperties.PREFER_NATIVE_TRANSPORT, false);
 
+        final int groupThreads;
         if (threadPoolSize != null && threadPoolSize instanceof Integer && (Integer) threadPoolSize > 0) {
             executorService = Executors.newFixedThreadPool((Integer) threadPoolSize);
-            this.group = new NioEventLoopGroup((Integer) threadPoolSize);
+            groupThreads = (Integer) threadPoolSize;
         } else {
             executorService = Executors.newCachedThreadPool();
-            this.group = new NioEventLoopGroup();
+            groupThreads = 0; // Netty default
+        }
+
+        if (sharedGroup instanceof EventLoopGroup) {
+            this.group = (EventLoopGroup) sharedGroup;
+            this.ownGroup = false;
+        } else if (preferNative && Epoll.isAvailable()) {
+            this.group = new EpollEventLoopGroup(groupThreads);
+            this.ownGroup = true;
+        } else {
+            this.group = new NioEventLoopGroup(groupThreads);
+            this.ownGroup = true;
         }
+        this.channelClass = group instanceof EpollEventLoopGroup ? EpollSocketChannel.class : NioSocketChannel.class;
 
         this.client = client;
 
@@ -148,6 +190,10 @@ class NettyConnector implements Connector {
                 ? (Integer) maxPoolSizeProperty
                 : (HTTP_KEEPALIVE ? MAX_POOL_SIZE : DEFAULT_MAX_POOL_SIZE);
 
+        http2 = ClientProperties.getValue(properties, NettyClientProperties.HTTP2, false);
+        maxHttp2Connections = ClientProperties.getValue(properties, NettyClientProperties.MAX_HTTP2_CONNECTIONS,
+                NettyClientProperties.DEFAULT_MAX_HTTP2_CONNECTIONS);
+
         if (maxPoolSizeTotal < 0) {
             throw new ProcessingException(LocalizationMessages.WRONG_MAX_POOL_TOTAL(maxPoolSizeTotal));
         }
@@ -155,6 +201,10 @@ class NettyConnector implements Connector {
         if (maxPoolSize < 0) {
             throw new ProcessingException(LocalizationMessages.WRONG_MAX_POOL_SIZE(maxPoolSize));
         }
+
+        if (maxHttp2Connections <= 0) {
+            throw new ProcessingException(LocalizationMessages.WRONG_MAX_HTTP_2_CONNECTIONS(maxHttp2Connections));
+        }
     }
 
     @Override
@@ -201,45 +251,76 @@ class NettyConnector implements Connector {
         try {
 
             String key = requestUri.getScheme() + "://" + host + ":" + port;
-            ArrayList<Channel> conns;
-            synchronized (connections) {
-               conns = connections.get(key);
-               if (conns == null) {
-                  conns = new ArrayList<>(0);
-                  connections.put(key, conns);
-               }
+            Integer connectTimeout = jerseyRequest.resolveProperty(ClientProperties.CONNECT_TIMEOUT, 0);
+
+            // http proxy
+            Optional<ClientProxy> proxy = ClientProxy.proxyFromRequest(jerseyRequest);
+            if (!proxy.isPresent()) {
+                proxy = ClientProxy.proxyFromProperties(requestUri);
             }
 
-            Channel chan = null;
-            synchronized (conns) {
-               while (chan == null && !conns.isEmpty()) {
-                  chan = conns.remove(conns.size() - 1);
-                  try {
-                      chan.pipeline().remove(INACTIVE_POOLED_CONNECTION_HANDLER);
-                      chan.pipeline().remove(PRUNE_INACTIVE_POOL);
-                  } catch (NoSuchElementException e) {
-                      /*
-                       *  Eat it.
-                       *  It could happen that the channel was closed, pipeline cleared and
-                       *  then it will fail to remove the names with this exception.
-                       */
-                  }
-                  if (!chan.isOpen()) {
-                      chan = null;
-                  }
-               }
+            if (http2 && !proxy.isPresent() && !http1Destinations.contains(key)) {
+                final ChannelPool pool = http2Connections.computeIfAbsent(key,
+                        k -> createHttp2Pool(jerseyRequest, requestUri, host, port, connectTimeout));
+                // the request may be a redirect executed by an event loop, acquire the stream without blocking
+                pool.acquire().addListener((io.netty.util.concurrent.Future<Channel> acquired) -> {
+                    if (!acquired.isSuccess()) {
+                        responseAvailable.completeExceptionally(acquired.cause());
+                        return;
+                    }
+                    final Channel connection = acquired.getNow();
+                    final SslHandler sslHandler = connection.pipeline().get(SslHandler.class);
+                    if (sslHandler == null) {
+                        openHttp2Stream(jerseyRequest, redirectUriHistory, responseAvailable, responseDone,
+                                pool, connection, key, timeout);
+                        return;
+                    }
+                    // the HTTP/2 codec is installed once the ALPN negotiation completes, see createHttp2Pool
+                    sslHandler.handshakeFuture().addListener(handshake -> {
+                        if (!handshake.isSuccess()) {
+                            pool.release(connection);
+                            responseAvailable.completeExceptionally(handshake.cause());
+                        } else if (ApplicationProtocolNames.HTTP_2.equals(sslHandler.applicationProtocol())) {
+                            openHttp2Stream(jerseyRequest, redirectUriHistory, responseAvailable, responseDone,
+                                    pool, connection, key, timeout);
+                        } else {
+                            // the server does not speak h2, switch the destination to HTTP/1.1 and retry
+                            http1Destinations.add(key);
+                            if (http2Connections.remove(key, pool)) {
+                                pool.release(connection).addListener(released -> ((FixedChannelPool) pool).closeAsync());
+                            } else {
+                                pool.release(connection);
+                            }
+                            execute(jerseyRequest, redirectUriHistory, responseAvailable);
+                        }
+                    });
+                });
+                return;
             }
 
-            Integer connectTimeout = jerseyRequest.resolveProperty(ClientProperties.CONNECT_TIMEOUT, 0);
+            Deque<Channel> conns = connections.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+
+            Channel chan;
+            while ((chan = conns.pollLast()) != null) {
+                idleConnections.decrementAndGet();
+                try {
+                    chan.pipeline().remove(INACTIVE_POOLED_CONNECTION_HANDLER);
+                    chan.pipeline().remove(PRUNE_INACTIVE_POOL);
+                } catch (NoSuchElementException e) {
+                    /*
+                     *  Eat it.
+                     *  It could happen that the channel was closed, pipeline cleared and
+                     *  then it will fail to remove the names with this exception.
+                     */
+                }
+                if (chan.isOpen()) {
+                    break;
+                }
+            }
 
             if (chan == null) {
                Bootstrap b = new Bootstrap();
 
-               // http proxy
-               Optional<ClientProxy> proxy = ClientProxy.proxyFromRequest(jerseyRequest);
-               if (!proxy.isPresent()) {
-                   proxy = ClientProxy.proxyFromProperties(requestUri);
-               }
                proxy.ifPresent(clientProxy -> {
                    b.resolver(NoopAddressResolverGroup.INSTANCE); // request hostname resolved by the HTTP proxy
                });
@@ -247,7 +328,7 @@ class NettyConnector implements Connector {
                final Optional<ClientProxy> handlerProxy = proxy;
 
                b.group(group)
-                .channel(NioSocketChannel.class)
+                .channel(channelClass)
                 .handler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel ch) throws Exception {
@@ -267,29 +348,7 @@ class NettyConnector implements Connector {
 
                      // Enable HTTPS if necessary.
                      if ("https".equals(requestUri.getScheme())) {
-                         // making client authentication optional for now; it could be extracted to configurable property
-                         JdkSslContext jdkSslContext = new JdkSslContext(
-                                 client.getSslContext(),
-                                 true,
-                                 (Iterable) null,
-                                 IdentityCipherSuiteFilter.INSTANCE,
-                                 (ApplicationProtocolConfig) null,
-                                 ClientAuth.NONE,
-                                 (String[]) null, /* enable default protocols */
-                                 false /* true if the first write request shouldn't be encrypted */
-                         );
-                         int port = requestUri.getPort();
-                         SslHandler sslHandler = jdkSslContext.newHandler(ch.alloc(), requestUri.getHost(),
-                                                                          port <= 0 ? 443 : port, executorService);
-                         if (ClientProperties.getValue(config.getProperties(),
-                                                       NettyClientProperties.ENABLE_SSL_HOSTNAME_VERIFICATION, true)) {
-                            SSLEngine sslEngine = sslHandler.engine();
-                            SSLParameters sslParameters = sslEngine.getSSLParameters();
-                            sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
-                            sslEngine.setSSLParameters(sslParameters);
-                         }
-
-                         p.addLast(sslHandler);
+                         p.addLast(createSslHandler(ch, requestUri, config, (ApplicationProtocolConfig) null));
                      }
 
                      p.addLast(new HttpClientCodec());
@@ -307,133 +366,254 @@ class NettyConnector implements Connector {
                chan = b.connect(host, port).sync().channel();
             }
 
-            // assert: clientHandler will always notify responseDone: either normally, or exceptionally
-            // assert: clientHandler may notify responseAvailable, if sufficient parts of response are detected to construct
-            //         a valid ClientResponse
-            // assert: responseAvailable completion may be racing against responseDone completion
-            // assert: it is ok to abort the entire response, if responseDone is completed exceptionally - in particular, nothing
-            //         will leak
-            final Channel ch = chan;
-            JerseyClientHandler clientHandler =
-                    new JerseyClientHandler(jerseyRequest, responseAvailable, responseDone, redirectUriHistory, this);
-            // read timeout makes sense really as an inactivity timeout
-            ch.pipeline().addLast(READ_TIMEOUT_HANDLER,
-                                  new IdleStateHandler(0, 0, timeout, TimeUnit.MILLISECONDS));
-            ch.pipeline().addLast(REQUEST_HANDLER, clientHandler);
-
-            responseDone.whenComplete((_r, th) -> {
-               ch.pipeline().remove(READ_TIMEOUT_HANDLER);
-               ch.pipeline().remove(clientHandler);
-
-               if (th == null) {
-                  ch.pipeline().addLast(INACTIVE_POOLED_CONNECTION_HANDLER, new IdleStateHandler(0, 0, maxPoolIdle));
-                  ch.pipeline().addLast(PRUNE_INACTIVE_POOL, new PruneIdlePool(connections, key));
-                  boolean added = true;
-                  synchronized (connections) {
-                     ArrayList<Channel> conns1 = connections.get(key);
-                     if (conns1 == null) {
-                        conns1 = new ArrayList<>(1);
-                        conns1.add(ch);
-                        connections.put(key, conns1);
-                     } else {
-                        synchronized (conns1) {
-                           if ((maxPoolSizeTotal == 0 || connections.size() < maxPoolSizeTotal) && conns1.size() < maxPoolSize) {
-                              conns1.add(ch);
-                           } else { // else do not add the Channel to the idle pool
-                              added = false;
-                           }
-                        }
-                     }
-                  }
+            sendRequest(jerseyRequest, redirectUriHistory, responseAvailable, responseDone, chan, key, timeout, false);
 
-                  if (!added) {
-                      ch.close();
-                  }
-               } else {
-                  ch.close();
-                  // if responseAvailable has been completed, no-op: jersey will encounter IOException while reading response body
-                  // if responseAvailable has not been completed, abort
-                  responseAvailable.completeExceptionally(th);
-               }
-            });
+        } catch (InterruptedException e) {
+            responseDone.completeExceptionally(e);
+        }
+    }
+
+    private void openHttp2Stream(final ClientRequest jerseyRequest, final Set<URI> redirectUriHistory,
+                                 final CompletableFuture<ClientResponse> responseAvailable,
+                                 final CompletableFuture<?> responseDone, final ChannelPool pool, final Channel connection,
+                                 final String key, final Integer timeout) {
+        new Http2StreamChannelBootstrap(connection)
+                .handler(new ChannelInitializer<Http2StreamChannel>() {
+                    @Override
+                    protected void initChannel(Http2StreamChannel ch) {
+                        ChannelPipeline p = ch.pipeline();
+                        p.addLast(new Http2StreamFrameToHttpObjectCodec(false));
+                        p.addLast(new ChunkedWriteHandler());
+                        p.addLast(new HttpContentDecompressor());
+                    }
+                })
+                .open()
+                .addListener((io.netty.util.concurrent.Future<Http2StreamChannel> opened) -> {
+                    // the connection is not exclusive to the stream, return it to the pool right away
+                    pool.release(connection);
+                    if (opened.isSuccess()) {
+                        sendRequest(jerseyRequest, redirectUriHistory, responseAvailable, responseDone,
+                                opened.getNow(), key, timeout, true);
+                    } else {
+                        responseAvailable.completeExceptionally(opened.cause());
+                    }
+                });
+    }
 
-            HttpRequest nettyRequest;
-            String pathWithQuery = buildPathWithQueryParameters(requestUri);
+    private void sendRequest(final ClientRequest jerseyRequest, final Set<URI> redirectUriHistory,
+                             final CompletableFuture<ClientResponse> responseAvailable, final CompletableFuture<?> responseDone,
+                             final Channel ch, final String key, final Integer timeout, final boolean http2Stream) {
+        // assert: clientHandler will always notify responseDone: either normally, or exceptionally
+        // assert: clientHandler may notify responseAvailable, if sufficient parts of response are detected to construct
+        //         a valid ClientResponse
+        // assert: responseAvailable completion may be racing against responseDone completion
+        // assert: it is ok to abort the entire response, if responseDone is completed exceptionally - in particular, nothing
+        //         will leak
+        JerseyClientHandler clientHandler =
+                new JerseyClientHandler(jerseyRequest, responseAvailable, responseDone, redirectUriHistory, this);
+        // read timeout makes sense really as an inactivity timeout
+        ch.pipeline().addLast(READ_TIMEOUT_HANDLER,
+                              new IdleStateHandler(0, 0, timeout, TimeUnit.MILLISECONDS));
+        ch.pipeline().addLast(REQUEST_HANDLER, clientHandler);
+
+        responseDone.whenComplete((_r, th) -> {
+           if (http2Stream) {
+              // closing a finished stream is a no-op, closing an unfinished one resets it
+              ch.close();
+              if (th != null) {
+                 responseAvailable.completeExceptionally(th);
+              }
+              return;
+           }
+
+           ch.pipeline().remove(READ_TIMEOUT_HANDLER);
+           ch.pipeline().remove(clientHandler);
+
+           if (th == null) {
+              ch.pipeline().addLast(INACTIVE_POOLED_CONNECTION_HANDLER, new IdleStateHandler(0, 0, maxPoolIdle));
+              ch.pipeline().addLast(PRUNE_INACTIVE_POOL, new PruneIdlePool(connections, idleConnections, key));
+              if (!returnToPool(key, ch)) {
+                  ch.close();
+              }
+           } else {
+              ch.close();
+              // if responseAvailable has been completed, no-op: jersey will encounter IOException while reading response body
+              // if responseAvailable has not been completed, abort
+              responseAvailable.completeExceptionally(th);
+           }
+        });
+
+        HttpRequest nettyRequest;
+        final URI requestUri = jerseyRequest.getUri();
+        String pathWithQuery = buildPathWithQueryParameters(requestUri);
 
-            if (jerseyRequest.hasEntity()) {
-                nettyRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1,
+        if (jerseyRequest.hasEntity()) {
+            nettyRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1,
+                                                  HttpMethod.valueOf(jerseyRequest.getMethod()),
+                                                  pathWithQuery);
+        } else {
+            nettyRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1,
                                                       HttpMethod.valueOf(jerseyRequest.getMethod()),
                                                       pathWithQuery);
-            } else {
-                nettyRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1,
-                                                          HttpMethod.valueOf(jerseyRequest.getMethod()),
-                                                          pathWithQuery);
-            }
+        }
 
-            // headers
-            setHeaders(jerseyRequest, nettyRequest.headers());
+        // headers
+        setHeaders(jerseyRequest, nettyRequest.headers());
 
-            // host header - http 1.1
-            nettyRequest.headers().add(HttpHeaderNames.HOST, jerseyRequest.getUri().getHost());
+        // host header - http 1.1, :authority pseudo-header - http 2
+        nettyRequest.headers().add(HttpHeaderNames.HOST, requestUri.getHost());
+        if (http2Stream) {
+            nettyRequest.headers().add(HttpConversionUtil.ExtensionHeaderNames.SCHEME.text(), requestUri.getScheme());
+        }
 
-            if (jerseyRequest.hasEntity()) {
-                // guard against prematurely closed channel
-                final GenericFutureListener<io.netty.util.concurrent.Future<? super Void>> closeListener =
-                    new GenericFutureListener<io.netty.util.concurrent.Future<? super Void>>() {
-                        @Override
-                        public void operationComplete(io.netty.util.concurrent.Future<? super Void> future) throws Exception {
-                            if (!responseDone.isDone()) {
-                                responseDone.completeExceptionally(new IOException("Channel closed."));
-                            }
+        if (jerseyRequest.hasEntity()) {
+            // guard against prematurely closed channel
+            final GenericFutureListener<io.netty.util.concurrent.Future<? super Void>> closeListener =
+                new GenericFutureListener<io.netty.util.concurrent.Future<? super Void>>() {
+                    @Override
+                    public void operationComplete(io.netty.util.concurrent.Future<? super Void> future) throws Exception {
+                        if (!responseDone.isDone()) {
+                            responseDone.completeExceptionally(new IOException("Channel closed."));
                         }
-                    };
-                ch.closeFuture().addListener(closeListener);
-                if (jerseyRequest.getLengthLong() == -1) {
-                    HttpUtil.setTransferEncodingChunked(nettyRequest, true);
-                } else {
-                    nettyRequest.headers().add(HttpHeaderNames.CONTENT_LENGTH, jerseyRequest.getLengthLong());
+                    }
+                };
+            ch.closeFuture().addListener(closeListener);
+            if (jerseyRequest.getLengthLong() != -1) {
+                nettyRequest.headers().add(HttpHeaderNames.CONTENT_LENGTH, jerseyRequest.getLengthLong());
+            } else if (!http2Stream) {
+                // HTTP/2 frames the entity on its own
+                HttpUtil.setTransferEncodingChunked(nettyRequest, true);
+            }
+
+            // Send the HTTP request.
+            ch.writeAndFlush(nettyRequest);
+
+            final JerseyChunkedInput jerseyChunkedInput = new JerseyChunkedInput(ch);
+            jerseyRequest.setStreamProvider(new OutboundMessageContext.StreamProvider() {
+                @Override
+                public OutputStream getOutputStream(int contentLength) throws IOException {
+                    return jerseyChunkedInput;
                 }
+            });
 
-                // Send the HTTP request.
-                ch.writeAndFlush(nettyRequest);
+            if (http2Stream || HttpUtil.isTransferEncodingChunked(nettyRequest)) {
+                // HTTP/2 stream codec encodes HTTP content only
+                ch.write(new HttpChunkedInput(jerseyChunkedInput));
+            } else {
+                ch.write(jerseyChunkedInput);
+            }
 
-                final JerseyChunkedInput jerseyChunkedInput = new JerseyChunkedInput(ch);
-                jerseyRequest.setStreamProvider(new OutboundMessageContext.StreamProvider() {
-                    @Override
-                    public OutputStream getOutputStream(int contentLength) throws IOException {
-                        return jerseyChunkedInput;
-                    }
-                });
+            executorService.execute(new Runnable() {
+                @Override
+                public void run() {
+                    // close listener is not needed any more.
+                    ch.closeFuture().removeListener(closeListener);
 
-                if (HttpUtil.isTransferEncodingChunked(nettyRequest)) {
-                    ch.write(new HttpChunkedInput(jerseyChunkedInput));
-                } else {
-                    ch.write(jerseyChunkedInput);
+                    try {
+                        jerseyRequest.writeEntity();
+                    } catch (IOException e) {
+                        responseDone.completeExceptionally(e);
+                    }
                 }
+            });
 
-                executorService.execute(new Runnable() {
-                    @Override
-                    public void run() {
-                        // close listener is not needed any more.
-                        ch.closeFuture().removeListener(closeListener);
-
-                        try {
-                            jerseyRequest.writeEntity();
-                        } catch (IOException e) {
-                            responseDone.completeExceptionally(e);
+            ch.flush();
+        } else {
+            // Send the HTTP request.
+            ch.writeAndFlush(nettyRequest);
+        }
+    }
+
+    /**
+     * Return the connection to the idle pool of its destination, unless either the destination or the total idle
+     * connection limit has been reached.
+     */
+    private boolean returnToPool(String key, Channel ch) {
+        final Deque<Channel> conns = connections.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+        final int idle = idleConnections.incrementAndGet();
+        if ((maxPoolSizeTotal != 0 && idle > maxPoolSizeTotal) || conns.size() >= maxPoolSize) {
+            idleConnections.decrementAndGet();
+            return false;
+        }
+        conns.addLast(ch);
+        return true;
+    }
+
+    private ChannelPool createHttp2Pool(ClientRequest jerseyRequest, URI requestUri, String host, int port,
+                                        Integer connectTimeout) {
+        final Bootstrap b = new Bootstrap()
+                .group(group)
+                .channel(channelClass)
+                .remoteAddress(host, port);
+        if (connectTimeout > 0) {
+            b.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout);
+        }
+
+        final Configuration config = jerseyRequest.getConfiguration();
+        return new FixedChannelPool(b, new AbstractChannelPoolHandler() {
+            @Override
+            public void channelCreated(Channel ch) {
+                ChannelPipeline p = ch.pipeline();
+                if ("https".equals(requestUri.getScheme())) {
+                    // offer HTTP/1.1 as well, servers without h2 support select it instead of failing the handshake
+                    final SslHandler sslHandler = createSslHandler(ch, requestUri, config, new ApplicationProtocolConfig(
+                            ApplicationProtocolConfig.Protocol.ALPN,
+                            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                            ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1));
+                    p.addLast(sslHandler);
+                    // registered before any stream is opened, so the codec is in place when the other listeners run
+                    sslHandler.handshakeFuture().addListener(handshake -> {
+                        if (handshake.isSuccess() && ApplicationProtocolNames.HTTP_2.equals(sslHandler.applicationProtocol())) {
+                            addHttp2Handlers(p);
                         }
-                    }
-                });
+                    });
+                } else {
+                    addHttp2Handlers(p);
+                }
+            }
+        }, maxHttp2Connections);
+    }
 
-                ch.flush();
-            } else {
-                // Send the HTTP request.
-                ch.writeAndFlush(nettyRequest);
+    private void addHttp2Handlers(ChannelPipeline p) {
+        p.addLast(Http2FrameCodecBuilder.forClient()
+                .initialSettings(Http2Settings.defaultSettings().pushEnabled(false))
+                .build());
+        p.addLast(new Http2MultiplexHandler(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel pushed) {
+                // server push is disabled
+                pushed.close();
             }
+        }));
+        p.addLast(new IdleStateHandler(0, 0, maxPoolIdle));
+        p.addLast(new PruneIdlePool(null, null, null));
+    }
 
-        } catch (InterruptedException e) {
-            responseDone.completeExceptionally(e);
+    private SslHandler createSslHandler(Channel ch, URI requestUri, Configuration config,
+                                        ApplicationProtocolConfig applicationProtocolConfig) {
+        // making client authentication optional for now; it could be extracted to configurable property
+        JdkSslContext jdkSslContext = new JdkSslContext(
+                client.getSslContext(),
+                true,
+                (Iterable) null,
+                IdentityCipherSuiteFilter.INSTANCE,
+                applicationProtocolConfig,
+                ClientAuth.NONE,
+                (String[]) null, /* enable default protocols */
+                false /* true if the first write request shouldn't be encrypted */
+        );
+        int port = requestUri.getPort();
+        SslHandler sslHandler = jdkSslContext.newHandler(ch.alloc(), requestUri.getHost(),
+                                                         port <= 0 ? 443 : port, executorService);
+        if (ClientProperties.getValue(config.getProperties(),
+                                      NettyClientProperties.ENABLE_SSL_HOSTNAME_VERIFICATION, true)) {
+           SSLEngine sslEngine = sslHandler.engine();
+           SSLParameters sslParameters = sslEngine.getSSLParameters();
+           sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
+           sslEngine.setSSLParameters(sslParameters);
         }
+        return sslHandler;
     }
 
     private String buildPathWithQueryParameters(URI requestUri) {
@@ -451,16 +631,41 @@ class NettyConnector implements Connector {
 
     @Override
     public void close() {
-        group.shutdownGracefully();
+        for (ChannelPool pool : http2Connections.values()) {
+            pool.close();
+        }
+        http2Connections.clear();
+
+        if (ownGroup) {
+            group.shutdownGracefully();
+        } else {
+            // the shared event loop group keeps running, close the idle connections explicitly
+            for (Deque<Channel> conns : connections.values()) {
+                Channel ch;
+                while ((ch = conns.poll()) != null) {
+                    ch.close();
+                }
+            }
+        }
         executorService.shutdown();
     }
 
     protected static class PruneIdlePool extends ChannelDuplexHandler {
-       HashMap<String, ArrayList<Channel>> connections;
+       Map<String, Deque<Channel>> connections;
+       AtomicInteger idleConnections;
        String key;
 
-       public PruneIdlePool(HashMap<String, ArrayList<Channel>> connections, String key) {
+       /**
+        * Create handler closing the connection once it has been idle for too long.
+        *
+        * @param connections     idle connections per destination the closed connection is removed from,
+        *                        {@code null} if the connection is not kept there.
+        * @param idleConnections total number of idle connections.
+        * @param key             destination key.
+        */
+       public PruneIdlePool(Map<String, Deque<Channel>> connections, AtomicInteger idleConnections, String key) {
           this.connections = connections;
+          this.idleConnections = idleConnections;
           this.key = key;
        }
 
@@ -470,13 +675,10 @@ class NettyConnector implements Connector {
              IdleStateEvent e = (IdleStateEvent) evt;
              if (e.state() == IdleState.ALL_IDLE) {
                 ctx.close();
-                synchronized (connections) {
-                   ArrayList<Channel> chans = connections.get(key);
-                   synchronized (chans) {
-                      chans.remove(ctx.channel());
-                      if (chans.isEmpty()) {
-                         connections.remove(key);
-                      }
+                if (connections != null) {
+                   Deque<Channel> chans = connections.get(key);
+                   if (chans != null && chans.remove(ctx.channel())) {
+                      idleConnections.decrementAndGet();
                    }
                 }
              }
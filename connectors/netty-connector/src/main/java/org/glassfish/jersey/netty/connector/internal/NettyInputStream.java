@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -141,6 +141,16 @@ public class NettyInputStream extends InputStream {
        }
     }
 
+    /**
+     * Check whether the stream can be read without blocking, i.e. whether a buffer has been received
+     * or the stream has ended.
+     *
+     * @return {@code true} if the next read does not block.
+     */
+    protected synchronized boolean isReadable() {
+        return current != null || !isList.isEmpty() || end;
+    }
+
     @Override
     public int available() throws IOException {
         return buffer == null ? 0 : buffer.remaining();
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.netty.connector;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Response;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import org.glassfish.jersey.client.ClientConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Tests the HTTP/2 (h2c) mode of the Netty connector against a plain Netty HTTP/2 echo server.
+ */
+public class Http2Test {
+
+    private final AtomicInteger serverConnections = new AtomicInteger();
+    private EventLoopGroup serverGroup;
+    private Channel server;
+    private String baseUri;
+
+    @BeforeEach
+    public void startServer() throws Exception {
+        serverGroup = new NioEventLoopGroup(1);
+        server = new ServerBootstrap()
+                .group(serverGroup)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        serverConnections.incrementAndGet();
+                        ch.pipeline().addLast(Http2FrameCodecBuilder.forServer().build());
+                        ch.pipeline().addLast(new Http2MultiplexHandler(new ChannelInitializer<Http2StreamChannel>() {
+                            @Override
+                            protected void initChannel(Http2StreamChannel stream) {
+                                stream.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(true));
+                                stream.pipeline().addLast(new HttpObjectAggregator(1 << 16));
+                                stream.pipeline().addLast(new EchoHandler());
+                            }
+                        }));
+                    }
+                })
+                .bind(0).sync().channel();
+        baseUri = "http://localhost:" + ((InetSocketAddress) server.localAddress()).getPort();
+    }
+
+    @AfterEach
+    public void stopServer() throws Exception {
+        server.close().sync();
+        serverGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+    }
+
+    @Test
+    public void testGet() {
+        final Client client = createClient(new ClientConfig());
+        try {
+            assertEquals("GET /echo?q=1 ", client.target(baseUri).path("echo").queryParam("q", 1)
+                    .request().get(String.class));
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testPost() {
+        final Client client = createClient(new ClientConfig());
+        try {
+            final Response response = client.target(baseUri).path("echo").request().post(Entity.text("hello"));
+            assertEquals(200, response.getStatus());
+            assertEquals("POST /echo hello", response.readEntity(String.class));
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testConcurrentRequestsMultiplexed() throws Exception {
+        final Client client = createClient(new ClientConfig());
+        try {
+            final List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                responses.add(client.target(baseUri).path("echo").path(String.valueOf(i)).request().async().get(String.class));
+            }
+            for (int i = 0; i < 50; i++) {
+                assertEquals("GET /echo/" + i + " ", responses.get(i).get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(NettyClientProperties.DEFAULT_MAX_HTTP2_CONNECTIONS, serverConnections.get());
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testSharedEventLoopGroup() throws Exception {
+        final EventLoopGroup shared = new NioEventLoopGroup(2);
+        try {
+            final ClientConfig config = new ClientConfig().property(NettyClientProperties.EVENT_LOOP_GROUP, shared);
+            final Client first = createClient(config);
+            final Client second = createClient(config);
+
+            assertEquals("GET /first ", first.target(baseUri).path("first").request().get(String.class));
+            first.close();
+            assertFalse(shared.isShuttingDown());
+
+            assertEquals("GET /second ", second.target(baseUri).path("second").request().get(String.class));
+            second.close();
+            assertFalse(shared.isShuttingDown());
+        } finally {
+            shared.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+        }
+    }
+
+    private static Client createClient(ClientConfig config) {
+        config.property(NettyClientProperties.HTTP2, true);
+        config.connectorProvider(new NettyConnectorProvider());
+        return ClientBuilder.newClient(config);
+    }
+
+    private static class EchoHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) {
+            final String echo = request.method() + " " + request.uri() + " " + request.content().toString(StandardCharsets.UTF_8);
+            final FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                    Unpooled.copiedBuffer(echo, StandardCharsets.UTF_8));
+            response.headers().set(HttpHeaderNames.CONTENT_TYPE, "text/plain");
+            response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, response.content().readableBytes());
+            ctx.writeAndFlush(response);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,16 +16,22 @@
 
 package org.glassfish.jersey.grizzly2.httpserver;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.security.Principal;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -41,6 +47,7 @@ import org.glassfish.jersey.internal.inject.AbstractBinder;
 import org.glassfish.jersey.internal.inject.ReferencingFactory;
 import org.glassfish.jersey.internal.util.ExtendedLogger;
 import org.glassfish.jersey.internal.util.collection.Ref;
+import org.glassfish.jersey.message.DirectOutput;
 import org.glassfish.jersey.process.internal.RequestScoped;
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ContainerException;
@@ -51,8 +58,15 @@ import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.ContainerUtils;
 import org.glassfish.jersey.server.spi.Container;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
+import org.glassfish.jersey.server.spi.NonBlockingInput;
+import org.glassfish.jersey.server.spi.NonBlockingOutput;
 
 import org.glassfish.grizzly.CompletionHandler;
+import org.glassfish.grizzly.ReadHandler;
+import org.glassfish.grizzly.WriteHandler;
+import org.glassfish.grizzly.http.io.NIOInputStream;
+import org.glassfish.grizzly.http.io.NIOOutputStream;
+import org.glassfish.grizzly.http.io.OutputBuffer;
 import org.glassfish.grizzly.http.server.HttpHandler;
 import org.glassfish.grizzly.http.server.Request;
 import org.glassfish.grizzly.http.server.Response;
@@ -247,7 +261,7 @@ public final class GrizzlyHttpContainer extends HttpHandler implements Container
                     }
                 }
 
-                return grizzlyResponse.getOutputStream();
+                return new DirectOutputStream(grizzlyResponse);
             } finally {
                 logger.debugLog("{0} - writeResponseStatusAndHeaders() called", name);
             }
@@ -299,6 +313,201 @@ public final class GrizzlyHttpContainer extends HttpHandler implements Container
         }
     }
 
+    /**
+     * Response entity stream writing file regions and byte buffers into the Grizzly output buffer without
+     * copying them.
+     * <p>
+     * File regions are memory mapped rather than sent using the Grizzly {@code sendfile} support, which completes
+     * the response on its own and cannot be followed by any other output.
+     * </p>
+     * <p>
+     * Once the response is suspended, the stream can be written without blocking using the Grizzly write notifications.
+     * </p>
+     */
+    private static final class DirectOutputStream extends OutputStream implements DirectOutput, NonBlockingOutput {
+
+        // maximal size of a single memory mapped file region
+        private static final long MAX_MAPPED_REGION = 64 * 1024 * 1024;
+
+        private final NIOOutputStream outputStream;
+        private final OutputBuffer outputBuffer;
+        private final Response response;
+        private final AtomicBoolean awaiting = new AtomicBoolean();
+        private volatile WriteListener listener;
+
+        private final WriteHandler writeHandler = new WriteHandler() {
+            @Override
+            public void onWritePossible() {
+                awaiting.set(false);
+                listener.onWritePossible();
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                awaiting.set(false);
+                listener.onError(t);
+            }
+        };
+
+        DirectOutputStream(final Response response) {
+            this.outputStream = response.getNIOOutputStream();
+            this.outputBuffer = response.getOutputBuffer();
+            this.response = response;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            outputStream.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b) throws IOException {
+            outputStream.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            outputStream.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            outputStream.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            outputStream.close();
+        }
+
+        @Override
+        public boolean transferFile(final File file, long position, long count) throws IOException {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                while (count > 0) {
+                    final long size = Math.min(count, MAX_MAPPED_REGION);
+                    outputBuffer.writeByteBuffer(channel.map(FileChannel.MapMode.READ_ONLY, position, size));
+                    position += size;
+                    count -= size;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean writeBuffer(final ByteBuffer buffer) throws IOException {
+            // the written buffer may be queued, do not let it see the position change
+            outputBuffer.writeByteBuffer(buffer.slice());
+            buffer.position(buffer.limit());
+            return true;
+        }
+
+        @Override
+        public boolean setWriteListener(final WriteListener listener) {
+            // the write notifications are delivered only after the service method returned with the response suspended
+            if (!response.isSuspended()) {
+                return false;
+            }
+            this.listener = listener;
+            return true;
+        }
+
+        @Override
+        public boolean isReady() {
+            if (outputStream.canWrite()) {
+                return true;
+            }
+            if (awaiting.compareAndSet(false, true)) {
+                // invokes the handler immediately if the queued data have been written in the meantime
+                outputStream.notifyCanWrite(writeHandler);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Request entity stream reading the Grizzly input buffer. Once the response is suspended, the stream can be read
+     * without blocking using the Grizzly read notifications.
+     */
+    private static final class NonBlockingInputStream extends InputStream implements NonBlockingInput {
+
+        private final NIOInputStream inputStream;
+        private final Response response;
+        private final AtomicBoolean awaiting = new AtomicBoolean();
+        private volatile ReadListener listener;
+
+        private final ReadHandler readHandler = new ReadHandler() {
+            @Override
+            public void onDataAvailable() {
+                awaiting.set(false);
+                listener.onDataAvailable();
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                awaiting.set(false);
+                listener.onError(t);
+            }
+
+            @Override
+            public void onAllDataRead() {
+                awaiting.set(false);
+                listener.onDataAvailable();
+            }
+        };
+
+        NonBlockingInputStream(final Request request, final Response response) {
+            this.inputStream = request.getNIOInputStream();
+            this.response = response;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return inputStream.read();
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            return inputStream.read(b, off, len);
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            return inputStream.skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return inputStream.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            inputStream.close();
+        }
+
+        @Override
+        public boolean setReadListener(final ReadListener listener) {
+            // the read notifications are delivered only after the service method returned with the response suspended
+            if (!response.isSuspended()) {
+                return false;
+            }
+            this.listener = listener;
+            return true;
+        }
+
+        @Override
+        public boolean isReady() {
+            if (inputStream.isReady() || inputStream.isFinished()) {
+                return true;
+            }
+            if (awaiting.compareAndSet(false, true)) {
+                // invokes the handler immediately if the data arrived in the meantime
+                inputStream.notifyAvailable(readHandler);
+            }
+            return false;
+        }
+    }
+
     private volatile ApplicationHandler appHandler;
 
     /**
@@ -354,7 +563,7 @@ public final class GrizzlyHttpContainer extends HttpHandler implements Container
                     getSecurityContext(request),
                     new GrizzlyRequestPropertiesDelegate(request),
                     appHandler.getConfiguration());
-            requestContext.setEntityStream(request.getInputStream());
+            requestContext.setEntityStream(new NonBlockingInputStream(request, response));
             for (final String headerName : request.getHeaderNames()) {
                 requestContext.headers(headerName, request.getHeaders(headerName));
             }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,9 +20,11 @@ import java.io.IOException;
 import java.net.URI;
 
 import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.RuntimeType;
 
 import org.glassfish.jersey.grizzly2.httpserver.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
+import org.glassfish.jersey.internal.util.VirtualThreads;
 import org.glassfish.jersey.process.JerseyProcessingUncaughtExceptionHandler;
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ResourceConfig;
@@ -282,10 +284,15 @@ public final class GrizzlyHttpServerFactory {
 
         final NetworkListener listener = new NetworkListener("grizzly", host, port);
 
-        listener.getTransport().getWorkerThreadPoolConfig().setThreadFactory(new ThreadFactoryBuilder()
-                .setNameFormat("grizzly-http-server-%d")
-                .setUncaughtExceptionHandler(new JerseyProcessingUncaughtExceptionHandler())
-                .build());
+        if (handler != null && VirtualThreads.isEnabled(handler.getConfiguration().getProperties(), RuntimeType.SERVER)) {
+            // virtual threads are not pooled, an idle thread-per-task executor does not hold any thread
+            listener.getTransport().setWorkerThreadPool(VirtualThreads.newThreadPerTaskExecutor("grizzly-http-server"));
+        } else {
+            listener.getTransport().getWorkerThreadPoolConfig().setThreadFactory(new ThreadFactoryBuilder()
+                    .setNameFormat("grizzly-http-server-%d")
+                    .setUncaughtExceptionHandler(new JerseyProcessingUncaughtExceptionHandler())
+                    .build());
+        }
 
         listener.setSecure(secure);
         if (sslEngineConfigurator != null) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -24,11 +24,13 @@ import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.RuntimeType;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
 
 import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
+import org.glassfish.jersey.internal.util.VirtualThreads;
 import org.glassfish.jersey.jdkhttp.internal.LocalizationMessages;
 import org.glassfish.jersey.process.JerseyProcessingUncaughtExceptionHandler;
 import org.glassfish.jersey.server.ResourceConfig;
@@ -262,10 +264,14 @@ public final class JdkHttpServerFactory {
             ((HttpsServer) server).setHttpsConfigurator(httpsConfigurator);
         }
 
-        server.setExecutor(Executors.newCachedThreadPool(new ThreadFactoryBuilder()
-                .setNameFormat("jdk-http-server-%d")
-                .setUncaughtExceptionHandler(new JerseyProcessingUncaughtExceptionHandler())
-                .build()));
+        if (VirtualThreads.isEnabled(handler.getConfiguration().getProperties(), RuntimeType.SERVER)) {
+            server.setExecutor(VirtualThreads.newThreadPerTaskExecutor("jdk-http-server"));
+        } else {
+            server.setExecutor(Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                    .setNameFormat("jdk-http-server-%d")
+                    .setUncaughtExceptionHandler(new JerseyProcessingUncaughtExceptionHandler())
+                    .build()));
+        }
         server.createContext(path, handler);
 
         final HttpServer wrapper = isHttp
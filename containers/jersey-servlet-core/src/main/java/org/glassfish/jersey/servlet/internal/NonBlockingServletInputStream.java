@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.servlet.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.glassfish.jersey.server.spi.NonBlockingInput;
+
+/**
+ * Request entity stream reading the servlet input stream. Once the request is in the asynchronous mode, the stream can be
+ * read without blocking using the Servlet 3.1 {@link jakarta.servlet.ReadListener}.
+ */
+public final class NonBlockingServletInputStream extends InputStream implements NonBlockingInput {
+
+    private final HttpServletRequest request;
+    private final ServletInputStream inputStream;
+
+    /**
+     * Create new entity stream of the servlet request.
+     *
+     * @param request servlet request.
+     * @throws IOException if the servlet input stream cannot be obtained.
+     */
+    public NonBlockingServletInputStream(final HttpServletRequest request) throws IOException {
+        this.request = request;
+        this.inputStream = request.getInputStream();
+    }
+
+    @Override
+    public int read() throws IOException {
+        return inputStream.read();
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        return inputStream.read(b, off, len);
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        return inputStream.skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return inputStream.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+
+    @Override
+    public boolean setReadListener(final ReadListener listener) {
+        // the servlet read listener can be set only in the asynchronous mode
+        if (!request.isAsyncStarted()) {
+            return false;
+        }
+
+        try {
+            inputStream.setReadListener(new jakarta.servlet.ReadListener() {
+                @Override
+                public void onDataAvailable() {
+                    listener.onDataAvailable();
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    listener.onDataAvailable();
+                }
+
+                @Override
+                public void onError(final Throwable t) {
+                    listener.onError(t);
+                }
+            });
+            return true;
+        } catch (final IllegalStateException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        // some containers do not report the finished stream as ready
+        return inputStream.isFinished() || inputStream.isReady();
+    }
+}
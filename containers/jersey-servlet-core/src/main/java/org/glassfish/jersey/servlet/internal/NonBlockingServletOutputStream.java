@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.servlet.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import jakarta.servlet.ServletOutputStream;
+
+import org.glassfish.jersey.server.spi.NonBlockingOutput;
+
+/**
+ * Response entity stream writing the servlet output stream. Once the request is in the asynchronous mode, the stream can
+ * be written without blocking using the Servlet 3.1 {@link jakarta.servlet.WriteListener}.
+ * <p>
+ * A servlet output stream in the non-blocking mode may be written only after its {@code isReady()} returned {@code true}.
+ * The bytes written while the servlet stream is not ready, e.g. the rest of a chunk after the first write has not been
+ * completed immediately, are kept in a pending buffer and written once the container notifies the stream. The stream
+ * reports itself as ready only when there are no pending bytes.
+ * </p>
+ * <p>
+ * The stream does not close the servlet output stream, so that any Servlet filters in the chain can still write to
+ * the response after Jersey. Containers that own the servlet output stream, e.g. the Jetty HTTP container, override
+ * {@link #close()} to close it.
+ * </p>
+ */
+public class NonBlockingServletOutputStream extends OutputStream implements NonBlockingOutput {
+
+    private final ServletOutputStream outputStream;
+
+    // the following fields are guarded by this stream
+    private boolean nonBlocking;
+    private ByteArrayOutputStream pending;
+    private boolean flushPending;
+    private IOException error;
+    private WriteListener listener;
+
+    /**
+     * Create new entity stream writing the servlet output stream.
+     *
+     * @param outputStream servlet output stream.
+     */
+    public NonBlockingServletOutputStream(final ServletOutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(final byte[] b, final int off, final int len) throws IOException {
+        if (!nonBlocking) {
+            outputStream.write(b, off, len);
+            return;
+        }
+        checkError();
+        if (!hasPending() && outputStream.isReady()) {
+            outputStream.write(b, off, len);
+        } else {
+            if (pending == null) {
+                pending = new ByteArrayOutputStream(len);
+            }
+            pending.write(b, off, len);
+        }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        if (!nonBlocking) {
+            outputStream.flush();
+            return;
+        }
+        checkError();
+        if (!hasPending() && outputStream.isReady()) {
+            outputStream.flush();
+        } else {
+            flushPending = true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // do not close - let the servlet container close the stream
+    }
+
+    @Override
+    public boolean setWriteListener(final WriteListener listener) {
+        synchronized (this) {
+            if (nonBlocking) {
+                return false;
+            }
+            this.listener = listener;
+            nonBlocking = true;
+        }
+        try {
+            // the servlet container invokes the listener once the stream is ready
+            outputStream.setWriteListener(new jakarta.servlet.WriteListener() {
+                @Override
+                public void onWritePossible() {
+                    if (writePending()) {
+                        listener.onWritePossible();
+                    }
+                }
+
+                @Override
+                public void onError(final Throwable t) {
+                    listener.onError(t);
+                }
+            });
+            return true;
+        } catch (final IllegalStateException e) {
+            // the request is not in the asynchronous mode
+            synchronized (this) {
+                this.listener = null;
+                nonBlocking = false;
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return writePending();
+    }
+
+    /**
+     * Write the pending bytes and flush the servlet stream if requested, as far as possible without blocking.
+     *
+     * @return {@code true} if there are no pending bytes and the servlet stream is ready, or if writing failed
+     * (the error is thrown by the next write).
+     */
+    private synchronized boolean writePending() {
+        if (error != null) {
+            return true;
+        }
+        try {
+            if (hasPending()) {
+                if (!outputStream.isReady()) {
+                    return false;
+                }
+                pending.writeTo(outputStream);
+                pending.reset();
+            }
+            if (flushPending) {
+                if (!outputStream.isReady()) {
+                    return false;
+                }
+                outputStream.flush();
+                flushPending = false;
+            }
+            return outputStream.isReady();
+        } catch (final IOException e) {
+            error = e;
+            return true;
+        }
+    }
+
+    private boolean hasPending() {
+        return pending != null && pending.size() > 0;
+    }
+
+    private void checkError() throws IOException {
+        if (error != null) {
+            throw error;
+        }
+    }
+}
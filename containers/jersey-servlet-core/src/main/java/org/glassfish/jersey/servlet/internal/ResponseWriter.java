@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -153,11 +153,9 @@ public class ResponseWriter implements ContainerResponseWriter {
             return null;
         } else {
             try {
-                final OutputStream outputStream = response.getOutputStream();
-
                 // delegating output stream prevents closing the underlying servlet output stream,
                 // so that any Servlet filters in the chain can still write to the response after us.
-                return new NonCloseableOutputStreamWrapper(outputStream);
+                return new NonBlockingServletOutputStream(response.getOutputStream());
             } catch (final IOException e) {
                 throw new ContainerException(e);
             }
@@ -278,38 +276,4 @@ public class ResponseWriter implements ContainerResponseWriter {
             throw new ContainerException(ex);
         }
     }
-
-    private static class NonCloseableOutputStreamWrapper extends OutputStream {
-
-        private final OutputStream delegate;
-
-        public NonCloseableOutputStreamWrapper(final OutputStream delegate) {
-            this.delegate = delegate;
-        }
-
-        @Override
-        public void write(final int b) throws IOException {
-            delegate.write(b);
-        }
-
-        @Override
-        public void write(final byte[] b) throws IOException {
-            delegate.write(b);
-        }
-
-        @Override
-        public void write(final byte[] b, final int off, final int len) throws IOException {
-            delegate.write(b, off, len);
-        }
-
-        @Override
-        public void flush() throws IOException {
-            delegate.flush();
-        }
-
-        @Override
-        public void close() throws IOException {
-            // do not close - let the servlet container close the stream
-        }
-    }
 }
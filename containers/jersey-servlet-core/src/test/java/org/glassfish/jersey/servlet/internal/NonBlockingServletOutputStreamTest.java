@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.servlet.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+import org.glassfish.jersey.server.spi.NonBlockingOutput;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the non-blocking servlet entity output stream.
+ */
+public class NonBlockingServletOutputStreamTest {
+
+    @Test
+    public void testBlockingMode() throws IOException {
+        final TestServletOutputStream servletStream = new TestServletOutputStream(false);
+        final NonBlockingServletOutputStream stream = new NonBlockingServletOutputStream(servletStream);
+
+        assertFalse(stream.setWriteListener(new CountingListener()));
+
+        stream.write("hello".getBytes(StandardCharsets.UTF_8));
+        stream.flush();
+        stream.close();
+
+        assertEquals("hello", servletStream.content());
+        assertEquals(1, servletStream.flushes);
+        assertFalse(servletStream.closed);
+    }
+
+    @Test
+    public void testPendingBytesWrittenOnceReady() throws IOException {
+        final TestServletOutputStream servletStream = new TestServletOutputStream(true);
+        final NonBlockingServletOutputStream stream = new NonBlockingServletOutputStream(servletStream);
+        final CountingListener listener = new CountingListener();
+
+        assertTrue(stream.setWriteListener(listener));
+        assertTrue(stream.isReady());
+
+        // the first write is not completed immediately, the rest of the chunk is kept pending
+        servletStream.readyAfterWrite = false;
+        stream.write("first".getBytes(StandardCharsets.UTF_8));
+        stream.write(',');
+        stream.write("second".getBytes(StandardCharsets.UTF_8));
+        stream.flush();
+
+        assertEquals("first", servletStream.content());
+        assertEquals(0, servletStream.flushes);
+        assertFalse(stream.isReady());
+
+        servletStream.readyAfterWrite = true;
+        servletStream.writePossible();
+
+        assertEquals("first,second", servletStream.content());
+        assertEquals(1, servletStream.flushes);
+        assertEquals(1, listener.writePossible.get());
+        assertTrue(stream.isReady());
+    }
+
+    @Test
+    public void testListenerNotNotifiedWhilePending() throws IOException {
+        final TestServletOutputStream servletStream = new TestServletOutputStream(true);
+        final NonBlockingServletOutputStream stream = new NonBlockingServletOutputStream(servletStream);
+        final CountingListener listener = new CountingListener();
+
+        assertTrue(stream.setWriteListener(listener));
+
+        servletStream.readyAfterWrite = false;
+        stream.write("first".getBytes(StandardCharsets.UTF_8));
+        stream.write("second".getBytes(StandardCharsets.UTF_8));
+        stream.write("third".getBytes(StandardCharsets.UTF_8));
+
+        // the pending bytes are written at once and do not complete immediately again
+        servletStream.writePossible();
+
+        assertEquals("firstsecondthird", servletStream.content());
+        assertEquals(0, listener.writePossible.get());
+        assertFalse(stream.isReady());
+
+        servletStream.readyAfterWrite = true;
+        servletStream.writePossible();
+        assertEquals(1, listener.writePossible.get());
+    }
+
+    @Test
+    public void testError() {
+        final TestServletOutputStream servletStream = new TestServletOutputStream(true);
+        final NonBlockingServletOutputStream stream = new NonBlockingServletOutputStream(servletStream);
+        final CountingListener listener = new CountingListener();
+
+        assertTrue(stream.setWriteListener(listener));
+        servletStream.listener.onError(new IOException("reset"));
+
+        assertEquals(1, listener.errors.get());
+    }
+
+    private static class CountingListener implements NonBlockingOutput.WriteListener {
+
+        private final AtomicInteger writePossible = new AtomicInteger();
+        private final AtomicInteger errors = new AtomicInteger();
+
+        @Override
+        public void onWritePossible() {
+            writePossible.incrementAndGet();
+        }
+
+        @Override
+        public void onError(final Throwable error) {
+            errors.incrementAndGet();
+        }
+    }
+
+    /**
+     * Servlet output stream enforcing the non-blocking write rules.
+     */
+    private static class TestServletOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private final boolean asyncStarted;
+        private WriteListener listener;
+        private boolean ready = true;
+        private boolean readyAfterWrite = true;
+        private int flushes;
+        private boolean closed;
+
+        private TestServletOutputStream(final boolean asyncStarted) {
+            this.asyncStarted = asyncStarted;
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            if (!asyncStarted) {
+                throw new IllegalStateException();
+            }
+            this.listener = writeListener;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            checkReady();
+            content.write(b, off, len);
+            ready = readyAfterWrite;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            checkReady();
+            flushes++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        private void checkReady() {
+            if (listener != null && !ready) {
+                throw new IllegalStateException("Not ready.");
+            }
+        }
+
+        private void writePossible() throws IOException {
+            ready = true;
+            listener.onWritePossible();
+        }
+
+        private String content() {
+            return new String(content.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -41,6 +41,7 @@ import jakarta.ws.rs.core.SecurityContext;
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -60,6 +61,7 @@ import org.glassfish.jersey.server.ServerProperties;
 import org.glassfish.jersey.server.internal.ContainerUtils;
 import org.glassfish.jersey.server.spi.Container;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
+import org.glassfish.jersey.servlet.internal.NonBlockingServletOutputStream;
 
 import org.eclipse.jetty.http.HttpStatus;
 import org.eclipse.jetty.server.Request;
@@ -288,7 +290,7 @@ public final class JettyHttpContainer extends AbstractHandler implements Contain
             }
 
             try {
-                return response.getOutputStream();
+                return new NonBlockingOutputStream(response.getOutputStream());
             } catch (final IOException ioe) {
                 throw new ContainerException("Error during writing out the response headers.", ioe);
             }
@@ -415,6 +417,25 @@ public final class JettyHttpContainer extends AbstractHandler implements Contain
 
     }
 
+    /**
+     * Response entity stream writing the Jetty servlet output stream. Unlike in a servlet container, the stream closes
+     * the servlet output stream once the response entity has been written.
+     */
+    private static final class NonBlockingOutputStream extends NonBlockingServletOutputStream {
+
+        private final ServletOutputStream outputStream;
+
+        NonBlockingOutputStream(final ServletOutputStream outputStream) {
+            super(outputStream);
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            outputStream.close();
+        }
+    }
+
     @Override
     public ResourceConfig getConfiguration() {
         return appHandler.getConfiguration();
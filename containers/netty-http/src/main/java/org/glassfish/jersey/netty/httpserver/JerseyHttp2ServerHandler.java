@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -53,7 +53,7 @@ import org.glassfish.jersey.server.internal.ContainerUtils;
 class JerseyHttp2ServerHandler extends ChannelDuplexHandler {
 
     private final URI baseUri;
-    private final NettyInputStream nettyInputStream = new NettyInputStream();
+    private final NettyInputStream nettyInputStream = new NettyEntityInputStream();
     private final NettyHttpContainer container;
     private final ResourceConfig resourceConfig;
 
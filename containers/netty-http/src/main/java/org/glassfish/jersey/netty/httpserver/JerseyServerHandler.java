@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -52,9 +52,10 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
 
     private final URI baseUri;
     private final String applicationPath;
-    private final NettyInputStream nettyInputStream = new NettyInputStream();
+    private final NettyInputStream nettyInputStream = new NettyEntityInputStream();
     private final NettyHttpContainer container;
     private final ResourceConfig resourceConfig;
+    private volatile NettyResponseWriter responseWriter;
 
     private static final long MAX_REQUEST_ENTITY_BYTES = Long.getLong("jersey.max.http.request.entitySizeMb", new Long(50000))
             .longValue() * 1024 * 1024; //50 MB default limit
@@ -95,7 +96,8 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
             nettyInputStream.clear(); // clearing the content - possible leftover from previous request processing.
             final ContainerRequest requestContext = createContainerRequest(ctx, req);
 
-            requestContext.setWriter(new NettyResponseWriter(ctx, req, container));
+            responseWriter = new NettyResponseWriter(ctx, req, container);
+            requestContext.setWriter(responseWriter);
 
             long contentLength = req.headers().contains(HttpHeaderNames.CONTENT_LENGTH) ? HttpUtil.getContentLength(req)
                     : -1L;
@@ -147,6 +149,15 @@ class JerseyServerHandler extends ChannelInboundHandlerAdapter {
       }
     }
 
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) {
+        final NettyResponseWriter writer = responseWriter;
+        if (writer != null) {
+            writer.channelWritabilityChanged();
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
     /**
      * Create Jersey {@link ContainerRequest} based on Netty {@link HttpRequest}.
      *
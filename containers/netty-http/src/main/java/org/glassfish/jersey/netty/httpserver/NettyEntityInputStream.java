@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.netty.httpserver;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.netty.buffer.ByteBuf;
+import org.glassfish.jersey.netty.connector.internal.NettyInputStream;
+import org.glassfish.jersey.server.spi.NonBlockingInput;
+
+/**
+ * Request entity stream fed by the Netty event loop that can be read without blocking. The read listener is notified
+ * from the event loop as the content buffers arrive.
+ */
+class NettyEntityInputStream extends NettyInputStream implements NonBlockingInput {
+
+    private final AtomicBoolean awaiting = new AtomicBoolean();
+    private volatile ReadListener listener;
+
+    @Override
+    public boolean setReadListener(final ReadListener listener) {
+        this.listener = listener;
+        return true;
+    }
+
+    @Override
+    public boolean isReady() {
+        if (isReadable()) {
+            return true;
+        }
+        awaiting.set(true);
+        // re-check, a buffer published in the meantime might not have seen the flag
+        return isReadable();
+    }
+
+    @Override
+    public void publish(final ByteBuf content) {
+        super.publish(content);
+        notifyListener();
+    }
+
+    @Override
+    public void complete(final Throwable cause) {
+        super.complete(cause);
+        notifyListener();
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        listener = null;
+        awaiting.set(false);
+    }
+
+    private void notifyListener() {
+        final ReadListener listener = this.listener;
+        if (listener != null && awaiting.compareAndSet(true, false)) {
+            listener.onDataAvailable();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,8 +19,10 @@ package org.glassfish.jersey.netty.httpserver;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
+import jakarta.ws.rs.RuntimeType;
 import jakarta.ws.rs.core.Application;
 
+import org.glassfish.jersey.internal.util.VirtualThreads;
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.spi.Container;
@@ -35,14 +37,17 @@ import org.glassfish.jersey.spi.ScheduledExecutorServiceProvider;
 class NettyHttpContainer implements Container {
 
     private volatile ApplicationHandler appHandler;
+    private volatile ExecutorService virtualThreadExecutor;
 
     public NettyHttpContainer(Application application) {
         this.appHandler = new ApplicationHandler(application);
+        this.virtualThreadExecutor = createVirtualThreadExecutor(appHandler);
         this.appHandler.onStartup(this);
     }
 
     NettyHttpContainer(Class<? extends Application> applicationClass) {
         this.appHandler = new ApplicationHandler(applicationClass);
+        this.virtualThreadExecutor = createVirtualThreadExecutor(appHandler);
         this.appHandler.onStartup(this);
     }
 
@@ -66,16 +71,35 @@ class NettyHttpContainer implements Container {
         appHandler.onShutdown(this);
 
         appHandler = new ApplicationHandler(configuration);
+        final ExecutorService previousExecutor = virtualThreadExecutor;
+        virtualThreadExecutor = createVirtualThreadExecutor(appHandler);
+        shutdownVirtualThreadExecutor(previousExecutor);
         appHandler.onReload(this);
         appHandler.onStartup(this);
     }
 
+    /**
+     * Inform the application that the container is being shut down and release the resources held by the container.
+     */
+    void shutdown() {
+        appHandler.onShutdown(this);
+        shutdownVirtualThreadExecutor(virtualThreadExecutor);
+    }
+
     /**
      * Get {@link java.util.concurrent.ExecutorService}.
+     * <p>
+     * If the {@link org.glassfish.jersey.server.ServerProperties#THREADS_USE_VIRTUAL virtual threads} are enabled,
+     * each request is processed on a new virtual thread, otherwise the application's executor service is used.
+     * </p>
      *
      * @return Executor service associated with this container.
      */
     ExecutorService getExecutorService() {
+        final ExecutorService executor = virtualThreadExecutor;
+        if (executor != null) {
+            return executor;
+        }
         return appHandler.getInjectionManager().getInstance(ExecutorServiceProvider.class).getExecutorService();
     }
 
@@ -87,4 +111,18 @@ class NettyHttpContainer implements Container {
     ScheduledExecutorService getScheduledExecutorService() {
         return appHandler.getInjectionManager().getInstance(ScheduledExecutorServiceProvider.class).getExecutorService();
     }
+
+    private static void shutdownVirtualThreadExecutor(final ExecutorService executor) {
+        if (executor != null) {
+            // requests being processed complete on their threads, no new ones are accepted
+            executor.shutdown();
+        }
+    }
+
+    private static ExecutorService createVirtualThreadExecutor(final ApplicationHandler appHandler) {
+        // virtual threads are not pooled, an idle thread-per-task executor does not hold any thread
+        return VirtualThreads.isEnabled(appHandler.getConfiguration().getProperties(), RuntimeType.SERVER)
+                ? VirtualThreads.newThreadPerTaskExecutor("jersey-netty-server")
+                : null;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,24 +16,36 @@
 
 package org.glassfish.jersey.netty.httpserver;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.glassfish.jersey.message.DirectOutput;
 import org.glassfish.jersey.netty.connector.internal.JerseyChunkedInput;
 import org.glassfish.jersey.server.ContainerException;
 import org.glassfish.jersey.server.ContainerResponse;
 import org.glassfish.jersey.server.spi.ContainerResponseWriter;
+import org.glassfish.jersey.server.spi.NonBlockingOutput;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpChunkedInput;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
@@ -42,6 +54,7 @@ import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
 
 /**
  * Netty implementation of {@link ContainerResponseWriter}.
@@ -68,6 +81,8 @@ class NettyResponseWriter implements ContainerResponseWriter {
 
     private boolean responseWritten = false;
 
+    private volatile EntityOutputStream entityStream;
+
     NettyResponseWriter(ChannelHandlerContext ctx, HttpRequest req, NettyHttpContainer container) {
         this.ctx = ctx;
         this.req = req;
@@ -117,14 +132,8 @@ class NettyResponseWriter implements ContainerResponseWriter {
 
         if (req.method() != HttpMethod.HEAD && (contentLength > 0 || contentLength == -1)) {
 
-            JerseyChunkedInput jerseyChunkedInput = new JerseyChunkedInput(ctx.channel());
-
-            if (HttpUtil.isTransferEncodingChunked(response)) {
-                ctx.writeAndFlush(new HttpChunkedInput(jerseyChunkedInput));
-            } else {
-                ctx.write(new HttpChunkedInput(jerseyChunkedInput)).addListener(FLUSH_FUTURE);
-            }
-            return jerseyChunkedInput;
+            entityStream = new EntityOutputStream(HttpUtil.isTransferEncodingChunked(response));
+            return entityStream;
 
         } else {
             ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
@@ -184,4 +193,220 @@ class NettyResponseWriter implements ContainerResponseWriter {
     public boolean enableResponseBuffering() {
         return true;
     }
+
+    /**
+     * Notify the response entity stream about a change of the channel writability.
+     */
+    void channelWritabilityChanged() {
+        final EntityOutputStream stream = entityStream;
+        if (stream != null) {
+            stream.channelWritabilityChanged();
+        }
+    }
+
+    /**
+     * Response entity stream.
+     * <p>
+     * Bytes written into the stream are sent as a chunked input created on the first write. Until then, file regions
+     * are sent as a {@link DefaultFileRegion} ({@code sendfile}) unless the channel is encrypted, and byte buffers
+     * are sent wrapped without copying.
+     * </p>
+     * <p>
+     * Once a write listener is set, the bytes are collected in a buffer written to the channel as a single HTTP content
+     * when the stream is flushed or closed, or when the buffer is full, without waiting for the transport. The stream
+     * is ready as long as the channel is writable.
+     * </p>
+     */
+    private class EntityOutputStream extends OutputStream implements DirectOutput, NonBlockingOutput {
+
+        private static final int CONTENT_BUFFER_SIZE = 8192;
+
+        private final boolean chunked;
+        private final AtomicBoolean awaiting = new AtomicBoolean();
+        private JerseyChunkedInput chunkedInput;
+        private volatile WriteListener listener;
+        private boolean closed;
+        private ChannelFutureListener closeListener;
+        private ByteBuf content;
+
+        private EntityOutputStream(boolean chunked) {
+            this.chunked = chunked;
+        }
+
+        private JerseyChunkedInput chunkedInput() {
+            if (chunkedInput == null) {
+                chunkedInput = new JerseyChunkedInput(ctx.channel());
+                if (chunked) {
+                    ctx.writeAndFlush(new HttpChunkedInput(chunkedInput));
+                } else {
+                    ctx.write(new HttpChunkedInput(chunkedInput)).addListener(FLUSH_FUTURE);
+                }
+            }
+            return chunkedInput;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (listener != null) {
+                contentBuffer().writeByte(b);
+                writeContentIfFull();
+            } else {
+                chunkedInput().write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len > 0) {
+                if (listener == null) {
+                    chunkedInput().write(b, off, len);
+                } else if (len >= CONTENT_BUFFER_SIZE) {
+                    writeBufferedContent();
+                    writeContent(Unpooled.copiedBuffer(b, off, len));
+                } else {
+                    contentBuffer().writeBytes(b, off, len);
+                    writeContentIfFull();
+                }
+            }
+        }
+
+        private ByteBuf contentBuffer() throws IOException {
+            if (!ctx.channel().isActive()) {
+                releaseContent();
+                throw new IOException(new ClosedChannelException());
+            }
+            if (content == null) {
+                content = ctx.alloc().buffer(CONTENT_BUFFER_SIZE);
+            }
+            return content;
+        }
+
+        private void writeContentIfFull() throws IOException {
+            if (content.readableBytes() >= CONTENT_BUFFER_SIZE) {
+                writeBufferedContent();
+            }
+        }
+
+        private void writeBufferedContent() throws IOException {
+            if (content != null) {
+                final ByteBuf buffered = content;
+                content = null;
+                writeContent(buffered);
+            }
+        }
+
+        private void releaseContent() {
+            if (content != null) {
+                content.release();
+                content = null;
+            }
+        }
+
+        private void writeContent(ByteBuf content) throws IOException {
+            if (!ctx.channel().isActive()) {
+                content.release();
+                throw new IOException(new ClosedChannelException());
+            }
+            ctx.write(new DefaultHttpContent(content));
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writeBufferedContent();
+            if (chunkedInput != null) {
+                chunkedInput.flush();
+            } else {
+                ctx.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (closeListener != null) {
+                ctx.channel().closeFuture().removeListener(closeListener);
+            }
+            if (chunkedInput != null) {
+                chunkedInput.close();
+            } else if (content != null && ctx.channel().isActive()) {
+                ctx.writeAndFlush(new DefaultLastHttpContent(content));
+                content = null;
+            } else {
+                releaseContent();
+                ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+            }
+        }
+
+        @Override
+        public boolean transferFile(File file, long position, long count) throws IOException {
+            if (chunkedInput != null || ctx.pipeline().get(SslHandler.class) != null) {
+                // the file region would overtake the chunked input or could not be encrypted
+                return false;
+            }
+            if (listener != null) {
+                writeBufferedContent();
+                ctx.write(new DefaultFileRegion(file, position, count));
+            } else {
+                await(ctx.writeAndFlush(new DefaultFileRegion(file, position, count)));
+            }
+            return true;
+        }
+
+        @Override
+        public boolean writeBuffer(ByteBuffer buffer) throws IOException {
+            if (chunkedInput != null) {
+                return false;
+            }
+            if (listener != null) {
+                writeBufferedContent();
+                writeContent(Unpooled.wrappedBuffer(buffer));
+            } else {
+                await(ctx.writeAndFlush(new DefaultHttpContent(Unpooled.wrappedBuffer(buffer))));
+            }
+            buffer.position(buffer.limit());
+            return true;
+        }
+
+        private void await(ChannelFuture future) throws IOException {
+            // do not let the caller run ahead of the transport, unless called by the event loop itself
+            if (!ctx.executor().inEventLoop()) {
+                future.awaitUninterruptibly();
+                if (!future.isSuccess()) {
+                    throw new IOException(future.cause());
+                }
+            }
+        }
+
+        @Override
+        public boolean setWriteListener(final WriteListener listener) {
+            if (chunkedInput != null) {
+                // the bytes written before are still being sent by the chunked input and must not be overtaken
+                return false;
+            }
+            this.listener = listener;
+            closeListener = future -> listener.onError(new ClosedChannelException());
+            ctx.channel().closeFuture().addListener(closeListener);
+            return true;
+        }
+
+        @Override
+        public boolean isReady() {
+            if (ctx.channel().isWritable()) {
+                return true;
+            }
+            awaiting.set(true);
+            // the channel may have become writable before the flag was set
+            return ctx.channel().isWritable() && awaiting.compareAndSet(true, false);
+        }
+
+        private void channelWritabilityChanged() {
+            if (ctx.channel().isWritable() && awaiting.compareAndSet(true, false)) {
+                // do not write the response on the event loop
+                container.getExecutorService().execute(listener::onWritePossible);
+            }
+        }
+    }
 }
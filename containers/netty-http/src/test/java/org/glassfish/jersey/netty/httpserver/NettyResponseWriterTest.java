@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.netty.httpserver;
+
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.core.Response;
+
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.spi.NonBlockingOutput;
+
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the non-blocking response entity stream of {@link NettyResponseWriter}.
+ */
+public class NettyResponseWriterTest {
+
+    @Test
+    public void testNonBlockingWritesAreSentAsSingleContent() throws Exception {
+        final EmbeddedChannel channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        final OutputStream entityStream = entityStream(channel);
+
+        entityStream.write('a');
+        entityStream.write("bc".getBytes(StandardCharsets.US_ASCII));
+        entityStream.write('d');
+        assertNull(channel.readOutbound());
+
+        entityStream.flush();
+        assertEquals("abcd", content(channel.readOutbound()));
+        assertNull(channel.readOutbound());
+
+        entityStream.write("ef".getBytes(StandardCharsets.US_ASCII));
+        entityStream.close();
+        final HttpContent last = channel.readOutbound();
+        assertTrue(last instanceof LastHttpContent);
+        assertEquals("ef", content(last));
+        assertNull(channel.readOutbound());
+    }
+
+    @Test
+    public void testNonBlockingCloseWithoutContent() throws Exception {
+        final EmbeddedChannel channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        final OutputStream entityStream = entityStream(channel);
+
+        entityStream.flush();
+        entityStream.close();
+        final HttpContent last = channel.readOutbound();
+        assertTrue(last instanceof LastHttpContent);
+        assertEquals("", content(last));
+        assertNull(channel.readOutbound());
+    }
+
+    private static OutputStream entityStream(final EmbeddedChannel channel) {
+        final NettyResponseWriter writer = new NettyResponseWriter(channel.pipeline().firstContext(),
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/"), null);
+        final ContainerRequest request = new ContainerRequest(URI.create("/"), URI.create("/"), "GET", null,
+                new MapPropertiesDelegate(), null);
+        final OutputStream entityStream = writer.writeResponseStatusAndHeaders(-1,
+                new ContainerResponse(request, Response.ok().build()));
+        assertTrue(((NonBlockingOutput) entityStream).setWriteListener(new NonBlockingOutput.WriteListener() {
+            @Override
+            public void onWritePossible() {
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+            }
+        }));
+        assertTrue(channel.readOutbound() instanceof HttpResponse);
+        return entityStream;
+    }
+
+    private static String content(final HttpContent content) {
+        try {
+            return content.content().toString(StandardCharsets.US_ASCII);
+        } finally {
+            content.release();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -461,7 +461,6 @@ public class ChunkedInput<T> extends GenericType<T> implements Closeable {
      * has been closed while reading next chunk data.
      * @throws IllegalStateException in case this chunked input has been closed.
      */
-    @SuppressWarnings("unchecked")
     public T read() throws IllegalStateException {
         if (closed.get()) {
             throw new IllegalStateException(LocalizationMessages.CHUNKED_INPUT_CLOSED());
@@ -472,22 +471,7 @@ public class ChunkedInput<T> extends GenericType<T> implements Closeable {
             if (chunk == null) {
                 close();
             } else {
-                final ByteArrayInputStream chunkStream = new ByteArrayInputStream(chunk);
-                // TODO: add interceptors: interceptors are used in ChunkedOutput, so the stream should
-                // be intercepted in the ChunkedInput too. Interceptors cannot be easily added to the readFrom
-                // method as they should wrap the stream before it is processed by ChunkParser. Also please check todo
-                // in ChunkedInput (this should be fixed together with this todo)
-                // issue: JERSEY-1809
-                return (T) messageBodyWorkers.readFrom(
-                        getRawType(),
-                        getType(),
-                        annotations,
-                        mediaType,
-                        headers,
-                        propertiesDelegate,
-                        chunkStream,
-                        Collections.<ReaderInterceptor>emptyList(),
-                        false);
+                return readChunk(chunk);
             }
         } catch (final IOException e) {
             Logger.getLogger(this.getClass().getName()).log(Level.FINE, e.getMessage(), e);
@@ -495,4 +479,46 @@ public class ChunkedInput<T> extends GenericType<T> implements Closeable {
         }
         return null;
     }
+
+    /**
+     * Convert the data of a single chunk to a Java instance using the {@link #getChunkType() chunk media type}.
+     * <p>
+     * The method lets subclasses split the response stream into chunks by other means than the
+     * {@link #getParser() chunk parser}, e.g. as the data arrive without blocking.
+     * </p>
+     *
+     * @param chunk chunk data.
+     * @return chunk converted to a Java instance.
+     * @throws IOException in case the chunk cannot be read.
+     * @since 3.1.2
+     */
+    @SuppressWarnings("unchecked")
+    protected T readChunk(final byte[] chunk) throws IOException {
+        final ByteArrayInputStream chunkStream = new ByteArrayInputStream(chunk);
+        // TODO: add interceptors: interceptors are used in ChunkedOutput, so the stream should
+        // be intercepted in the ChunkedInput too. Interceptors cannot be easily added to the readFrom
+        // method as they should wrap the stream before it is processed by ChunkParser. Also please check todo
+        // in ChunkedInput (this should be fixed together with this todo)
+        // issue: JERSEY-1809
+        return (T) messageBodyWorkers.readFrom(
+                getRawType(),
+                getType(),
+                annotations,
+                mediaType,
+                headers,
+                propertiesDelegate,
+                chunkStream,
+                Collections.<ReaderInterceptor>emptyList(),
+                false);
+    }
+
+    /**
+     * Get the underlying response entity input stream.
+     *
+     * @return response entity input stream.
+     * @since 3.1.2
+     */
+    protected InputStream getInputStream() {
+        return inputStream;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -24,11 +24,14 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import jakarta.ws.rs.RuntimeType;
+
 import org.glassfish.jersey.internal.BootstrapBag;
 import org.glassfish.jersey.internal.inject.Bindings;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.internal.inject.InstanceBinding;
 import org.glassfish.jersey.internal.util.ReflectionHelper;
+import org.glassfish.jersey.internal.util.VirtualThreads;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
 import org.glassfish.jersey.model.internal.ComponentBag;
@@ -36,6 +39,7 @@ import org.glassfish.jersey.model.internal.ManagedObjectsFinalizer;
 import org.glassfish.jersey.process.internal.AbstractExecutorProvidersConfigurator;
 import org.glassfish.jersey.spi.ExecutorServiceProvider;
 import org.glassfish.jersey.spi.ScheduledExecutorServiceProvider;
+import org.glassfish.jersey.spi.VirtualThreadExecutorProvider;
 
 /**
  * Configurator which initializes and register {@link ExecutorServiceProvider} and
@@ -81,6 +85,9 @@ class ClientExecutorProvidersConfigurator extends AbstractExecutorProvidersConfi
             // otherwise, check for ClientProperties.ASYNC_THREADPOOL_SIZE - if that is set, Jersey will create the
             // ExecutorService to be used. If not and running on Java EE container, ManagedExecutorService will be used.
             // Final fallback is DefaultClientAsyncExecutorProvider with defined default.
+        } else if (VirtualThreads.isEnabled(runtimeProperties, RuntimeType.CLIENT)) {
+            // virtual threads requested explicitly, new virtual thread per asynchronous request
+            defaultAsyncExecutorProvider = new DefaultClientAsyncVirtualExecutorProvider();
         } else {
             // Default async request executors support
             Integer asyncThreadPoolSize = ClientProperties
@@ -182,6 +189,18 @@ class ClientExecutorProvidersConfigurator extends AbstractExecutorProvidersConfi
         return null;
     }
 
+    /**
+     * Default {@link ExecutorServiceProvider} used on the client side for asynchronous request processing
+     * when the {@link ClientProperties#THREADS_USE_VIRTUAL virtual threads} are enabled.
+     */
+    @ClientAsyncExecutor
+    private static class DefaultClientAsyncVirtualExecutorProvider extends VirtualThreadExecutorProvider {
+
+        DefaultClientAsyncVirtualExecutorProvider() {
+            super("jersey-client-async-executor");
+        }
+    }
+
     @ClientAsyncExecutor
     public static class ClientExecutorServiceProvider implements ExecutorServiceProvider {
 
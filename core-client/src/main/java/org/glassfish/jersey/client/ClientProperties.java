@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -209,6 +209,27 @@ public final class ClientProperties {
     @PropertyAlias
     public static final String FEATURE_AUTO_DISCOVERY_DISABLE = CommonProperties.FEATURE_AUTO_DISCOVERY_DISABLE_CLIENT;
 
+    /**
+     * If {@code true}, the asynchronous client requests are executed on virtual threads, one new virtual thread per request,
+     * instead of the default client thread pool. The property is not used when a custom executor service is
+     * {@link jakarta.ws.rs.client.ClientBuilder#executorService(java.util.concurrent.ExecutorService) configured}.
+     * <p>
+     * The virtual threads require JDK 21 or newer. On an older JDK the property is ignored.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     * <p>This constant is an alias for {@link CommonProperties#THREADS_USE_VIRTUAL_CLIENT}.</p>
+     *
+     * @see org.glassfish.jersey.CommonProperties#THREADS_USE_VIRTUAL
+     * @since 3.1.2
+     */
+    @PropertyAlias
+    public static final String THREADS_USE_VIRTUAL = CommonProperties.THREADS_USE_VIRTUAL_CLIENT;
+
     /**
      * An integer value that defines the buffer size used to buffer client-side
      * request entity in order to determine its size and set the value of HTTP
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -70,6 +70,7 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
     private final ClientConfig config;
 
     private final RequestScope requestScope;
+    private final Provider<Ref<ClientRequest>> requestRef;
     private final LazyValue<ExecutorService> asyncRequestExecutor;
     private final LazyValue<ScheduledExecutorService> backgroundScheduler;
 
@@ -94,6 +95,7 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
             final BootstrapBag bootstrapBag) {
         Provider<Ref<ClientRequest>> clientRequest =
                 () -> injectionManager.getInstance(new GenericType<Ref<ClientRequest>>() {}.getType());
+        this.requestRef = clientRequest;
 
         invocationBuilderListenerStage = new InvocationBuilderListenerStage(injectionManager);
 
@@ -173,12 +175,19 @@ class ClientRuntime implements JerseyClient.ShutdownHook, ClientExecutor {
 
                     @Override
                     public void response(final ClientResponse response) {
-                        requestScope.runInScope(() -> processResponse(request, response, callback));
+                        requestScope.runInScope(() -> {
+                            // a new scope, the request-scoped providers used by the entity readers need the request
+                            requestRef.get().set(request);
+                            processResponse(request, response, callback);
+                        });
                     }
 
                     @Override
                     public void failure(final Throwable failure) {
-                        requestScope.runInScope(() -> processFailure(request, failure, callback));
+                        requestScope.runInScope(() -> {
+                            requestRef.get().set(request);
+                            processFailure(request, failure, callback);
+                        });
                     }
                 };
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -304,6 +304,41 @@ public final class CommonProperties {
      */
     public static final String JSON_JACKSON_DISABLED_MODULES_SERVER = "jersey.config.server.json.jackson.disabled.modules";
 
+    /**
+     * If {@code true}, Jersey runs the asynchronous tasks it dispatches by itself (e.g. the {@code @ManagedAsync} resource
+     * methods on the server, the asynchronous requests on the client, or the request processing in the containers that
+     * delegate it to Jersey) on virtual threads, one new virtual thread per task, instead of a pool of platform threads.
+     * <p>
+     * The virtual threads require JDK 21 or newer. On an older JDK the property is ignored and the platform thread pools
+     * are used. The value of this property may be overridden by the client/server variant of this property.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 3.1.2
+     */
+    public static final String THREADS_USE_VIRTUAL = "jersey.config.threads.useVirtual";
+
+    /**
+     * Client-specific version of {@link CommonProperties#THREADS_USE_VIRTUAL}.
+     *
+     * If present, it overrides the generic one for the client environment.
+     * @since 3.1.2
+     */
+    public static final String THREADS_USE_VIRTUAL_CLIENT = "jersey.config.client.threads.useVirtual";
+
+    /**
+     * Server-specific version of {@link CommonProperties#THREADS_USE_VIRTUAL}.
+     *
+     * If present, it overrides the generic one for the server environment.
+     * @since 3.1.2
+     */
+    public static final String THREADS_USE_VIRTUAL_SERVER = "jersey.config.server.threads.useVirtual";
+
     /**
      * Prevent instantiation.
      */
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.internal.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.ws.rs.RuntimeType;
+
+import org.glassfish.jersey.CommonProperties;
+import org.glassfish.jersey.internal.LocalizationMessages;
+import org.glassfish.jersey.process.JerseyProcessingUncaughtExceptionHandler;
+
+/**
+ * Utility methods for the virtual threads (JDK 21+).
+ * <p>
+ * Jersey is compiled for an older JDK, hence the virtual threads API is accessed reflectively. On a JDK without
+ * (final) support for the virtual threads, {@link #isSupported()} returns {@code false} and callers are expected
+ * to fall back to the platform threads.
+ * </p>
+ */
+public final class VirtualThreads {
+
+    private static final Logger LOGGER = Logger.getLogger(VirtualThreads.class.getName());
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_UNCAUGHT_EXCEPTION_HANDLER;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderUncaughtExceptionHandler = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderUncaughtExceptionHandler =
+                    builderClass.getMethod("uncaughtExceptionHandler", Thread.UncaughtExceptionHandler.class);
+            builderFactory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+
+            // Virtual threads are a preview feature on JDK 19 and 20, make sure they can actually be created.
+            ofVirtual.invoke(null);
+        } catch (final Throwable t) {
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, "Virtual threads are not supported by the JDK.", t);
+            }
+            ofVirtual = null;
+        }
+
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_UNCAUGHT_EXCEPTION_HANDLER = builderUncaughtExceptionHandler;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+        throw new AssertionError("No instances allowed.");
+    }
+
+    /**
+     * Check whether the virtual threads are supported by the JDK.
+     *
+     * @return {@code true} if the virtual threads can be created.
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Check whether the virtual threads should be used for the given runtime, i.e. whether they are supported by
+     * the JDK and enabled by the {@link CommonProperties#THREADS_USE_VIRTUAL} property (or its client/server variant).
+     *
+     * @param properties  configuration properties.
+     * @param runtimeType runtime (client or server) the threads are used in.
+     * @return {@code true} if the virtual threads should be used.
+     */
+    public static boolean isEnabled(final Map<String, ?> properties, final RuntimeType runtimeType) {
+        final boolean enabled = properties != null && CommonProperties.getValue(properties, runtimeType,
+                CommonProperties.THREADS_USE_VIRTUAL, Boolean.FALSE, Boolean.class);
+        if (enabled && !isSupported()) {
+            LOGGER.warning(LocalizationMessages.VIRTUAL_THREADS_NOT_SUPPORTED(System.getProperty("java.version")));
+            return false;
+        }
+        return enabled;
+    }
+
+    /**
+     * Create a new virtual thread factory. The names of the threads created by the factory consist of the given
+     * name followed by a dash and a sequence number.
+     *
+     * @param name name prefix of the created threads.
+     * @return new virtual thread factory.
+     * @throws UnsupportedOperationException in case the virtual threads are not {@link #isSupported() supported}.
+     */
+    public static ThreadFactory threadFactory(final String name) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException(
+                    LocalizationMessages.VIRTUAL_THREADS_NOT_SUPPORTED(System.getProperty("java.version")));
+        }
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = BUILDER_NAME.invoke(builder, name + "-", 0L);
+            builder = BUILDER_UNCAUGHT_EXCEPTION_HANDLER.invoke(builder, new JerseyProcessingUncaughtExceptionHandler());
+            return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            throw new UnsupportedOperationException(e);
+        }
+    }
+
+    /**
+     * Create a new executor service that starts a new virtual thread for each submitted task.
+     *
+     * @param name name prefix of the created threads.
+     * @return new thread-per-task virtual thread executor service.
+     * @throws UnsupportedOperationException in case the virtual threads are not {@link #isSupported() supported}.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(final String name) {
+        final ThreadFactory threadFactory = threadFactory(name);
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            throw new UnsupportedOperationException(e);
+        }
+    }
+}
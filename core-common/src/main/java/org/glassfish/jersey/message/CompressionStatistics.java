@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message;
+
+/**
+ * Usage statistics of the native {@link java.util.zip.Deflater deflaters} and {@link java.util.zip.Inflater inflaters}
+ * pooled by a content encoder, e.g. {@link GZipEncoder} or {@link DeflateEncoder}.
+ * <p>
+ * A deflater or an inflater holds native (off-heap) zlib memory until it is ended. The encoders end the instances
+ * that do not fit into the pool as soon as they are returned. Instances of streams that are never closed are
+ * released by the garbage collector only, they are counted as live until the garbage collector discards their streams.
+ * </p>
+ *
+ * @since 3.1.2
+ */
+public interface CompressionStatistics {
+
+    /**
+     * Get the number of live deflaters, i.e. deflaters created and not ended yet, including the idle ones.
+     *
+     * @return number of live deflaters.
+     */
+    int getDeflaterCount();
+
+    /**
+     * Get the number of idle deflaters kept in the pool.
+     *
+     * @return number of idle deflaters.
+     */
+    int getIdleDeflaterCount();
+
+    /**
+     * Get the number of live inflaters, i.e. inflaters created and not ended yet, including the idle ones.
+     *
+     * @return number of live inflaters.
+     */
+    int getInflaterCount();
+
+    /**
+     * Get the number of idle inflaters kept in the pool.
+     *
+     * @return number of idle inflaters.
+     */
+    int getIdleInflaterCount();
+
+    /**
+     * Get the estimated native memory in bytes held by the live deflaters and inflaters. The estimate is based on
+     * the zlib memory requirements for the default window size and memory level.
+     *
+     * @return estimated native memory in bytes.
+     */
+    long getEstimatedNativeMemory();
+}
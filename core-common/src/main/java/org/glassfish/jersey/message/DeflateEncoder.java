@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,10 +20,6 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.Inflater;
-import java.util.zip.InflaterInputStream;
 
 import jakarta.annotation.Priority;
 import jakarta.ws.rs.Priorities;
@@ -31,6 +27,7 @@ import jakarta.ws.rs.core.Configuration;
 
 import jakarta.inject.Inject;
 
+import org.glassfish.jersey.message.internal.CompressionPool;
 import org.glassfish.jersey.spi.ContentEncoder;
 
 /**
@@ -46,6 +43,7 @@ public class DeflateEncoder extends ContentEncoder {
 
     // TODO This provider should be registered and configured via a feature.
     private final Configuration config;
+    private final CompressionPool pool;
 
     /**
      * Initialize DeflateEncoder.
@@ -56,6 +54,7 @@ public class DeflateEncoder extends ContentEncoder {
     public DeflateEncoder(final Configuration config) {
         super("deflate");
         this.config = config;
+        this.pool = CompressionPool.create(config != null ? config.getProperties() : null);
     }
 
     @Override
@@ -74,10 +73,10 @@ public class DeflateEncoder extends ContentEncoder {
         // that should never be the case if no zlib wrapper
         if ((firstByte & 15) == 8) {
             // ok, zlib wrapped stream
-            return new InflaterInputStream(markSupportingStream);
+            return pool.inflaterInputStream(markSupportingStream, false);
         } else {
             // no zlib wrapper
-            return new InflaterInputStream(markSupportingStream, new Inflater(true));
+            return pool.inflaterInputStream(markSupportingStream, true);
         }
     }
 
@@ -87,7 +86,7 @@ public class DeflateEncoder extends ContentEncoder {
         // some implementations don't support the correct deflate
         // so we have a property to configure the incorrect deflate (no zlib wrapper) should be used
         // let's check that
-        Object value = config.getProperty(MessageProperties.DEFLATE_WITHOUT_ZLIB);
+        Object value = config != null ? config.getProperty(MessageProperties.DEFLATE_WITHOUT_ZLIB) : null;
         boolean deflateWithoutZLib;
         if (value instanceof String) {
             deflateWithoutZLib = Boolean.valueOf((String) value);
@@ -97,8 +96,16 @@ public class DeflateEncoder extends ContentEncoder {
             deflateWithoutZLib = false;
         }
 
-        return deflateWithoutZLib
-                ? new DeflaterOutputStream(entityStream, new Deflater(Deflater.DEFAULT_COMPRESSION, true))
-                : new DeflaterOutputStream(entityStream);
+        return pool.deflaterOutputStream(entityStream, deflateWithoutZLib);
+    }
+
+    /**
+     * Get the statistics of the deflaters and inflaters used by this encoder.
+     *
+     * @return compression statistics.
+     * @since 3.1.2
+     */
+    public CompressionStatistics getCompressionStatistics() {
+        return pool;
     }
 }
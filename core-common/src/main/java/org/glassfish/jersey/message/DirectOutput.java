@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Entity output stream capability of writing file regions and byte buffers to the underlying transport
+ * without copying them through intermediate byte arrays.
+ * <p>
+ * Entity output streams passed to {@link jakarta.ws.rs.ext.MessageBodyWriter message body writers} implement
+ * this interface if the stream returned by the container (see
+ * {@code org.glassfish.jersey.server.spi.ContainerResponseWriter#writeResponseStatusAndHeaders}) implements it
+ * and no {@link jakarta.ws.rs.ext.WriterInterceptor writer interceptor} replaced the stream.
+ * A writer checks the stream with {@code instanceof} and falls back to writing the bytes into the stream
+ * if either the stream does not implement the interface or a method returns {@code false}.
+ * </p>
+ * <p>
+ * Direct payloads are written after any bytes written into the stream before.
+ * </p>
+ *
+ * @since 3.1.2
+ */
+public interface DirectOutput {
+
+    /**
+     * Write a region of the file, e.g. using {@code sendfile} or a memory mapping of the file.
+     *
+     * @param file     file to be written.
+     * @param position position of the first byte of the region within the file.
+     * @param count    number of bytes to be written.
+     * @return {@code true} if the region has been written, {@code false} if the direct write is not possible
+     * and the caller has to copy the region into the stream.
+     * @throws IOException in case of an I/O error.
+     */
+    boolean transferFile(File file, long position, long count) throws IOException;
+
+    /**
+     * Write the remaining content of the buffer. The buffer position is advanced to its limit once written.
+     * <p>
+     * The implementation may keep a reference to the buffer until the response has been sent, the content
+     * of the buffer must not be modified after this method returns.
+     * </p>
+     *
+     * @param buffer buffer to be written.
+     * @return {@code true} if the buffer has been written, {@code false} if the direct write is not possible
+     * and the caller has to copy the buffer into the stream.
+     * @throws IOException in case of an I/O error.
+     */
+    boolean writeBuffer(ByteBuffer buffer) throws IOException;
+}
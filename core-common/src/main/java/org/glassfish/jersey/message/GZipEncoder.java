@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,13 +19,15 @@ package org.glassfish.jersey.message;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 import jakarta.annotation.Priority;
 import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.core.Configuration;
 import jakarta.ws.rs.core.HttpHeaders;
 
+import jakarta.inject.Inject;
+
+import org.glassfish.jersey.message.internal.CompressionPool;
 import org.glassfish.jersey.spi.ContentEncoder;
 
 /**
@@ -36,22 +38,47 @@ import org.glassfish.jersey.spi.ContentEncoder;
  */
 @Priority(Priorities.ENTITY_CODER)
 public class GZipEncoder extends ContentEncoder {
+
+    private final CompressionPool pool;
+
     /**
      * Initialize GZipEncoder.
      */
     public GZipEncoder() {
+        this(null);
+    }
+
+    /**
+     * Initialize GZipEncoder configured by the compression properties defined in {@link MessageProperties}.
+     *
+     * @param config Jersey configuration properties.
+     * @since 3.1.2
+     */
+    @Inject
+    public GZipEncoder(final Configuration config) {
         super("gzip", "x-gzip");
+        this.pool = CompressionPool.create(config != null ? config.getProperties() : null);
     }
 
     @Override
     public InputStream decode(String contentEncoding, InputStream encodedStream)
             throws IOException {
-        return new GZIPInputStream(encodedStream);
+        return pool.gzipInputStream(encodedStream);
     }
 
     @Override
     public OutputStream encode(String contentEncoding, OutputStream entityStream)
             throws IOException {
-        return new GZIPOutputStream(entityStream);
+        return pool.gzipOutputStream(entityStream);
+    }
+
+    /**
+     * Get the statistics of the deflaters and inflaters used by this encoder.
+     *
+     * @return compression statistics.
+     * @since 3.1.2
+     */
+    public CompressionStatistics getCompressionStatistics() {
+        return pool;
     }
 }
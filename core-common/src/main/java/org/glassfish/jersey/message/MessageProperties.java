@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -62,6 +62,44 @@ public final class MessageProperties {
      */
     public static final String XML_FORMAT_OUTPUT = "jersey.config.xml.formatOutput";
 
+    /**
+     * Value of the property indicates the maximal number of idle JAXB {@link jakarta.xml.bind.Marshaller marshallers}
+     * kept for reuse by each JAXB-based message body writer per JAXB context. The value is expected to be
+     * a non-negative integer, {@code 0} disables the pooling and a new marshaller is created for each entity.
+     * <p />
+     * Marshallers supplied by a {@link jakarta.ws.rs.ext.ContextResolver ContextResolver&lt;Marshaller&gt;} are never pooled.
+     * <p />
+     * The default value is <code>{@value #JAXB_DEFAULT_POOL_SIZE}</code>.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 3.1.2
+     */
+    public static final String JAXB_MARSHALLER_POOL_SIZE = "jersey.config.jaxb.marshallerPoolSize";
+
+    /**
+     * Value of the property indicates the maximal number of idle JAXB {@link jakarta.xml.bind.Unmarshaller unmarshallers}
+     * kept for reuse by each JAXB-based message body reader per JAXB context. The value is expected to be
+     * a non-negative integer, {@code 0} disables the pooling and a new unmarshaller is created for each entity.
+     * <p />
+     * Unmarshallers supplied by a {@link jakarta.ws.rs.ext.ContextResolver ContextResolver&lt;Unmarshaller&gt;} are never
+     * pooled.
+     * <p />
+     * The default value is <code>{@value #JAXB_DEFAULT_POOL_SIZE}</code>.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 3.1.2
+     */
+    public static final String JAXB_UNMARSHALLER_POOL_SIZE = "jersey.config.jaxb.unmarshallerPoolSize";
+
+    /**
+     * The default maximal number ({@value}) of idle JAXB marshallers and unmarshallers kept for reuse.
+     *
+     * @since 3.1.2
+     */
+    public static final int JAXB_DEFAULT_POOL_SIZE = 32;
+
     /**
      * Value of the property indicates the buffer size to be used for I/O operations
      * on byte and character streams. The property value is expected to be a positive
@@ -90,6 +128,83 @@ public final class MessageProperties {
      */
     public static final String DEFLATE_WITHOUT_ZLIB = "jersey.config.deflate.nozlib";
 
+    /**
+     * Compression level used by the {@code GZipEncoder} and {@code DeflateEncoder} encoding interceptors. The value
+     * is expected to be an integer between {@code 0} (no compression) and {@code 9} (best compression), or {@code -1}
+     * for the default level of the zlib library.
+     * <p />
+     * The default value is {@code -1}.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 3.1.2
+     */
+    public static final String ENCODING_COMPRESSION_LEVEL = "jersey.config.encoding.compressionLevel";
+
+    /**
+     * Compression strategy used by the {@code GZipEncoder} and {@code DeflateEncoder} encoding interceptors.
+     * The value is expected to be one of {@code DEFAULT}, {@code FILTERED} or {@code HUFFMAN_ONLY}, or the corresponding
+     * {@link java.util.zip.Deflater} strategy constant.
+     * <p />
+     * The default value is {@code DEFAULT}.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 3.1.2
+     */
+    public static final String ENCODING_COMPRESSION_STRATEGY = "jersey.config.encoding.compressionStrategy";
+
+    /**
+     * Value of the property indicates the maximal number of idle {@link java.util.zip.Deflater deflaters} and
+     * {@link java.util.zip.Inflater inflaters} of each kind kept for reuse by the {@code GZipEncoder} and
+     * {@code DeflateEncoder} encoding interceptors. The value is expected to be a non-negative integer, {@code 0}
+     * disables the pooling and the native memory of each deflater or inflater is released as soon as the entity
+     * stream is closed.
+     * <p />
+     * The default value is <code>{@value #ENCODING_DEFAULT_POOL_SIZE}</code>.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 3.1.2
+     */
+    public static final String ENCODING_POOL_SIZE = "jersey.config.encoding.poolSize";
+
+    /**
+     * The default maximal number ({@value}) of idle deflaters and inflaters kept for reuse.
+     *
+     * @since 3.1.2
+     */
+    public static final int ENCODING_DEFAULT_POOL_SIZE = 32;
+
+    /**
+     * Minimal size in bytes of a response entity compressed by the server {@code EncodingFilter}. Entities
+     * of a known smaller size are sent without the content encoding, provided the client accepts
+     * the {@code identity} encoding. The size is known if the {@code Content-Length} header is set or the entity
+     * is a {@code byte[]}, {@code String}, {@code File} or {@code ByteBuffer}; other entities are always compressed.
+     * <p />
+     * The default value is {@code 0}, i.e. all entities are compressed.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 3.1.2
+     */
+    public static final String ENCODING_MIN_SIZE = "jersey.config.encoding.minSize";
+
+    /**
+     * If set to {@code true}, a {@link java.io.File} entity sent with a {@code Content-Range} header of the form
+     * {@code bytes first-last/complete-length} is written partially, i.e. only the specified byte range of the file
+     * is written. The header is applied only if the range lies within the file and the complete length is {@code *}
+     * or the length of the file; the whole file is written otherwise. The application is responsible for sending
+     * the header with the {@code 206 Partial Content} status only.
+     * <p />
+     * The default value is {@code false}, i.e. the whole file is always written.
+     * <p />
+     * The name of the configuration property is <code>{@value}</code>.
+     *
+     * @since 3.1.2
+     */
+    public static final String FILE_CONTENT_RANGE = "jersey.config.file.contentRange";
+
     /**
      * If set to {@code true}, {@link jakarta.ws.rs.ext.MessageBodyReader MessageBodyReaders} and
      * {@link jakarta.ws.rs.ext.MessageBodyWriter MessageBodyWriters} will be ordered by rules from JAX-RS 1.x, where custom
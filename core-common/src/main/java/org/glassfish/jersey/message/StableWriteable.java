@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link jakarta.ws.rs.ext.MessageBodyWriter message body writer} whose
+ * {@link jakarta.ws.rs.ext.MessageBodyWriter#isWriteable isWriteable} result depends solely on its
+ * arguments, i.e. invoking the method repeatedly with the same entity type, generic type, annotations and
+ * media type always yields the same answer regardless of any request, configuration or provider state.
+ * <p>
+ * Jersey memoizes the outcome of message body writer selection for such writers instead of re-running
+ * the {@code isWriteable} chain for every written entity. A writer that inspects e.g. injected request
+ * data in {@code isWriteable} must not be annotated.
+ * </p>
+ * <p>
+ * The annotation is not inherited; a subclass that overrides {@code isWriteable} has to declare its own stability.
+ * </p>
+ *
+ * @since 3.1.2
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StableWriteable {
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -32,6 +32,9 @@ import org.glassfish.jersey.message.internal.MessageBodyFactory;
  * @since 2.16
  */
 public final class WriterModel extends AbstractEntityProviderModel<MessageBodyWriter> {
+
+    private final boolean stable;
+
     /**
      * Create new writer model instance.
      *
@@ -43,6 +46,18 @@ public final class WriterModel extends AbstractEntityProviderModel<MessageBodyWr
      */
     public WriterModel(MessageBodyWriter provider, List<MediaType> types, Boolean custom) {
         super(provider, types, custom, MessageBodyWriter.class);
+        this.stable = provider.getClass().isAnnotationPresent(StableWriteable.class);
+    }
+
+    /**
+     * Check whether the result of {@link #isWriteable isWriteable} of the modelled writer depends solely
+     * on the method arguments, i.e. whether the writer class is annotated with {@link StableWriteable}.
+     *
+     * @return {@code true} if the {@code isWriteable} result of the modelled writer can be memoized.
+     * @since 3.1.2
+     */
+    public boolean isStable() {
+        return stable;
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -37,6 +37,7 @@ import jakarta.inject.Singleton;
 
 import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.util.ReflectionHelper;
+import org.glassfish.jersey.message.StableWriteable;
 
 /**
  * The basic types message body provider for {@link MediaType#TEXT_PLAIN} media type.
@@ -51,6 +52,7 @@ import org.glassfish.jersey.internal.util.ReflectionHelper;
 @Produces({"text/plain"})
 @Consumes({"text/plain"})
 @Singleton
+@StableWriteable
 final class BasicTypesMessageProvider extends AbstractMessageReaderWriterProvider<Object> {
 
     private static enum PrimitiveTypes {
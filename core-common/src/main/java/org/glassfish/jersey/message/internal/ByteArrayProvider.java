@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -28,6 +28,8 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 
+import org.glassfish.jersey.message.StableWriteable;
+
 /**
  * Default Jersey byte array entity provider (reader and writer).
  *
@@ -36,6 +38,7 @@ import jakarta.ws.rs.core.MultivaluedMap;
  */
 @Produces({"application/octet-stream", "*/*"})
 @Consumes({"application/octet-stream", "*/*"})
+@StableWriteable
 public final class ByteArrayProvider extends AbstractMessageReaderWriterProvider<byte[]> {
 
     @Override
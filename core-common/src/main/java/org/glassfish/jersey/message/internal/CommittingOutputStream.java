@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,14 +17,17 @@
 package org.glassfish.jersey.message.internal;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.guava.Preconditions;
+import org.glassfish.jersey.message.DirectOutput;
 
 /**
  * A committing output stream with optional serialized entity buffering functionality
@@ -50,12 +53,16 @@ import org.glassfish.jersey.internal.guava.Preconditions;
  * method enables buffering with the default size
  * <tt>{@value CommittingOutputStream#DEFAULT_BUFFER_SIZE}</tt> bytes specified in {@link #DEFAULT_BUFFER_SIZE}.
  * </p>
+ * <p>
+ * {@link DirectOutput Direct writes} are rejected while the content still fits into the buffer, so that the entity
+ * size is measured. Otherwise they commit the stream and are delegated to the adapted output stream if it supports them.
+ * </p>
  *
  * @author Paul Sandoz
  * @author Marek Potociar
  * @author Miroslav Fuksa
  */
-public final class CommittingOutputStream extends OutputStream {
+public final class CommittingOutputStream extends OutputStream implements DirectOutput {
 
     private static final Logger LOGGER = Logger.getLogger(CommittingOutputStream.class.getName());
     /**
@@ -223,6 +230,29 @@ public final class CommittingOutputStream extends OutputStream {
         }
     }
 
+    @Override
+    public boolean transferFile(final File file, final long position, final long count) throws IOException {
+        final DirectOutput directOutput = commitDirectOutput(count);
+        return directOutput != null && directOutput.transferFile(file, position, count);
+    }
+
+    @Override
+    public boolean writeBuffer(final ByteBuffer buffer) throws IOException {
+        final DirectOutput directOutput = commitDirectOutput(buffer.remaining());
+        return directOutput != null && directOutput.writeBuffer(buffer);
+    }
+
+    private DirectOutput commitDirectOutput(final long count) throws IOException {
+        if (!directWrite && buffer.size() + count <= bufferSize) {
+            // the content fits into the buffer, let it be copied there to measure the entity size
+            return null;
+        }
+        // the entity size is not measured any more, bytes buffered so far go first
+        flushBuffer(false);
+        commitStream();
+        return adaptedOutput instanceof DirectOutput ? (DirectOutput) adaptedOutput : null;
+    }
+
     /**
      * Commit the output stream.
      *
@@ -274,7 +304,7 @@ public final class CommittingOutputStream extends OutputStream {
             }
 
             commitStream(currentSize);
-            if (buffer != null) {
+            if (buffer != null && buffer.size() > 0) {
                 buffer.writeTo(adaptedOutput);
             }
         }
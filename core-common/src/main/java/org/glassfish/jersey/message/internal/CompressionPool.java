@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.glassfish.jersey.internal.LocalizationMessages;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.message.CompressionStatistics;
+import org.glassfish.jersey.message.MessageProperties;
+
+/**
+ * Bounded pools of {@link Deflater deflaters} and {@link Inflater inflaters} used by the content encoders.
+ * <p>
+ * A deflater allocates about 256 KB of native memory which is released only when the deflater is ended or
+ * garbage collected. The pools keep up to the configured number of idle instances which are reset and reused
+ * by the streams created by this class once the streams are closed. Instances that do not fit into the pool are
+ * ended immediately. Instances of streams that are never closed are simply garbage collected, and they are no longer
+ * counted as live once the garbage collector has discarded their streams.
+ * </p>
+ */
+public final class CompressionPool implements CompressionStatistics {
+
+    /**
+     * Approximate native memory of a deflater with the default window size and memory level.
+     */
+    static final long DEFLATER_NATIVE_MEMORY = (1 << 17) + (1 << 17) + 6 * 1024;
+
+    /**
+     * Approximate native memory of an inflater with the default window size.
+     */
+    static final long INFLATER_NATIVE_MEMORY = (1 << 15) + 7 * 1024;
+
+    /**
+     * Size of the stream buffers.
+     */
+    static final int BUFFER_SIZE = 8192;
+
+    private final DeflaterPool deflaters;
+    private final DeflaterPool nowrapDeflaters;
+    private final InflaterPool inflaters;
+    private final InflaterPool nowrapInflaters;
+
+    /**
+     * Create new pools.
+     *
+     * @param maxIdle  maximal number of idle instances kept in each pool, {@code 0} disables pooling.
+     * @param level    compression level of the deflaters.
+     * @param strategy compression strategy of the deflaters.
+     */
+    public CompressionPool(final int maxIdle, final int level, final int strategy) {
+        if (level != Deflater.DEFAULT_COMPRESSION && (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException(LocalizationMessages.COMPRESSION_LEVEL_INVALID(level));
+        }
+        this.deflaters = new DeflaterPool(maxIdle, level, strategy, false);
+        this.nowrapDeflaters = new DeflaterPool(maxIdle, level, strategy, true);
+        this.inflaters = new InflaterPool(maxIdle, false);
+        this.nowrapInflaters = new InflaterPool(maxIdle, true);
+    }
+
+    /**
+     * Create new pools configured by the {@link MessageProperties#ENCODING_POOL_SIZE},
+     * {@link MessageProperties#ENCODING_COMPRESSION_LEVEL} and {@link MessageProperties#ENCODING_COMPRESSION_STRATEGY}
+     * properties.
+     *
+     * @param properties configuration properties, may be {@code null}.
+     * @return new pools.
+     */
+    public static CompressionPool create(final Map<String, Object> properties) {
+        if (properties == null) {
+            return new CompressionPool(MessageProperties.ENCODING_DEFAULT_POOL_SIZE, Deflater.DEFAULT_COMPRESSION,
+                    Deflater.DEFAULT_STRATEGY);
+        }
+        final int maxIdle = PropertiesHelper.getValue(properties, MessageProperties.ENCODING_POOL_SIZE,
+                MessageProperties.ENCODING_DEFAULT_POOL_SIZE, Integer.class, null);
+        final int level = PropertiesHelper.getValue(properties, MessageProperties.ENCODING_COMPRESSION_LEVEL,
+                Deflater.DEFAULT_COMPRESSION, Integer.class, null);
+        final Object strategy = properties.get(MessageProperties.ENCODING_COMPRESSION_STRATEGY);
+        return new CompressionPool(Math.max(maxIdle, 0), level, parseStrategy(strategy));
+    }
+
+    private static int parseStrategy(final Object strategy) {
+        if (strategy == null) {
+            return Deflater.DEFAULT_STRATEGY;
+        } else if (strategy instanceof Number) {
+            return ((Number) strategy).intValue();
+        }
+        switch (strategy.toString().trim().toUpperCase(Locale.ROOT)) {
+            case "DEFAULT":
+                return Deflater.DEFAULT_STRATEGY;
+            case "FILTERED":
+                return Deflater.FILTERED;
+            case "HUFFMAN_ONLY":
+                return Deflater.HUFFMAN_ONLY;
+            default:
+                throw new IllegalArgumentException(LocalizationMessages.COMPRESSION_STRATEGY_INVALID(strategy));
+        }
+    }
+
+    /**
+     * Create a stream writing GZIP compressed data into the given stream.
+     *
+     * @param out stream to write the compressed data to.
+     * @return compressing stream.
+     * @throws IOException in case the GZIP header cannot be written.
+     */
+    public OutputStream gzipOutputStream(final OutputStream out) throws IOException {
+        return new PooledDeflaterOutputStream.GZip(out, nowrapDeflaters);
+    }
+
+    /**
+     * Create a stream writing deflate compressed data into the given stream.
+     *
+     * @param out    stream to write the compressed data to.
+     * @param nowrap if {@code true} the zlib header and checksum are omitted.
+     * @return compressing stream.
+     */
+    public OutputStream deflaterOutputStream(final OutputStream out, final boolean nowrap) {
+        return new PooledDeflaterOutputStream(out, nowrap ? nowrapDeflaters : deflaters);
+    }
+
+    /**
+     * Create a stream reading GZIP compressed data from the given stream.
+     *
+     * @param in stream to read the compressed data from.
+     * @return decompressing stream.
+     * @throws IOException in case the GZIP header cannot be read or is not valid.
+     */
+    public InputStream gzipInputStream(final InputStream in) throws IOException {
+        return new PooledInflaterInputStream.GZip(in, nowrapInflaters);
+    }
+
+    /**
+     * Create a stream reading deflate compressed data from the given stream.
+     *
+     * @param in     stream to read the compressed data from.
+     * @param nowrap if {@code true} the data is expected without the zlib header and checksum.
+     * @return decompressing stream.
+     */
+    public InputStream inflaterInputStream(final InputStream in, final boolean nowrap) {
+        return new PooledInflaterInputStream(in, nowrap ? nowrapInflaters : inflaters);
+    }
+
+    @Override
+    public int getDeflaterCount() {
+        return deflaters.live() + nowrapDeflaters.live();
+    }
+
+    @Override
+    public int getIdleDeflaterCount() {
+        return deflaters.idle() + nowrapDeflaters.idle();
+    }
+
+    @Override
+    public int getInflaterCount() {
+        return inflaters.live() + nowrapInflaters.live();
+    }
+
+    @Override
+    public int getIdleInflaterCount() {
+        return inflaters.idle() + nowrapInflaters.idle();
+    }
+
+    @Override
+    public long getEstimatedNativeMemory() {
+        return getDeflaterCount() * DEFLATER_NATIVE_MEMORY + getInflaterCount() * INFLATER_NATIVE_MEMORY;
+    }
+
+    /**
+     * Bounded pool of reusable native compression components.
+     *
+     * @param <T> pooled component type.
+     */
+    abstract static class Pool<T> {
+
+        private final int maxIdle;
+        private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idleCount = new AtomicInteger();
+        private final AtomicInteger liveCount = new AtomicInteger();
+        // streams holding a borrowed instance, the references of the streams discarded without closing are enqueued
+        private final Set<Reference<?>> borrowers = ConcurrentHashMap.newKeySet();
+        private final ReferenceQueue<Object> abandoned = new ReferenceQueue<>();
+
+        private Pool(final int maxIdle) {
+            this.maxIdle = maxIdle;
+        }
+
+        /**
+         * Borrow an idle instance or create a new one if there is none.
+         *
+         * @return borrowed instance.
+         */
+        T borrow() {
+            expungeAbandoned();
+            final T instance = idle.poll();
+            if (instance != null) {
+                idleCount.decrementAndGet();
+                return instance;
+            }
+            liveCount.incrementAndGet();
+            return create();
+        }
+
+        /**
+         * Track the stream using a borrowed instance, so that the instance stops being counted as live once the stream
+         * is garbage collected without being closed.
+         *
+         * @param borrower stream using the borrowed instance.
+         * @return reference to be passed to {@link #release(Object, Reference)}.
+         */
+        Reference<?> track(final Object borrower) {
+            final Reference<?> reference = new PhantomReference<>(borrower, abandoned);
+            borrowers.add(reference);
+            return reference;
+        }
+
+        /**
+         * Return an instance to the pool. The instance is reset, or ended if the pool is full.
+         *
+         * @param instance borrowed instance, must not be used once returned.
+         * @param borrower reference {@link #track(Object) tracking} the stream that used the instance.
+         */
+        void release(final T instance, final Reference<?> borrower) {
+            borrowers.remove(borrower);
+            if (idleCount.incrementAndGet() <= maxIdle) {
+                reset(instance);
+                idle.offer(instance);
+            } else {
+                idleCount.decrementAndGet();
+                liveCount.decrementAndGet();
+                end(instance);
+            }
+        }
+
+        int idle() {
+            return idleCount.get();
+        }
+
+        int live() {
+            expungeAbandoned();
+            return liveCount.get();
+        }
+
+        private void expungeAbandoned() {
+            Reference<?> reference;
+            while ((reference = abandoned.poll()) != null) {
+                // the instance of a stream that has not been closed is released by the garbage collector only
+                if (borrowers.remove(reference)) {
+                    liveCount.decrementAndGet();
+                }
+            }
+        }
+
+        abstract T create();
+
+        abstract void reset(T instance);
+
+        abstract void end(T instance);
+    }
+
+    private static final class DeflaterPool extends Pool<Deflater> {
+
+        private final int level;
+        private final int strategy;
+        private final boolean nowrap;
+
+        private DeflaterPool(final int maxIdle, final int level, final int strategy, final boolean nowrap) {
+            super(maxIdle);
+            this.level = level;
+            this.strategy = strategy;
+            this.nowrap = nowrap;
+        }
+
+        @Override
+        Deflater create() {
+            final Deflater deflater = new Deflater(level, nowrap);
+            deflater.setStrategy(strategy);
+            return deflater;
+        }
+
+        @Override
+        void reset(final Deflater deflater) {
+            deflater.reset();
+        }
+
+        @Override
+        void end(final Deflater deflater) {
+            deflater.end();
+        }
+    }
+
+    private static final class InflaterPool extends Pool<Inflater> {
+
+        private final boolean nowrap;
+
+        private InflaterPool(final int maxIdle, final boolean nowrap) {
+            super(maxIdle);
+            this.nowrap = nowrap;
+        }
+
+        @Override
+        Inflater create() {
+            return new Inflater(nowrap);
+        }
+
+        @Override
+        void reset(final Inflater inflater) {
+            inflater.reset();
+        }
+
+        @Override
+        void end(final Inflater inflater) {
+            inflater.end();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,6 +18,7 @@ package org.glassfish.jersey.message.internal;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -30,6 +31,9 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 
 import jakarta.activation.DataSource;
+import jakarta.activation.FileDataSource;
+
+import org.glassfish.jersey.message.StableWriteable;
 
 /**
  * Provider for marshalling/un-marshalling of {@code application/octet-stream}
@@ -40,6 +44,7 @@ import jakarta.activation.DataSource;
  */
 @Produces({"application/octet-stream", "*/*"})
 @Consumes({"application/octet-stream", "*/*"})
+@StableWriteable
 public class DataSourceProvider extends AbstractMessageReaderWriterProvider<DataSource> {
 
     /**
@@ -160,6 +165,13 @@ public class DataSourceProvider extends AbstractMessageReaderWriterProvider<Data
             final MediaType mediaType,
             final MultivaluedMap<String, Object> httpHeaders,
             final OutputStream entityStream) throws IOException {
+        if (t instanceof FileDataSource) {
+            // avoid copying the file through the data source input stream
+            final File file = ((FileDataSource) t).getFile();
+            ReaderWriter.writeTo(file, 0, file.length(), entityStream);
+            return;
+        }
+
         final InputStream in = t.getInputStream();
         try {
             writeTo(in, entityStream);
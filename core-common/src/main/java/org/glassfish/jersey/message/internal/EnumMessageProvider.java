@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -28,6 +28,8 @@ import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
+import org.glassfish.jersey.message.StableWriteable;
+
 /**
  * Default provider for enum types.
  * @since 2.34
@@ -35,6 +37,7 @@ import java.lang.reflect.Type;
 @Singleton
 @Consumes(MediaType.TEXT_PLAIN)
 @Produces(MediaType.TEXT_PLAIN)
+@StableWriteable
 final class EnumMessageProvider extends AbstractMessageReaderWriterProvider<Enum> {
 
     @Override
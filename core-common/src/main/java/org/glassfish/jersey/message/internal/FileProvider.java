@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,10 +16,8 @@
 
 package org.glassfish.jersey.message.internal;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -29,14 +27,27 @@ import java.lang.reflect.Type;
 
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.message.MessageProperties;
+import org.glassfish.jersey.message.StableWriteable;
+
 /**
  * Provider for marshalling/un-marshalling of {@code application/octet-stream}
  * entity type to/from a {@link File} instance.
+ * <p>
+ * The file is written {@link org.glassfish.jersey.message.DirectOutput directly} if supported by the entity stream.
+ * If the {@link MessageProperties#FILE_CONTENT_RANGE} property is enabled and the message contains a {@code Content-Range}
+ * header specifying a byte range of the file (e.g. a {@code 206 Partial Content} response), only that byte range is
+ * written. Otherwise the whole file is written.
+ * </p>
  *
  * @author Paul Sandoz
  * @author Marek Potociar
@@ -44,8 +55,32 @@ import jakarta.inject.Singleton;
 @Produces({"application/octet-stream", "*/*"})
 @Consumes({"application/octet-stream", "*/*"})
 @Singleton
+@StableWriteable
 public final class FileProvider extends AbstractMessageReaderWriterProvider<File> {
 
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String BYTES_UNIT = "bytes ";
+
+    private final boolean contentRange;
+
+    /**
+     * Create new provider writing the whole file regardless of the {@code Content-Range} header.
+     */
+    public FileProvider() {
+        this.contentRange = false;
+    }
+
+    /**
+     * Create new provider configured by the {@link MessageProperties#FILE_CONTENT_RANGE} property.
+     *
+     * @param configuration runtime configuration, {@code null} if not available.
+     */
+    @Inject
+    public FileProvider(@Context final Configuration configuration) {
+        this.contentRange = configuration != null
+                && PropertiesHelper.isProperty(configuration.getProperty(MessageProperties.FILE_CONTENT_RANGE));
+    }
+
     @Override
     public boolean isReadable(final Class<?> type,
                               final Type genericType,
@@ -89,13 +124,46 @@ public final class FileProvider extends AbstractMessageReaderWriterProvider<File
                         final MediaType mediaType,
                         final MultivaluedMap<String, Object> httpHeaders,
                         final OutputStream entityStream) throws IOException {
-        final InputStream stream = new BufferedInputStream(new FileInputStream(t), ReaderWriter.BUFFER_SIZE);
+        final long length = t.length();
+        final long[] range = contentRange ? contentRange(httpHeaders.getFirst(CONTENT_RANGE), length) : null;
+        if (range != null) {
+            ReaderWriter.writeTo(t, range[0], range[1] - range[0] + 1, entityStream);
+        } else {
+            ReaderWriter.writeTo(t, 0, length, entityStream);
+        }
+    }
 
+    /**
+     * Parse the {@code bytes first-last/complete-length} value of the {@code Content-Range} header.
+     *
+     * @param header header value, may be {@code null}.
+     * @param length length of the file.
+     * @return the first and the last byte position of the range, or {@code null} if the header is missing or does not
+     *         specify a byte range of the file (the file is then written as a whole).
+     */
+    static long[] contentRange(final Object header, final long length) {
+        if (header == null) {
+            return null;
+        }
+        final String value = header.toString().trim();
+        final int dash = value.indexOf('-', BYTES_UNIT.length());
+        final int slash = value.indexOf('/', dash + 1);
+        if (!value.regionMatches(true, 0, BYTES_UNIT, 0, BYTES_UNIT.length()) || dash < 0 || slash < 0) {
+            return null;
+        }
         try {
-            writeTo(stream, entityStream);
-        } finally {
-            stream.close();
+            final long first = Long.parseLong(value.substring(BYTES_UNIT.length(), dash).trim());
+            final long last = Long.parseLong(value.substring(dash + 1, slash).trim());
+            final String complete = value.substring(slash + 1).trim();
+            // a range of a different (e.g. already sliced) representation does not apply to the file
+            if (first >= 0 && last >= first && last < length
+                    && ("*".equals(complete) || Long.parseLong(complete) == length)) {
+                return new long[] {first, last};
+            }
+        } catch (final NumberFormatException e) {
+            // not a byte range of the file
         }
+        return null;
     }
 
     @Override
@@ -104,6 +172,7 @@ public final class FileProvider extends AbstractMessageReaderWriterProvider<File
                         final Type genericType,
                         final Annotation[] annotations,
                         final MediaType mediaType) {
-        return t.length();
+        // the size of the written range is not known without the headers
+        return contentRange ? -1 : t.length();
     }
 }
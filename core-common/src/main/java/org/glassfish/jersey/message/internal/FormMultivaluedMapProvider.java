@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -31,6 +31,7 @@ import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.inject.Singleton;
 
 import org.glassfish.jersey.internal.util.collection.NullableMultivaluedHashMap;
+import org.glassfish.jersey.message.StableWriteable;
 
 /**
  * Provider for marshalling/un-marshalling of {@code application/x-www-form-urlencoded}
@@ -42,6 +43,7 @@ import org.glassfish.jersey.internal.util.collection.NullableMultivaluedHashMap;
 @Produces("application/x-www-form-urlencoded")
 @Consumes("application/x-www-form-urlencoded")
 @Singleton
+@StableWriteable
 public final class FormMultivaluedMapProvider extends AbstractFormProvider<MultivaluedMap<String, String>> {
 
     private final Type mapType;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,15 +18,19 @@ package org.glassfish.jersey.message.internal;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.Calendar;
 import java.util.Date;
-import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
 
 /**
  * Helper class for HTTP specified date formats.
+ * <p>
+ * Dates in the RFC 1123, RFC 1036 and ANSI C asctime() formats in GMT (i.e. the formats HTTP/1.1 recipients
+ * must accept) are parsed and formatted by a hand-written codec without creating any intermediate objects.
+ * Other inputs {@link SimpleDateFormat} would accept (e.g. other time zones) are still parsed by
+ * {@code SimpleDateFormat} instances created on demand.
+ * </p>
  *
  * @author Paul Sandoz
  * @author Marek Potociar
@@ -48,55 +52,64 @@ public final class HttpDateFormat {
      */
     private static final String ANSI_C_ASCTIME_DATE_FORMAT_PATTERN = "EEE MMM d HH:mm:ss yyyy";
 
+    private static final String[] DATE_FORMAT_PATTERNS = {
+            RFC1123_DATE_FORMAT_PATTERN, RFC1036_DATE_FORMAT_PATTERN, ANSI_C_ASCTIME_DATE_FORMAT_PATTERN};
+
     private static final TimeZone GMT_TIME_ZONE = TimeZone.getTimeZone("GMT");
 
-    private static final ThreadLocal<List<SimpleDateFormat>> dateFormats = new ThreadLocal<List<SimpleDateFormat>>() {
+    private static final String[] MONTHS = {
+            "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+    private static final String[] DAYS_OF_WEEK = {"Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat"};
 
-        @Override
-        protected synchronized List<SimpleDateFormat> initialValue() {
-            return createDateFormats();
-        }
-    };
+    /**
+     * Years outside of this range are left to {@code SimpleDateFormat}, which uses the Julian calendar
+     * before the Gregorian cutover and a different number of year digits above 9999.
+     */
+    private static final int MIN_YEAR = 1583;
+    private static final int MAX_YEAR = 9999;
 
-    private static List<SimpleDateFormat> createDateFormats() {
-        final SimpleDateFormat[] formats = new SimpleDateFormat[]{
-            new SimpleDateFormat(RFC1123_DATE_FORMAT_PATTERN, Locale.US),
-            new SimpleDateFormat(RFC1036_DATE_FORMAT_PATTERN, Locale.US),
-            new SimpleDateFormat(ANSI_C_ASCTIME_DATE_FORMAT_PATTERN, Locale.US)
-        };
-        formats[0].setTimeZone(GMT_TIME_ZONE);
-        formats[1].setTimeZone(GMT_TIME_ZONE);
-        formats[2].setTimeZone(GMT_TIME_ZONE);
+    private static final long INVALID = Long.MIN_VALUE;
 
-        return Collections.unmodifiableList(Arrays.asList(formats));
-    }
+    /**
+     * Last formatted date, typically the current time of the {@code Date} response header.
+     */
+    private static volatile FormattedDate lastFormatted = new FormattedDate(INVALID, null);
 
     /**
-     * Return an unmodifiable list of HTTP specified date formats to use for
-     * parsing or formatting {@link Date}.
+     * Get the preferred HTTP specified date format (RFC 1123).
      * <p>
-     * The list of date formats are scoped to the current thread and may be
-     * used without requiring to synchronize access to the instances when
-     * parsing or formatting.
+     * A new date format instance is returned for each invocation, consider using {@link #formatDate(Date)}
+     * and {@link #readDate(String)} instead.
      *
-     * @return the list of data formats.
+     * @return the preferred of data format.
      */
-    private static List<SimpleDateFormat> getDateFormats() {
-        return dateFormats.get();
+    public static SimpleDateFormat getPreferredDateFormat() {
+        return createDateFormat(RFC1123_DATE_FORMAT_PATTERN);
+    }
+
+    private static SimpleDateFormat createDateFormat(final String pattern) {
+        final SimpleDateFormat format = new SimpleDateFormat(pattern, Locale.US);
+        format.setTimeZone(GMT_TIME_ZONE);
+        return format;
     }
 
     /**
-     * Get the preferred HTTP specified date format (RFC 1123).
+     * Format a date using the preferred HTTP specified date format (RFC 1123).
      * <p>
-     * The date format is scoped to the current thread and may be
-     * used without requiring to synchronize access to the instance when
-     * parsing or formatting.
+     * The formatted string is cached for the last formatted second, so repeated formatting of the current time
+     * (e.g. for the {@code Date} header) is done only once per second.
      *
-     * @return the preferred of data format.
+     * @param date the date to be formatted.
+     * @return the date formatted as a string.
      */
-    public static SimpleDateFormat getPreferredDateFormat() {
-        // returns clone because calling SDF.parse(...) can change time zone
-        return (SimpleDateFormat) dateFormats.get().get(0).clone();
+    public static String formatDate(final Date date) {
+        final long second = Math.floorDiv(date.getTime(), 1000L);
+        FormattedDate formatted = lastFormatted;
+        if (formatted.second != second) {
+            formatted = new FormattedDate(second, format(second));
+            lastFormatted = formatted;
+        }
+        return formatted.text;
     }
 
     /**
@@ -108,13 +121,15 @@ public final class HttpDateFormat {
      * @throws java.text.ParseException in case the date string cannot be parsed.
      */
     public static Date readDate(final String date) throws ParseException {
+        final long time = parse(date);
+        if (time != INVALID) {
+            return new Date(time);
+        }
+
         ParseException pe = null;
-        for (final SimpleDateFormat f : HttpDateFormat.getDateFormats()) {
+        for (final String pattern : DATE_FORMAT_PATTERNS) {
             try {
-                Date result = f.parse(date);
-                // parse can change time zone -> set it back to GMT
-                f.setTimeZone(GMT_TIME_ZONE);
-                return result;
+                return createDateFormat(pattern).parse(date);
             } catch (final ParseException e) {
                 pe = (pe == null) ? e : pe;
             }
@@ -122,4 +137,267 @@ public final class HttpDateFormat {
 
         throw pe;
     }
+
+    private static String format(final long second) {
+        final long days = Math.floorDiv(second, 86400L);
+        final int secondOfDay = (int) Math.floorMod(second, 86400L);
+
+        // civil from days, see http://howardhinnant.github.io/date_algorithms.html
+        final long z = days + 719468;
+        final long era = Math.floorDiv(z, 146097L);
+        final int dayOfEra = (int) (z - era * 146097);
+        final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final int mp = (5 * dayOfYear + 2) / 153;
+        final int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        final int month = mp < 10 ? mp + 3 : mp - 9;
+        final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            return getPreferredDateFormat().format(new Date(second * 1000L));
+        }
+
+        final char[] chars = new char[29];
+        DAYS_OF_WEEK[(int) Math.floorMod(days + 4, 7L)].getChars(0, 3, chars, 0);
+        chars[3] = ',';
+        chars[4] = ' ';
+        twoDigits(chars, 5, day);
+        chars[7] = ' ';
+        MONTHS[month - 1].getChars(0, 3, chars, 8);
+        chars[11] = ' ';
+        twoDigits(chars, 12, (int) year / 100);
+        twoDigits(chars, 14, (int) year % 100);
+        chars[16] = ' ';
+        twoDigits(chars, 17, secondOfDay / 3600);
+        chars[19] = ':';
+        twoDigits(chars, 20, secondOfDay / 60 % 60);
+        chars[22] = ':';
+        twoDigits(chars, 23, secondOfDay % 60);
+        chars[25] = ' ';
+        chars[26] = 'G';
+        chars[27] = 'M';
+        chars[28] = 'T';
+        return new String(chars);
+    }
+
+    private static void twoDigits(final char[] chars, final int index, final int value) {
+        chars[index] = (char) ('0' + value / 10);
+        chars[index + 1] = (char) ('0' + value % 10);
+    }
+
+    /**
+     * Parse a GMT date in one of the HTTP specified formats:
+     * <pre>
+     * Sun, 06 Nov 1994 08:49:37 GMT  ; RFC 1123
+     * Sunday, 06-Nov-94 08:49:37 GMT ; RFC 1036
+     * Sun Nov  6 08:49:37 1994       ; ANSI C's asctime() format
+     * </pre>
+     *
+     * @param date the date as a string.
+     * @return milliseconds since the epoch, or {@link #INVALID} if the date is not in any of the formats.
+     */
+    private static long parse(final String date) {
+        final int length = date.length();
+        int i = 0;
+        while (i < length && isLetter(date.charAt(i))) {
+            i++;
+        }
+        if (i < 3 || i >= length) {
+            return INVALID;
+        }
+
+        final int day;
+        final int month;
+        final int secondOfDay;
+        int year;
+        boolean twoDigitYear = false;
+        if (date.charAt(i) == ',') {
+            // RFC 1123 or RFC 1036
+            i++;
+            if (i >= length || date.charAt(i++) != ' ') {
+                return INVALID;
+            }
+            final int dayDigits = digitCount(date, i, 2);
+            if (dayDigits == 0 || i + dayDigits >= length) {
+                return INVALID;
+            }
+            day = number(date, i, dayDigits);
+            i += dayDigits;
+
+            final char separator = date.charAt(i++);
+            if (separator != ' ' && separator != '-') {
+                return INVALID;
+            }
+            month = month(date, i);
+            if (month < 0 || i + 3 >= length || date.charAt(i + 3) != separator) {
+                return INVALID;
+            }
+            i += 4;
+
+            final int yearDigits = digitCount(date, i, 4);
+            if (yearDigits == 4) {
+                year = number(date, i, 4);
+            } else if (yearDigits == 2 && separator == '-') {
+                year = number(date, i, 2);
+                twoDigitYear = true;
+            } else {
+                return INVALID;
+            }
+            i += yearDigits;
+
+            // " HH:mm:ss GMT"
+            if (length - i != 13 || date.charAt(i) != ' ' || !date.regionMatches(i + 9, " GMT", 0, 4)) {
+                return INVALID;
+            }
+            secondOfDay = time(date, i + 1);
+        } else {
+            // asctime()
+            if (date.charAt(i++) != ' ') {
+                return INVALID;
+            }
+            month = month(date, i);
+            if (month < 0 || i + 3 >= length || date.charAt(i + 3) != ' ') {
+                return INVALID;
+            }
+            i += 4;
+            if (i < length && date.charAt(i) == ' ') {
+                i++;
+            }
+            final int dayDigits = digitCount(date, i, 2);
+            if (dayDigits == 0) {
+                return INVALID;
+            }
+            day = number(date, i, dayDigits);
+            i += dayDigits;
+
+            // " HH:mm:ss yyyy"
+            if (length - i != 14 || date.charAt(i) != ' ' || date.charAt(i + 9) != ' '
+                    || digitCount(date, i + 10, 4) != 4) {
+                return INVALID;
+            }
+            secondOfDay = time(date, i + 1);
+            year = number(date, i + 10, 4);
+        }
+
+        if (twoDigitYear) {
+            // the same as SimpleDateFormat, i.e. within 80 years before and 20 years after the current time
+            final Calendar centuryStart = Calendar.getInstance(GMT_TIME_ZONE, Locale.US);
+            centuryStart.add(Calendar.YEAR, -80);
+            final int startYear = centuryStart.get(Calendar.YEAR);
+            year += startYear - startYear % 100;
+            if (year < startYear || (year == startYear && day <= daysInMonth(year, month)
+                    && toMillis(year, month, day, secondOfDay) < centuryStart.getTimeInMillis())) {
+                year += 100;
+            }
+        }
+
+        if (secondOfDay < 0 || year < MIN_YEAR || year > MAX_YEAR || day < 1 || day > daysInMonth(year, month)) {
+            return INVALID;
+        }
+        return toMillis(year, month, day, secondOfDay);
+    }
+
+    private static long toMillis(final int year, final int month, final int day, final int secondOfDay) {
+        return (daysFromCivil(year, month + 1, day) * 86400L + secondOfDay) * 1000L;
+    }
+
+    private static boolean isLetter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static int digitCount(final String s, final int index, final int max) {
+        int count = 0;
+        while (count < max && index + count < s.length() && isDigit(s.charAt(index + count))) {
+            count++;
+        }
+        return count;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int number(final String s, final int index, final int digits) {
+        int value = 0;
+        for (int i = index; i < index + digits; i++) {
+            value = value * 10 + (s.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Get the zero-based month of the three-letter month name at the given index.
+     */
+    private static int month(final String s, final int index) {
+        if (index + 3 > s.length()) {
+            return -1;
+        }
+        for (int month = 0; month < MONTHS.length; month++) {
+            if (s.regionMatches(index, MONTHS[month], 0, 3)) {
+                return month;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parse {@code HH:mm:ss} at the given index.
+     *
+     * @return second of the day, or {@code -1} if the time is not valid.
+     */
+    private static int time(final String s, final int index) {
+        if (s.charAt(index + 2) != ':' || s.charAt(index + 5) != ':'
+                || digitCount(s, index, 2) != 2 || digitCount(s, index + 3, 2) != 2 || digitCount(s, index + 6, 2) != 2) {
+            return -1;
+        }
+        final int hours = number(s, index, 2);
+        final int minutes = number(s, index + 3, 2);
+        final int seconds = number(s, index + 6, 2);
+        if (hours > 23 || minutes > 59 || seconds > 59) {
+            return -1;
+        }
+        return hours * 3600 + minutes * 60 + seconds;
+    }
+
+    private static int daysInMonth(final int year, final int month) {
+        switch (month) {
+            case 1:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 3:
+            case 5:
+            case 8:
+            case 10:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Days from civil, see http://howardhinnant.github.io/date_algorithms.html
+     *
+     * @param year  the year.
+     * @param month one-based month.
+     * @param day   one-based day of the month.
+     * @return number of days since the epoch.
+     */
+    private static long daysFromCivil(final int year, final int month, final int day) {
+        final int y = month <= 2 ? year - 1 : year;
+        final int era = y / 400;
+        final int yearOfEra = y - era * 400;
+        final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+    private static final class FormattedDate {
+
+        private final long second;
+        private final String text;
+
+        private FormattedDate(final long second, final String text) {
+            this.second = second;
+            this.text = text;
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -30,6 +30,8 @@ import jakarta.ws.rs.core.MultivaluedMap;
 
 import jakarta.inject.Singleton;
 
+import org.glassfish.jersey.message.StableWriteable;
+
 /**
  *
  * @author Paul Sandoz
@@ -37,6 +39,7 @@ import jakarta.inject.Singleton;
 @Produces({"application/octet-stream", "*/*"})
 @Consumes({"application/octet-stream", "*/*"})
 @Singleton
+@StableWriteable
 public final class InputStreamProvider extends AbstractMessageReaderWriterProvider<InputStream> {
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -197,6 +197,8 @@ public class MessageBodyFactory implements MessageBodyWorkers {
     private final Map<ModelLookupKey, List<WriterModel>> mbwLookupCache = new ConcurrentHashMap<>(
             LOOKUP_CACHE_INITIAL_CAPACITY, LOOKUP_CACHE_LOAD_FACTOR, DataStructures.DEFAULT_CONCURENCY_LEVEL);
 
+    private final WriterSelectionCache writerSelectionCache = new WriterSelectionCache();
+
     /**
      * Create a new message body factory.
      *
@@ -770,6 +772,17 @@ public class MessageBodyFactory implements MessageBodyWorkers {
                                                            final MediaType mediaType,
                                                            final List<WriterModel> models,
                                                            final PropertiesDelegate propertiesDelegate) {
+        final TracingLogger tracingLogger = TracingLogger.getInstance(propertiesDelegate);
+        // cached selections would hide the tracing events
+        final WriterSelectionCache.Key selectionKey = tracingLogger.isLogEnabled(MsgTraceEvent.MBW_SELECTED)
+                ? null : new WriterSelectionCache.Key(c, t, as, mediaType);
+        if (selectionKey != null) {
+            final Object cached = writerSelectionCache.get(selectionKey);
+            if (cached != null) {
+                return (MessageBodyWriter<T>) cached;
+            }
+        }
+
         // Ensure  a parameter-less lookup type to prevent excessive memory consumption
         // reported in JERSEY-2297
         final MediaType lookupType = mediaType == null || mediaType.getParameters().isEmpty()
@@ -795,11 +808,12 @@ public class MessageBodyFactory implements MessageBodyWorkers {
             return null;
         }
 
-        final TracingLogger tracingLogger = TracingLogger.getInstance(propertiesDelegate);
         MessageBodyWriter<T> selected = null;
+        boolean stable = true;
         final Iterator<WriterModel> iterator = writers.iterator();
         while (iterator.hasNext()) {
             final WriterModel model = iterator.next();
+            stable &= model.isStable();
             if (model.isWriteable(c, t, as, mediaType)) {
                 selected = (MessageBodyWriter<T>) model.provider();
                 tracingLogger.log(MsgTraceEvent.MBW_SELECTED, selected);
@@ -808,6 +822,10 @@ public class MessageBodyFactory implements MessageBodyWorkers {
             tracingLogger.log(MsgTraceEvent.MBW_NOT_WRITEABLE, model.provider());
         }
 
+        if (selected != null && stable && selectionKey != null) {
+            writerSelectionCache.put(selectionKey, selected);
+        }
+
         if (tracingLogger.isLogEnabled(MsgTraceEvent.MBW_SKIPPED)) {
             while (iterator.hasNext()) {
                 final WriterModel model = iterator.next();
@@ -1029,11 +1047,25 @@ public class MessageBodyFactory implements MessageBodyWorkers {
     public MediaType getMessageBodyWriterMediaType(
             final Class<?> c, final Type t, final Annotation[] as, final List<MediaType> acceptableMediaTypes) {
 
+        final WriterSelectionCache.Key selectionKey = new WriterSelectionCache.Key(c, t, as, acceptableMediaTypes);
+        final Object cached = writerSelectionCache.get(selectionKey);
+        if (cached != null) {
+            return (MediaType) cached;
+        }
+
+        boolean stable = true;
         for (final MediaType acceptable : acceptableMediaTypes) {
             for (final WriterModel model : writers) {
                 for (final MediaType mt : model.declaredTypes()) {
-                    if (mt.isCompatible(acceptable) && model.isWriteable(c, t, as, acceptable)) {
-                        return MediaTypes.mostSpecific(mt, acceptable);
+                    if (mt.isCompatible(acceptable)) {
+                        stable &= model.isStable();
+                        if (model.isWriteable(c, t, as, acceptable)) {
+                            final MediaType selected = MediaTypes.mostSpecific(mt, acceptable);
+                            if (stable) {
+                                writerSelectionCache.put(selectionKey, selected);
+                            }
+                            return selected;
+                        }
                     }
                 }
             }
@@ -1042,6 +1074,17 @@ public class MessageBodyFactory implements MessageBodyWorkers {
         return null;
     }
 
+    /**
+     * Get the cache of {@link org.glassfish.jersey.message.StableWriteable stable} message body writer
+     * and response media type selections, e.g. to monitor its hit ratio.
+     *
+     * @return writer selection cache.
+     * @since 3.1.2
+     */
+    public WriterSelectionCache getWriterSelectionCache() {
+        return writerSelectionCache;
+    }
+
     @Override
     public Object readFrom(final Class<?> rawType,
                            final Type type,
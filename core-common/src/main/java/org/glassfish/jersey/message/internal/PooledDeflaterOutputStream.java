@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.Reference;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.glassfish.jersey.internal.LocalizationMessages;
+
+/**
+ * {@link DeflaterOutputStream} using a pooled {@link Deflater} which is returned to the pool once the stream is closed.
+ */
+class PooledDeflaterOutputStream extends DeflaterOutputStream {
+
+    private final CompressionPool.Pool<Deflater> pool;
+    private final Reference<?> borrower;
+    private boolean released;
+
+    /**
+     * Create new compressing stream.
+     *
+     * @param out  underlying output stream.
+     * @param pool pool to borrow the deflater from.
+     */
+    PooledDeflaterOutputStream(final OutputStream out, final CompressionPool.Pool<Deflater> pool) {
+        super(out, pool.borrow(), CompressionPool.BUFFER_SIZE);
+        this.pool = pool;
+        this.borrower = pool.track(this);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        ensureOpen();
+        super.write(b, off, len);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        ensureOpen();
+        super.finish();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        super.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (released) {
+            return;
+        }
+        try {
+            super.close();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Return the deflater to the pool, the stream cannot be used afterwards.
+     */
+    void release() {
+        if (!released) {
+            released = true;
+            pool.release(def, borrower);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (released) {
+            throw new IOException(LocalizationMessages.OUTPUT_STREAM_CLOSED());
+        }
+    }
+
+    /**
+     * GZIP compressing stream, equivalent to {@link java.util.zip.GZIPOutputStream}.
+     */
+    static final class GZip extends PooledDeflaterOutputStream {
+
+        private static final byte[] HEADER = {
+                (byte) 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+        };
+
+        private final CRC32 crc = new CRC32();
+        private boolean trailerWritten;
+
+        /**
+         * Create new GZIP compressing stream and write the GZIP header.
+         *
+         * @param out  underlying output stream.
+         * @param pool pool to borrow the deflater from, the deflater must not use the zlib wrapper.
+         * @throws IOException in case the header cannot be written.
+         */
+        GZip(final OutputStream out, final CompressionPool.Pool<Deflater> pool) throws IOException {
+            super(out, pool);
+            try {
+                out.write(HEADER);
+            } catch (IOException | RuntimeException e) {
+                release();
+                throw e;
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            super.write(b, off, len);
+            crc.update(b, off, len);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            super.finish();
+            if (!trailerWritten) {
+                trailerWritten = true;
+                final byte[] trailer = new byte[8];
+                writeInt((int) crc.getValue(), trailer, 0);
+                writeInt((int) def.getBytesRead(), trailer, 4);
+                out.write(trailer);
+            }
+        }
+
+        private static void writeInt(final int value, final byte[] b, final int offset) {
+            b[offset] = (byte) value;
+            b[offset + 1] = (byte) (value >> 8);
+            b[offset + 2] = (byte) (value >> 16);
+            b[offset + 3] = (byte) (value >> 24);
+        }
+    }
+}
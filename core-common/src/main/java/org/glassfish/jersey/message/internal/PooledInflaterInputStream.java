@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.lang.ref.Reference;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+import org.glassfish.jersey.internal.LocalizationMessages;
+
+/**
+ * {@link InflaterInputStream} using a pooled {@link Inflater} which is returned to the pool once the stream is closed.
+ */
+class PooledInflaterInputStream extends InflaterInputStream {
+
+    private final CompressionPool.Pool<Inflater> pool;
+    private final Reference<?> borrower;
+    private boolean released;
+
+    /**
+     * Create new decompressing stream.
+     *
+     * @param in   underlying input stream.
+     * @param pool pool to borrow the inflater from.
+     */
+    PooledInflaterInputStream(final InputStream in, final CompressionPool.Pool<Inflater> pool) {
+        super(in, pool.borrow(), CompressionPool.BUFFER_SIZE);
+        this.pool = pool;
+        this.borrower = pool.track(this);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (released) {
+            return;
+        }
+        try {
+            super.close();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Return the inflater to the pool, the stream cannot be used afterwards.
+     */
+    void release() {
+        if (!released) {
+            released = true;
+            pool.release(inf, borrower);
+        }
+    }
+
+    /**
+     * Check whether the stream has been closed.
+     *
+     * @return {@code true} if the inflater has been returned to the pool.
+     */
+    boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * GZIP decompressing stream, equivalent to {@link java.util.zip.GZIPInputStream} including the support
+     * of concatenated GZIP members.
+     */
+    static final class GZip extends PooledInflaterInputStream {
+
+        private static final int GZIP_MAGIC = 0x8b1f;
+
+        private static final int FHCRC = 2;
+        private static final int FEXTRA = 4;
+        private static final int FNAME = 8;
+        private static final int FCOMMENT = 16;
+
+        private final CRC32 crc = new CRC32();
+        private boolean eos;
+
+        /**
+         * Create new GZIP decompressing stream and read the GZIP header.
+         *
+         * @param in   underlying input stream.
+         * @param pool pool to borrow the inflater from, the inflater must not expect the zlib wrapper.
+         * @throws IOException in case the header cannot be read or is not valid.
+         */
+        GZip(final InputStream in, final CompressionPool.Pool<Inflater> pool) throws IOException {
+            super(in, pool);
+            try {
+                readHeader(in);
+            } catch (IOException | RuntimeException e) {
+                release();
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (isReleased()) {
+                throw new IOException(LocalizationMessages.INPUT_STREAM_CLOSED());
+            }
+            if (eos) {
+                return -1;
+            }
+            final int n = super.read(b, off, len);
+            if (n == -1) {
+                if (readTrailer()) {
+                    eos = true;
+                } else {
+                    return read(b, off, len);
+                }
+            } else {
+                crc.update(b, off, n);
+            }
+            return n;
+        }
+
+        private int readHeader(final InputStream stream) throws IOException {
+            final CheckedInputStream in = new CheckedInputStream(stream, crc);
+            crc.reset();
+            if (readUShort(in) != GZIP_MAGIC) {
+                throw new ZipException("Not in GZIP format");
+            }
+            if (readUByte(in) != Deflater.DEFLATED) {
+                throw new ZipException("Unsupported compression method");
+            }
+            final int flags = readUByte(in);
+            skipBytes(in, 6);
+            int n = 2 + 2 + 6;
+            if ((flags & FEXTRA) == FEXTRA) {
+                final int m = readUShort(in);
+                skipBytes(in, m);
+                n += m + 2;
+            }
+            if ((flags & FNAME) == FNAME) {
+                do {
+                    n++;
+                } while (readUByte(in) != 0);
+            }
+            if ((flags & FCOMMENT) == FCOMMENT) {
+                do {
+                    n++;
+                } while (readUByte(in) != 0);
+            }
+            if ((flags & FHCRC) == FHCRC) {
+                final int v = (int) crc.getValue() & 0xffff;
+                if (readUShort(in) != v) {
+                    throw new ZipException("Corrupt GZIP header");
+                }
+                n += 2;
+            }
+            crc.reset();
+            return n;
+        }
+
+        /**
+         * Read the member trailer and the header of a following member if there is one.
+         *
+         * @return {@code true} if the end of the compressed data has been reached.
+         */
+        private boolean readTrailer() throws IOException {
+            InputStream in = this.in;
+            final int n = inf.getRemaining();
+            if (n > 0) {
+                in = new SequenceInputStream(new ByteArrayInputStream(buf, len - n, n), new FilterInputStream(in) {
+                    @Override
+                    public void close() {
+                    }
+                });
+            }
+            if (readUInt(in) != crc.getValue() || readUInt(in) != (inf.getBytesWritten() & 0xffffffffL)) {
+                throw new ZipException("Corrupt GZIP trailer");
+            }
+            if (this.in.available() > 0 || n > 26) {
+                int m = 8;
+                try {
+                    m += readHeader(in);
+                } catch (IOException e) {
+                    return true;
+                }
+                inf.reset();
+                if (n > m) {
+                    inf.setInput(buf, len - n + m, n - m);
+                }
+                return false;
+            }
+            return true;
+        }
+
+        private static long readUInt(final InputStream in) throws IOException {
+            final long s = readUShort(in);
+            return ((long) readUShort(in) << 16) | s;
+        }
+
+        private static int readUShort(final InputStream in) throws IOException {
+            final int b = readUByte(in);
+            return (readUByte(in) << 8) | b;
+        }
+
+        private static int readUByte(final InputStream in) throws IOException {
+            final int b = in.read();
+            if (b == -1) {
+                throw new EOFException();
+            }
+            return b;
+        }
+
+        private static void skipBytes(final InputStream in, int n) throws IOException {
+            final byte[] skip = new byte[n];
+            while (n > 0) {
+                final int read = in.read(skip, 0, n);
+                if (read == -1) {
+                    throw new EOFException();
+                }
+                n -= read;
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -35,6 +35,7 @@ import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.inject.Singleton;
 
 import org.glassfish.jersey.message.MessageUtils;
+import org.glassfish.jersey.message.StableWriteable;
 
 /**
  *
@@ -43,6 +44,7 @@ import org.glassfish.jersey.message.MessageUtils;
 @Produces({"text/plain", "*/*"})
 @Consumes({"text/plain", "*/*"})
 @Singleton
+@StableWriteable
 public final class ReaderProvider extends AbstractMessageReaderWriterProvider<Reader> {
 
     @Override
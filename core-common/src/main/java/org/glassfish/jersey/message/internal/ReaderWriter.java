@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,13 +17,19 @@
 package org.glassfish.jersey.message.internal;
 
 import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.security.AccessController;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -36,6 +42,7 @@ import jakarta.ws.rs.core.MediaType;
 
 import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.message.DirectOutput;
 import org.glassfish.jersey.message.MessageProperties;
 
 /**
@@ -96,6 +103,61 @@ public final class ReaderWriter {
         }
     }
 
+    /**
+     * Write a region of a file to an output stream. The region is written {@link DirectOutput directly} if supported
+     * by the output stream, otherwise it is copied into the stream.
+     *
+     * @param file     the file to read from.
+     * @param position position of the first byte of the region within the file.
+     * @param count    number of bytes to write.
+     * @param out      the output stream to write to.
+     * @throws IOException if there is an error reading or writing bytes.
+     */
+    public static void writeTo(File file, long position, long count, OutputStream out) throws IOException {
+        if (out instanceof DirectOutput && ((DirectOutput) out).transferFile(file, position, count)) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final WritableByteChannel target = Channels.newChannel(out);
+            while (count > 0) {
+                final long transferred = channel.transferTo(position, count, target);
+                if (transferred <= 0) {
+                    // end of file reached
+                    break;
+                }
+                position += transferred;
+                count -= transferred;
+            }
+        }
+    }
+
+    /**
+     * Write the remaining content of a byte buffer to an output stream. The buffer is written
+     * {@link DirectOutput directly} if supported by the output stream, otherwise it is copied into the stream.
+     *
+     * @param buffer the buffer to write, its position is advanced to its limit.
+     * @param out    the output stream to write to.
+     * @throws IOException if there is an error writing bytes.
+     */
+    public static void writeTo(ByteBuffer buffer, OutputStream out) throws IOException {
+        if (out instanceof DirectOutput && ((DirectOutput) out).writeBuffer(buffer)) {
+            return;
+        }
+
+        if (buffer.hasArray()) {
+            out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+        } else {
+            final byte[] data = new byte[Math.min(buffer.remaining(), BUFFER_SIZE)];
+            while (buffer.hasRemaining()) {
+                final int length = Math.min(buffer.remaining(), data.length);
+                buffer.get(data, 0, length);
+                out.write(data, 0, length);
+            }
+        }
+    }
+
     /**
      * Read characters from an input stream and write them to an output stream.
      *
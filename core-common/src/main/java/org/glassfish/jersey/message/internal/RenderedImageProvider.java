@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -36,6 +36,8 @@ import javax.imageio.ImageWriter;
 import javax.imageio.stream.ImageInputStream;
 import jakarta.inject.Singleton;
 
+import org.glassfish.jersey.message.StableWriteable;
+
 /**
  * Provider for marshalling/un-marshalling of graphical image data represented as
  * {@code image/*, application/x-www-form-urlencoded} entity types to
@@ -48,6 +50,7 @@ import jakarta.inject.Singleton;
 @Produces("image/*")
 @Consumes({"image/*", "application/octet-stream"})
 @Singleton
+@StableWriteable
 public final class RenderedImageProvider extends AbstractMessageReaderWriterProvider<RenderedImage> {
 
     private static final MediaType IMAGE_MEDIA_TYPE = new MediaType("image", "*");
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -50,6 +50,8 @@ import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 
+import org.glassfish.jersey.message.StableWriteable;
+
 /**
  * Collection of {@link Source XML source} providers.
  *
@@ -171,6 +173,7 @@ public final class SourceProvider {
     @Produces({"application/xml", "text/xml", "*/*"})
     @Consumes({"application/xml", "text/xml", "*/*"})
     @Singleton
+    @StableWriteable
     public static final class SourceWriter implements MessageBodyWriter<Source> {
 
         private final Provider<SAXParserFactory> saxParserFactory;
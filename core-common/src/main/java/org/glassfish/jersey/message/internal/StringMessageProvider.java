@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -29,6 +29,8 @@ import jakarta.ws.rs.core.MultivaluedMap;
 
 import jakarta.inject.Singleton;
 
+import org.glassfish.jersey.message.StableWriteable;
+
 /**
  *
  * @author Paul Sandoz
@@ -36,6 +38,7 @@ import jakarta.inject.Singleton;
 @Produces({"text/plain", "*/*"})
 @Consumes({"text/plain", "*/*"})
 @Singleton
+@StableWriteable
 final class StringMessageProvider extends AbstractMessageReaderWriterProvider<String> {
 
     @Override
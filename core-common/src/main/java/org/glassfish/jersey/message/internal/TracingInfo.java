@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -75,6 +75,9 @@ final class TracingInfo {
      * @return all formatted messages
      */
     public String[] getMessages() {
+        if (messageList.isEmpty()) {
+            return new String[0];
+        }
         // Format: EventCategory [duration / sinceRequestTime | duration/requestTime % ]
         // e.g.:   RI [ 3.88 / 8.93 ms | 1.37 %] message text
 
@@ -143,10 +146,22 @@ final class TracingInfo {
          * @param args message arguments.
          */
         public Message(final TracingLogger.Event event, final long duration, final String[] args) {
+            this(event, duration, System.nanoTime(), args);
+        }
+
+        /**
+         * Create a trace message of an event recorded before.
+         *
+         * @param event trace event.
+         * @param duration event duration.
+         * @param timestamp time the event has been recorded in nanos.
+         * @param args message arguments.
+         */
+        Message(final TracingLogger.Event event, final long duration, final long timestamp, final String[] args) {
             this.event = event;
             this.duration = duration;
 
-            this.timestamp = System.nanoTime();
+            this.timestamp = timestamp;
             if (event.messageFormat() != null) {
                 this.text = String.format(event.messageFormat(), (Object[]) args);
             } else {
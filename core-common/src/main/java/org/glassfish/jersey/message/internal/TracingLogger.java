@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -133,6 +133,29 @@ public abstract class TracingLogger {
         return new TracingLoggerImpl(threshold, loggerNameSuffix);
     }
 
+    /**
+     * Create new structured tracing logger.
+     * <p>
+     * The structured logger does not format events when they are logged. It records the event, its timestamp,
+     * duration and the message arguments into a ring buffer preallocated for the given number of events and renders
+     * the messages only when {@link #flush(MultivaluedMap) flushed}, into the response headers if requested, into
+     * the JDK logger if loggable and into the exporter if set. Once the buffer is full the oldest events are
+     * overwritten. Message arguments are kept by reference and formatted at the time the logger is flushed.
+     * </p>
+     *
+     * @param threshold        tracing level threshold.
+     * @param loggerNameSuffix tracing logger name suffix.
+     * @param capacity         maximal number of recorded events.
+     * @param headers          if {@code true} the messages are stored to the response headers when flushed.
+     * @param exporter         exporter of the rendered messages, may be {@code null}.
+     * @return new tracing logger.
+     * @since 3.1.2
+     */
+    public static TracingLogger createStructured(final Level threshold, final String loggerNameSuffix, final int capacity,
+                                                 final boolean headers, final Exporter exporter) {
+        return new StructuredTracingLogger(threshold, loggerNameSuffix, capacity, headers, exporter);
+    }
+
     /**
      * Get an empty (no-op) tracing logger instance.
      *
@@ -202,9 +225,7 @@ public abstract class TracingLogger {
             this.threshold = threshold;
 
             this.tracingInfo = new TracingInfo();
-
-            loggerNameSuffix = loggerNameSuffix != null ? loggerNameSuffix : DEFAULT_LOGGER_NAME_SUFFIX;
-            this.logger = Logger.getLogger(TRACING_LOGGER_NAME_PREFIX + "." + loggerNameSuffix);
+            this.logger = getLogger(loggerNameSuffix);
         }
 
         @Override
@@ -244,10 +265,7 @@ public abstract class TracingLogger {
 
         @Override
         public void flush(final MultivaluedMap<String, Object> headers) {
-            final String[] messages = tracingInfo.getMessages();
-            for (int i = 0; i < messages.length; i++) {
-                headers.putSingle(String.format(TracingLogger.HEADER_RESPONSE_FORMAT, i), messages[i]);
-            }
+            storeHeaders(tracingInfo.getMessages(), headers);
         }
 
         /**
@@ -271,20 +289,7 @@ public abstract class TracingLogger {
                 final TracingInfo.Message message = new TracingInfo.Message(event, duration, messageArgsStr);
                 tracingInfo.addMessage(message);
 
-                final java.util.logging.Level loggingLevel;
-                switch (event.level()) {
-                    case SUMMARY:
-                        loggingLevel = java.util.logging.Level.FINE;
-                        break;
-                    case TRACE:
-                        loggingLevel = java.util.logging.Level.FINER;
-                        break;
-                    case VERBOSE:
-                        loggingLevel = java.util.logging.Level.FINEST;
-                        break;
-                    default:
-                        loggingLevel = java.util.logging.Level.OFF;
-                }
+                final java.util.logging.Level loggingLevel = toLoggingLevel(event.level());
                 if (logger.isLoggable(loggingLevel)) {
                     logger.log(loggingLevel,
                             event.name() + ' ' + message.toString() + " [" + TracingInfo.formatDuration(duration) + " ms]");
@@ -360,6 +365,160 @@ public abstract class TracingLogger {
         }
     }
 
+    /**
+     * Structured implementation of tracing logger recording events into a preallocated ring buffer.
+     */
+    private static final class StructuredTracingLogger extends TracingLogger {
+
+        private final Logger logger;
+        private final Level threshold;
+        private final boolean headers;
+        private final Exporter exporter;
+
+        private final Event[] events;
+        private final long[] timestamps;
+        private final long[] durations;
+        private final Object[][] args;
+        // total number of recorded events
+        private int count;
+        private boolean flushed;
+
+        private StructuredTracingLogger(final Level threshold, final String loggerNameSuffix, final int capacity,
+                                        final boolean headers, final Exporter exporter) {
+            this.threshold = threshold;
+            this.headers = headers;
+            this.exporter = exporter;
+            this.logger = getLogger(loggerNameSuffix);
+
+            final int size = Math.max(capacity, 1);
+            this.events = new Event[size];
+            this.timestamps = new long[size];
+            this.durations = new long[size];
+            this.args = new Object[size][];
+        }
+
+        @Override
+        public boolean isLogEnabled(final Event event) {
+            return threshold.ordinal() >= event.level().ordinal();
+        }
+
+        @Override
+        public void log(final Event event, final Object... args) {
+            if (isLogEnabled(event)) {
+                record(event, System.nanoTime(), 0, args);
+            }
+        }
+
+        @Override
+        public void logDuration(final Event event, final long fromTimestamp, final Object... args) {
+            if (isLogEnabled(event)) {
+                final long timestamp = System.nanoTime();
+                record(event, timestamp, fromTimestamp == -1 ? 0 : timestamp - fromTimestamp, args);
+            }
+        }
+
+        @Override
+        public long timestamp(final Event event) {
+            return isLogEnabled(event) ? System.nanoTime() : -1;
+        }
+
+        private void record(final Event event, final long timestamp, final long duration, final Object[] messageArgs) {
+            final int index = count++ % events.length;
+            events[index] = event;
+            timestamps[index] = timestamp;
+            durations[index] = duration;
+            args[index] = messageArgs;
+        }
+
+        @Override
+        public void flush(final MultivaluedMap<String, Object> headers) {
+            if (flushed) {
+                return;
+            }
+            flushed = true;
+            if (count == 0) {
+                return;
+            }
+
+            // SUMMARY events are logged on the coarsest level
+            final boolean log = logger.isLoggable(toLoggingLevel(Level.SUMMARY));
+            if (!this.headers && !log && exporter == null) {
+                return;
+            }
+
+            final TracingInfo tracingInfo = new TracingInfo();
+            final int size = Math.min(count, events.length);
+            final int first = count - size;
+            for (int i = first; i < count; i++) {
+                final int index = i % events.length;
+                final Event event = events[index];
+                final Object[] messageArgs = args[index];
+                final String[] messageArgsStr = new String[messageArgs.length];
+                for (int j = 0; j < messageArgs.length; j++) {
+                    messageArgsStr[j] = TracingLoggerImpl.formatInstance(messageArgs[j]);
+                }
+                final TracingInfo.Message message =
+                        new TracingInfo.Message(event, durations[index], timestamps[index], messageArgsStr);
+                tracingInfo.addMessage(message);
+
+                final java.util.logging.Level loggingLevel = toLoggingLevel(event.level());
+                if (log && logger.isLoggable(loggingLevel)) {
+                    logger.log(loggingLevel, event.name() + ' ' + message.toString()
+                            + " [" + TracingInfo.formatDuration(durations[index]) + " ms]");
+                }
+            }
+
+            if (this.headers || exporter != null) {
+                final String[] messages = tracingInfo.getMessages();
+                if (this.headers) {
+                    storeHeaders(messages, headers);
+                }
+                if (exporter != null) {
+                    exporter.export(messages);
+                }
+            }
+        }
+    }
+
+    /**
+     * Exporter of the messages rendered by a structured tracing logger.
+     *
+     * @since 3.1.2
+     */
+    public interface Exporter {
+
+        /**
+         * Export messages of a request.
+         *
+         * @param messages formatted tracing messages in the order the events have been logged.
+         */
+        void export(String[] messages);
+    }
+
+    private static Logger getLogger(final String loggerNameSuffix) {
+        return Logger.getLogger(TRACING_LOGGER_NAME_PREFIX + "."
+                + (loggerNameSuffix != null ? loggerNameSuffix : DEFAULT_LOGGER_NAME_SUFFIX));
+    }
+
+    private static void storeHeaders(final String[] messages, final MultivaluedMap<String, Object> headers) {
+        for (int i = 0; i < messages.length; i++) {
+            headers.putSingle(String.format(TracingLogger.HEADER_RESPONSE_FORMAT, i), messages[i]);
+        }
+    }
+
+    private static java.util.logging.Level toLoggingLevel(final Level level) {
+        switch (level) {
+            case SUMMARY:
+                return java.util.logging.Level.FINE;
+            case TRACE:
+                return java.util.logging.Level.FINER;
+            case VERBOSE:
+                return java.util.logging.Level.FINEST;
+            default:
+                return java.util.logging.Level.OFF;
+        }
+    }
+
     /**
      * Level of tracing message.
      */
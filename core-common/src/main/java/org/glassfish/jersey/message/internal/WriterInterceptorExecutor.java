@@ -16,11 +16,13 @@
 
 package org.glassfish.jersey.message.internal;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.List;
 import java.util.logging.Level;
@@ -40,6 +42,7 @@ import org.glassfish.jersey.internal.LocalizationMessages;
 import org.glassfish.jersey.internal.PropertiesDelegate;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.internal.inject.InjectionManagerSupplier;
+import org.glassfish.jersey.message.DirectOutput;
 import org.glassfish.jersey.message.MessageBodyWorkers;
 
 /**
@@ -251,7 +254,7 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
      * {@link jakarta.ws.rs.ext.MessageBodyWriter}s should not close the given {@link java.io.OutputStream stream}. This output
      * stream makes sure that the stream is not closed even if MBW tries to do it.
      */
-    private static class UnCloseableOutputStream extends OutputStream {
+    private static class UnCloseableOutputStream extends OutputStream implements DirectOutput {
 
         private final OutputStream original;
         private final MessageBodyWriter writer;
@@ -281,6 +284,16 @@ public final class WriterInterceptorExecutor extends InterceptorExecutor<WriterI
             original.flush();
         }
 
+        @Override
+        public boolean transferFile(final File file, final long position, final long count) throws IOException {
+            return original instanceof DirectOutput && ((DirectOutput) original).transferFile(file, position, count);
+        }
+
+        @Override
+        public boolean writeBuffer(final ByteBuffer buffer) throws IOException {
+            return original instanceof DirectOutput && ((DirectOutput) original).writeBuffer(buffer);
+        }
+
         @Override
         public void close() throws IOException {
             if (LOGGER.isLoggable(Level.FINE)) {
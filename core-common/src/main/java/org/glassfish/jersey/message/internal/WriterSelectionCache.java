@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of content negotiation results computed by {@link MessageBodyFactory}, i.e. of the selected
+ * {@link jakarta.ws.rs.ext.MessageBodyWriter message body writer} for a resolved media type and of the response
+ * media type selected for a list of acceptable media types.
+ * <p>
+ * Results are cached only if every writer consulted while computing them is
+ * {@link org.glassfish.jersey.message.StableWriteable stable}. Entries are keyed by the raw entity type,
+ * generic entity type, annotation array <em>identity</em> and the media type (or the list of acceptable media types).
+ * Annotation arrays are compared by identity as comparing their content would cost about as much as the selection
+ * itself; Jersey passes the same annotation array instance for the same resource method. Once the cache is full
+ * it is cleared and repopulated.
+ * </p>
+ */
+public final class WriterSelectionCache {
+
+    /**
+     * Maximal number of cached selections.
+     */
+    static final int MAX_SIZE = 1024;
+
+    private final Map<Key, Object> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    WriterSelectionCache() {
+    }
+
+    /**
+     * Get the cached selection.
+     *
+     * @param key selection key.
+     * @return cached selection or {@code null} if not cached.
+     */
+    Object get(final Key key) {
+        final Object selected = cache.get(key);
+        if (selected != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return selected;
+    }
+
+    /**
+     * Cache the selection.
+     *
+     * @param key      selection key.
+     * @param selected selected writer or media type.
+     */
+    void put(final Key key, final Object selected) {
+        if (cache.size() >= MAX_SIZE) {
+            cache.clear();
+        }
+        cache.put(key, selected);
+    }
+
+    /**
+     * Get the number of lookups answered from the cache.
+     *
+     * @return number of cache hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of lookups that had to compute the selection.
+     *
+     * @return number of cache misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the number of currently cached selections.
+     *
+     * @return cache size.
+     */
+    public int getSize() {
+        return cache.size();
+    }
+
+    /**
+     * Selection cache key.
+     */
+    static final class Key {
+
+        private final Class<?> rawType;
+        private final Type genericType;
+        private final Annotation[] annotations;
+        private final Object mediaType;
+        private final int hash;
+
+        /**
+         * Create new key.
+         *
+         * @param rawType     raw entity type.
+         * @param genericType generic entity type.
+         * @param annotations entity annotations, compared by identity.
+         * @param mediaType   resolved media type or list of acceptable media types.
+         */
+        Key(final Class<?> rawType, final Type genericType, final Annotation[] annotations, final Object mediaType) {
+            this.rawType = rawType;
+            this.genericType = genericType;
+            this.annotations = annotations;
+            this.mediaType = mediaType;
+
+            int result = rawType != null ? rawType.hashCode() : 0;
+            result = 31 * result + (genericType != null ? genericType.hashCode() : 0);
+            result = 31 * result + System.identityHashCode(annotations);
+            result = 31 * result + (mediaType != null ? mediaType.hashCode() : 0);
+            this.hash = result;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            final Key that = (Key) o;
+            return hash == that.hash
+                    && rawType == that.rawType
+                    && annotations == that.annotations
+                    && (genericType != null ? genericType.equals(that.genericType) : that.genericType == null)
+                    && (mediaType != null ? mediaType.equals(that.mediaType) : that.mediaType == null);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -230,11 +230,20 @@ public abstract class RequestScope {
 
     /**
      * Resumes the provided {@link RequestContext} to thread-local variable belonging to current request scope.
+     * <p>
+     * If the provided context is {@code null}, the thread-local variable is removed rather than set to {@code null}.
+     * This way threads leaving the request scope (e.g. pooled or short-lived virtual threads) do not keep a stale
+     * thread-local map entry for the scope.
+     * </p>
      *
      * @param context storage with request scoped objects.
      */
     protected void resume(RequestContext context) {
-        currentRequestContext.set(context);
+        if (context == null) {
+            currentRequestContext.remove();
+        } else {
+            currentRequestContext.set(context);
+        }
     }
 
     /**
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.spi;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.internal.util.VirtualThreads;
+import org.glassfish.jersey.internal.util.collection.LazyValue;
+import org.glassfish.jersey.internal.util.collection.Value;
+import org.glassfish.jersey.internal.util.collection.Values;
+
+/**
+ * Virtual thread implementation of the Jersey {@link org.glassfish.jersey.spi.ExecutorServiceProvider executor service
+ * provider SPI}.
+ * <p>
+ * This provider creates and provisions a shared executor service that starts a new virtual thread for each submitted task.
+ * Virtual threads are cheap to create and to block, so the number of concurrently executed (blocking) tasks is not limited
+ * by the size of a thread pool.
+ * </p>
+ * <p>
+ * The virtual threads require JDK 21 or newer. On an older JDK this provider falls back to the cached
+ * {@link ThreadPoolExecutorProvider thread pool executor} of the platform threads.
+ * </p>
+ *
+ * @since 3.1.2
+ */
+public class VirtualThreadExecutorProvider extends ThreadPoolExecutorProvider {
+
+    private final LazyValue<ExecutorService> virtualThreadExecutor;
+
+    /**
+     * Create a new instance of the virtual thread executor provider.
+     *
+     * @param name provider name. The name will be used to name the threads created & used by the provisioned executor.
+     */
+    public VirtualThreadExecutorProvider(final String name) {
+        super(name);
+        this.virtualThreadExecutor = Values.lazy((Value<ExecutorService>) () -> VirtualThreads.newThreadPerTaskExecutor(name));
+    }
+
+    @Override
+    public ExecutorService getExecutorService() {
+        if (!VirtualThreads.isSupported() || isClosed()) {
+            // platform thread pool fallback, or IllegalStateException in case the provider has been closed already
+            return super.getExecutorService();
+        }
+        return virtualThreadExecutor.get();
+    }
+
+    @Override
+    protected void onClose() {
+        if (virtualThreadExecutor.isInitialized()) {
+            final ExecutorService executorService = virtualThreadExecutor.get();
+            executorService.shutdown();
+            try {
+                if (!executorService.awaitTermination(getTerminationTimeout(), TimeUnit.MILLISECONDS)) {
+                    executorService.shutdownNow();
+                }
+            } catch (final InterruptedException e) {
+                executorService.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.internal.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.RuntimeType;
+
+import org.glassfish.jersey.CommonProperties;
+import org.glassfish.jersey.spi.VirtualThreadExecutorProvider;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link VirtualThreads} and {@link VirtualThreadExecutorProvider}. The tests pass on any JDK, virtual threads
+ * specific assertions are only checked when the JDK supports them.
+ */
+public class VirtualThreadsTest {
+
+    @Test
+    public void testIsEnabled() {
+        assertFalse(VirtualThreads.isEnabled(null, RuntimeType.SERVER));
+        assertFalse(VirtualThreads.isEnabled(Collections.emptyMap(), RuntimeType.SERVER));
+
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put(CommonProperties.THREADS_USE_VIRTUAL, true);
+        properties.put(CommonProperties.THREADS_USE_VIRTUAL_CLIENT, false);
+
+        assertEquals(VirtualThreads.isSupported(), VirtualThreads.isEnabled(properties, RuntimeType.SERVER));
+        assertFalse(VirtualThreads.isEnabled(properties, RuntimeType.CLIENT));
+    }
+
+    @Test
+    public void testThreadFactory() throws Exception {
+        if (!VirtualThreads.isSupported()) {
+            assertThrows(UnsupportedOperationException.class, () -> VirtualThreads.threadFactory("test"));
+            return;
+        }
+
+        final Thread thread = VirtualThreads.threadFactory("test").newThread(() -> { });
+        assertTrue(thread.getName().startsWith("test-"));
+        assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+    }
+
+    @Test
+    public void testExecutorProvider() throws Exception {
+        final VirtualThreadExecutorProvider provider = new VirtualThreadExecutorProvider("test-executor");
+        final ExecutorService executorService = provider.getExecutorService();
+
+        final String threadName = executorService.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+        assertTrue(threadName.startsWith("test-executor-"), threadName);
+
+        provider.close();
+        assertTrue(executorService.isShutdown());
+        assertThrows(IllegalStateException.class, provider::getExecutorService);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.glassfish.jersey.message.MessageProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link CompressionPool} and the pooled compression streams.
+ */
+public class CompressionPoolTest {
+
+    private static final int[] SIZES = {0, 1, 1000, 100000};
+
+    @Test
+    public void testGZipCompatibleWithJdk() throws IOException {
+        final CompressionPool pool = new CompressionPool(4, Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+        for (int size : SIZES) {
+            final byte[] data = payload(size);
+
+            final ByteArrayOutputStream pooled = new ByteArrayOutputStream();
+            try (OutputStream out = pool.gzipOutputStream(pooled)) {
+                out.write(data);
+            }
+            assertArrayEquals(data, readAll(new GZIPInputStream(new ByteArrayInputStream(pooled.toByteArray()))));
+
+            final ByteArrayOutputStream jdk = new ByteArrayOutputStream();
+            try (OutputStream out = new GZIPOutputStream(jdk)) {
+                out.write(data);
+            }
+            assertArrayEquals(data, readAll(pool.gzipInputStream(new ByteArrayInputStream(jdk.toByteArray()))));
+        }
+    }
+
+    @Test
+    public void testConcatenatedGZipMembers() throws IOException {
+        final CompressionPool pool = new CompressionPool(4, Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+        final byte[] first = payload(1000);
+        final byte[] second = payload(5000);
+
+        final ByteArrayOutputStream concatenated = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(concatenated)) {
+            out.write(first);
+        }
+        try (OutputStream out = pool.gzipOutputStream(concatenated)) {
+            out.write(second);
+        }
+
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        expected.write(first);
+        expected.write(second);
+        assertArrayEquals(expected.toByteArray(),
+                readAll(pool.gzipInputStream(new ByteArrayInputStream(concatenated.toByteArray()))));
+    }
+
+    @Test
+    public void testDeflateCompatibleWithJdk() throws IOException {
+        final CompressionPool pool = new CompressionPool(4, Deflater.BEST_SPEED, Deflater.FILTERED);
+        for (boolean nowrap : new boolean[] {false, true}) {
+            for (int size : SIZES) {
+                final byte[] data = payload(size);
+
+                final ByteArrayOutputStream pooled = new ByteArrayOutputStream();
+                try (OutputStream out = pool.deflaterOutputStream(pooled, nowrap)) {
+                    out.write(data);
+                }
+                assertArrayEquals(data, readAll(new InflaterInputStream(
+                        new ByteArrayInputStream(pooled.toByteArray()), new Inflater(nowrap))));
+
+                final ByteArrayOutputStream jdk = new ByteArrayOutputStream();
+                try (OutputStream out = new DeflaterOutputStream(jdk, new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap))) {
+                    out.write(data);
+                }
+                assertArrayEquals(data, readAll(pool.inflaterInputStream(new ByteArrayInputStream(jdk.toByteArray()), nowrap)));
+            }
+        }
+    }
+
+    @Test
+    public void testReuse() throws IOException {
+        final CompressionPool pool = new CompressionPool(1, Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+        for (int i = 0; i < 10; i++) {
+            final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+            try (OutputStream out = pool.gzipOutputStream(encoded)) {
+                out.write(payload(1000));
+            }
+            readAll(pool.gzipInputStream(new ByteArrayInputStream(encoded.toByteArray())));
+        }
+        assertEquals(1, pool.getDeflaterCount());
+        assertEquals(1, pool.getIdleDeflaterCount());
+        assertEquals(1, pool.getInflaterCount());
+        assertEquals(1, pool.getIdleInflaterCount());
+        assertEquals(CompressionPool.DEFLATER_NATIVE_MEMORY + CompressionPool.INFLATER_NATIVE_MEMORY,
+                pool.getEstimatedNativeMemory());
+    }
+
+    @Test
+    public void testPoolBound() throws IOException {
+        final CompressionPool pool = new CompressionPool(1, Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+        final OutputStream first = pool.deflaterOutputStream(new ByteArrayOutputStream(), false);
+        final OutputStream second = pool.deflaterOutputStream(new ByteArrayOutputStream(), false);
+        assertEquals(2, pool.getDeflaterCount());
+        assertEquals(0, pool.getIdleDeflaterCount());
+
+        first.close();
+        second.close();
+        assertEquals(1, pool.getDeflaterCount());
+        assertEquals(1, pool.getIdleDeflaterCount());
+    }
+
+    @Test
+    public void testAbandonedStreams() throws Exception {
+        final CompressionPool pool = new CompressionPool(1, Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+        for (int i = 0; i < 10; i++) {
+            pool.gzipOutputStream(new ByteArrayOutputStream()).write(payload(1000));
+            pool.inflaterInputStream(new ByteArrayInputStream(new byte[0]), false);
+        }
+        pool.gzipOutputStream(new ByteArrayOutputStream()).close();
+        assertEquals(11, pool.getDeflaterCount());
+
+        // the instances of the streams that have never been closed are released by the garbage collector
+        for (int i = 0; i < 100 && pool.getEstimatedNativeMemory() != CompressionPool.DEFLATER_NATIVE_MEMORY; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(1, pool.getDeflaterCount());
+        assertEquals(1, pool.getIdleDeflaterCount());
+        assertEquals(0, pool.getInflaterCount());
+        assertEquals(CompressionPool.DEFLATER_NATIVE_MEMORY, pool.getEstimatedNativeMemory());
+    }
+
+    @Test
+    public void testPoolingDisabled() throws IOException {
+        final CompressionPool pool = CompressionPool.create(
+                Collections.singletonMap(MessageProperties.ENCODING_POOL_SIZE, 0));
+        pool.gzipOutputStream(new ByteArrayOutputStream()).close();
+        assertEquals(0, pool.getDeflaterCount());
+        assertEquals(0, pool.getIdleDeflaterCount());
+    }
+
+    @Test
+    public void testClosedStream() throws IOException {
+        final CompressionPool pool = new CompressionPool(1, Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+        final OutputStream out = pool.gzipOutputStream(new ByteArrayOutputStream());
+        out.close();
+        out.close();
+        assertEquals(1, pool.getIdleDeflaterCount());
+        assertThrows(IOException.class, () -> out.write(1));
+    }
+
+    @Test
+    public void testConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> CompressionPool.create(
+                Collections.singletonMap(MessageProperties.ENCODING_COMPRESSION_LEVEL, 10)));
+        assertThrows(IllegalArgumentException.class, () -> CompressionPool.create(
+                Collections.singletonMap(MessageProperties.ENCODING_COMPRESSION_STRATEGY, "FAST")));
+        CompressionPool.create(Collections.singletonMap(MessageProperties.ENCODING_COMPRESSION_STRATEGY, "huffman_only"));
+        CompressionPool.create(Collections.singletonMap(MessageProperties.ENCODING_COMPRESSION_LEVEL, "9"));
+    }
+
+    private static byte[] payload(int size) {
+        final StringBuilder sb = new StringBuilder(size + 32);
+        for (int i = 0; sb.length() < size; i++) {
+            sb.append("{\"id\":").append(i).append(",\"name\":\"item").append(i % 7).append("\"},");
+        }
+        return sb.substring(0, size).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        try (InputStream stream = in) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[1024];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.glassfish.jersey.message.DirectOutput;
+import org.glassfish.jersey.message.MessageProperties;
+import org.glassfish.jersey.model.internal.CommonConfig;
+import org.glassfish.jersey.model.internal.ComponentBag;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests {@link DirectOutput direct} writing of file and byte buffer entities.
+ */
+public class DirectOutputTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    private File file;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        file = File.createTempFile("direct", ".txt");
+        Files.write(file.toPath(), CONTENT.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        file.delete();
+    }
+
+    /**
+     * Container stream recording the direct writes.
+     */
+    private static class RecordingOutputStream extends ByteArrayOutputStream implements DirectOutput {
+
+        private final boolean supported;
+        private String transfers = "";
+
+        RecordingOutputStream(boolean supported) {
+            this.supported = supported;
+        }
+
+        @Override
+        public boolean transferFile(File file, long position, long count) {
+            if (supported) {
+                transfers += "[file " + position + "+" + count + "]";
+            }
+            return supported;
+        }
+
+        @Override
+        public boolean writeBuffer(ByteBuffer buffer) {
+            if (supported) {
+                transfers += "[buffer " + buffer.remaining() + "]";
+                buffer.position(buffer.limit());
+            }
+            return supported;
+        }
+    }
+
+    private static CommittingOutputStream committing(RecordingOutputStream container, int bufferSize, int[] contentLength) {
+        final CommittingOutputStream out = new CommittingOutputStream();
+        out.setStreamProvider(size -> {
+            contentLength[0] = size;
+            return container;
+        });
+        out.enableBuffering(bufferSize);
+        return out;
+    }
+
+    @Test
+    public void testFileRegionCopiedIfNotSupported() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReaderWriter.writeTo(file, 5, 10, out);
+        assertEquals("56789abcde", out.toString("US-ASCII"));
+
+        final RecordingOutputStream container = new RecordingOutputStream(false);
+        final CommittingOutputStream committing = committing(container, 8, new int[1]);
+        ReaderWriter.writeTo(file, 0, file.length(), committing);
+        assertEquals(CONTENT, container.toString("US-ASCII"));
+        assertEquals("", container.transfers);
+    }
+
+    @Test
+    public void testDirectWriteAfterBufferedBytes() throws IOException {
+        final RecordingOutputStream container = new RecordingOutputStream(true);
+        final int[] contentLength = new int[1];
+        final CommittingOutputStream out = committing(container, 6, contentLength);
+
+        out.write("head".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(0, container.size());
+
+        ReaderWriter.writeTo(file, 2, 3, out);
+        ReaderWriter.writeTo(ByteBuffer.allocateDirect(7), out);
+        assertEquals("head", container.toString("US-ASCII"));
+        assertEquals("[file 2+3][buffer 7]", container.transfers);
+        assertEquals(-1, contentLength[0]);
+    }
+
+    @Test
+    public void testSmallFileBuffered() throws IOException {
+        final RecordingOutputStream container = new RecordingOutputStream(true);
+        final int[] contentLength = new int[1];
+        final CommittingOutputStream out = committing(container, CommittingOutputStream.DEFAULT_BUFFER_SIZE, contentLength);
+
+        ReaderWriter.writeTo(file, 0, file.length(), out);
+        ReaderWriter.writeTo(ByteBuffer.allocateDirect(5), out);
+        out.commit();
+        assertEquals("", container.transfers);
+        assertEquals(CONTENT.length() + 5, contentLength[0]);
+        assertEquals(CONTENT.length() + 5, container.size());
+    }
+
+    @Test
+    public void testContentRange() throws IOException {
+        assertArrayEquals(new long[] {0, 9}, FileProvider.contentRange("bytes 0-9/20", 20));
+        assertArrayEquals(new long[] {10, 19}, FileProvider.contentRange("Bytes 10 - 19/*", 20));
+        assertNull(FileProvider.contentRange(null, 20));
+        for (String other : new String[] {"bytes 10-20/21", "bytes 5-4/20", "bytes */20", "items 0-1/20", "bytes 0-x/20",
+                "bytes 500-599/1000", "bytes 0-9/1000", "bytes 0-9/x"}) {
+            assertNull(FileProvider.contentRange(other, 20), other);
+        }
+
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        headers.putSingle("Content-Range", "bytes 10-14/20");
+        assertEquals("abcde", writeFile(new FileProvider(contentRangeEnabled()), headers));
+        // the range is not applied unless enabled
+        assertEquals(CONTENT, writeFile(new FileProvider(), headers));
+
+        // the whole file is written if the header does not specify a range of the file
+        headers.putSingle("Content-Range", "bytes 10-/20");
+        assertEquals(CONTENT, writeFile(new FileProvider(contentRangeEnabled()), headers));
+        headers.putSingle("Content-Range", "bytes 500-519/1000");
+        assertEquals(CONTENT, writeFile(new FileProvider(contentRangeEnabled()), headers));
+    }
+
+    private static Configuration contentRangeEnabled() {
+        return new CommonConfig(RuntimeType.SERVER, ComponentBag.EXCLUDE_EMPTY)
+                .property(MessageProperties.FILE_CONTENT_RANGE, true);
+    }
+
+    private String writeFile(final FileProvider provider, final MultivaluedMap<String, Object> headers) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        provider.writeTo(file, File.class, File.class, null, MediaType.APPLICATION_OCTET_STREAM_TYPE, headers, out);
+        return out.toString("US-ASCII");
+    }
+
+    @Test
+    public void testByteBufferEntity() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(CONTENT.getBytes(StandardCharsets.US_ASCII));
+        buffer.position(10);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ByteBufferProvider().writeTo(buffer, ByteBuffer.class, ByteBuffer.class, null,
+                MediaType.APPLICATION_OCTET_STREAM_TYPE, new MultivaluedHashMap<>(), out);
+        assertEquals("abcdefghij", out.toString("US-ASCII"));
+        // the entity is not consumed
+        assertEquals(10, buffer.position());
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(3);
+        direct.put((byte) 'x').put((byte) 'y').put((byte) 'z').flip();
+        out.reset();
+        ReaderWriter.writeTo(direct, out);
+        assertEquals("xyz", out.toString("US-ASCII"));
+        assertEquals(0, direct.remaining());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link HttpDateFormat}.
+ */
+public class HttpDateFormatTest {
+
+    private static final String[] PATTERNS = {
+            "EEE, dd MMM yyyy HH:mm:ss zzz", "EEEE, dd-MMM-yy HH:mm:ss zzz", "EEE MMM d HH:mm:ss yyyy"};
+
+    // Sun, 06 Nov 1994 08:49:37 GMT
+    private static final long TIME = 784111777000L;
+
+    @Test
+    public void testReadDate() throws ParseException {
+        assertEquals(TIME, HttpDateFormat.readDate("Sun, 06 Nov 1994 08:49:37 GMT").getTime());
+        assertEquals(TIME, HttpDateFormat.readDate("Sunday, 06-Nov-94 08:49:37 GMT").getTime());
+        assertEquals(TIME, HttpDateFormat.readDate("Sun Nov  6 08:49:37 1994").getTime());
+        assertEquals(TIME, HttpDateFormat.readDate("Sun, 6 Nov 1994 08:49:37 GMT").getTime());
+        // not GMT, parsed by SimpleDateFormat
+        assertEquals(TIME, HttpDateFormat.readDate("Sun, 06 Nov 1994 00:49:37 PST").getTime());
+        assertThrows(ParseException.class, () -> HttpDateFormat.readDate("Sun 06 Nov"));
+    }
+
+    @Test
+    public void testReadTruncatedDate() {
+        assertThrows(ParseException.class, () -> HttpDateFormat.readDate("Sun Nov "));
+        assertThrows(ParseException.class, () -> HttpDateFormat.readDate("Sun Nov  "));
+        assertThrows(ParseException.class, () -> HttpDateFormat.readDate("Sun, "));
+        assertThrows(ParseException.class, () -> HttpDateFormat.readDate("Sunday, 06-"));
+
+        for (final String date : new String[] {
+                "Sun, 06 Nov 1994 08:49:37 GMT", "Sunday, 06-Nov-94 08:49:37 GMT", "Sun Nov  6 08:49:37 1994"}) {
+            for (int length = 0; length < date.length(); length++) {
+                final String truncated = date.substring(0, length);
+                Date expected;
+                try {
+                    expected = readDateLegacy(truncated);
+                } catch (final ParseException e) {
+                    assertThrows(ParseException.class, () -> HttpDateFormat.readDate(truncated), truncated);
+                    continue;
+                }
+                try {
+                    assertEquals(expected, HttpDateFormat.readDate(truncated), truncated);
+                } catch (final ParseException e) {
+                    throw new AssertionError(truncated, e);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFormatDate() {
+        assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", HttpDateFormat.formatDate(new Date(TIME)));
+        assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", HttpDateFormat.formatDate(new Date(TIME + 999)));
+        assertEquals("Thu, 01 Jan 1970 00:00:00 GMT", HttpDateFormat.formatDate(new Date(0)));
+
+        final Date now = new Date();
+        assertSame(HttpDateFormat.formatDate(now), HttpDateFormat.formatDate(now));
+    }
+
+    @Test
+    public void testSameAsSimpleDateFormat() throws ParseException {
+        final Random random = new Random(0);
+        for (int i = 0; i < 10000; i++) {
+            // 1600 - 2400
+            final Date date = new Date((random.nextLong() % 13000000000L) * 1000L);
+            final String formatted = simpleDateFormat(PATTERNS[0]).format(date);
+            assertEquals(formatted, HttpDateFormat.formatDate(date));
+
+            for (final String pattern : PATTERNS) {
+                final String text = simpleDateFormat(pattern).format(date);
+                assertEquals(readDateLegacy(text), HttpDateFormat.readDate(text), text);
+            }
+        }
+    }
+
+    private static Date readDateLegacy(final String date) throws ParseException {
+        ParseException pe = null;
+        for (final String pattern : PATTERNS) {
+            try {
+                return simpleDateFormat(pattern).parse(date);
+            } catch (final ParseException e) {
+                pe = (pe == null) ? e : pe;
+            }
+        }
+        throw pe;
+    }
+
+    private static SimpleDateFormat simpleDateFormat(final String pattern) {
+        final SimpleDateFormat format = new SimpleDateFormat(pattern, Locale.US);
+        format.setTimeZone(TimeZone.getTimeZone("GMT"));
+        return format;
+    }
+}
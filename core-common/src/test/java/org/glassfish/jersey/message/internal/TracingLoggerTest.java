@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.message.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the structured {@link TracingLogger}.
+ */
+public class TracingLoggerTest {
+
+    private enum TestEvent implements TracingLogger.Event {
+        SUMMARY(TracingLogger.Level.SUMMARY, "%s=%s"),
+        VERBOSE(TracingLogger.Level.VERBOSE, null);
+
+        private final TracingLogger.Level level;
+        private final String messageFormat;
+
+        TestEvent(TracingLogger.Level level, String messageFormat) {
+            this.level = level;
+            this.messageFormat = messageFormat;
+        }
+
+        @Override
+        public String category() {
+            return "TEST";
+        }
+
+        @Override
+        public TracingLogger.Level level() {
+            return level;
+        }
+
+        @Override
+        public String messageFormat() {
+            return messageFormat;
+        }
+    }
+
+    @Test
+    public void testHeaders() {
+        final TracingLogger logger = TracingLogger.createStructured(TracingLogger.Level.TRACE, null, 8, true, null);
+        final long timestamp = logger.timestamp(TestEvent.SUMMARY);
+        logger.logDuration(TestEvent.SUMMARY, timestamp, "key", 42);
+        logger.log(TestEvent.VERBOSE, "ignored");
+        assertFalse(logger.isLogEnabled(TestEvent.VERBOSE));
+        assertEquals(-1, logger.timestamp(TestEvent.VERBOSE));
+
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        logger.flush(headers);
+        assertEquals(1, headers.size());
+        final String message = (String) headers.getFirst("X-Jersey-Tracing-000");
+        assertTrue(message.startsWith("TEST"), message);
+        assertTrue(message.endsWith("key=42"), message);
+    }
+
+    @Test
+    public void testExportWithoutHeaders() {
+        final List<String[]> exported = new ArrayList<>();
+        final TracingLogger logger = TracingLogger.createStructured(TracingLogger.Level.VERBOSE, null, 8, false, exported::add);
+        logger.log(TestEvent.SUMMARY, "a", "b");
+        logger.log(TestEvent.VERBOSE, "c", "d");
+
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        logger.flush(headers);
+        logger.flush(headers);
+        assertTrue(headers.isEmpty());
+        assertEquals(1, exported.size());
+        assertEquals(2, exported.get(0).length);
+        assertTrue(exported.get(0)[0].endsWith("a=b"), exported.get(0)[0]);
+        assertTrue(exported.get(0)[1].endsWith("c d "), exported.get(0)[1]);
+    }
+
+    @Test
+    public void testBufferOverflow() {
+        final List<String[]> exported = new ArrayList<>();
+        final TracingLogger logger = TracingLogger.createStructured(TracingLogger.Level.SUMMARY, null, 3, false, exported::add);
+        for (int i = 0; i < 10; i++) {
+            logger.log(TestEvent.SUMMARY, "event", i);
+        }
+        logger.flush(new MultivaluedHashMap<>());
+
+        final String[] messages = exported.get(0);
+        assertEquals(3, messages.length);
+        assertTrue(messages[0].endsWith("event=7"), messages[0]);
+        assertTrue(messages[2].endsWith("event=9"), messages[2]);
+    }
+
+    @Test
+    public void testNothingLogged() {
+        final List<String[]> exported = new ArrayList<>();
+        final TracingLogger logger = TracingLogger.createStructured(TracingLogger.Level.SUMMARY, null, 3, true, exported::add);
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        logger.flush(headers);
+        assertNull(headers.getFirst("X-Jersey-Tracing-000"));
+        assertTrue(exported.isEmpty());
+    }
+}
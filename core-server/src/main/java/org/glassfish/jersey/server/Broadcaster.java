@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -40,6 +40,9 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
     private final ConcurrentLinkedQueue<ChunkedOutput<T>> chunkedOutputs =
             new ConcurrentLinkedQueue<ChunkedOutput<T>>();
 
+    private final boolean serializeOnce;
+    private final SharedChunk.Statistics statistics = new SharedChunk.Statistics();
+
     /**
      * Creates a new instance.
      * If this constructor is called by a subclass, it assumes the the reason for the subclass to exist is to implement
@@ -61,6 +64,39 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
      * @see #Broadcaster()
      */
     protected Broadcaster(final Class<? extends Broadcaster> subclass) {
+        this(subclass, false);
+    }
+
+    /**
+     * Creates a new instance, optionally serializing each broadcast chunk only once.
+     * <p>
+     * If {@code serializeOnce} is {@code true}, each broadcast chunk is serialized by the message body writer only once
+     * and the serialized bytes are written to all the registered {@link ChunkedOutput} instances with the same media
+     * type, generic type and entity annotations. The other {@code ChunkedOutput} instances serialize the chunk themselves.
+     * See {@link SharedChunk} for details.
+     * </p>
+     *
+     * @param serializeOnce if {@code true}, each broadcast chunk is serialized only once.
+     * @see #Broadcaster()
+     * @since 3.1.2
+     */
+    public Broadcaster(final boolean serializeOnce) {
+        this(Broadcaster.class, serializeOnce);
+    }
+
+    /**
+     * Can be used by subclasses to override the default functionality of adding self to the set of
+     * {@link BroadcasterListener listeners} and to enable serializing each broadcast chunk only once.
+     *
+     * @param subclass      subclass of Broadcaster that should not be registered as a listener - if creating a direct
+     *                      instance of this subclass, this constructor will not register the new instance as a listener.
+     * @param serializeOnce if {@code true}, each broadcast chunk is serialized only once.
+     * @see #Broadcaster(Class)
+     * @see #Broadcaster(boolean)
+     * @since 3.1.2
+     */
+    protected Broadcaster(final Class<? extends Broadcaster> subclass, final boolean serializeOnce) {
+        this.serializeOnce = serializeOnce;
         if (subclass != getClass()) {
             listeners.add(this);
         }
@@ -124,6 +160,17 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
      * @param chunk chunk to be sent.
      */
     public void broadcast(final T chunk) {
+        if (serializeOnce && chunk != null) {
+            final SharedChunk<T> sharedChunk = new SharedChunk<>(chunk, statistics);
+            forEachOutput(new Task<ChunkedOutput<T>>() {
+                @Override
+                public void run(final ChunkedOutput<T> cr) throws IOException {
+                    cr.writeShared(sharedChunk);
+                }
+            });
+            return;
+        }
+
         forEachOutput(new Task<ChunkedOutput<T>>() {
             @Override
             public void run(final ChunkedOutput<T> cr) throws IOException {
@@ -132,6 +179,16 @@ public class Broadcaster<T> implements BroadcasterListener<T> {
         });
     }
 
+    /**
+     * Get statistics of the chunks broadcast with the {@link #Broadcaster(boolean) serialize-once} mode enabled.
+     *
+     * @return shared chunk statistics.
+     * @since 3.1.2
+     */
+    public SharedChunk.Statistics getStatistics() {
+        return statistics;
+    }
+
     /**
      * Close all registered {@link ChunkedOutput} instances.
      */
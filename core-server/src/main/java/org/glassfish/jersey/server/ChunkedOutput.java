@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,8 +23,12 @@ import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import jakarta.ws.rs.container.ConnectionCallback;
 import jakarta.ws.rs.core.GenericType;
@@ -36,10 +40,16 @@ import org.glassfish.jersey.process.internal.RequestContext;
 import org.glassfish.jersey.process.internal.RequestScope;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.internal.process.MappableException;
+import org.glassfish.jersey.server.spi.NonBlockingOutput;
 
 /**
  * Used for sending messages in "typed" chunks. Useful for long running processes,
  * which needs to produce partial responses.
+ * <p>
+ * If the container supports non-blocking writes (see {@link NonBlockingOutput}), the chunks are written once the client
+ * is able to receive them, without blocking the writing thread. Producers may use {@link #writeAsync(Object)} to learn
+ * when a chunk has been written and avoid queueing chunks faster than the client reads them.
+ * </p>
  *
  * @param <T> chunk type.
  * @author Pavel Bucek
@@ -48,18 +58,26 @@ import org.glassfish.jersey.server.internal.process.MappableException;
  */
 // TODO:  something like prequel/sequel - usable for EventChannelWriter and XML related writers
 public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
+    private static final Logger LOGGER = Logger.getLogger(ChunkedOutput.class.getName());
     private static final byte[] ZERO_LENGTH_DELIMITER = new byte[0];
 
-    private final BlockingDeque<T> queue = new LinkedBlockingDeque<>();
+    private final BlockingDeque<Object> queue = new LinkedBlockingDeque<>();
     private final byte[] chunkDelimiter;
     private final AtomicBoolean resumed = new AtomicBoolean(false);
     private final Object lock = new Object();
 
-    // the following flushing and touchingEntityStream variables are used in a synchronized block exclusively
+    // the following flushing, touchingEntityStream, writePossible and awaitingWritability variables are used
+    // in a synchronized block exclusively
     private boolean flushing = false;
     private boolean touchingEntityStream = false;
+    // the container notified the write listener while the queue was being flushed
+    private boolean writePossible = false;
+    // the queue flushing has been suspended until the container notifies the write listener
+    private boolean awaitingWritability = false;
 
     private volatile boolean closed = false;
+    private volatile NonBlockingOutput nonBlockingOutput;
+    private volatile IOException writeError;
 
     private volatile AsyncContext asyncContext;
 
@@ -184,6 +202,83 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         flushQueue();
     }
 
+    /**
+     * Write a chunk shared with other chunked outputs.
+     * <p>
+     * The shared chunk is serialized only once for all the chunked outputs with the same media type, generic type
+     * and entity annotations. See {@link SharedChunk} for details.
+     * </p>
+     *
+     * @param chunk a shared chunk to be written.
+     * @throws IOException if this response is closed or when encountered any problem during serializing or writing a chunk.
+     * @since 3.1.2
+     */
+    protected void writeShared(final SharedChunk<? extends T> chunk) throws IOException {
+        if (closed) {
+            throw new IOException(LocalizationMessages.CHUNKED_OUTPUT_CLOSED());
+        }
+
+        if (chunk != null) {
+            queue.add(chunk);
+        }
+
+        flushQueue();
+    }
+
+    /**
+     * Write a chunk asynchronously.
+     * <p>
+     * The returned stage is completed once the chunk has been written to the container. If the container supports
+     * non-blocking writes, the chunk stays queued while the client is not able to receive more data, so the producer
+     * should wait for the stage before writing further chunks to avoid buffering the whole stream in memory.
+     * Otherwise the chunk is written in a blocking manner, as if written by {@link #write(Object)}.
+     * </p>
+     *
+     * @param chunk a chunk instance to be written.
+     * @return completion stage completed when the chunk has been written, or completed exceptionally with
+     * an {@link IOException} if this response is closed or when encountered any problem during serializing
+     * or writing the chunk.
+     * @since 3.1.2
+     */
+    public CompletionStage<Void> writeAsync(final T chunk) {
+        return enqueue(chunk);
+    }
+
+    /**
+     * Write a chunk shared with other chunked outputs asynchronously.
+     *
+     * @param chunk a shared chunk to be written.
+     * @return completion stage completed when the chunk has been written.
+     * @see #writeAsync(Object)
+     * @see #writeShared(SharedChunk)
+     * @since 3.1.2
+     */
+    protected CompletionStage<Void> writeSharedAsync(final SharedChunk<? extends T> chunk) {
+        return enqueue(chunk);
+    }
+
+    private CompletionStage<Void> enqueue(final Object chunk) {
+        final CompletableFuture<Void> written = new CompletableFuture<>();
+        if (closed) {
+            written.completeExceptionally(new IOException(LocalizationMessages.CHUNKED_OUTPUT_CLOSED()));
+            return written;
+        }
+
+        if (chunk != null) {
+            queue.add(new PendingChunk(chunk, written));
+        } else {
+            written.complete(null);
+        }
+
+        try {
+            flushQueue();
+        } catch (final IOException | RuntimeException e) {
+            // no-op if the chunk has been written or failed already
+            written.completeExceptionally(e);
+        }
+        return written;
+    }
+
     protected void flushQueue() throws IOException {
         if (resumed.compareAndSet(false, true) && asyncContext != null) {
             asyncContext.resume(this);
@@ -199,7 +294,7 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                 @Override
                 public Void call() throws IOException {
                     boolean shouldClose;
-                    T t;
+                    Object t;
 
                     synchronized (lock) {
                         if (flushing) {
@@ -213,34 +308,66 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                         // undelivered)
                         shouldClose = closed;
                         t = queue.poll();
-                        if (t != null || shouldClose) {
-                            // no other thread is flushing this queue at the moment and it is not empty and/or we should close ->
-                            // set the flushing flag so that other threads know it is already being taken care of
-                            // and they don't have to bother
-                            flushing = true;
+                        if (t == null && !shouldClose) {
+                            return null;
                         }
+                        // no other thread is flushing this queue at the moment and it is not empty and/or we should close ->
+                        // set the flushing flag so that other threads know it is already being taken care of
+                        // and they don't have to bother
+                        flushing = true;
+                        awaitingWritability = false;
+                        writePossible = false;
                     }
 
-                    while (t != null) {
+                    final NonBlockingOutput output = nonBlockingOutput();
+                    while (true) {
+                        final IOException error = writeError;
+                        if (error != null) {
+                            connectionCallback.onDisconnect(asyncContext);
+                            failed(t, error);
+                            throw error;
+                        }
+
+                        if (output != null && !output.isReady()) {
+                            synchronized (lock) {
+                                if (t != null) {
+                                    queue.addFirst(t);
+                                }
+                                if (!writePossible) {
+                                    // the write listener resumes flushing once the client is able to receive more data
+                                    flushing = false;
+                                    awaitingWritability = true;
+                                    return null;
+                                }
+                                // the listener has been notified in the meantime, check again
+                                writePossible = false;
+                                shouldClose = closed;
+                                t = queue.poll();
+                            }
+                            continue;
+                        }
+
+                        if (t == null) {
+                            synchronized (lock) {
+                                shouldClose = closed;
+                                t = queue.poll();
+                                if (t == null) {
+                                    // nothing more to write, if closing, the finally clause will take care of closing
+                                    // the stream
+                                    flushing = shouldClose;
+                                    break;
+                                }
+                            }
+                            continue;
+                        }
+
                         try {
                             synchronized (lock) {
                                 touchingEntityStream = true;
                             }
 
                             final OutputStream origStream = responseContext.getEntityStream();
-                            final OutputStream writtenStream = requestContext.getWorkers().writeTo(
-                                    t,
-                                    t.getClass(),
-                                    getType(),
-                                    responseContext.getEntityAnnotations(),
-                                    responseContext.getMediaType(),
-                                    responseContext.getHeaders(),
-                                    requestContext.getPropertiesDelegate(),
-                                    origStream,
-                                    // The output stream stored in the response context for this chunked output
-                                    // is already intercepted as a whole (if there are any interceptors);
-                                    // no need to intercept the individual chunks.
-                                    Collections.<WriterInterceptor>emptyList());
+                            final OutputStream writtenStream = writeChunk(t, origStream);
 
                             //noinspection ArrayEquality
                             if (chunkDelimiter != ZERO_LENGTH_DELIMITER) {
@@ -257,18 +384,27 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                             }
                         } catch (final IOException ioe) {
                             connectionCallback.onDisconnect(asyncContext);
+                            failed(t, ioe);
                             throw ioe;
                         } catch (final MappableException mpe) {
                             if (mpe.getCause() instanceof IOException) {
                                 connectionCallback.onDisconnect(asyncContext);
                             }
+                            failed(t, mpe);
                             throw mpe;
+                        } catch (final RuntimeException re) {
+                            failed(t, re);
+                            throw re;
                         } finally {
                            synchronized (lock) {
                                touchingEntityStream = false;
                            }
                         }
 
+                        if (t instanceof PendingChunk) {
+                            ((PendingChunk) t).written.complete(null);
+                        }
+
                         t = queue.poll();
                         if (t == null) {
                             synchronized (lock) {
@@ -287,7 +423,10 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
                                     // if closing, we keep the "flushing" flag set, since no other thread needs to flush
                                     // this queue anymore - finally clause will take care of closing the stream
                                     flushing = shouldClose;
-                                    break;
+                                    if (!shouldClose || output == null) {
+                                        break;
+                                    }
+                                    // in the non-blocking mode, close the stream only once the written data have been sent
                                 }
                             }
                         }
@@ -300,8 +439,14 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
             // remember the exception (it will get rethrown from finally clause, once it does it's work)
             ex = e;
             onClose(e);
+            failQueued(e);
         } finally {
-            if (closed) {
+            final boolean deferred;
+            synchronized (lock) {
+                // the stream is closed once the write listener resumes flushing
+                deferred = ex == null && awaitingWritability;
+            }
+            if (closed && !deferred) {
                 try {
                     synchronized (lock) {
                         if (!touchingEntityStream) {
@@ -328,6 +473,70 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         }
     }
 
+    /**
+     * Get the non-blocking container output stream, switching it to the non-blocking mode first if possible.
+     *
+     * @return non-blocking container output stream or {@code null} if the chunks are written in a blocking manner.
+     */
+    private NonBlockingOutput nonBlockingOutput() {
+        if (nonBlockingOutput == null) {
+            final OutputStream containerStream = responseContext.getContainerStream();
+            // the container may refuse the listener until the response is suspended, try again with the next chunk
+            if (containerStream instanceof NonBlockingOutput
+                    && ((NonBlockingOutput) containerStream).setWriteListener(new ChunkWriteListener())) {
+                nonBlockingOutput = (NonBlockingOutput) containerStream;
+            }
+        }
+        return nonBlockingOutput;
+    }
+
+    private static void failed(final Object chunk, final Exception error) {
+        if (chunk instanceof PendingChunk) {
+            ((PendingChunk) chunk).written.completeExceptionally(error);
+        }
+    }
+
+    private void failQueued(final Exception error) {
+        Object chunk;
+        while ((chunk = queue.poll()) != null) {
+            failed(chunk, error);
+        }
+    }
+
+    private OutputStream writeChunk(final Object chunk, final OutputStream origStream) throws IOException {
+        Object entity = chunk instanceof PendingChunk ? ((PendingChunk) chunk).chunk : chunk;
+        if (entity instanceof SharedChunk) {
+            final SharedChunk<?> sharedChunk = (SharedChunk<?>) entity;
+            final byte[] bytes = sharedChunk.encode(
+                    requestContext.getWorkers(),
+                    getType(),
+                    responseContext.getEntityAnnotations(),
+                    responseContext.getMediaType(),
+                    responseContext.getHeaders(),
+                    requestContext.getPropertiesDelegate());
+            if (bytes != null) {
+                origStream.write(bytes);
+                return origStream;
+            }
+            // serialized for a different media type, generic type or annotations
+            entity = sharedChunk.getChunk();
+        }
+
+        return requestContext.getWorkers().writeTo(
+                entity,
+                entity.getClass(),
+                getType(),
+                responseContext.getEntityAnnotations(),
+                responseContext.getMediaType(),
+                responseContext.getHeaders(),
+                requestContext.getPropertiesDelegate(),
+                origStream,
+                // The output stream stored in the response context for this chunked output
+                // is already intercepted as a whole (if there are any interceptors);
+                // no need to intercept the individual chunks.
+                Collections.<WriterInterceptor>emptyList());
+    }
+
     /**
      * Close this response - it will be finalized and underlying connections will be closed
      * or made available for another response.
@@ -376,6 +585,61 @@ public class ChunkedOutput<T> extends GenericType<T> implements Closeable {
         return "ChunkedOutput<" + getType() + ">";
     }
 
+    /**
+     * Chunk written by {@link #writeAsync(Object)} or {@link #writeSharedAsync(SharedChunk)}.
+     */
+    private static final class PendingChunk {
+
+        private final Object chunk;
+        private final CompletableFuture<Void> written;
+
+        private PendingChunk(final Object chunk, final CompletableFuture<Void> written) {
+            this.chunk = chunk;
+            this.written = written;
+        }
+    }
+
+    /**
+     * Listener resuming the queue flushing once the container output stream can be written without blocking.
+     */
+    private final class ChunkWriteListener implements NonBlockingOutput.WriteListener {
+
+        @Override
+        public void onWritePossible() {
+            final boolean resume;
+            synchronized (lock) {
+                writePossible = true;
+                // a closed output has to be flushed only if closing waits for the listener
+                resume = !closed || awaitingWritability;
+            }
+            if (resume) {
+                flush();
+            }
+        }
+
+        @Override
+        public void onError(final Throwable error) {
+            final boolean resume;
+            synchronized (lock) {
+                writeError = error instanceof IOException ? (IOException) error : new IOException(error);
+                resume = !closed || awaitingWritability;
+                closed = true;
+            }
+            if (resume) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            try {
+                flushQueue();
+            } catch (final IOException | RuntimeException e) {
+                // the chunked output has been closed by now, the producer learns about the failure on the next write
+                LOGGER.log(Level.FINE, LocalizationMessages.ERROR_WRITING_RESPONSE_ENTITY_CHUNK(), e);
+            }
+        }
+    }
+
     /**
      * Set context used for writing chunks.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -26,12 +26,15 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.ext.MessageBodyWriter;
 
+import org.glassfish.jersey.message.StableWriteable;
+
 /**
  * Used for writing {@link ChunkedOutput}.
  *
  * @author Pavel Bucek
  * @see MessageBodyWriter
  */
+@StableWriteable
 public final class ChunkedResponseWriter implements MessageBodyWriter<ChunkedOutput<?>> {
 
     @Override
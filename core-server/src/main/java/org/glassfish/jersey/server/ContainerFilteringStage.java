@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,6 +17,8 @@
 package org.glassfish.jersey.server;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import jakarta.ws.rs.container.ContainerRequestFilter;
 import jakarta.ws.rs.container.ContainerResponseFilter;
@@ -37,14 +39,18 @@ import org.glassfish.jersey.server.monitoring.RequestEvent;
 /**
  * Container filtering stage responsible for execution of request and response filters
  * on each request-response message exchange.
+ * <p>
+ * Global filters are sorted once when the stage is created. Merged and sorted global and bound filters
+ * of a matched resource method are precomputed by its {@link org.glassfish.jersey.server.model.ResourceMethodInvoker}.
+ * </p>
  *
  * @author Marek Potociar
  * @author Martin Matula
  */
 class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingContext> {
 
-    private final Iterable<RankedProvider<ContainerRequestFilter>> requestFilters;
-    private final Iterable<RankedProvider<ContainerResponseFilter>> responseFilters;
+    private final List<ContainerRequestFilter> requestFilters;
+    private final List<ContainerResponseFilter> responseFilters;
 
     /**
      * Create a new container filtering stage specifying global request and response filters. This stage class
@@ -64,14 +70,23 @@ class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingCo
             Iterable<RankedProvider<ContainerRequestFilter>> requestFilters,
             Iterable<RankedProvider<ContainerResponseFilter>> responseFilters) {
 
-        this.requestFilters = requestFilters;
-        this.responseFilters = responseFilters;
+        this.requestFilters = sort(new RankedComparator<>(), requestFilters);
+        this.responseFilters = responseFilters == null
+                ? null
+                : sort(new RankedComparator<>(RankedComparator.Order.DESCENDING), responseFilters);
+    }
+
+    private static <T> List<T> sort(final RankedComparator<T> comparator, final Iterable<RankedProvider<T>> providers) {
+        final List<T> sorted = new ArrayList<>();
+        for (final T provider : Providers.sortRankedProviders(comparator, providers)) {
+            sorted.add(provider);
+        }
+        return sorted.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(sorted);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public Continuation<RequestProcessingContext> apply(RequestProcessingContext context) {
-        Iterable<ContainerRequestFilter> sortedRequestFilters;
+        final List<ContainerRequestFilter> sortedRequestFilters;
         final boolean postMatching = responseFilters == null;
 
         final ContainerRequest request = context.request();
@@ -79,12 +94,7 @@ class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingCo
         final TracingLogger tracingLogger = TracingLogger.getInstance(request);
         if (postMatching) {
             // post-matching
-            final ArrayList<Iterable<RankedProvider<ContainerRequestFilter>>> rankedProviders =
-                    new ArrayList<>(2);
-            rankedProviders.add(requestFilters);
-            rankedProviders.add(request.getRequestFilters());
-            sortedRequestFilters = Providers.mergeAndSortRankedProviders(
-                    new RankedComparator<ContainerRequestFilter>(), rankedProviders);
+            sortedRequestFilters = request.getSortedRequestFilters(requestFilters);
 
             context.monitoringEventBuilder().setContainerRequestFilters(sortedRequestFilters);
             context.triggerEvent(RequestEvent.Type.REQUEST_MATCHED);
@@ -93,11 +103,19 @@ class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingCo
             // pre-matching (response filter stage is pushed in pre-matching phase, so that if pre-matching filter
             // throws exception, response filters get still invoked)
             context.push(new ResponseFilterStage(context, responseFilters, tracingLogger));
-            sortedRequestFilters = Providers.sortRankedProviders(new RankedComparator<ContainerRequestFilter>(), requestFilters);
+            sortedRequestFilters = requestFilters;
         }
 
         final TracingLogger.Event summaryEvent =
                 (postMatching ? ServerTraceEvent.REQUEST_FILTER_SUMMARY : ServerTraceEvent.PRE_MATCH_SUMMARY);
+        if (sortedRequestFilters.isEmpty() && !tracingLogger.isLogEnabled(summaryEvent)) {
+            // fast path - nothing to filter or trace
+            if (postMatching) {
+                context.triggerEvent(RequestEvent.Type.REQUEST_FILTERED);
+            }
+            return Continuation.of(context, getDefaultNext());
+        }
+
         final long timestamp = tracingLogger.timestamp(summaryEvent);
         int processedCount = 0;
         try {
@@ -139,11 +157,11 @@ class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingCo
     private static class ResponseFilterStage extends AbstractChainableStage<ContainerResponse> {
         // TODO remove the field - processing context should be made available on the response chain directly.
         private final RequestProcessingContext processingContext;
-        private final Iterable<RankedProvider<ContainerResponseFilter>> filters;
+        private final List<ContainerResponseFilter> filters;
         private final TracingLogger tracingLogger;
 
         private ResponseFilterStage(final RequestProcessingContext processingContext,
-                                    final Iterable<RankedProvider<ContainerResponseFilter>> filters,
+                                    final List<ContainerResponseFilter> filters,
                                     final TracingLogger tracingLogger) {
             this.processingContext = processingContext;
             this.filters = filters;
@@ -151,18 +169,19 @@ class ContainerFilteringStage extends AbstractChainableStage<RequestProcessingCo
         }
 
         @Override
-        @SuppressWarnings("unchecked")
         public Continuation<ContainerResponse> apply(ContainerResponse responseContext) {
-            final ArrayList<Iterable<RankedProvider<ContainerResponseFilter>>> rankedProviders = new ArrayList<>(2);
-            rankedProviders.add(filters);
-            rankedProviders.add(responseContext.getRequestContext().getResponseFilters());
-            Iterable<ContainerResponseFilter> sortedResponseFilters = Providers.mergeAndSortRankedProviders(
-                    new RankedComparator<ContainerResponseFilter>(RankedComparator.Order.DESCENDING), rankedProviders);
-
             final ContainerRequest request = responseContext.getRequestContext();
+            final List<ContainerResponseFilter> sortedResponseFilters = request.getSortedResponseFilters(filters);
+
             processingContext.monitoringEventBuilder().setContainerResponseFilters(sortedResponseFilters);
             processingContext.triggerEvent(RequestEvent.Type.RESP_FILTERS_START);
 
+            if (sortedResponseFilters.isEmpty() && !tracingLogger.isLogEnabled(ServerTraceEvent.RESPONSE_FILTER_SUMMARY)) {
+                // fast path - nothing to filter or trace
+                processingContext.triggerEvent(RequestEvent.Type.RESP_FILTERS_FINISHED);
+                return Continuation.of(responseContext, getDefaultNext());
+            }
+
             final long timestamp = tracingLogger.timestamp(ServerTraceEvent.RESPONSE_FILTER_SUMMARY);
             int processedCount = 0;
             try {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.Collection;
 import java.util.Collections;
@@ -28,6 +29,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Flow;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -62,12 +64,14 @@ import org.glassfish.jersey.message.internal.InboundMessageContext;
 import org.glassfish.jersey.message.internal.LanguageTag;
 import org.glassfish.jersey.message.internal.MatchingEntityTag;
 import org.glassfish.jersey.message.internal.OutboundJaxrsResponse;
+import org.glassfish.jersey.message.internal.ReaderWriter;
 import org.glassfish.jersey.message.internal.TracingAwarePropertiesDelegate;
 import org.glassfish.jersey.message.internal.VariantSelector;
 import org.glassfish.jersey.model.internal.CommonConfig;
 import org.glassfish.jersey.model.internal.ComponentBag;
 import org.glassfish.jersey.model.internal.RankedProvider;
 import org.glassfish.jersey.process.Inflector;
+import org.glassfish.jersey.server.internal.EntityPublisher;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.internal.ProcessingProviders;
 import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
@@ -121,6 +125,8 @@ public class ContainerRequest extends InboundMessageContext
     private ContainerResponseWriter responseWriter;
     // True if the request is used in the response processing phase (for example in ContainerResponseFilter)
     private boolean inResponseProcessingPhase;
+    // Lazily created publisher of the request entity content
+    private EntityPublisher entityPublisher;
     // lazy PropertiesResolver
     private final LazyValue<PropertiesResolver> propertiesResolver = Values.lazy(
             (Value<PropertiesResolver>) () -> PropertiesResolver.create(getConfiguration(), getPropertiesDelegate())
@@ -290,6 +296,32 @@ public class ContainerRequest extends InboundMessageContext
         return super.readEntity(rawType, type, annotations, propertiesDelegate);
     }
 
+    /**
+     * Get a publisher of the raw content of the request entity stream.
+     * <p>
+     * If the I/O container supports non-blocking reading of the request entity (see
+     * {@link org.glassfish.jersey.server.spi.NonBlockingInput}), the content is published as it arrives without blocking
+     * any thread while waiting for the data. The publisher is meant to be used by resource methods that
+     * {@link jakarta.ws.rs.container.Suspended suspend} the request, some containers (e.g. Servlet) allow the non-blocking
+     * reading only for suspended requests. If the non-blocking reading is not possible, the entity stream is read
+     * in a blocking manner by the thread requesting the content from the subscription.
+     * </p>
+     * <p>
+     * The content is published as read from the {@link #getEntityStream() entity stream}, i.e. reader interceptors
+     * (e.g. content decoding) are not applied. The publisher supports a single subscriber and the entity must not be read
+     * by other means at the same time. The published buffers are not reused and may be retained by the subscriber.
+     * </p>
+     *
+     * @return publisher of the request entity content.
+     * @since 3.1.2
+     */
+    public Flow.Publisher<ByteBuffer> getEntityPublisher() {
+        if (entityPublisher == null) {
+            entityPublisher = new EntityPublisher(getEntityStream(), ReaderWriter.BUFFER_SIZE);
+        }
+        return entityPublisher;
+    }
+
     @Override
     public <T> T resolveProperty(final String name, final Class<T> type) {
         return propertiesResolver.get().resolveProperty(name, type);
@@ -372,6 +404,36 @@ public class ContainerRequest extends InboundMessageContext
                 ? ((ResourceMethodInvoker) inflector).getResponseFilters() : null);
     }
 
+    /**
+     * Get all global and bound request filters applicable to the matched resource method, sorted in the order
+     * of execution.
+     *
+     * @param globalFilters sorted global request filters returned if no resource method matched.
+     * @return sorted request filters applicable to the matched inflector or {@code globalFilters} if no resource
+     * method matched.
+     */
+    List<ContainerRequestFilter> getSortedRequestFilters(final List<ContainerRequestFilter> globalFilters) {
+        final Inflector<RequestProcessingContext, ContainerResponse> inflector = getInflector();
+        return inflector instanceof ResourceMethodInvoker
+                ? ((ResourceMethodInvoker) inflector).getSortedRequestFilters()
+                : globalFilters;
+    }
+
+    /**
+     * Get all global and bound response filters applicable to the matched resource method, sorted in the order
+     * of execution.
+     *
+     * @param globalFilters sorted global response filters returned if no resource method matched.
+     * @return sorted response filters applicable to the matched inflector or {@code globalFilters} if no resource
+     * method matched.
+     */
+    List<ContainerResponseFilter> getSortedResponseFilters(final List<ContainerResponseFilter> globalFilters) {
+        final Inflector<RequestProcessingContext, ContainerResponse> inflector = getInflector();
+        return inflector instanceof ResourceMethodInvoker
+                ? ((ResourceMethodInvoker) inflector).getSortedResponseFilters()
+                : globalFilters;
+    }
+
     /**
      * Get all reader interceptors applicable to this request.
      * This is populated once the right resource method is matched.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -54,6 +54,7 @@ public class ContainerResponse implements ContainerResponseContext {
     private final OutboundMessageContext messageContext;
     private boolean mappedFromException;
     private boolean closed;
+    private OutputStream containerStream;
 
     /**
      * Create a new Jersey container response context.
@@ -349,6 +350,25 @@ public class ContainerResponse implements ContainerResponseContext {
         messageContext.setStreamProvider(streamProvider);
     }
 
+    /**
+     * Get the entity output stream returned by the {@link org.glassfish.jersey.server.spi.ContainerResponseWriter container
+     * response writer}, i.e. the stream underlying the {@link #getEntityStream() entity stream}.
+     *
+     * @return container output stream or {@code null} if the response has not been committed yet.
+     */
+    OutputStream getContainerStream() {
+        return containerStream;
+    }
+
+    /**
+     * Set the entity output stream returned by the container response writer.
+     *
+     * @param containerStream container output stream.
+     */
+    void setContainerStream(final OutputStream containerStream) {
+        this.containerStream = containerStream;
+    }
+
     /**
      * Enable a buffering of serialized entity. The buffering will be configured from configuration. The property
      * determining the size of the buffer is {@link org.glassfish.jersey.CommonProperties#OUTBOUND_CONTENT_LENGTH_BUFFER}.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,6 +22,7 @@ import java.security.AccessController;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Map;
@@ -58,6 +59,7 @@ import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.internal.scanning.AnnotationAcceptingListener;
 import org.glassfish.jersey.server.internal.scanning.FilesScanner;
 import org.glassfish.jersey.server.internal.scanning.PackageNamesScanner;
+import org.glassfish.jersey.server.internal.scanning.ResourceIndex;
 import org.glassfish.jersey.server.model.Resource;
 import org.glassfish.jersey.uri.UriComponent;
 
@@ -909,21 +911,45 @@ public class ResourceConfig extends Application implements Configurable<Resource
 
         final AnnotationAcceptingListener parentAfl =
                 AnnotationAcceptingListener.newJaxrsResourceAndProviderListener(_state.getClassLoader());
+        final Map<ClassLoader, Optional<ResourceIndex>> indexes = new HashMap<>();
 
         for (final ResourceFinder resourceFinder : rfs) {
             AnnotationAcceptingListener afl = parentAfl;
+            ResourceFinder finder = resourceFinder;
 
             if (resourceFinder instanceof PackageNamesScanner) {
-                final ClassLoader classLoader = ((PackageNamesScanner) resourceFinder).getClassloader();
+                final PackageNamesScanner scanner = (PackageNamesScanner) resourceFinder;
+                final ClassLoader classLoader = scanner.getClassloader();
+
+                // Use the build-time index for the packages it covers and scan the rest.
+                final ResourceIndex index = getResourceIndex(indexes, classLoader);
+                final Set<String> indexedPackages = index == null
+                        ? Collections.emptySet()
+                        : index.getPackages(scanner.getPackages(), scanner.isRecursive());
+                if (!indexedPackages.isEmpty()) {
+                    result.addAll(index.getClasses(indexedPackages.toArray(new String[0]), false, classLoader));
+
+                    // nested packages may be missing in the index, the recursive scanning only skips the indexed ones
+                    final String[] packages = scanner.isRecursive()
+                            ? scanner.getPackages()
+                            : Arrays.stream(scanner.getPackages())
+                                    .filter(p -> !indexedPackages.contains(p))
+                                    .toArray(String[]::new);
+                    if (packages.length == 0) {
+                        continue;
+                    }
+                    finder = new PackageNamesScanner(classLoader, packages, scanner.isRecursive(), indexedPackages);
+                }
+
                 if (!getClassLoader().equals(classLoader)) {
                     afl = AnnotationAcceptingListener.newJaxrsResourceAndProviderListener(classLoader);
                 }
             }
 
-            while (resourceFinder.hasNext()) {
-                final String next = resourceFinder.next();
+            while (finder.hasNext()) {
+                final String next = finder.next();
                 if (afl.accept(next)) {
-                    final InputStream in = resourceFinder.open();
+                    final InputStream in = finder.open();
                     try {
                         afl.process(next, in);
                     } catch (final IOException e) {
@@ -947,6 +973,23 @@ public class ResourceConfig extends Application implements Configurable<Resource
         return result;
     }
 
+    private ResourceIndex getResourceIndex(final Map<ClassLoader, Optional<ResourceIndex>> indexes,
+                                           final ClassLoader classLoader) {
+        if (!PropertiesHelper.isProperty(getProperty(ServerProperties.PROVIDER_SCANNING_INDEX_ENABLED))
+                || ReflectionHelper.getOsgiRegistryInstance() != null) {
+            return null;
+        }
+
+        return indexes.computeIfAbsent(classLoader, loader -> {
+            try {
+                return Optional.ofNullable(ResourceIndex.load(loader));
+            } catch (final IOException e) {
+                LOGGER.log(Level.WARNING, LocalizationMessages.RESOURCE_CONFIG_UNABLE_TO_PROCESS(ResourceIndex.LOCATION), e);
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
     private String[] parsePropertyValue(final String propertyName) {
         String[] classNames = null;
         final Object o = state.getProperties().get(propertyName);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,10 +16,13 @@
 
 package org.glassfish.jersey.server;
 
+import jakarta.ws.rs.RuntimeType;
+
 import org.glassfish.jersey.internal.BootstrapBag;
 import org.glassfish.jersey.internal.inject.Bindings;
 import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.internal.inject.InstanceBinding;
+import org.glassfish.jersey.internal.util.VirtualThreads;
 import org.glassfish.jersey.model.internal.ComponentBag;
 import org.glassfish.jersey.model.internal.ManagedObjectsFinalizer;
 import org.glassfish.jersey.process.internal.AbstractExecutorProvidersConfigurator;
@@ -27,6 +30,7 @@ import org.glassfish.jersey.spi.ExecutorServiceProvider;
 import org.glassfish.jersey.spi.ScheduledExecutorServiceProvider;
 import org.glassfish.jersey.spi.ScheduledThreadPoolExecutorProvider;
 import org.glassfish.jersey.spi.ThreadPoolExecutorProvider;
+import org.glassfish.jersey.spi.VirtualThreadExecutorProvider;
 
 /**
  * Configurator which initializes and register {@link org.glassfish.jersey.spi.ExecutorServiceProvider} and
@@ -50,7 +54,10 @@ class ServerExecutorProvidersConfigurator extends AbstractExecutorProvidersConfi
                 .qualifiedBy(BackgroundSchedulerLiteral.INSTANCE);
         injectionManager.register(schedulerBinding);
 
-        ExecutorServiceProvider defaultAsyncExecutorProvider = new DefaultManagedAsyncExecutorProvider();
+        ExecutorServiceProvider defaultAsyncExecutorProvider =
+                VirtualThreads.isEnabled(runtimeConfig.getProperties(), RuntimeType.SERVER)
+                        ? new DefaultManagedAsyncVirtualExecutorProvider()
+                        : new DefaultManagedAsyncExecutorProvider();
         InstanceBinding<ExecutorServiceProvider> executorBinding = Bindings
                 .service(defaultAsyncExecutorProvider)
                 .to(ExecutorServiceProvider.class);
@@ -90,4 +97,19 @@ class ServerExecutorProvidersConfigurator extends AbstractExecutorProvidersConfi
             super("jersey-server-managed-async-executor");
         }
     }
+
+    /**
+     * Default {@link ExecutorServiceProvider} used on the server side for managed asynchronous request processing
+     * when the {@link ServerProperties#THREADS_USE_VIRTUAL virtual threads} are enabled.
+     */
+    @ManagedAsyncExecutor
+    private static class DefaultManagedAsyncVirtualExecutorProvider extends VirtualThreadExecutorProvider {
+
+        /**
+         * Create new instance for the default managed async virtual thread executor provider.
+         */
+        public DefaultManagedAsyncVirtualExecutorProvider() {
+            super("jersey-server-managed-async-executor");
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -85,6 +85,33 @@ public final class ServerProperties {
      */
     public static final String PROVIDER_SCANNING_RECURSIVE = "jersey.config.server.provider.scanning.recursive";
 
+    /**
+     * If {@code true}, the {@link #PROVIDER_PACKAGES package scanning} uses the resource index generated at build time
+     * by the {@link org.glassfish.jersey.server.index.ResourceIndexProcessor resource index annotation processor}
+     * instead of reading all the class files in the scanned packages, if such an index is present on the class-path.
+     * <p>
+     * The decision is made per package: for a package containing an indexed class, only the indexed classes
+     * are considered, the other packages (including nested packages in the recursive mode) are scanned. All
+     * the application archives contributing classes to an indexed package should therefore be compiled with
+     * the annotation processor enabled. The index files of all the class-path roots visible to the class loader are
+     * merged, the index is thus only used when the property is enabled explicitly.
+     * </p>
+     * <p>
+     * The property value MUST be an instance of {@code Boolean} type or a {@code String} convertible
+     * to {@code Boolean} type.
+     * </p>
+     * <p>
+     * A default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #PROVIDER_PACKAGES
+     * @since 3.1.2
+     */
+    public static final String PROVIDER_SCANNING_INDEX_ENABLED = "jersey.config.server.provider.scanning.index.enabled";
+
     /**
      * Defines class-path that contains application-specific resources and
      * providers.
@@ -508,6 +535,44 @@ public final class ServerProperties {
      */
     public static final String MONITORING_STATISTICS_MBEANS_ENABLED = "jersey.config.server.monitoring.statistics.mbeans.enabled";
 
+    /**
+     * If {@code true} then Jersey will profile a sample of requests and record durations of their processing stages
+     * into latency histograms per resource method.
+     *
+     * The histograms are available from
+     * {@link org.glassfish.jersey.server.monitoring.MonitoringStatistics#getProfilingStatistics()} and exposed
+     * as an MBean if {@link #MONITORING_STATISTICS_MBEANS_ENABLED monitoring MBeans} are enabled. Profiling is based on
+     * monitoring statistics, therefore if this property is {@code true} the calculation of monitoring statistics is
+     * automatically enabled (the same result as setting the property {@link #MONITORING_STATISTICS_ENABLED}
+     * to {@code true}). The fraction of profiled requests is defined by {@link #MONITORING_PROFILING_SAMPLING_RATE}.
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see org.glassfish.jersey.server.monitoring.ProfilingStatistics
+     * @since 3.1.2
+     */
+    public static final String MONITORING_PROFILING_ENABLED = "jersey.config.server.monitoring.profiling.enabled";
+
+    /**
+     * Fraction of requests profiled if {@link #MONITORING_PROFILING_ENABLED profiling} is enabled. The value is expected
+     * to be between {@code 0.0} (no request is profiled) and {@code 1.0} (every request is profiled). Requests
+     * that are not profiled pass through the profiler at a negligible cost.
+     * <p>
+     * Type of the property value is {@code double}. The default value is {@code 0.01}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #MONITORING_PROFILING_ENABLED
+     * @since 3.1.2
+     */
+    public static final String MONITORING_PROFILING_SAMPLING_RATE = "jersey.config.server.monitoring.profiling.samplingRate";
+
     /**
      * Interval (in {@code ms}) indicating how often will be monitoring statistics refreshed and
      * {@link org.glassfish.jersey.server.monitoring.MonitoringStatisticsListener#onStatistics(org.glassfish.jersey.server.monitoring.MonitoringStatistics) onStatistics}
@@ -558,6 +623,8 @@ public final class ServerProperties {
      *     <li>{@code OFF} - tracing support is disabled.</li>
      *     <li>{@code ON_DEMAND} - tracing support is in 'stand by' mode, it is enabled on demand by existence of request HTTP header</li>
      *     <li>{@code ALL} - tracing support is enabled for every request.</li>
+     *     <li>{@code SAMPLED} - tracing support is enabled for a sample of requests (see {@link #TRACING_SAMPLING_RATE})
+     *     and on demand.</li>
      * </ul>
      * Type of the property value is {@code String}. The default value is {@code "OFF"}.
      * </p>
@@ -593,6 +660,74 @@ public final class ServerProperties {
      */
     public static final String TRACING_THRESHOLD = "jersey.config.server.tracing.threshold";
 
+    /**
+     * If {@code true}, the tracing support records the tracing events into a preallocated per-request buffer and
+     * formats the messages only once the request has been processed, instead of formatting every event when it is
+     * logged. The messages are returned in the response headers if requested by the client (or if {@link #TRACING}
+     * is {@code ALL}), logged by the JDK tracing loggers if loggable and appended to {@link #TRACING_EXPORT_FILE}
+     * if set.
+     * <p>
+     * Type of the property value is {@code boolean}. The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #TRACING
+     * @since 3.1.2
+     */
+    public static final String TRACING_STRUCTURED = "jersey.config.server.tracing.structured";
+
+    /**
+     * Maximal number of tracing events recorded per request by the {@link #TRACING_STRUCTURED structured tracing}.
+     * Once exceeded, the oldest events of the request are overwritten.
+     * <p>
+     * Type of the property value is {@code int}. The default value is {@value #TRACING_DEFAULT_BUFFER_SIZE}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 3.1.2
+     */
+    public static final String TRACING_BUFFER_SIZE = "jersey.config.server.tracing.bufferSize";
+
+    /**
+     * The default maximal number ({@value}) of tracing events recorded per request.
+     *
+     * @since 3.1.2
+     */
+    public static final int TRACING_DEFAULT_BUFFER_SIZE = 128;
+
+    /**
+     * Fraction of requests traced if {@link #TRACING} is {@code SAMPLED}. The value is expected to be between
+     * {@code 0.0} (no request is sampled) and {@code 1.0} (every request is traced).
+     * <p>
+     * Type of the property value is {@code double}. The default value is {@code 0.01}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @see #TRACING
+     * @since 3.1.2
+     */
+    public static final String TRACING_SAMPLING_RATE = "jersey.config.server.tracing.samplingRate";
+
+    /**
+     * Path of a file the {@link #TRACING_STRUCTURED structured tracing} appends the messages of every traced request to.
+     * The messages of a request are separated by an empty line.
+     * <p>
+     * Type of the property value is {@code String}. There is no default value.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 3.1.2
+     */
+    public static final String TRACING_EXPORT_FILE = "jersey.config.server.tracing.exportFile";
+
     /**
      * Whenever response status is {@code 4xx} or {@code 5xx} it is possible to choose between {@code sendError} or
      * {@code setStatus} on container specific {@code Response} implementation. E.g. on servlet container Jersey
@@ -765,6 +900,43 @@ public final class ServerProperties {
     public static final String EMPTY_REQUEST_MEDIA_TYPE_MATCHES_ANY_CONSUMES =
             "jersey.config.server.empty.request.media.matches.any.consumes";
 
+    /**
+     * If {@code true}, the request path matching routers select the candidate resources using a prefix trie built
+     * from the literal (non-template) prefixes of the resource paths instead of matching the request path against
+     * the regular expressions of all the resources one after another.
+     * <p>
+     * The routing result is the same in both modes, i.e. the JAX-RS matching order of the resources is kept. The trie
+     * routing reduces the cost of the request matching for applications with a large number of resources on the same
+     * level of the resource tree.
+     * </p>
+     * <p>
+     * The default value is {@code false}. The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     * @since 3.1.2
+     */
+    public static final String TRIE_ROUTING_ENABLED = "jersey.config.server.routing.trie.enabled";
+
+    /**
+     * If {@code true}, the {@link ManagedAsyncExecutor managed asynchronous executor} (used for the
+     * {@link ManagedAsync @ManagedAsync} resource methods) runs each task on a new virtual thread instead of a pooled
+     * platform thread. The JDK HTTP Server, Grizzly and Netty containers then process the requests on virtual threads
+     * as well.
+     * <p>
+     * The virtual threads require JDK 21 or newer. On an older JDK the property is ignored.
+     * </p>
+     * <p>
+     * The default value is {@code false}. The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     * <p>
+     * This constant is an alias for {@link CommonProperties#THREADS_USE_VIRTUAL_SERVER}
+     * </p>
+     *
+     * @see org.glassfish.jersey.CommonProperties#THREADS_USE_VIRTUAL
+     * @since 3.1.2
+     */
+    @PropertyAlias
+    public static final String THREADS_USE_VIRTUAL = CommonProperties.THREADS_USE_VIRTUAL_SERVER;
+
     /**
      * Defines whether to allow privileged ports (0-1023) to be used to start the {@link WebServer} implementation
      * to be chosen from the unused ports when the {@link jakarta.ws.rs.SeBootstrap.Configuration#PORT} is set to {@code -1}
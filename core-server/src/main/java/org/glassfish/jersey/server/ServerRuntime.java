@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -120,6 +120,7 @@ public class ServerRuntime {
 
     private final TracingConfig tracingConfig;
     private final TracingLogger.Level tracingThreshold;
+    private final TracingUtils.Options tracingOptions;
 
     private final boolean processResponseErrors;
 
@@ -184,6 +185,7 @@ public class ServerRuntime {
 
         this.tracingConfig = TracingUtils.getTracingConfig(configuration);
         this.tracingThreshold = TracingUtils.getTracingThreshold(configuration);
+        this.tracingOptions = TracingUtils.getTracingOptions(configuration);
 
         this.processResponseErrors = PropertiesHelper.isProperty(
                 configuration.getProperty(ServerProperties.PROCESSING_RESPONSE_ERRORS_ENABLED));
@@ -203,7 +205,7 @@ public class ServerRuntime {
      * @param request container request to be processed.
      */
     public void process(final ContainerRequest request) {
-        TracingUtils.initTracingSupport(tracingConfig, tracingThreshold, request);
+        TracingUtils.initTracingSupport(tracingConfig, tracingThreshold, tracingOptions, request);
         TracingUtils.logStart(request);
 
         final UriRoutingContext routingContext = request.getUriRoutingContext();
@@ -665,7 +667,11 @@ public class ServerRuntime {
                                     response.getRequestContext(), runtime.rfc7231LocationHeaderRelativeUriResolution);
                         }
                         final OutputStream outputStream = writer.writeResponseStatusAndHeaders(contentLength, response);
-                        return isHead ? null : outputStream;
+                        if (isHead) {
+                            return null;
+                        }
+                        response.setContainerStream(outputStream);
+                        return outputStream;
                     }
                 });
 
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.WriterInterceptor;
+
+import org.glassfish.jersey.internal.PropertiesDelegate;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+
+/**
+ * Chunk shared by multiple {@link ChunkedOutput} instances, that is serialized only once.
+ * <p>
+ * The first chunked output that writes the shared chunk serializes it using its message body writer, media type,
+ * generic type and entity annotations into an immutable byte array. The chunked outputs with the same media type,
+ * generic type and entity annotations write the shared bytes without invoking the message body writer again. The
+ * chunked outputs that differ serialize the chunk themselves, as if the chunk was not shared.
+ * </p>
+ * <p>
+ * Any changes of the response headers made by the message body writer during the shared serialization are not
+ * propagated to the response of any chunked output.
+ * </p>
+ *
+ * @param <T> chunk type.
+ * @see Broadcaster#Broadcaster(boolean)
+ * @since 3.1.2
+ */
+public final class SharedChunk<T> {
+
+    private final T chunk;
+    private final Statistics statistics;
+    private final Object lock = new Object();
+
+    private volatile Encoded encoded;
+
+    /**
+     * Create new shared chunk.
+     *
+     * @param chunk      chunk to be shared. Must not be {@code null}.
+     * @param statistics statistics to be updated by the chunked outputs writing the shared chunk.
+     *                   Must not be {@code null}.
+     */
+    public SharedChunk(final T chunk, final Statistics statistics) {
+        this.chunk = Objects.requireNonNull(chunk);
+        this.statistics = Objects.requireNonNull(statistics);
+    }
+
+    /**
+     * Get the shared chunk.
+     *
+     * @return shared chunk instance.
+     */
+    public T getChunk() {
+        return chunk;
+    }
+
+    /**
+     * Get the serialized chunk. The chunk is serialized when the method is invoked for the first time.
+     *
+     * @param workers            message body workers.
+     * @param genericType        generic type of the chunked output.
+     * @param annotations        entity annotations of the chunked output response.
+     * @param mediaType          media type of the chunked output response.
+     * @param headers            headers of the chunked output response.
+     * @param propertiesDelegate request properties delegate.
+     * @return serialized chunk or {@code null} in case the chunk has been serialized for a different media type,
+     * generic type or entity annotations and needs to be serialized by the calling chunked output.
+     * @throws IOException in case the serialization failed.
+     */
+    byte[] encode(final MessageBodyWorkers workers,
+                  final Type genericType,
+                  final Annotation[] annotations,
+                  final MediaType mediaType,
+                  final MultivaluedMap<String, Object> headers,
+                  final PropertiesDelegate propertiesDelegate) throws IOException {
+        Encoded current = encoded;
+        if (current == null) {
+            synchronized (lock) {
+                current = encoded;
+                if (current == null) {
+                    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    workers.writeTo(chunk,
+                            chunk.getClass(),
+                            genericType,
+                            annotations,
+                            mediaType,
+                            new MultivaluedHashMap<>(headers),
+                            propertiesDelegate,
+                            bytes,
+                            Collections.<WriterInterceptor>emptyList()).flush();
+
+                    current = new Encoded(genericType, annotations, mediaType, bytes.toByteArray());
+                    encoded = current;
+                    statistics.encodedChunks.incrementAndGet();
+                }
+            }
+        }
+
+        if (current.matches(genericType, annotations, mediaType)) {
+            statistics.sharedWrites.incrementAndGet();
+            return current.bytes;
+        }
+        statistics.outputWrites.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Chunk serialized for a particular media type, generic type and entity annotations.
+     */
+    private static final class Encoded {
+
+        private final Type genericType;
+        private final Annotation[] annotations;
+        private final MediaType mediaType;
+        private final byte[] bytes;
+
+        private Encoded(final Type genericType, final Annotation[] annotations, final MediaType mediaType,
+                        final byte[] bytes) {
+            this.genericType = genericType;
+            this.annotations = annotations;
+            this.mediaType = mediaType;
+            this.bytes = bytes;
+        }
+
+        private boolean matches(final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
+            return Objects.equals(this.mediaType, mediaType)
+                    && Objects.equals(this.genericType, genericType)
+                    && (this.annotations == annotations || Arrays.equals(this.annotations, annotations));
+        }
+    }
+
+    /**
+     * Statistics of the shared chunks writes.
+     */
+    public static final class Statistics {
+
+        private final AtomicLong encodedChunks = new AtomicLong();
+        private final AtomicLong sharedWrites = new AtomicLong();
+        private final AtomicLong outputWrites = new AtomicLong();
+
+        /**
+         * Get the number of the shared chunks serialized once for all the chunked outputs.
+         *
+         * @return number of the serialized shared chunks.
+         */
+        public long getEncodedChunkCount() {
+            return encodedChunks.get();
+        }
+
+        /**
+         * Get the number of writes of the already serialized shared chunks to the chunked outputs.
+         *
+         * @return number of shared chunk writes that did not invoke the message body writer.
+         */
+        public long getSharedWriteCount() {
+            return sharedWrites.get();
+        }
+
+        /**
+         * Get the number of writes of the shared chunks that had to be serialized by the chunked output itself because
+         * of a different media type, generic type or entity annotations.
+         *
+         * @return number of per-output serializations of shared chunks.
+         */
+        public long getOutputWriteCount() {
+            return outputWrites.get();
+        }
+
+        @Override
+        public String toString() {
+            return "SharedChunk.Statistics{encodedChunks=" + encodedChunks
+                    + ", sharedWrites=" + sharedWrites
+                    + ", outputWrites=" + outputWrites + '}';
+        }
+    }
+}
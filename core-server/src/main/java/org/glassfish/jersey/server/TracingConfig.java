@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -35,5 +35,14 @@ public enum TracingConfig {
     /**
      * Tracing support is enabled for every request.
      */
-    ALL
+    ALL,
+    /**
+     * Tracing support is enabled for a random sample of requests given by
+     * {@link org.glassfish.jersey.server.ServerProperties#TRACING_SAMPLING_RATE} and on demand as with {@link #ON_DEMAND}.
+     * The messages of sampled requests are not returned in the response headers, they are logged or exported
+     * by the {@link org.glassfish.jersey.server.ServerProperties#TRACING_STRUCTURED structured tracing} only.
+     *
+     * @since 3.1.2
+     */
+    SAMPLED
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.message.internal.TracingLogger;
+import org.glassfish.jersey.server.internal.LocalizationMessages;
+
+/**
+ * Appends the messages of structured tracing loggers to a file.
+ * <p>
+ * The file is opened for every exported request so that it can be rotated or removed while the application runs.
+ * Tracing is expected to be sampled, the cost of opening the file is therefore paid for a fraction of requests only.
+ * </p>
+ */
+final class TracingFileExporter implements TracingLogger.Exporter {
+
+    private static final Logger LOGGER = Logger.getLogger(TracingFileExporter.class.getName());
+
+    private final Path file;
+    private final Object lock = new Object();
+    private volatile boolean failureLogged;
+
+    /**
+     * Create new exporter.
+     *
+     * @param file file to append the messages to.
+     */
+    TracingFileExporter(final Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public void export(final String[] messages) {
+        final StringBuilder text = new StringBuilder();
+        for (final String message : messages) {
+            text.append(message).append(System.lineSeparator());
+        }
+        text.append(System.lineSeparator());
+
+        synchronized (lock) {
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                writer.append(text);
+            } catch (final IOException e) {
+                // log the first failure only, the tracing must not flood the log
+                if (!failureLogged) {
+                    failureLogged = true;
+                    LOGGER.log(Level.WARNING, LocalizationMessages.TRACING_EXPORT_FAILED(file), e);
+                }
+            }
+        }
+    }
+}
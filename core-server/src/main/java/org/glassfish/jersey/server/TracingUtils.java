@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,9 +16,11 @@
 
 package org.glassfish.jersey.server;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
 
 import jakarta.ws.rs.core.Configuration;
 import jakarta.ws.rs.core.HttpHeaders;
@@ -61,11 +63,38 @@ public final class TracingUtils {
     public static void initTracingSupport(TracingConfig type,
                                           TracingLogger.Level appThreshold,
                                           ContainerRequest containerRequest) {
+        initTracingSupport(type, appThreshold, Options.DEFAULT, containerRequest);
+    }
+
+    /**
+     * According to configuration/request header it initialize {@link TracingLogger} and put it to the request properties.
+     *
+     * @param type             application-wide tracing configuration type.
+     * @param appThreshold     application-wide tracing level threshold.
+     * @param options          application-wide structured tracing and sampling options.
+     * @param containerRequest request instance to get runtime properties to store {@link TracingLogger} instance to
+     *                         if tracing support is enabled for the request.
+     */
+    /*package*/
+    static void initTracingSupport(TracingConfig type,
+                                   TracingLogger.Level appThreshold,
+                                   Options options,
+                                   ContainerRequest containerRequest) {
+        final boolean onDemand = (type == TracingConfig.ON_DEMAND || type == TracingConfig.SAMPLED)
+                && (containerRequest.getHeaderString(TracingLogger.HEADER_ACCEPT) != null);
+        // sampled requests are traced silently, i.e. without the response headers
+        final boolean sampled = type == TracingConfig.SAMPLED && !onDemand && options.sample();
+
         final TracingLogger tracingLogger;
-        if (isTracingSupportEnabled(type, containerRequest)) {
-            tracingLogger = TracingLogger.create(
-                    getTracingThreshold(appThreshold, containerRequest),
-                    getTracingLoggerNameSuffix(containerRequest));
+        if (type == TracingConfig.ALL || onDemand || sampled) {
+            final TracingLogger.Level threshold = getTracingThreshold(appThreshold, containerRequest);
+            final String loggerNameSuffix = getTracingLoggerNameSuffix(containerRequest);
+            if (options.structured || sampled) {
+                tracingLogger = TracingLogger.createStructured(threshold, loggerNameSuffix, options.bufferSize,
+                        !sampled, options.exporter);
+            } else {
+                tracingLogger = TracingLogger.create(threshold, loggerNameSuffix);
+            }
         } else {
             tracingLogger = TracingLogger.empty();
         }
@@ -105,18 +134,6 @@ public final class TracingUtils {
         }
     }
 
-    /**
-     * Test if application and request settings enabled tracing support.
-     *
-     * @param type             application tracing configuration type.
-     * @param containerRequest request instance to check request headers.
-     * @return {@code true} if tracing support is switched on for the request.
-     */
-    private static boolean isTracingSupportEnabled(TracingConfig type, ContainerRequest containerRequest) {
-        return (type == TracingConfig.ALL)
-                || ((type == TracingConfig.ON_DEMAND) && (containerRequest.getHeaderString(TracingLogger.HEADER_ACCEPT) != null));
-    }
-
     /**
      * Return configuration type of tracing support according to application configuration.
      *
@@ -164,6 +181,28 @@ public final class TracingUtils {
         return (thresholdText == null) ? TracingLogger.DEFAULT_LEVEL : TracingLogger.Level.valueOf(thresholdText);
     }
 
+    /**
+     * Get application-wide structured tracing and sampling options.
+     *
+     * @param configuration application configuration.
+     * @return tracing options.
+     */
+    /*package*/
+    static Options getTracingOptions(Configuration configuration) {
+        final boolean structured = ServerProperties.getValue(configuration.getProperties(),
+                ServerProperties.TRACING_STRUCTURED, Boolean.FALSE, Boolean.class);
+        final int bufferSize = ServerProperties.getValue(configuration.getProperties(),
+                ServerProperties.TRACING_BUFFER_SIZE, ServerProperties.TRACING_DEFAULT_BUFFER_SIZE, Integer.class);
+        final Object rate = configuration.getProperty(ServerProperties.TRACING_SAMPLING_RATE);
+        final double samplingRate = (rate == null) ? Options.DEFAULT_SAMPLING_RATE
+                : (rate instanceof Number) ? ((Number) rate).doubleValue() : Double.parseDouble(rate.toString());
+        final String exportFile = ServerProperties.getValue(configuration.getProperties(),
+                ServerProperties.TRACING_EXPORT_FILE, String.class);
+
+        return new Options(structured, bufferSize, samplingRate,
+                exportFile != null ? new TracingFileExporter(Paths.get(exportFile)) : null);
+    }
+
     private static TracingLogger.Level getTracingThreshold(TracingLogger.Level appThreshold, ContainerRequest containerRequest) {
         final String thresholdText = containerRequest.getHeaderString(TracingLogger.HEADER_THRESHOLD);
 
@@ -178,4 +217,43 @@ public final class TracingUtils {
         }
     }
 
+    /**
+     * Application-wide structured tracing and sampling options.
+     */
+    static final class Options {
+
+        /**
+         * Default fraction of sampled requests.
+         */
+        static final double DEFAULT_SAMPLING_RATE = 0.01;
+
+        /**
+         * Options of the string-formatted tracing without sampling.
+         */
+        static final Options DEFAULT = new Options(false, ServerProperties.TRACING_DEFAULT_BUFFER_SIZE, 0, null);
+
+        private final boolean structured;
+        private final int bufferSize;
+        private final double samplingRate;
+        private final TracingLogger.Exporter exporter;
+
+        /**
+         * Create new options.
+         *
+         * @param structured   {@code true} if the structured tracing is used for requests traced on demand.
+         * @param bufferSize   maximal number of recorded events of structured tracing per request.
+         * @param samplingRate fraction of sampled requests.
+         * @param exporter     exporter of the messages of structured tracing, may be {@code null}.
+         */
+        Options(boolean structured, int bufferSize, double samplingRate, TracingLogger.Exporter exporter) {
+            this.structured = structured;
+            this.bufferSize = bufferSize;
+            this.samplingRate = samplingRate;
+            this.exporter = exporter;
+        }
+
+        private boolean sample() {
+            return samplingRate >= 1.0 || (samplingRate > 0 && ThreadLocalRandom.current().nextDouble() < samplingRate);
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,7 +16,9 @@
 
 package org.glassfish.jersey.server.filter;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -31,13 +33,17 @@ import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerResponseContext;
 import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.Configuration;
 import jakarta.ws.rs.core.HttpHeaders;
 
 import jakarta.annotation.Priority;
 import jakarta.inject.Inject;
 
 import org.glassfish.jersey.internal.inject.InjectionManager;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.message.MessageProperties;
 import org.glassfish.jersey.message.internal.HttpHeaderReader;
+import org.glassfish.jersey.message.internal.ReaderWriter;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.spi.ContentEncoder;
 
@@ -51,6 +57,10 @@ import org.glassfish.jersey.spi.ContentEncoder;
  * <p>
  *     The filter also ensures Accept-Encoding is added to the Vary header, for proper interaction with web caches.
  * </p>
+ * <p>
+ *     Entities of a known size smaller than {@link MessageProperties#ENCODING_MIN_SIZE} are not encoded
+ *     if the client accepts the identity encoding.
+ * </p>
  *
  * @author Martin Matula
  */
@@ -61,6 +71,10 @@ public final class EncodingFilter implements ContainerResponseFilter {
 
     @Inject
     private InjectionManager injectionManager;
+    @Inject
+    private Configuration config;
+    // minimal size of an encoded entity, -1 if not yet read from the configuration
+    private volatile long minSize = -1;
     // sorted set to keep the order same for different invocations of the app
     private volatile SortedSet<String> supportedEncodings = null;
 
@@ -119,6 +133,15 @@ public final class EncodingFilter implements ContainerResponseFilter {
                 }
             }
         }
+        // skip the encoding of small entities if the client accepts them unencoded
+        final long threshold = getMinSize();
+        if (threshold > 0 && isIdentityAcceptable(encodings)) {
+            final long size = getEntitySize(response, threshold);
+            if (size >= 0 && size < threshold) {
+                return;
+            }
+        }
+
         // sort based on quality parameter
         Collections.sort(encodings);
         // make sure IDENTITY_ENCODING is at the end (since it accepted if not explicitly forbidden
@@ -175,6 +198,68 @@ public final class EncodingFilter implements ContainerResponseFilter {
         }
     }
 
+    /**
+     * Check whether the identity encoding is acceptable, i.e. not explicitly forbidden by the client.
+     *
+     * @param encodings parsed encodings listed in the Accept-Encoding header.
+     * @return {@code true} if the entity may be sent unencoded.
+     */
+    private static boolean isIdentityAcceptable(List<ContentEncoding> encodings) {
+        boolean anyForbidden = false;
+        for (ContentEncoding encoding : encodings) {
+            if (IDENTITY_ENCODING.equals(encoding.name)) {
+                return encoding.q > 0;
+            }
+            if ("*".equals(encoding.name) && encoding.q == 0) {
+                anyForbidden = true;
+            }
+        }
+        return !anyForbidden;
+    }
+
+    /**
+     * Get the size of the response entity if it is known before the entity is written.
+     *
+     * @param response  container response.
+     * @param threshold minimal size of the encoded entities.
+     * @return entity size in bytes (a lower bound of the size if it is not smaller than the threshold),
+     *         or {@code -1} if not known.
+     */
+    private static long getEntitySize(ContainerResponseContext response, long threshold) {
+        final int length = response.getLength();
+        if (length >= 0) {
+            return length;
+        }
+        final Object entity = response.getEntity();
+        if (entity instanceof byte[]) {
+            return ((byte[]) entity).length;
+        } else if (entity instanceof String) {
+            final String string = (String) entity;
+            if (string.length() >= threshold) {
+                // each character is written as one byte at least
+                return string.length();
+            }
+            // a multi-byte charset may encode even a short string into more bytes than the threshold
+            return string.getBytes(ReaderWriter.getCharset(response.getMediaType())).length;
+        } else if (entity instanceof File) {
+            return ((File) entity).length();
+        } else if (entity instanceof ByteBuffer) {
+            return ((ByteBuffer) entity).remaining();
+        }
+        return -1;
+    }
+
+    private long getMinSize() {
+        // no need for synchronization - the value may be read twice, but it does not break anything
+        long size = minSize;
+        if (size < 0) {
+            size = config == null ? 0 : Math.max(0, PropertiesHelper.getValue(config.getProperties(),
+                    MessageProperties.ENCODING_MIN_SIZE, 0L, Long.class, null));
+            minSize = size;
+        }
+        return size;
+    }
+
     // representation of a single Content-Encoding header value
     private static class ContentEncoding implements Comparable<ContentEncoding> {
         public final String name;
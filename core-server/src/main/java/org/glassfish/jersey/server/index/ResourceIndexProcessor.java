@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.glassfish.jersey.server.internal.scanning.ResourceIndex;
+
+/**
+ * Annotation processor generating an index of the JAX-RS root resource and provider classes of the compiled
+ * application into {@value ResourceIndex#LOCATION}.
+ * <p>
+ * The index lists the public (and public static nested) classes annotated with {@link jakarta.ws.rs.Path @Path} or
+ * {@link jakarta.ws.rs.ext.Provider @Provider}. When the index is present on the class-path, the
+ * {@link org.glassfish.jersey.server.ServerProperties#PROVIDER_PACKAGES package scanning} loads the indexed classes
+ * instead of reading every class file in the scanned packages, see
+ * {@link org.glassfish.jersey.server.ServerProperties#PROVIDER_SCANNING_INDEX_ENABLED}.
+ * </p>
+ * <p>
+ * The processor is not registered as a service in order not to run in every compilation that has Jersey on
+ * the class-path. Enable it explicitly, e.g. using {@code -processor org.glassfish.jersey.server.index.ResourceIndexProcessor}
+ * or the {@code annotationProcessors} configuration of the {@code maven-compiler-plugin}. An index already present in
+ * the class output directory is merged, so that an incremental compilation of a subset of the sources keeps the entries
+ * of the classes that were not recompiled. The entries of the recompiled classes are replaced, the application should
+ * be fully rebuilt after removing an indexed class.
+ * </p>
+ *
+ * @since 3.1.2
+ */
+public class ResourceIndexProcessor extends AbstractProcessor {
+
+    private final Set<String> classNames = new HashSet<>();
+    private final Set<String> compiledNames = new HashSet<>();
+
+    private static final List<String> ANNOTATIONS = Arrays.asList("jakarta.ws.rs.Path", "jakarta.ws.rs.ext.Provider");
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // all the compilations are processed in order to drop the entries of recompiled classes no longer annotated
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            compiledNames.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+        }
+        for (final String annotationName : ANNOTATIONS) {
+            final TypeElement annotation = processingEnv.getElementUtils().getTypeElement(annotationName);
+            if (annotation == null) {
+                continue;
+            }
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement && isIndexable((TypeElement) element)) {
+                    classNames.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+                }
+            }
+        }
+
+        if (roundEnv.processingOver()) {
+            final Set<String> previous = readIndex();
+            if (previous != null || !classNames.isEmpty()) {
+                writeIndex(previous);
+            }
+        }
+        return false;
+    }
+
+    private static boolean isIndexable(final TypeElement type) {
+        // The same classes the class file scanning accepts, see AnnotationAcceptingListener.
+        if (!type.getModifiers().contains(Modifier.PUBLIC)) {
+            return false;
+        }
+        return !(type.getEnclosingElement() instanceof TypeElement) || type.getModifiers().contains(Modifier.STATIC);
+    }
+
+    private Set<String> readIndex() {
+        final Set<String> previous = new HashSet<>();
+        try (InputStream in = processingEnv.getFiler()
+                .getResource(StandardLocation.CLASS_OUTPUT, "", ResourceIndex.LOCATION).openInputStream()) {
+            ResourceIndex.read(in, previous);
+        } catch (final IOException | IllegalArgumentException e) {
+            // no index from a previous compilation
+            return null;
+        }
+        return previous;
+    }
+
+    private boolean isCompiled(final String className) {
+        // entries of the recompiled top-level classes and their nested classes are replaced by the current compilation
+        final int nested = className.indexOf('$');
+        return compiledNames.contains(nested < 0 ? className : className.substring(0, nested));
+    }
+
+    private void writeIndex(final Set<String> previous) {
+        final Set<String> index = new TreeSet<>(classNames);
+        if (previous != null) {
+            for (final String className : previous) {
+                if (!isCompiled(className)) {
+                    index.add(className);
+                }
+            }
+        }
+
+        try {
+            final FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", ResourceIndex.LOCATION);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                ResourceIndex.write(writer, index);
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Unable to write the Jersey resource index " + ResourceIndex.LOCATION + ": " + e.getMessage());
+        }
+    }
+}
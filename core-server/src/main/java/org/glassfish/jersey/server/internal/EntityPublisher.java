@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.glassfish.jersey.server.spi.NonBlockingInput;
+
+/**
+ * Publisher of the request entity content read from the request entity stream.
+ * <p>
+ * If the entity stream implements {@link NonBlockingInput} and the non-blocking mode can be enabled, the content is read
+ * only when available and published by the thread requesting it or by the container thread notifying the availability.
+ * Otherwise the stream is read in a blocking manner by the thread requesting the content. The publisher supports a single
+ * subscriber.
+ * </p>
+ */
+public final class EntityPublisher implements Flow.Publisher<ByteBuffer> {
+
+    private final InputStream stream;
+    private final int bufferSize;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * Create new entity publisher.
+     *
+     * @param stream     request entity stream.
+     * @param bufferSize maximal size of the published buffers.
+     */
+    public EntityPublisher(final InputStream stream, final int bufferSize) {
+        this.stream = stream;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException(LocalizationMessages.ERROR_ENTITY_PUBLISHER_SUBSCRIBED()));
+            return;
+        }
+
+        final EntitySubscription subscription = new EntitySubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.start();
+    }
+
+    private final class EntitySubscription implements Flow.Subscription, NonBlockingInput.ReadListener {
+
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile NonBlockingInput input;
+        private volatile boolean started;
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+        private boolean done;
+
+        private EntitySubscription(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void start() {
+            if (stream instanceof NonBlockingInput && ((NonBlockingInput) stream).setReadListener(this)) {
+                input = (NonBlockingInput) stream;
+            }
+            started = true;
+            drain();
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested " + n + " items, the number has to be positive.");
+            } else {
+                demand.getAndAccumulate(n, (current, requested) -> {
+                    final long sum = current + requested;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public void onDataAvailable() {
+            drain();
+        }
+
+        @Override
+        public void onError(final Throwable error) {
+            this.error = error;
+            drain();
+        }
+
+        /**
+         * Publish the content while there is demand and the content can be read. Signals to the subscriber are
+         * serialized by the work-in-progress counter.
+         */
+        private void drain() {
+            if (!started || wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                while (!done && !cancelled) {
+                    if (error != null) {
+                        done = true;
+                        subscriber.onError(error);
+                        break;
+                    }
+                    if (demand.get() == 0 || (input != null && !input.isReady())) {
+                        break;
+                    }
+
+                    final byte[] buffer = new byte[bufferSize];
+                    final int read;
+                    try {
+                        read = stream.read(buffer);
+                    } catch (final IOException e) {
+                        error = e;
+                        continue;
+                    }
+
+                    if (read < 0) {
+                        done = true;
+                        subscriber.onComplete();
+                    } else if (read > 0) {
+                        demand.decrementAndGet();
+                        subscriber.onNext(ByteBuffer.wrap(buffer, 0, read));
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
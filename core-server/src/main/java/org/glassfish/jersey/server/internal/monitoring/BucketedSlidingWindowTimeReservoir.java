@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.glassfish.jersey.server.internal.monitoring.core.TimeReservoir;
+import org.glassfish.jersey.server.internal.monitoring.core.UniformTimeSnapshot;
+
+/**
+ * Lock-free sliding window time reservoir that aggregates the recorded values into a ring of time buckets.
+ * <p/>
+ * The window is divided into {@link #BUCKET_COUNT} buckets, each of them keeping the count, sum, minimum and maximum
+ * of the values recorded in its period. Concurrent updates of a bucket are striped (see {@link LongAdder}), so no update
+ * is ever lost or blocked, and no object is allocated per update; a new bucket is allocated only once per bucket period
+ * when the ring rotates. The price is the granularity of the window edge &ndash; the snapshot covers the values
+ * recorded in the current bucket and in the preceding {@code BUCKET_COUNT - 1} buckets.
+ * <p/>
+ * A reservoir created with a zero window keeps a single bucket and provides exact statistics of all the values
+ * recorded since the reservoir was created.
+ */
+class BucketedSlidingWindowTimeReservoir implements TimeReservoir<Long> {
+
+    /**
+     * Number of buckets the window is divided into.
+     */
+    static final int BUCKET_COUNT = 60;
+
+    private final long window;
+    private final long bucketSize;
+    private final AtomicLong startTime;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    /**
+     * Create a new reservoir.
+     *
+     * @param window        The size of the window, {@code 0} for an unlimited window.
+     * @param windowUnit    The unit of {@code window}.
+     * @param startTime     The start time from which this reservoir calculates measurements.
+     * @param startTimeUnit The start time unit.
+     */
+    public BucketedSlidingWindowTimeReservoir(final long window,
+                                              final TimeUnit windowUnit,
+                                              final long startTime,
+                                              final TimeUnit startTimeUnit) {
+        this.window = windowUnit.toNanos(window);
+        this.bucketSize = Math.max(this.window / BUCKET_COUNT, 1);
+        this.startTime = new AtomicLong(startTimeUnit.toNanos(startTime));
+        this.buckets = new AtomicReferenceArray<>(this.window == 0 ? 1 : BUCKET_COUNT);
+    }
+
+    @Override
+    public void update(final Long value, final long time, final TimeUnit timeUnit) {
+        update(value.longValue(), time, timeUnit);
+    }
+
+    /**
+     * Adds a new recorded value to the reservoir bound to a given time.
+     * <p/>
+     * Values older than the window of this reservoir are ignored.
+     *
+     * @param value    a new recorded value
+     * @param time     The time the recorded value occurred at
+     * @param timeUnit Time unit of the provided time
+     */
+    void update(final long value, final long time, final TimeUnit timeUnit) {
+        final long nanos = timeUnit.toNanos(time);
+        conditionallyUpdateStartTime(nanos);
+
+        final long epoch = epoch(nanos);
+        final int slot = slot(epoch);
+
+        Bucket bucket = buckets.get(slot);
+        while (bucket == null || bucket.epoch < epoch) {
+            final Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(slot, bucket, fresh)) {
+                bucket = fresh;
+                break;
+            }
+            bucket = buckets.get(slot);
+        }
+
+        // a bucket of a newer epoch means the value is older than the window
+        if (bucket.epoch == epoch) {
+            bucket.add(value);
+        }
+    }
+
+    @Override
+    public UniformTimeSnapshot getSnapshot(final long time, final TimeUnit timeUnit) {
+        final long nanos = timeUnit.toNanos(time);
+
+        // values may have been recorded with a slightly newer time than the requested one
+        long baselineEpoch = epoch(nanos);
+        for (int i = 0; i < buckets.length(); i++) {
+            final Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.epoch > baselineEpoch) {
+                baselineEpoch = bucket.epoch;
+            }
+        }
+
+        long count = 0;
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < buckets.length(); i++) {
+            final Bucket bucket = buckets.get(i);
+            if (bucket == null || baselineEpoch - bucket.epoch >= buckets.length()) {
+                continue;
+            }
+            final long bucketCount = bucket.count.sum();
+            if (bucketCount == 0) {
+                continue;
+            }
+            count += bucketCount;
+            sum += bucket.sum.sum();
+            min = Math.min(min, bucket.min.get());
+            max = Math.max(max, bucket.max.get());
+        }
+
+        final long baseline = Math.max(nanos, window == 0 ? nanos : baselineEpoch * bucketSize);
+        final long measuredInterval = window == 0
+                ? baseline - startTime.get()
+                : Math.min(baseline - startTime.get(), window);
+
+        if (count == 0) {
+            return new UniformTimeSimpleSnapshot(0, 0, 0, 0, measuredInterval, TimeUnit.NANOSECONDS);
+        }
+        return new UniformTimeSimpleSnapshot(max, min, (double) sum / count, count, measuredInterval, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int size(final long time, final TimeUnit timeUnit) {
+        return (int) getSnapshot(time, timeUnit).size();
+    }
+
+    @Override
+    public long interval(final TimeUnit timeUnit) {
+        return timeUnit.convert(window, TimeUnit.NANOSECONDS);
+    }
+
+    private long epoch(final long nanos) {
+        return window == 0 ? 0 : Math.floorDiv(nanos, bucketSize);
+    }
+
+    private int slot(final long epoch) {
+        return (int) Math.floorMod(epoch, (long) buckets.length());
+    }
+
+    /**
+     * If a value comes with a time lower than the start time, extend the measured interval so that
+     * the calculation depending on it is not unnecessarily boosted.
+     */
+    private void conditionallyUpdateStartTime(final long nanos) {
+        long start = startTime.get();
+        while (nanos < start && !startTime.compareAndSet(start, nanos)) {
+            start = startTime.get();
+        }
+    }
+
+    /**
+     * Aggregate of the values recorded within one bucket period.
+     */
+    private static final class Bucket {
+
+        private final long epoch;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+        private Bucket(final long epoch) {
+            this.epoch = epoch;
+        }
+
+        private void add(final long value) {
+            sum.add(value);
+            long current = min.get();
+            while (value < current && !min.compareAndSet(current, value)) {
+                current = min.get();
+            }
+            current = max.get();
+            while (value > current && !max.compareAndSet(current, value)) {
+                current = max.get();
+            }
+            // the count goes last so that a bucket with a non-zero count always has its extremes set
+            count.increment();
+        }
+    }
+}
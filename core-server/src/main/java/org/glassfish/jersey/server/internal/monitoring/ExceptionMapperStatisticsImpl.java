@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,6 +19,9 @@ package org.glassfish.jersey.server.internal.monitoring;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.glassfish.jersey.server.monitoring.ExceptionMapperStatistics;
 
@@ -32,16 +35,18 @@ final class ExceptionMapperStatisticsImpl implements ExceptionMapperStatistics {
     /**
      * Builder of exception mapper statistics.
      * <p/>
-     * This builder does not need to be threadsafe since it's called only from the jersey-background-task-scheduler.
+     * Must be thread-safe.
      */
     static class Builder {
 
-        private Map<Class<?>, Long> exceptionMapperExecutionCountMap = new HashMap<>();
-        private long successfulMappings;
-        private long unsuccessfulMappings;
-        private long totalMappings;
+        private final ConcurrentMap<Class<?>, LongAdder> exceptionMapperExecutionCountMap = new ConcurrentHashMap<>();
+        private final LongAdder successfulMappings = new LongAdder();
+        private final LongAdder unsuccessfulMappings = new LongAdder();
+        private final LongAdder totalMappings = new LongAdder();
 
-        private ExceptionMapperStatisticsImpl cached;
+        // set after each update so that a build running concurrently with the update cannot leave a stale cache behind
+        private volatile boolean modified;
+        private volatile ExceptionMapperStatisticsImpl cached;
 
         /**
          * Add mappings.
@@ -50,14 +55,14 @@ final class ExceptionMapperStatisticsImpl implements ExceptionMapperStatistics {
          * @param count Number of mappings.
          */
         void addMapping(final boolean success, final int count) {
-            cached = null;
-
-            totalMappings++;
+            totalMappings.increment();
             if (success) {
-                successfulMappings += count;
+                successfulMappings.add(count);
             } else {
-                unsuccessfulMappings += count;
+                unsuccessfulMappings.add(count);
             }
+
+            modified = true;
         }
 
         /**
@@ -67,11 +72,13 @@ final class ExceptionMapperStatisticsImpl implements ExceptionMapperStatistics {
          * @param count Number of executions of the {@code mapper}.
          */
         void addExceptionMapperExecution(final Class<?> mapper, final int count) {
-            cached = null;
+            LongAdder counter = exceptionMapperExecutionCountMap.get(mapper);
+            if (counter == null) {
+                counter = exceptionMapperExecutionCountMap.computeIfAbsent(mapper, key -> new LongAdder());
+            }
+            counter.add(count);
 
-            Long cnt = exceptionMapperExecutionCountMap.get(mapper);
-            cnt = cnt == null ? count : cnt + count;
-            exceptionMapperExecutionCountMap.put(mapper, cnt);
+            modified = true;
         }
 
         /**
@@ -80,12 +87,21 @@ final class ExceptionMapperStatisticsImpl implements ExceptionMapperStatistics {
          * @return New instance of exception mapper statistics.
          */
         public ExceptionMapperStatisticsImpl build() {
-            if (cached == null) {
-                cached = new ExceptionMapperStatisticsImpl(new HashMap<>(this.exceptionMapperExecutionCountMap),
-                        successfulMappings, unsuccessfulMappings, totalMappings);
+            final ExceptionMapperStatisticsImpl cachedReference = cached;
+            if (cachedReference != null && !modified) {
+                return cachedReference;
+            }
+            modified = false;
+
+            final Map<Class<?>, Long> executionCounts = new HashMap<>();
+            for (final Map.Entry<Class<?>, LongAdder> entry : exceptionMapperExecutionCountMap.entrySet()) {
+                executionCounts.put(entry.getKey(), entry.getValue().sum());
             }
 
-            return cached;
+            final ExceptionMapperStatisticsImpl stats = new ExceptionMapperStatisticsImpl(executionCounts,
+                    successfulMappings.sum(), unsuccessfulMappings.sum(), totalMappings.sum());
+            cached = stats;
+            return stats;
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,15 +16,12 @@
 
 package org.glassfish.jersey.server.internal.monitoring;
 
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
-import org.glassfish.jersey.server.internal.monitoring.core.UniformTimeReservoir;
 import org.glassfish.jersey.server.monitoring.ExecutionStatistics;
 import org.glassfish.jersey.server.monitoring.TimeWindowStatistics;
 
@@ -50,7 +47,7 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
 
         private volatile long lastStartTime;
         private final Map<Long, TimeWindowStatisticsImpl.Builder> intervalStatistics;
-        private final Collection<TimeWindowStatisticsImpl.Builder<Long>> updatableIntervalStatistics;
+        private final BucketedSlidingWindowTimeReservoir[] reservoirs;
 
         /**
          * Create a new builder.
@@ -58,46 +55,25 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
         @SuppressWarnings("MagicNumber")
         public Builder() {
             final long nowMillis = System.currentTimeMillis();
-            final AggregatingTrimmer trimmer = new AggregatingTrimmer(nowMillis, TimeUnit.MILLISECONDS, 1, TimeUnit.SECONDS);
-            final TimeWindowStatisticsImpl.Builder<Long> oneSecondIntervalWindowBuilder =
-                    new TimeWindowStatisticsImpl.Builder<>(
-                            new SlidingWindowTimeReservoir(1, TimeUnit.SECONDS, nowMillis, TimeUnit.MILLISECONDS, trimmer));
-            final TimeWindowStatisticsImpl.Builder<Long> infiniteIntervalWindowBuilder =
-                    new TimeWindowStatisticsImpl.Builder<>(new UniformTimeReservoir(nowMillis, TimeUnit.MILLISECONDS));
-
-            this.updatableIntervalStatistics =
-                    Arrays.asList(infiniteIntervalWindowBuilder, oneSecondIntervalWindowBuilder);
+            this.reservoirs = new BucketedSlidingWindowTimeReservoir[] {
+                    // exact infinite time window
+                    new BucketedSlidingWindowTimeReservoir(0, TimeUnit.MILLISECONDS, nowMillis, TimeUnit.MILLISECONDS),
+                    new BucketedSlidingWindowTimeReservoir(1, TimeUnit.SECONDS, nowMillis, TimeUnit.MILLISECONDS),
+                    new BucketedSlidingWindowTimeReservoir(15, TimeUnit.SECONDS, nowMillis, TimeUnit.MILLISECONDS),
+                    new BucketedSlidingWindowTimeReservoir(1, TimeUnit.MINUTES, nowMillis, TimeUnit.MILLISECONDS),
+                    new BucketedSlidingWindowTimeReservoir(15, TimeUnit.MINUTES, nowMillis, TimeUnit.MILLISECONDS),
+                    new BucketedSlidingWindowTimeReservoir(1, TimeUnit.HOURS, nowMillis, TimeUnit.MILLISECONDS)
+            };
 
             // create unmodifiable map to ensure that an iteration in the build() won't have multi-threading issues
-            final HashMap<Long, TimeWindowStatisticsImpl.Builder> tmpIntervalStatistics = new HashMap<>(6);
-            // Add approximate infinite time window builder
-            tmpIntervalStatistics.put(0L, infiniteIntervalWindowBuilder);
-            // Add precise 1 second time window builder
-            tmpIntervalStatistics.put(TimeUnit.SECONDS.toMillis(1), oneSecondIntervalWindowBuilder);
-            // Add aggregated 15 seconds time window builder
-            addAggregatedInterval(tmpIntervalStatistics, nowMillis, 15, TimeUnit.SECONDS, trimmer);
-            // Add aggregated 1 minute time window builder
-            addAggregatedInterval(tmpIntervalStatistics, nowMillis, 1, TimeUnit.MINUTES, trimmer);
-            // Add aggregated 15 minutes time window builder
-            addAggregatedInterval(tmpIntervalStatistics, nowMillis, 15, TimeUnit.MINUTES, trimmer);
-            // Add aggregated 1 hour time window builder
-            addAggregatedInterval(tmpIntervalStatistics, nowMillis, 1, TimeUnit.HOURS, trimmer);
-
+            final HashMap<Long, TimeWindowStatisticsImpl.Builder> tmpIntervalStatistics = new HashMap<>(reservoirs.length);
+            for (final BucketedSlidingWindowTimeReservoir reservoir : reservoirs) {
+                tmpIntervalStatistics.put(reservoir.interval(TimeUnit.MILLISECONDS),
+                        new TimeWindowStatisticsImpl.Builder<>(reservoir));
+            }
             this.intervalStatistics = Collections.unmodifiableMap(tmpIntervalStatistics);
         }
 
-        private static void addAggregatedInterval(
-                final Map<Long, TimeWindowStatisticsImpl.Builder> intervalStatisticsMap,
-                final long nowMillis,
-                final long interval,
-                final TimeUnit timeUnit,
-                final AggregatingTrimmer notifier) {
-            final long intervalInMillis = timeUnit.toMillis(interval);
-            intervalStatisticsMap.put(intervalInMillis, new TimeWindowStatisticsImpl.Builder<>(
-                    new AggregatedSlidingWindowTimeReservoir(intervalInMillis, TimeUnit.MILLISECONDS, nowMillis,
-                            TimeUnit.MILLISECONDS, notifier)));
-        }
-
         /**
          * Add execution of a target.
          *
@@ -105,8 +81,8 @@ final class ExecutionStatisticsImpl implements ExecutionStatistics {
          * @param duration  Duration of an execution event in milliseconds.
          */
         void addExecution(final long startTime, final long duration) {
-            for (final TimeWindowStatisticsImpl.Builder<Long> statBuilder : updatableIntervalStatistics) {
-                statBuilder.addRequest(startTime, duration);
+            for (final BucketedSlidingWindowTimeReservoir reservoir : reservoirs) {
+                reservoir.update(duration, startTime, TimeUnit.MILLISECONDS);
             }
 
             this.lastStartTime = startTime;
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.glassfish.jersey.server.monitoring.LatencyHistogram;
+
+/**
+ * Lock-free log-linear {@link LatencyHistogram latency histogram}.
+ * <p>
+ * Values below {@code 2 * SUB_BUCKET_COUNT} are counted exactly, each further power of two is split into
+ * {@code SUB_BUCKET_COUNT} buckets of equal width, so that the relative error of a reported value is lower than
+ * {@code 1 / SUB_BUCKET_COUNT}. Values greater than {@link #MAX_TRACKABLE_VALUE} are counted in the last bucket;
+ * the minimum, maximum and mean are tracked exactly.
+ * </p>
+ */
+final class LatencyHistogramImpl implements LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Greatest value (about 68 seconds in nanoseconds) that is counted in its own bucket.
+     */
+    static final long MAX_TRACKABLE_VALUE = (1L << 36) - 1;
+
+    private static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(0);
+
+    /**
+     * Record a value.
+     *
+     * @param value value in nanoseconds, negative values are recorded as {@code 0}.
+     */
+    void record(final long value) {
+        final long recorded = Math.max(0, value);
+
+        counts.incrementAndGet(bucketIndex(Math.min(recorded, MAX_TRACKABLE_VALUE)));
+        count.increment();
+        sum.add(recorded);
+
+        long current = min.get();
+        while (recorded < current && !min.compareAndSet(current, recorded)) {
+            current = min.get();
+        }
+        current = max.get();
+        while (recorded > current && !max.compareAndSet(current, recorded)) {
+            current = max.get();
+        }
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public long getMin() {
+        final long value = min.get();
+        return value == Long.MAX_VALUE ? 0 : value;
+    }
+
+    @Override
+    public long getMax() {
+        return max.get();
+    }
+
+    @Override
+    public double getMean() {
+        final long values = count.sum();
+        return values == 0 ? 0 : (double) sum.sum() / values;
+    }
+
+    @Override
+    public long getValueAtPercentile(final double percentile) {
+        // the total is computed from the buckets rather than read from the count so that the target is reachable
+        // even if values are being recorded concurrently
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        final double fraction = Math.min(Math.max(percentile, 0.0), 100.0) / 100.0;
+        final long target = Math.max(1, (long) Math.ceil(fraction * total));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts.get(i);
+            if (cumulative >= target) {
+                return Math.max(Math.min(highestEquivalentValue(i), getMax()), getMin());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Get index of the bucket counting the value.
+     *
+     * @param value non-negative value not greater than {@link #MAX_TRACKABLE_VALUE}.
+     * @return bucket index.
+     */
+    static int bucketIndex(final long value) {
+        final int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return (int) ((shift << SUB_BUCKET_BITS) + (value >>> shift));
+    }
+
+    /**
+     * Get the greatest value counted in the bucket.
+     *
+     * @param index bucket index.
+     * @return greatest value of the bucket.
+     */
+    static long highestEquivalentValue(final int index) {
+        final int shift = Math.max(0, (index >> SUB_BUCKET_BITS) - 1);
+        final long subBucket = index - ((long) shift << SUB_BUCKET_BITS);
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
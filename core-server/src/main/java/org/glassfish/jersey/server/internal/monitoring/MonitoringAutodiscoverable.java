@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -44,8 +44,10 @@ public final class MonitoringAutodiscoverable implements ForcedAutoDiscoverable
                     ServerProperties.MONITORING_STATISTICS_ENABLED, Boolean.FALSE);
             final Boolean mbeansEnabled = ServerProperties.getValue(context.getConfiguration().getProperties(),
                     ServerProperties.MONITORING_STATISTICS_MBEANS_ENABLED, Boolean.FALSE);
+            final Boolean profilingEnabled = ServerProperties.getValue(context.getConfiguration().getProperties(),
+                    ServerProperties.MONITORING_PROFILING_ENABLED, Boolean.FALSE);
 
-            if (monitoringEnabled || statisticsEnabled || mbeansEnabled) {
+            if (monitoringEnabled || statisticsEnabled || mbeansEnabled || profilingEnabled) {
                 context.register(MonitoringFeature.class);
             }
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -53,6 +53,11 @@ import org.glassfish.jersey.server.monitoring.MonitoringStatisticsListener;
  * {@link org.glassfish.jersey.server.ServerProperties#MONITORING_STATISTICS_ENABLED} which overrides
  * the registration of this feature.
  * </p>
+ * <p>
+ * Profiling of request processing stages is enabled by the property
+ * {@link org.glassfish.jersey.server.ServerProperties#MONITORING_PROFILING_ENABLED} which also enables
+ * the calculation of {@code MonitoringStatistics}.
+ * </p>
  * When auto-discovery is enabled then monitoring statistics and exposure of MBeans can be controlled only
  * by properties above without a need to explicitly register this feature.
  *
@@ -66,6 +71,7 @@ public final class MonitoringFeature implements Feature {
     private boolean monitoringEnabled = true;
     private boolean statisticsEnabled = true; // monitoring statistics are enabled only if monitoring is enabled
     private boolean mBeansEnabled; // monitoring mbeans are enabled only if monitoring statistics is enabled
+    private boolean profilingEnabled; // profiling is enabled only if monitoring statistics is enabled
 
     @Override
     public boolean configure(FeatureContext context) {
@@ -75,6 +81,8 @@ public final class MonitoringFeature implements Feature {
                 ServerProperties.MONITORING_STATISTICS_ENABLED, null, Boolean.class);
         final Boolean mbeansEnabledProperty = ServerProperties.getValue(context.getConfiguration().getProperties(),
                 ServerProperties.MONITORING_STATISTICS_MBEANS_ENABLED, null, Boolean.class);
+        final Boolean profilingEnabledProperty = ServerProperties.getValue(context.getConfiguration().getProperties(),
+                ServerProperties.MONITORING_PROFILING_ENABLED, null, Boolean.class);
 
         if (monitoringEnabledProperty != null) {
             monitoringEnabled = monitoringEnabledProperty;
@@ -92,8 +100,14 @@ public final class MonitoringFeature implements Feature {
             mBeansEnabled = mbeansEnabledProperty;
         }
 
+        if (profilingEnabledProperty != null) {
+            monitoringEnabled = monitoringEnabled || profilingEnabledProperty;
+            statisticsEnabled = statisticsEnabled || profilingEnabledProperty;
+            profilingEnabled = profilingEnabledProperty;
+        }
+
         if (statisticsEnabledProperty != null && !statisticsEnabledProperty) {
-            if (mbeansEnabledProperty != null && mBeansEnabled) {
+            if ((mbeansEnabledProperty != null && mBeansEnabled) || profilingEnabled) {
                 LOGGER.log(Level.WARNING,
                         LocalizationMessages.WARNING_MONITORING_FEATURE_ENABLED(ServerProperties.MONITORING_STATISTICS_ENABLED));
             } else {
@@ -133,6 +147,19 @@ public final class MonitoringFeature implements Feature {
             });
         }
 
+        if (profilingEnabled) {
+            final ProfilingStatisticsImpl profilingStatistics = new ProfilingStatisticsImpl(
+                    getSamplingRate(context.getConfiguration().getProperty(ServerProperties.MONITORING_PROFILING_SAMPLING_RATE)));
+            context.register(new ProfilingEventListener(profilingStatistics));
+            context.register(new ProfilingInterceptor());
+            context.register(new AbstractBinder() {
+                @Override
+                protected void configure() {
+                    bind(profilingStatistics).to(ProfilingStatisticsImpl.class);
+                }
+            });
+        }
+
         if (mBeansEnabled) {
             // instance registration is needed here as MBeanExposer needs to be a singleton so that
             // one instance handles listening to events of MonitoringStatisticsListener and ContainerLifecycleListener
@@ -153,6 +180,13 @@ public final class MonitoringFeature implements Feature {
         this.mBeansEnabled = mBeansEnabled;
     }
 
+    private static double getSamplingRate(Object rate) {
+        if (rate == null) {
+            return ProfilingStatisticsImpl.DEFAULT_SAMPLING_RATE;
+        }
+        return rate instanceof Number ? ((Number) rate).doubleValue() : Double.parseDouble(rate.toString());
+    }
+
     private static class ApplicationInfoInjectionFactory extends ReferencingFactory<ApplicationInfo> {
 
         /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,8 +18,9 @@ package org.glassfish.jersey.server.internal.monitoring;
 
 import java.util.Collections;
 import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import org.glassfish.jersey.internal.util.collection.Views;
@@ -29,6 +30,7 @@ import org.glassfish.jersey.server.model.ResourceModel;
 import org.glassfish.jersey.server.monitoring.ExceptionMapperStatistics;
 import org.glassfish.jersey.server.monitoring.ExecutionStatistics;
 import org.glassfish.jersey.server.monitoring.MonitoringStatistics;
+import org.glassfish.jersey.server.monitoring.ProfilingStatistics;
 import org.glassfish.jersey.server.monitoring.ResourceStatistics;
 import org.glassfish.jersey.server.monitoring.ResponseStatistics;
 
@@ -45,22 +47,10 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
     /**
      * Builder of monitoring statistics.
      * <p/>
-     * This builder does not need to be threadsafe as it's only accessed by jersey-background-task-scheduler. However, {@link
-     * #BUILDING_FUNCTION} is triggered when it is accessed (e.g., by servlet-container thread-pool threads) which adds threadsafe
-     * constraint on some of the sub-builders.
-     * <p/>
-     * Sub-Builders that require thread-safety
-     * <pre><ul>
-     *     <li>{@link org.glassfish.jersey.server.internal.monitoring.ExecutionStatisticsImpl.Builder}</li>
-     *     <li>{@link org.glassfish.jersey.server.internal.monitoring.ResourceStatisticsImpl.Builder}</li>
-     *     <li>{@link org.glassfish.jersey.server.internal.monitoring.ResourceMethodStatisticsImpl.Builder}</li>
-     *     <li>{@link org.glassfish.jersey.server.internal.monitoring.TimeWindowStatisticsImpl.Builder}</li>
-     * </ul>
-     * The rest does not need to be thread-safe
-     * <ul>
-     *     <li>{@link org.glassfish.jersey.server.internal.monitoring.ExceptionMapperStatisticsImpl.Builder}</li>
-     *     <li>{@link org.glassfish.jersey.server.internal.monitoring.ResponseStatisticsImpl.Builder}</li>
-     * </ul></pre>
+     * This builder must be threadsafe as the request events are recorded directly by the request processing threads
+     * while the statistics are built by jersey-background-task-scheduler. Moreover, {@link #BUILDING_FUNCTION} is triggered
+     * when the built statistics are accessed (e.g., by servlet-container thread-pool threads). Hence all the sub-builders
+     * are thread-safe as well.
      */
     static class Builder {
 
@@ -71,11 +61,13 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
         private final ExceptionMapperStatisticsImpl.Builder exceptionMapperStatisticsBuilder;
 
         private final ResourceMethodStatisticsImpl.Factory methodFactory = new ResourceMethodStatisticsImpl.Factory();
-        private final SortedMap<String, ResourceStatisticsImpl.Builder> uriStatistics = new TreeMap<>();
-        private final SortedMap<Class<?>, ResourceStatisticsImpl.Builder> resourceClassStatistics
-                = new TreeMap<>((o1, o2) -> o1.getName().compareTo(o2.getName()));
+        private final ConcurrentNavigableMap<String, ResourceStatisticsImpl.Builder> uriStatistics =
+                new ConcurrentSkipListMap<>();
+        private final ConcurrentNavigableMap<Class<?>, ResourceStatisticsImpl.Builder> resourceClassStatistics
+                = new ConcurrentSkipListMap<>((o1, o2) -> o1.getName().compareTo(o2.getName()));
 
-        private ExecutionStatisticsImpl.Builder executionStatisticsBuilder;
+        private final AtomicReference<ExecutionStatisticsImpl.Builder> executionStatisticsBuilder = new AtomicReference<>();
+        private volatile ProfilingStatistics profilingStatistics;
 
         /**
          * Create a new builder.
@@ -119,12 +111,20 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
 
         private ResourceStatisticsImpl.Builder getOrCreateResourceBuilder(final ResourceMethod resourceMethod) {
             final Class<?> clazz = resourceMethod.getInvocable().getHandler().getHandlerClass();
-            ResourceStatisticsImpl.Builder builder = resourceClassStatistics.get(clazz);
-            if (builder == null) {
-                builder = new ResourceStatisticsImpl.Builder(methodFactory);
-                resourceClassStatistics.put(clazz, builder);
+            final ResourceStatisticsImpl.Builder builder = resourceClassStatistics.get(clazz);
+            if (builder != null) {
+                return builder;
             }
-            return builder;
+            return resourceClassStatistics.computeIfAbsent(clazz, key -> new ResourceStatisticsImpl.Builder(methodFactory));
+        }
+
+        /**
+         * Set the live profiling statistics shared by all built monitoring statistics.
+         *
+         * @param profilingStatistics profiling statistics.
+         */
+        void setProfilingStatistics(final ProfilingStatistics profilingStatistics) {
+            this.profilingStatistics = profilingStatistics;
         }
 
         /**
@@ -143,10 +143,10 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
          * @param duration  duration of the execution.
          */
         void addRequestExecution(final long startTime, final long duration) {
-            if (executionStatisticsBuilder == null) {
-                executionStatisticsBuilder = new ExecutionStatisticsImpl.Builder();
+            if (executionStatisticsBuilder.get() == null) {
+                executionStatisticsBuilder.compareAndSet(null, new ExecutionStatisticsImpl.Builder());
             }
-            executionStatisticsBuilder.addExecution(startTime, duration);
+            executionStatisticsBuilder.get().addExecution(startTime, duration);
         }
 
         /**
@@ -166,8 +166,8 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             // Uri resource stats.
             ResourceStatisticsImpl.Builder uriStatsBuilder = uriStatistics.get(uri);
             if (uriStatsBuilder == null) {
-                uriStatsBuilder = new ResourceStatisticsImpl.Builder(resourceMethod.getParent(), methodFactory);
-                uriStatistics.put(uri, uriStatsBuilder);
+                uriStatsBuilder = uriStatistics.computeIfAbsent(uri,
+                        key -> new ResourceStatisticsImpl.Builder(resourceMethod.getParent(), methodFactory));
             }
             uriStatsBuilder.addExecution(resourceMethod, methodTime, methodDuration, requestTime, requestDuration);
 
@@ -200,13 +200,15 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
             final Map<Class<?>, ResourceStatistics> classStats = Collections.unmodifiableMap(
                     Views.mapView(resourceClassStatistics, BUILDING_FUNCTION));
 
-            final ExecutionStatistics requestStats = executionStatisticsBuilder == null
-                    ? ExecutionStatisticsImpl.EMPTY : executionStatisticsBuilder.build();
+            final ExecutionStatisticsImpl.Builder requestStatsBuilder = executionStatisticsBuilder.get();
+            final ExecutionStatistics requestStats = requestStatsBuilder == null
+                    ? ExecutionStatisticsImpl.EMPTY : requestStatsBuilder.build();
 
             return new MonitoringStatisticsImpl(
                     uriStats, classStats, requestStats,
                     responseStatisticsBuilder.build(),
-                    exceptionMapperStatisticsBuilder.build());
+                    exceptionMapperStatisticsBuilder.build(),
+                    profilingStatistics);
         }
     }
 
@@ -215,17 +217,20 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
     private final ExceptionMapperStatistics exceptionMapperStatistics;
     private final Map<String, ResourceStatistics> uriStatistics;
     private final Map<Class<?>, ResourceStatistics> resourceClassStatistics;
+    private final ProfilingStatistics profilingStatistics;
 
     private MonitoringStatisticsImpl(final Map<String, ResourceStatistics> uriStatistics,
                                      final Map<Class<?>, ResourceStatistics> resourceClassStatistics,
                                      final ExecutionStatistics requestStatistics,
                                      final ResponseStatistics responseStatistics,
-                                     final ExceptionMapperStatistics exceptionMapperStatistics) {
+                                     final ExceptionMapperStatistics exceptionMapperStatistics,
+                                     final ProfilingStatistics profilingStatistics) {
         this.uriStatistics = uriStatistics;
         this.resourceClassStatistics = resourceClassStatistics;
         this.requestStatistics = requestStatistics;
         this.responseStatistics = responseStatistics;
         this.exceptionMapperStatistics = exceptionMapperStatistics;
+        this.profilingStatistics = profilingStatistics;
     }
 
     @Override
@@ -263,6 +268,11 @@ final class MonitoringStatisticsImpl implements MonitoringStatistics {
         return exceptionMapperStatistics;
     }
 
+    @Override
+    public ProfilingStatistics getProfilingStatistics() {
+        return profilingStatistics;
+    }
+
     @Override
     public MonitoringStatistics snapshot() {
         // snapshot is not needed, this object is loosely immutable (see javadoc of Maps getters)
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.Arrays;
+
+import jakarta.annotation.Priority;
+
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.ProfilingStatistics.Stage;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+
+/**
+ * {@link ApplicationEventListener Application event listener} that measures durations of the processing stages
+ * of a sample of requests and records them into {@link ProfilingStatisticsImpl profiling statistics}.
+ * <p>
+ * Requests that are not sampled get no request event listener. A sampled request stores its {@link RequestProfile}
+ * in the {@link #PROFILE_PROPERTY request property} so that the {@link ProfilingInterceptor} can add durations of entity
+ * reading and writing, which are not delimited by request events.
+ * </p>
+ */
+@Priority(ApplicationInfoListener.PRIORITY + 200)
+final class ProfilingEventListener implements ApplicationEventListener {
+
+    /**
+     * Name of the request property holding the {@link RequestProfile} of a sampled request.
+     */
+    static final String PROFILE_PROPERTY = ProfilingEventListener.class.getName() + ".profile";
+
+    private final ProfilingStatisticsImpl statistics;
+
+    /**
+     * Create new profiling event listener.
+     *
+     * @param statistics profiling statistics the sampled requests are recorded into.
+     */
+    ProfilingEventListener(final ProfilingStatisticsImpl statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void onEvent(final ApplicationEvent event) {
+        // nothing to do
+    }
+
+    @Override
+    public RequestEventListener onRequest(final RequestEvent requestEvent) {
+        if (requestEvent.getType() != RequestEvent.Type.START || !statistics.sample()) {
+            return null;
+        }
+
+        final RequestProfile profile = new RequestProfile();
+        requestEvent.getContainerRequest().setProperty(PROFILE_PROPERTY, profile);
+        return profile;
+    }
+
+    /**
+     * Stage durations of a single sampled request.
+     */
+    final class RequestProfile implements RequestEventListener {
+
+        private final long[] durations = new long[Stage.values().length];
+        private long stageStart;
+        private long entityRead;
+        private long entityReadBeforeInvocation;
+        private long entityWrite;
+        private ResourceMethod method;
+
+        private RequestProfile() {
+            Arrays.fill(durations, -1);
+        }
+
+        /**
+         * Add duration of reading of a request entity.
+         *
+         * @param duration duration in nanoseconds.
+         */
+        void addEntityRead(final long duration) {
+            entityRead += duration;
+            durations[Stage.ENTITY_READ.ordinal()] = entityRead;
+        }
+
+        /**
+         * Add duration of writing of a response entity.
+         *
+         * @param duration duration in nanoseconds.
+         */
+        void addEntityWrite(final long duration) {
+            entityWrite += duration;
+            durations[Stage.ENTITY_WRITE.ordinal()] = entityWrite;
+        }
+
+        @Override
+        public void onEvent(final RequestEvent event) {
+            final long now = System.nanoTime();
+
+            switch (event.getType()) {
+                case MATCHING_START:
+                case RESP_FILTERS_START:
+                    stageStart = now;
+                    break;
+                case REQUEST_MATCHED:
+                    durations[Stage.ROUTING.ordinal()] = now - stageStart;
+                    stageStart = now;
+                    break;
+                case REQUEST_FILTERED:
+                    durations[Stage.REQUEST_FILTERS.ordinal()] = now - stageStart;
+                    break;
+                case RESOURCE_METHOD_START:
+                    entityReadBeforeInvocation = entityRead;
+                    stageStart = now;
+                    break;
+                case RESOURCE_METHOD_FINISHED:
+                    // the entity parameter is read while the method is being invoked
+                    durations[Stage.INVOCATION.ordinal()] = now - stageStart - (entityRead - entityReadBeforeInvocation);
+                    method = event.getUriInfo().getMatchedResourceMethod();
+                    break;
+                case RESP_FILTERS_FINISHED:
+                    durations[Stage.RESPONSE_FILTERS.ordinal()] = now - stageStart;
+                    break;
+                case FINISHED:
+                    if (method != null) {
+                        statistics.record(method, durations);
+                    }
+                    break;
+                default:
+                    // not a stage boundary
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.io.IOException;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.ConstrainedTo;
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Outermost reader and writer interceptor measuring durations of entity reading and writing of requests sampled
+ * by the {@link ProfilingEventListener}. Entities of requests that are not sampled are passed through.
+ */
+@ConstrainedTo(RuntimeType.SERVER)
+@Priority(Integer.MIN_VALUE)
+final class ProfilingInterceptor implements ReaderInterceptor, WriterInterceptor {
+
+    @Override
+    public Object aroundReadFrom(final ReaderInterceptorContext context) throws IOException, WebApplicationException {
+        final Object profile = context.getProperty(ProfilingEventListener.PROFILE_PROPERTY);
+        if (!(profile instanceof ProfilingEventListener.RequestProfile)) {
+            return context.proceed();
+        }
+
+        final long start = System.nanoTime();
+        try {
+            return context.proceed();
+        } finally {
+            ((ProfilingEventListener.RequestProfile) profile).addEntityRead(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void aroundWriteTo(final WriterInterceptorContext context) throws IOException, WebApplicationException {
+        final Object profile = context.getProperty(ProfilingEventListener.PROFILE_PROPERTY);
+        if (!(profile instanceof ProfilingEventListener.RequestProfile)) {
+            context.proceed();
+            return;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            context.proceed();
+        } finally {
+            ((ProfilingEventListener.RequestProfile) profile).addEntityWrite(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.LatencyHistogram;
+import org.glassfish.jersey.server.monitoring.ProfilingStatistics;
+
+/**
+ * Live {@link ProfilingStatistics profiling statistics} updated directly by the sampled requests. Histograms
+ * of a resource method stage are allocated once the stage of the method is recorded for the first time.
+ * <p>
+ * Histograms are keyed by the {@link MonitoringUtils#getMethodUniqueId(ResourceMethod) unique id} of the method,
+ * as sub-resource locators create new resource method instances for every request.
+ */
+final class ProfilingStatisticsImpl implements ProfilingStatistics {
+
+    /**
+     * Default fraction of profiled requests.
+     */
+    static final double DEFAULT_SAMPLING_RATE = 0.01;
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final double samplingRate;
+    private final LongAdder sampledRequests = new LongAdder();
+    private final Map<String, MethodHistograms> methods = new ConcurrentHashMap<>();
+
+    /**
+     * Create new profiling statistics.
+     *
+     * @param samplingRate fraction of profiled requests.
+     */
+    ProfilingStatisticsImpl(final double samplingRate) {
+        this.samplingRate = Math.min(Math.max(samplingRate, 0.0), 1.0);
+    }
+
+    /**
+     * Decide whether the current request should be profiled.
+     *
+     * @return {@code true} if the request should be profiled.
+     */
+    boolean sample() {
+        return samplingRate >= 1.0 || (samplingRate > 0.0 && ThreadLocalRandom.current().nextDouble() < samplingRate);
+    }
+
+    /**
+     * Record the stage durations of a sampled request.
+     *
+     * @param method    matched resource method.
+     * @param durations stage durations in nanoseconds indexed by the {@link Stage#ordinal() stage ordinal},
+     *                  negative if the request did not go through the stage.
+     */
+    void record(final ResourceMethod method, final long[] durations) {
+        sampledRequests.increment();
+
+        final MethodHistograms histograms =
+                methods.computeIfAbsent(MonitoringUtils.getMethodUniqueId(method), id -> new MethodHistograms(method));
+        for (int i = 0; i < durations.length; i++) {
+            if (durations[i] >= 0) {
+                histograms.get(i).record(durations[i]);
+            }
+        }
+    }
+
+    @Override
+    public double getSamplingRate() {
+        return samplingRate;
+    }
+
+    @Override
+    public long getSampledRequests() {
+        return sampledRequests.sum();
+    }
+
+    @Override
+    public Map<ResourceMethod, Map<Stage, LatencyHistogram>> getResourceMethodStatistics() {
+        final Map<ResourceMethod, Map<Stage, LatencyHistogram>> map = new LinkedHashMap<>();
+        for (final MethodHistograms histograms : methods.values()) {
+            map.put(histograms.method, histograms.asMap());
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Stage histograms of a single resource method.
+     */
+    private static final class MethodHistograms {
+
+        // first recorded instance of the method
+        private final ResourceMethod method;
+        private final AtomicReferenceArray<LatencyHistogramImpl> stages = new AtomicReferenceArray<>(STAGES.length);
+
+        private MethodHistograms(final ResourceMethod method) {
+            this.method = method;
+        }
+
+        private LatencyHistogramImpl get(final int stage) {
+            LatencyHistogramImpl histogram = stages.get(stage);
+            if (histogram == null) {
+                stages.compareAndSet(stage, null, new LatencyHistogramImpl());
+                histogram = stages.get(stage);
+            }
+            return histogram;
+        }
+
+        private Map<Stage, LatencyHistogram> asMap() {
+            final Map<Stage, LatencyHistogram> map = new EnumMap<>(Stage.class);
+            for (int i = 0; i < STAGES.length; i++) {
+                final LatencyHistogramImpl histogram = stages.get(i);
+                if (histogram != null) {
+                    map.put(STAGES[i], histogram);
+                }
+            }
+            return Collections.unmodifiableMap(map);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -39,15 +39,33 @@ final class ResourceMethodStatisticsImpl implements ResourceMethodStatistics {
      */
     static class Factory {
 
+        /**
+         * Maximum number of resource method instances remembered by the identity cache. Sub-resource locators
+         * create new resource method instances for every request, the cache is therefore cleared once it is full.
+         */
+        private static final int MAX_CACHED_METHODS = 1024;
+
         private final ConcurrentMap<String, Builder> stringToMethodsBuilders = new ConcurrentHashMap<>();
+        // resource method instances do not override equals, this map spares computing the unique id for each request
+        private final ConcurrentMap<ResourceMethod, Builder> methodsBuilders = new ConcurrentHashMap<>();
 
         ResourceMethodStatisticsImpl.Builder getOrCreate(final ResourceMethod resourceMethod) {
+            final Builder builder = methodsBuilders.get(resourceMethod);
+            if (builder != null) {
+                return builder;
+            }
+
             final String methodUniqueId = MonitoringUtils.getMethodUniqueId(resourceMethod);
 
             if (!stringToMethodsBuilders.containsKey(methodUniqueId)) {
                 stringToMethodsBuilders.putIfAbsent(methodUniqueId, new ResourceMethodStatisticsImpl.Builder(resourceMethod));
             }
-            return stringToMethodsBuilders.get(methodUniqueId);
+            final Builder uniqueBuilder = stringToMethodsBuilders.get(methodUniqueId);
+            if (methodsBuilders.size() >= MAX_CACHED_METHODS) {
+                methodsBuilders.clear();
+            }
+            methodsBuilders.putIfAbsent(resourceMethod, uniqueBuilder);
+            return uniqueBuilder;
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,6 +19,10 @@ package org.glassfish.jersey.server.internal.monitoring;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.glassfish.jersey.server.monitoring.ResponseStatistics;
 
@@ -33,32 +37,71 @@ final class ResponseStatisticsImpl implements ResponseStatistics {
     private final Integer lastResponseCode;
 
     /**
-     * This builder does not need to be threadsafe since it's called only from the jersey-background-task-scheduler.
+     * Builder of response statistics.
+     * <p/>
+     * Must be thread-safe.
      */
     static class Builder {
 
-        private final Map<Integer, Long> responseCodesMap = new HashMap<>();
-        private Integer lastResponseCode = null;
+        /**
+         * Response codes lower than this limit are counted in an array instead of a map.
+         */
+        private static final int INDEXED_CODES_LIMIT = 600;
 
-        private ResponseStatisticsImpl cached = null;
+        private final AtomicReferenceArray<LongAdder> indexedResponseCodes = new AtomicReferenceArray<>(INDEXED_CODES_LIMIT);
+        private final ConcurrentMap<Integer, LongAdder> otherResponseCodes = new ConcurrentHashMap<>();
+        private volatile int lastResponseCode;
+        private volatile boolean hasResponseCode;
 
-        void addResponseCode(final int responseCode) {
-            cached = null;
+        // set after each update so that a build running concurrently with the update cannot leave a stale cache behind
+        private volatile boolean modified;
+        private volatile ResponseStatisticsImpl cached = null;
 
+        void addResponseCode(final int responseCode) {
+            getOrCreateCounter(responseCode).increment();
             lastResponseCode = responseCode;
-            Long currentValue = responseCodesMap.get(responseCode);
-            if (currentValue == null) {
-                currentValue = 0L;
+            if (!hasResponseCode) {
+                hasResponseCode = true;
+            }
+
+            modified = true;
+        }
+
+        private LongAdder getOrCreateCounter(final int responseCode) {
+            if (responseCode < 0 || responseCode >= INDEXED_CODES_LIMIT) {
+                return otherResponseCodes.computeIfAbsent(responseCode, code -> new LongAdder());
+            }
+
+            final LongAdder counter = indexedResponseCodes.get(responseCode);
+            if (counter != null) {
+                return counter;
             }
-            responseCodesMap.put(responseCode, currentValue + 1);
+            indexedResponseCodes.compareAndSet(responseCode, null, new LongAdder());
+            return indexedResponseCodes.get(responseCode);
         }
 
         ResponseStatisticsImpl build() {
-            if (cached == null) {
-                cached = new ResponseStatisticsImpl(lastResponseCode, new HashMap<>(this.responseCodesMap));
+            final ResponseStatisticsImpl cachedReference = cached;
+            if (cachedReference != null && !modified) {
+                return cachedReference;
+            }
+            modified = false;
+
+            final Map<Integer, Long> responseCodes = new HashMap<>();
+            for (int code = 0; code < INDEXED_CODES_LIMIT; code++) {
+                final LongAdder counter = indexedResponseCodes.get(code);
+                if (counter != null) {
+                    responseCodes.put(code, counter.sum());
+                }
+            }
+            for (final Map.Entry<Integer, LongAdder> entry : otherResponseCodes.entrySet()) {
+                responseCodes.put(entry.getKey(), entry.getValue().sum());
             }
 
-            return cached;
+            final ResponseStatisticsImpl stats =
+                    new ResponseStatisticsImpl(hasResponseCode ? lastResponseCode : null, responseCodes);
+            cached = stats;
+            return stats;
         }
 
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -32,6 +32,8 @@ import javax.management.JMException;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
 
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.internal.MessageBodyFactory;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 import org.glassfish.jersey.server.monitoring.ApplicationInfo;
 import org.glassfish.jersey.server.monitoring.MonitoringStatistics;
@@ -72,6 +74,9 @@ public class MBeanExposer extends AbstractContainerLifecycleListener implements
     @Inject
     private Provider<ApplicationInfo> applicationInfoProvider;
 
+    @Inject
+    private Provider<MessageBodyWorkers> messageBodyWorkersProvider;
+
 
     private Map<String, ResourceStatistics> transformToStringKeys(Map<Class<?>, ResourceStatistics> stats) {
         Map<String, ResourceStatistics> newMap = new HashMap<>();
@@ -180,6 +185,16 @@ public class MBeanExposer extends AbstractContainerLifecycleListener implements
                     globalSubType);
 
             new ApplicationMXBeanImpl(appStats, this, globalSubType);
+
+            final MessageBodyWorkers workers = messageBodyWorkersProvider.get();
+            if (workers instanceof MessageBodyFactory) {
+                new WriterSelectionCacheMXBeanImpl(((MessageBodyFactory) workers).getWriterSelectionCache(), this,
+                        globalSubType);
+            }
+
+            if (statistics.getProfilingStatistics() != null) {
+                new ProfilingMXBeanImpl(statistics.getProfilingStatistics(), this, globalSubType);
+            }
         }
 
         requestMBean.updateExecutionStatistics(statistics.getRequestStatistics());
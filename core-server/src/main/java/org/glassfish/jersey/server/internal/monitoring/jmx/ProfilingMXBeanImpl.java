@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring.jmx;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+import org.glassfish.jersey.server.internal.monitoring.MonitoringUtils;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.LatencyHistogram;
+import org.glassfish.jersey.server.monitoring.ProfilingMXBean;
+import org.glassfish.jersey.server.monitoring.ProfilingStatistics;
+
+/**
+ * MXBean implementing the {@link org.glassfish.jersey.server.monitoring.ProfilingMXBean} MXBean interface.
+ * The values are read directly from the live profiling statistics.
+ */
+public class ProfilingMXBeanImpl implements ProfilingMXBean {
+
+    private final ProfilingStatistics statistics;
+
+    /**
+     * Create a new profiling MXBean and register it to the mbean server using {@code mBeanExposer}.
+     *
+     * @param statistics   Profiling statistics which should be exposed.
+     * @param mBeanExposer MBean exposer.
+     * @param parentName   {@link javax.management.ObjectName Object name} prefix of parent mbeans.
+     */
+    public ProfilingMXBeanImpl(final ProfilingStatistics statistics, final MBeanExposer mBeanExposer,
+                               final String parentName) {
+        this.statistics = statistics;
+        mBeanExposer.registerMBean(this, parentName + ",global=Profiling");
+    }
+
+    @Override
+    public double getSamplingRate() {
+        return statistics.getSamplingRate();
+    }
+
+    @Override
+    public long getSampledRequests() {
+        return statistics.getSampledRequests();
+    }
+
+    @Override
+    public Map<String, Long> getCounts() {
+        return collect(LatencyHistogram::getCount);
+    }
+
+    @Override
+    public Map<String, Long> getMedianLatencies() {
+        return collect(histogram -> histogram.getValueAtPercentile(50.0));
+    }
+
+    @Override
+    public Map<String, Long> getP99Latencies() {
+        return collect(histogram -> histogram.getValueAtPercentile(99.0));
+    }
+
+    @Override
+    public Map<String, Long> getMaxLatencies() {
+        return collect(LatencyHistogram::getMax);
+    }
+
+    private Map<String, Long> collect(final ToLongFunction<LatencyHistogram> value) {
+        final Map<String, Long> values = new TreeMap<>();
+        for (final Map.Entry<ResourceMethod, Map<ProfilingStatistics.Stage, LatencyHistogram>> method
+                : statistics.getResourceMethodStatistics().entrySet()) {
+            final String methodId = MonitoringUtils.getMethodUniqueId(method.getKey());
+            for (final Map.Entry<ProfilingStatistics.Stage, LatencyHistogram> stage : method.getValue().entrySet()) {
+                values.put(methodId + "#" + stage.getKey().name(), value.applyAsLong(stage.getValue()));
+            }
+        }
+        return values;
+    }
+}
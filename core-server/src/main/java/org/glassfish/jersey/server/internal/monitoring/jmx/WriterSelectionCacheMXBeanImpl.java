@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring.jmx;
+
+import org.glassfish.jersey.message.internal.WriterSelectionCache;
+import org.glassfish.jersey.server.monitoring.WriterSelectionCacheMXBean;
+
+/**
+ * MXBean implementing the {@link org.glassfish.jersey.server.monitoring.WriterSelectionCacheMXBean} MXBean interface.
+ * The counters are read directly from the live cache.
+ */
+public class WriterSelectionCacheMXBeanImpl implements WriterSelectionCacheMXBean {
+
+    private final WriterSelectionCache cache;
+
+    /**
+     * Create a new writer selection cache MXBean and register it to the mbean server using {@code mBeanExposer}.
+     *
+     * @param cache        Writer selection cache which should be exposed.
+     * @param mBeanExposer MBean exposer.
+     * @param parentName   {@link javax.management.ObjectName Object name} prefix of parent mbeans.
+     */
+    public WriterSelectionCacheMXBeanImpl(final WriterSelectionCache cache, final MBeanExposer mBeanExposer,
+                                          final String parentName) {
+        this.cache = cache;
+        mBeanExposer.registerMBean(this, parentName + ",global=WriterSelectionCache");
+    }
+
+    @Override
+    public long getHits() {
+        return cache.getHits();
+    }
+
+    @Override
+    public long getMisses() {
+        return cache.getMisses();
+    }
+
+    @Override
+    public int getSize() {
+        return cache.getSize();
+    }
+}
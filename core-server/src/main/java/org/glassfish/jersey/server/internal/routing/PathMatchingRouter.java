@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -105,8 +105,18 @@ final class PathMatchingRouter implements Router {
         return result;
     }
 
-    private Router.Continuation matchPathSelected(final RequestProcessingContext context, final Route acceptedRoute,
-                                                  final MatchResult matchResult, final TracingLogger tracingLogger) {
+    /**
+     * Push the match result of the selected route to the routing context and continue with the next-level routers
+     * of the route.
+     *
+     * @param context       request processing context.
+     * @param acceptedRoute selected route.
+     * @param matchResult   result of matching the route pattern against the unmatched right-hand request path.
+     * @param tracingLogger tracing logger of the request.
+     * @return continuation of the selected route.
+     */
+    static Router.Continuation matchPathSelected(final RequestProcessingContext context, final Route acceptedRoute,
+                                                 final MatchResult matchResult, final TracingLogger tracingLogger) {
         // Push match result information and rest of path to match
         context.routingContext().pushMatchResult(matchResult);
         final Router.Continuation result = Router.Continuation.of(context, acceptedRoute.next());
@@ -123,7 +133,7 @@ final class PathMatchingRouter implements Router {
      * @param context Contains Request to check the http method
      * @return false if method designator does not match
      */
-    private static boolean designatorMatch(final Route route, final RequestProcessingContext context) {
+    static boolean designatorMatch(final Route route, final RequestProcessingContext context) {
         final String httpMethod = context.request().getMethod();
 
         if (route.getHttpMethods().contains(httpMethod)) {
@@ -132,7 +142,7 @@ final class PathMatchingRouter implements Router {
         return ("HEAD".equals(httpMethod) && route.getHttpMethods().contains("GET"));
     }
 
-    private static boolean isLocator(final Route route) {
+    static boolean isLocator(final Route route) {
         return route.getHttpMethods() == null;
     }
 }
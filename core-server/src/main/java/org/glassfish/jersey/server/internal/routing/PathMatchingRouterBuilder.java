@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -95,4 +95,15 @@ final class PathMatchingRouterBuilder implements PathToRouterBuilder {
         return new PathMatchingRouter(acceptedRoutes());
     }
 
+    /**
+     * Build a {@link org.glassfish.jersey.server.internal.routing.Router hierarchical request path matching processor}
+     * that selects the candidate routes using a prefix trie of the literal route path prefixes.
+     *
+     * @return hierarchical trie based request path matching processor (i.e. router).
+     * @see org.glassfish.jersey.server.ServerProperties#TRIE_ROUTING_ENABLED
+     */
+    public TriePathMatchingRouter buildTrie() {
+        return new TriePathMatchingRouter(acceptedRoutes());
+    }
+
 }
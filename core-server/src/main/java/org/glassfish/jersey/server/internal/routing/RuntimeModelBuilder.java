@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -57,6 +57,7 @@ final class RuntimeModelBuilder {
     // SubResourceLocator Model Builder.
     private final Value<RuntimeLocatorModelBuilder> locatorBuilder;
     private final boolean isWildcardMethodSelectingRouter;
+    private final boolean isTrieRouting;
 
     /**
      * Create a new instance of the runtime model builder.
@@ -87,6 +88,8 @@ final class RuntimeModelBuilder {
                         RuntimeModelBuilder.this, modelProcessors, createServiceFunction));
         this.isWildcardMethodSelectingRouter = ServerProperties.getValue(config.getProperties(),
                 ServerProperties.EMPTY_REQUEST_MEDIA_TYPE_MATCHES_ANY_CONSUMES, true);
+        this.isTrieRouting = ServerProperties.getValue(config.getProperties(),
+                ServerProperties.TRIE_ROUTING_ENABLED, false);
     }
 
     private Router createMethodRouter(final ResourceMethod resourceMethod) {
@@ -116,7 +119,7 @@ final class RuntimeModelBuilder {
     private Router createRootRouter(final PathMatchingRouterBuilder lastRoutedBuilder, final boolean subResourceMode) {
         final Router routingRoot;
         if (lastRoutedBuilder != null) {
-            routingRoot = lastRoutedBuilder.build();
+            routingRoot = buildPathRouter(lastRoutedBuilder);
         } else {
             /*
              * Create an empty routing root that accepts any request, does not do
@@ -218,7 +221,7 @@ final class RuntimeModelBuilder {
             }
 
             if (srRoutedBuilder != null) {
-                final Router methodRouter = srRoutedBuilder.build();
+                final Router methodRouter = buildPathRouter(srRoutedBuilder);
 
                 if (subResourceMode) {
                     currentRouterBuilder = startNextRoute(currentRouterBuilder, PathPattern.OPEN_ROOT_PATH_PATTERN)
@@ -298,6 +301,10 @@ final class RuntimeModelBuilder {
         return methodRoutings.isEmpty() ? Collections.emptyList() : methodRoutings;
     }
 
+    private Router buildPathRouter(final PathMatchingRouterBuilder routerBuilder) {
+        return isTrieRouting ? routerBuilder.buildTrie() : routerBuilder.build();
+    }
+
     private PathToRouterBuilder startNextRoute(final PathMatchingRouterBuilder currentRouterBuilder, PathPattern routingPattern) {
         return currentRouterBuilder == null
                 ? PathMatchingRouterBuilder.newRoute(routingPattern) : currentRouterBuilder.route(routingPattern);
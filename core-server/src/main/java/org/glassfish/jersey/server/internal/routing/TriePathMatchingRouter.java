@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.MatchResult;
+
+import org.glassfish.jersey.message.internal.TracingLogger;
+import org.glassfish.jersey.server.internal.ServerTraceEvent;
+import org.glassfish.jersey.server.internal.process.RequestProcessingContext;
+import org.glassfish.jersey.uri.PathPattern;
+
+/**
+ * Matches the un-matched right-hand request path to the configured collection of path pattern matching routes
+ * using a prefix trie built from the literal prefixes of the route patterns.
+ * <p>
+ * Every route pattern starts with a (possibly empty) literal prefix, i.e. the characters of the path template
+ * preceding the first template variable. A route can only match a request path that starts with its literal
+ * prefix, so the trie is used to select the candidate routes for the request path in a single pass over the path
+ * characters. Only the candidate routes are then matched, in the original JAX-RS matching order, which keeps the
+ * routing semantics of {@link PathMatchingRouter} intact. Routes with fully literal patterns are matched by
+ * comparing strings; regular expression matching is only used for patterns containing template variables.
+ * </p>
+ * <p>
+ * Requests with enabled {@link ServerTraceEvent#MATCH_PATH_NOT_MATCHED path matching tracing} are delegated to the
+ * linear {@link PathMatchingRouter} so that every route is still reported in the trace.
+ * </p>
+ */
+final class TriePathMatchingRouter implements Router {
+
+    private static final int[] NO_CANDIDATES = new int[0];
+
+    private final Route[] routes;
+    private final LiteralRoute[] literalRoutes;
+    private final Node root;
+    private final PathMatchingRouter linearRouter;
+
+    /**
+     * Create new trie based path matching router.
+     *
+     * @param routes next-level request routers to be returned in case the router matching the built router is successful.
+     */
+    TriePathMatchingRouter(final List<Route> routes) {
+        this.routes = routes.toArray(new Route[0]);
+        this.literalRoutes = new LiteralRoute[this.routes.length];
+        this.linearRouter = new PathMatchingRouter(routes);
+
+        final MutableNode mutableRoot = new MutableNode();
+        for (int i = 0; i < this.routes.length; i++) {
+            final String regex = this.routes[i].routingPattern().getRegex();
+            final StringBuilder prefix = new StringBuilder();
+            final int end = literalPrefix(regex, prefix);
+
+            literalRoutes[i] = LiteralRoute.of(prefix.toString(), regex.substring(end));
+            mutableRoot.add(prefix, 0, i);
+        }
+        this.root = mutableRoot.freeze(NO_CANDIDATES);
+    }
+
+    @Override
+    public Router.Continuation apply(final RequestProcessingContext context) {
+        final TracingLogger tracingLogger = TracingLogger.getInstance(context.request());
+        final String path = context.routingContext().getFinalMatchingGroup();
+
+        if (path == null || tracingLogger.isLogEnabled(ServerTraceEvent.MATCH_PATH_NOT_MATCHED)) {
+            return linearRouter.apply(context);
+        }
+
+        tracingLogger.log(ServerTraceEvent.MATCH_PATH_FIND, path);
+
+        final int[] candidates = root.candidates(path);
+
+        MatchResult matchResultCandidate = null;
+        Route acceptedRouteCandidate = null;
+
+        for (final int index : candidates) {
+            final Route acceptedRoute = routes[index];
+            final MatchResult matchResult = match(index, path);
+            if (matchResult != null) {
+                if (PathMatchingRouter.isLocator(acceptedRoute) && matchResultCandidate != null) {
+                    // see PathMatchingRouter#apply(RequestProcessingContext)
+                    return PathMatchingRouter.matchPathSelected(
+                            context, acceptedRouteCandidate, matchResultCandidate, tracingLogger);
+                } else if (PathMatchingRouter.isLocator(acceptedRoute)
+                        || PathMatchingRouter.designatorMatch(acceptedRoute, context)) {
+                    return PathMatchingRouter.matchPathSelected(context, acceptedRoute, matchResult, tracingLogger);
+                } else if (matchResultCandidate == null) {
+                    matchResultCandidate = matchResult;
+                    acceptedRouteCandidate = acceptedRoute;
+                }
+            }
+        }
+
+        if (acceptedRouteCandidate != null) {
+            // method designator mismatched, but still go the route to get the proper status code
+            return PathMatchingRouter.matchPathSelected(context, acceptedRouteCandidate, matchResultCandidate, tracingLogger);
+        }
+
+        // No match
+        return Router.Continuation.of(context);
+    }
+
+    private MatchResult match(final int index, final String path) {
+        final LiteralRoute literalRoute = literalRoutes[index];
+        if (literalRoute != null && !path.isEmpty()) {
+            return literalRoute.match(path);
+        }
+        return routes[index].routingPattern().match(path);
+    }
+
+    /**
+     * Extract the literal prefix of the path pattern regular expression.
+     *
+     * @param regex  path pattern regular expression.
+     * @param prefix builder the unescaped literal prefix is appended to.
+     * @return index of the first non-literal character in the regular expression.
+     */
+    static int literalPrefix(final String regex, final StringBuilder prefix) {
+        int i = 0;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 < regex.length() && !Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    prefix.append(regex.charAt(i + 1));
+                    i += 2;
+                    continue;
+                }
+                break;
+            } else if ("()[]{}.*+?^$|".indexOf(c) >= 0) {
+                break;
+            }
+            prefix.append(c);
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Route with a pattern built from a template without any template variables. Such a pattern consists of the
+     * literal prefix followed by one of the {@link PathPattern.RightHandPath right-hand path} capturing groups.
+     */
+    private static final class LiteralRoute {
+
+        private static final String OPEN_RIGHT_HAND_PATH = "(/.*)?";
+        private static final String CLOSED_RIGHT_HAND_PATH = "(/)?";
+
+        private final String literal;
+        private final boolean open;
+
+        private static LiteralRoute of(final String literal, final String remainder) {
+            if (OPEN_RIGHT_HAND_PATH.equals(remainder)) {
+                return new LiteralRoute(literal, true);
+            } else if (CLOSED_RIGHT_HAND_PATH.equals(remainder)) {
+                return new LiteralRoute(literal, false);
+            }
+            return null;
+        }
+
+        private LiteralRoute(final String literal, final boolean open) {
+            this.literal = literal;
+            this.open = open;
+        }
+
+        private MatchResult match(final String path) {
+            if (!path.startsWith(literal)) {
+                return null;
+            }
+            final int length = literal.length();
+            if (path.length() == length) {
+                return new LiteralMatchResult(path, -1);
+            }
+            if (path.charAt(length) != '/') {
+                return null;
+            }
+            if (open || path.length() == length + 1) {
+                return new LiteralMatchResult(path, length);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Match result of a {@link LiteralRoute} equivalent to the result of a regular expression match of the route
+     * pattern, i.e. with the whole path as group 0 and the right-hand path as group 1.
+     */
+    private static final class LiteralMatchResult implements MatchResult {
+
+        private final String path;
+        private final int rightHandPathStart;
+
+        private LiteralMatchResult(final String path, final int rightHandPathStart) {
+            this.path = path;
+            this.rightHandPathStart = rightHandPathStart;
+        }
+
+        @Override
+        public int start() {
+            return 0;
+        }
+
+        @Override
+        public int start(final int group) {
+            checkGroup(group);
+            return group == 0 ? 0 : rightHandPathStart;
+        }
+
+        @Override
+        public int end() {
+            return path.length();
+        }
+
+        @Override
+        public int end(final int group) {
+            checkGroup(group);
+            return group == 0 || rightHandPathStart >= 0 ? path.length() : -1;
+        }
+
+        @Override
+        public String group() {
+            return path;
+        }
+
+        @Override
+        public String group(final int group) {
+            checkGroup(group);
+            if (group == 0) {
+                return path;
+            }
+            return rightHandPathStart < 0 ? null : path.substring(rightHandPathStart);
+        }
+
+        @Override
+        public int groupCount() {
+            return 1;
+        }
+
+        private static void checkGroup(final int group) {
+            if (group < 0 || group > 1) {
+                throw new IndexOutOfBoundsException("No group " + group);
+            }
+        }
+    }
+
+    /**
+     * Immutable trie node. Each node knows the indexes of all the routes whose literal prefix is a prefix of the
+     * path leading to the node, sorted in the routing order.
+     */
+    private static final class Node {
+
+        private final char[] keys;
+        private final Node[] children;
+        private final int[] candidates;
+
+        private Node(final char[] keys, final Node[] children, final int[] candidates) {
+            this.keys = keys;
+            this.children = children;
+            this.candidates = candidates;
+        }
+
+        /**
+         * Get the indexes of the routes that may match the path, sorted in the routing order.
+         *
+         * @param path request path to be matched.
+         * @return candidate route indexes.
+         */
+        private int[] candidates(final String path) {
+            Node node = this;
+            int[] result = candidates;
+            for (int i = 0; i < path.length(); i++) {
+                final int child = Arrays.binarySearch(node.keys, path.charAt(i));
+                if (child < 0) {
+                    break;
+                }
+                node = node.children[child];
+                result = node.candidates;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Trie node used while building the trie.
+     */
+    private static final class MutableNode {
+
+        private final TreeMap<Character, MutableNode> children = new TreeMap<>();
+        private final List<Integer> routes = new ArrayList<>();
+
+        private void add(final CharSequence prefix, final int position, final int route) {
+            if (position == prefix.length()) {
+                routes.add(route);
+            } else {
+                children.computeIfAbsent(prefix.charAt(position), c -> new MutableNode()).add(prefix, position + 1, route);
+            }
+        }
+
+        private Node freeze(final int[] parentCandidates) {
+            final int[] candidates;
+            if (routes.isEmpty()) {
+                candidates = parentCandidates;
+            } else {
+                candidates = Arrays.copyOf(parentCandidates, parentCandidates.length + routes.size());
+                for (int i = 0; i < routes.size(); i++) {
+                    candidates[parentCandidates.length + i] = routes.get(i);
+                }
+                Arrays.sort(candidates);
+            }
+
+            final char[] keys = new char[children.size()];
+            final Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (final Map.Entry<Character, MutableNode> child : children.entrySet()) {
+                keys[i] = child.getKey();
+                nodes[i] = child.getValue().freeze(candidates);
+                i++;
+            }
+            return new Node(keys, nodes, candidates);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,7 @@
 
 package org.glassfish.jersey.server.internal.scanning;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.ReflectPermission;
@@ -23,14 +24,19 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.security.AccessController;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 import org.glassfish.jersey.internal.OsgiRegistry;
 import org.glassfish.jersey.internal.util.ReflectionHelper;
 import org.glassfish.jersey.internal.util.Tokenizer;
+import org.glassfish.jersey.server.ResourceFinder;
 import org.glassfish.jersey.server.internal.AbstractResourceFinderAdapter;
 import org.glassfish.jersey.uri.UriComponent;
 
@@ -69,6 +75,8 @@ public final class PackageNamesScanner extends AbstractResourceFinderAdapter {
     private final String[] packages;
     private final ClassLoader classloader;
     private final Map<String, UriSchemeResourceFinderFactory> finderFactories;
+    // paths of the packages whose resources are skipped, nested packages are not excluded
+    private final Set<String> excludedPackages;
 
     private CompositeResourceFinder compositeResourceFinder;
 
@@ -103,9 +111,33 @@ public final class PackageNamesScanner extends AbstractResourceFinderAdapter {
      *                    will be scanned.
      */
     public PackageNamesScanner(final ClassLoader classLoader, final String[] packages, final boolean recursive) {
+        this(classLoader, packages, recursive, Collections.emptySet());
+    }
+
+    /**
+     * Scan a set of packages using the provided {@link ClassLoader}, skipping the resources located directly
+     * in the excluded packages.
+     *
+     * The nested packages of an excluded package are still scanned in the recursive mode, unless they are excluded
+     * as well. The exclusions apply to packages found in directories and JAR files, resources found under other URI
+     * schemes are all reported.
+     *
+     * @param classLoader      the {@link ClassLoader} to load classes from.
+     * @param packages         an array of package names.
+     * @param recursive        if ({@code true} the packages will be scanned recursively together with
+     *                         any nested packages, if {@code false} only the explicitly listed packages
+     *                         will be scanned.
+     * @param excludedPackages names of the packages whose resources are skipped.
+     */
+    public PackageNamesScanner(final ClassLoader classLoader, final String[] packages, final boolean recursive,
+                               final Set<String> excludedPackages) {
         this.recursive = recursive;
         this.packages = packages.clone();
         this.classloader = classLoader;
+        this.excludedPackages = new HashSet<>();
+        for (final String excluded : excludedPackages) {
+            this.excludedPackages.add(excluded.replace('.', '/'));
+        }
 
         this.finderFactories = new HashMap<>();
         add(new JarZipSchemeResourceFinderFactory());
@@ -168,16 +200,34 @@ public final class PackageNamesScanner extends AbstractResourceFinderAdapter {
         return classloader;
     }
 
+    /**
+     * Get the scanned package names.
+     *
+     * @return scanned package names.
+     */
+    public String[] getPackages() {
+        return packages.clone();
+    }
+
+    /**
+     * Get the recursion strategy of the scanner.
+     *
+     * @return {@code true} if the nested packages are scanned as well.
+     */
+    public boolean isRecursive() {
+        return recursive;
+    }
+
     private void init() {
         compositeResourceFinder = new CompositeResourceFinder();
 
         for (final String p : packages) {
             try {
-                final Enumeration<URL> urls =
-                        ResourcesProvider.getInstance().getResources(p.replace('.', '/'), classloader);
+                final String packagePath = p.replace('.', '/');
+                final Enumeration<URL> urls = ResourcesProvider.getInstance().getResources(packagePath, classloader);
                 while (urls.hasMoreElements()) {
                     try {
-                        addResourceFinder(toURI(urls.nextElement()));
+                        addResourceFinder(toURI(urls.nextElement()), packagePath);
                     } catch (final URISyntaxException e) {
                         throw new ResourceFinderException("Error when converting a URL to a URI", e);
                     }
@@ -258,10 +308,18 @@ public final class PackageNamesScanner extends AbstractResourceFinderAdapter {
         ResourcesProvider.setInstance(provider);
     }
 
-    private void addResourceFinder(final URI u) {
+    private void addResourceFinder(final URI u, final String packagePath) {
         final UriSchemeResourceFinderFactory finderFactory = finderFactories.get(u.getScheme().toLowerCase(Locale.ROOT));
         if (finderFactory != null) {
-            compositeResourceFinder.push(finderFactory.create(u, recursive));
+            if (excludedPackages.isEmpty()) {
+                compositeResourceFinder.push(finderFactory.create(u, recursive));
+            } else if (finderFactory instanceof FileSchemeResourceFinderFactory) {
+                addDirectoryResourceFinders(finderFactory, new File(u.getPath()), packagePath);
+            } else if (finderFactory instanceof JarZipSchemeResourceFinderFactory) {
+                compositeResourceFinder.push(new ExcludingResourceFinder(finderFactory.create(u, recursive)));
+            } else {
+                compositeResourceFinder.push(finderFactory.create(u, recursive));
+            }
         } else {
             throw new ResourceFinderException("The URI scheme " + u.getScheme()
                     + " of the URI " + u
@@ -273,6 +331,75 @@ public final class PackageNamesScanner extends AbstractResourceFinderAdapter {
         }
     }
 
+    private void addDirectoryResourceFinders(final UriSchemeResourceFinderFactory finderFactory,
+                                             final File directory,
+                                             final String packagePath) {
+        // package directories are scanned one by one, so that the excluded ones are not read at all
+        if (!excludedPackages.contains(packagePath)) {
+            compositeResourceFinder.push(finderFactory.create(directory.toURI(), false));
+        }
+        if (recursive) {
+            final File[] subDirectories = directory.listFiles(File::isDirectory);
+            if (subDirectories != null) {
+                for (final File subDirectory : subDirectories) {
+                    addDirectoryResourceFinders(finderFactory, subDirectory,
+                            packagePath.isEmpty() ? subDirectory.getName() : packagePath + '/' + subDirectory.getName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Resource finder skipping the JAR file entries located directly in the excluded packages.
+     */
+    private final class ExcludingResourceFinder extends AbstractResourceFinderAdapter {
+
+        private final ResourceFinder finder;
+        private String next;
+
+        private ExcludingResourceFinder(final ResourceFinder finder) {
+            this.finder = finder;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && finder.hasNext()) {
+                final String name = finder.next();
+                final int lastSlash = name.lastIndexOf('/');
+                if (!excludedPackages.contains(lastSlash < 0 ? "" : name.substring(0, lastSlash))) {
+                    next = name;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (hasNext()) {
+                final String name = next;
+                next = null;
+                return name;
+            }
+
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public InputStream open() {
+            return finder.open();
+        }
+
+        @Override
+        public void close() {
+            finder.close();
+        }
+
+        @Override
+        public void reset() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     private URI toURI(final URL url) throws URISyntaxException {
         try {
             return url.toURI();
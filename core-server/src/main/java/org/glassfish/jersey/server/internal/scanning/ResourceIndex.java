@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.scanning;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.internal.util.ReflectionHelper;
+import org.glassfish.jersey.server.internal.LocalizationMessages;
+
+/**
+ * Index of JAX-RS root resource and provider classes generated at build time by
+ * {@link org.glassfish.jersey.server.index.ResourceIndexProcessor}.
+ * <p>
+ * The index files are stored in application archives at {@link #LOCATION}. Each line of an index file contains a binary
+ * name of a public (or public static nested) class annotated with {@link jakarta.ws.rs.Path @Path} or
+ * {@link jakarta.ws.rs.ext.Provider @Provider}, lines starting with {@code #} are comments. The classes are the same
+ * that {@link AnnotationAcceptingListener} finds when the class files are scanned.
+ * </p>
+ *
+ * @see PackageNamesScanner
+ */
+public final class ResourceIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(ResourceIndex.class.getName());
+
+    /**
+     * Location of the resource index files.
+     */
+    public static final String LOCATION = "META-INF/jersey/resource-index";
+
+    private final Set<String> classNames;
+
+    private ResourceIndex(final Set<String> classNames) {
+        this.classNames = classNames;
+    }
+
+    /**
+     * Load and merge all the resource index files visible to the class loader.
+     *
+     * @param classLoader class loader to look up the index files with.
+     * @return resource index or {@code null} if there is no index file visible to the class loader.
+     * @throws IOException in case the index files cannot be read.
+     */
+    public static ResourceIndex load(final ClassLoader classLoader) throws IOException {
+        final Enumeration<URL> urls = classLoader == null
+                ? ClassLoader.getSystemResources(LOCATION)
+                : classLoader.getResources(LOCATION);
+        if (!urls.hasMoreElements()) {
+            return null;
+        }
+
+        final Set<String> classNames = new LinkedHashSet<>();
+        while (urls.hasMoreElements()) {
+            try (InputStream in = urls.nextElement().openStream()) {
+                read(in, classNames);
+            }
+        }
+        return new ResourceIndex(classNames);
+    }
+
+    /**
+     * Read class names from a resource index file.
+     *
+     * @param in         index file stream.
+     * @param classNames set the class names are added to.
+     * @throws IOException in case the stream cannot be read.
+     */
+    public static void read(final InputStream in, final Collection<String> classNames) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (!line.isEmpty() && line.charAt(0) != '#') {
+                classNames.add(line);
+            }
+        }
+    }
+
+    /**
+     * Write a resource index file.
+     *
+     * @param writer     index file writer.
+     * @param classNames binary names of the indexed classes.
+     * @throws IOException in case the index cannot be written.
+     */
+    public static void write(final Writer writer, final Collection<String> classNames) throws IOException {
+        writer.write("# Jersey resource and provider index\n");
+        for (final String className : new TreeSet<>(classNames)) {
+            writer.write(className);
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Get the packages covered by the index, i.e. the given packages and, in the recursive mode, their nested
+     * packages which contain an indexed class.
+     *
+     * @param packages  package names.
+     * @param recursive if {@code true} nested packages are included as well.
+     * @return names of the covered packages.
+     */
+    public Set<String> getPackages(final String[] packages, final boolean recursive) {
+        final Set<String> result = new LinkedHashSet<>();
+        for (final String className : getClassNames(packages, recursive)) {
+            final int lastDot = className.lastIndexOf('.');
+            result.add(lastDot < 0 ? "" : className.substring(0, lastDot));
+        }
+        return result;
+    }
+
+    /**
+     * Get names of the indexed classes from the given packages.
+     *
+     * @param packages  package names.
+     * @param recursive if {@code true} classes from nested packages are included as well.
+     * @return binary names of the indexed classes in the packages.
+     */
+    public Set<String> getClassNames(final String[] packages, final boolean recursive) {
+        final Set<String> result = new LinkedHashSet<>();
+        for (final String className : classNames) {
+            final int lastDot = className.lastIndexOf('.');
+            final String classPackage = lastDot < 0 ? "" : className.substring(0, lastDot);
+            for (final String pkg : packages) {
+                if (classPackage.equals(pkg)
+                        || (recursive && (pkg.isEmpty() || classPackage.startsWith(pkg + ".")))) {
+                    result.add(className);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Load the indexed classes from the given packages.
+     * <p>
+     * Indexed classes that cannot be loaded, e.g. because the index is stale, are skipped.
+     * </p>
+     *
+     * @param packages    package names.
+     * @param recursive   if {@code true} classes from nested packages are included as well.
+     * @param classLoader class loader to load the classes with.
+     * @return indexed classes in the packages.
+     */
+    public Set<Class<?>> getClasses(final String[] packages, final boolean recursive, final ClassLoader classLoader) {
+        final Set<Class<?>> result = new LinkedHashSet<>();
+        for (final String className : getClassNames(packages, recursive)) {
+            try {
+                result.add(AccessController.doPrivileged(ReflectionHelper.classForNameWithExceptionPEA(className, classLoader)));
+            } catch (final ClassNotFoundException e) {
+                LOGGER.log(Level.CONFIG, LocalizationMessages.UNABLE_TO_LOAD_CLASS(className), e);
+            } catch (final PrivilegedActionException e) {
+                LOGGER.log(Level.CONFIG, LocalizationMessages.UNABLE_TO_LOAD_CLASS(className), e.getCause());
+            }
+        }
+        return result;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -92,6 +92,8 @@ public class ResourceMethodInvoker implements Endpoint, ResourceInfo {
     private final Class<?> resourceClass;
     private final List<RankedProvider<ContainerRequestFilter>> requestFilters = new ArrayList<>();
     private final List<RankedProvider<ContainerResponseFilter>> responseFilters = new ArrayList<>();
+    private final List<ContainerRequestFilter> sortedRequestFilters;
+    private final List<ContainerResponseFilter> sortedResponseFilters;
     private final Iterable<ReaderInterceptor> readerInterceptors;
     private final Iterable<WriterInterceptor> writerInterceptors;
 
@@ -301,6 +303,10 @@ public class ResourceMethodInvoker implements Endpoint, ResourceInfo {
                 new RankedComparator<>(), _writerInterceptors).spliterator(), false).collect(Collectors.toList()));
         this.requestFilters.addAll(_requestFilters);
         this.responseFilters.addAll(_responseFilters);
+        this.sortedRequestFilters = mergeAndSort(new RankedComparator<>(),
+                processingProviders.getGlobalRequestFilters(), requestFilters);
+        this.sortedResponseFilters = mergeAndSort(new RankedComparator<>(RankedComparator.Order.DESCENDING),
+                processingProviders.getGlobalResponseFilters(), responseFilters);
 
         // pre-compute & cache invocation properties
         this.methodAnnotations = invocable.getHandlingMethod().getDeclaredAnnotations();
@@ -318,6 +324,18 @@ public class ResourceMethodInvoker implements Endpoint, ResourceInfo {
                 && Response.class.isAssignableFrom((Class<?>) completionStageResponseType);
     }
 
+    private static <T> List<T> mergeAndSort(final RankedComparator<T> comparator,
+                                            final Iterable<RankedProvider<T>> globalProviders,
+                                            final Iterable<RankedProvider<T>> boundProviders) {
+        final List<T> sorted = new ArrayList<>();
+        final Iterable<T> merged = Providers.mergeAndSortRankedProviders(comparator,
+                Arrays.asList(globalProviders, boundProviders));
+        for (final T provider : merged) {
+            sorted.add(provider);
+        }
+        return sorted.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(sorted);
+    }
+
     private <T> void addNameBoundProviders(
             final Collection<RankedProvider<T>> targetCollection,
             final NameBound nameBound,
@@ -517,6 +535,32 @@ public class ResourceMethodInvoker implements Endpoint, ResourceInfo {
         return responseFilters;
     }
 
+    /**
+     * Get all global and bound request filters applicable to the {@link #getResourceMethod() resource method}
+     * wrapped by this invoker, sorted in the order of execution.
+     * <p>
+     * The list is computed once when the invoker is built so that it does not need to be merged and sorted
+     * for every request.
+     * </p>
+     *
+     * @return unmodifiable list of sorted request filters, never {@code null}.
+     * @since 3.1.2
+     */
+    public List<ContainerRequestFilter> getSortedRequestFilters() {
+        return sortedRequestFilters;
+    }
+
+    /**
+     * Get all global and bound response filters applicable to the {@link #getResourceMethod() resource method}
+     * wrapped by this invoker, sorted in the order of execution.
+     *
+     * @return unmodifiable list of sorted response filters, never {@code null}.
+     * @since 3.1.2
+     */
+    public List<ContainerResponseFilter> getSortedResponseFilters() {
+        return sortedResponseFilters;
+    }
+
     /**
      * Get all reader interceptors applicable to the {@link #getResourceMethod() resource method}
      * wrapped by this invoker.
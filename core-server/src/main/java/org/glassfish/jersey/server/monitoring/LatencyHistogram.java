@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.monitoring;
+
+/**
+ * Distribution of latencies recorded by the request {@link ProfilingStatistics profiler}. All values are in nanoseconds.
+ * <p>
+ * Recorded values are grouped into buckets whose width grows with the magnitude of the value, similarly to
+ * HdrHistogram. Values returned by {@link #getValueAtPercentile(double)} are therefore precise to about three percent
+ * of the value, while the {@link #getMin() minimum} and {@link #getMax() maximum} are exact.
+ * </p>
+ * <p>
+ * The histogram is updated concurrently by the sampled requests; the returned values reflect the state
+ * of the histogram at the time of the call.
+ * </p>
+ *
+ * @since 3.1.2
+ */
+public interface LatencyHistogram {
+
+    /**
+     * Get the number of recorded values.
+     *
+     * @return number of recorded values.
+     */
+    public long getCount();
+
+    /**
+     * Get the minimal recorded value.
+     *
+     * @return minimal value in nanoseconds, or {@code 0} if no value has been recorded.
+     */
+    public long getMin();
+
+    /**
+     * Get the maximal recorded value.
+     *
+     * @return maximal value in nanoseconds, or {@code 0} if no value has been recorded.
+     */
+    public long getMax();
+
+    /**
+     * Get the mean of the recorded values.
+     *
+     * @return mean value in nanoseconds, or {@code 0} if no value has been recorded.
+     */
+    public double getMean();
+
+    /**
+     * Get the value at the given percentile, i.e. the value that is greater than or equal to the given percentage
+     * of the recorded values.
+     *
+     * @param percentile percentile between {@code 0.0} and {@code 100.0}, e.g. {@code 99.9}.
+     * @return value at the percentile in nanoseconds, or {@code 0} if no value has been recorded.
+     */
+    public long getValueAtPercentile(double percentile);
+}
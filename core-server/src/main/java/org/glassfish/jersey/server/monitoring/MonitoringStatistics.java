@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -113,6 +113,18 @@ public interface MonitoringStatistics {
      */
     public ExceptionMapperStatistics getExceptionMapperStatistics();
 
+    /**
+     * Get per-stage latency statistics of profiled requests. The statistics are available only if profiling
+     * is enabled by the property {@link org.glassfish.jersey.server.ServerProperties#MONITORING_PROFILING_ENABLED}.
+     * Unlike other statistics, the returned profiling statistics are updated continuously.
+     *
+     * @return Profiling statistics or {@code null} if profiling is not enabled.
+     * @since 3.1.2
+     */
+    public default ProfilingStatistics getProfilingStatistics() {
+        return null;
+    }
+
     /**
      * Get the immutable consistent snapshot of the monitoring statistics. Working with snapshots might
      * have negative performance impact as snapshot must be created but ensures consistency of data over time.
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.monitoring;
+
+import java.util.Map;
+
+/**
+ * MXBean interface of the request {@link ProfilingStatistics profiler}. Keys of the returned maps consist of the
+ * unique id of the resource method in the format {@code produces|consumes|http-method|path|java-method} used by the
+ * resource method MXBeans and the name of the {@link ProfilingStatistics.Stage stage}, separated by {@code "#"}.
+ * All latencies are in nanoseconds.
+ *
+ * @since 3.1.2
+ */
+public interface ProfilingMXBean {
+    /**
+     * Returns the fraction of requests measured by the profiler.
+     *
+     * @return Sampling rate.
+     */
+    public double getSamplingRate();
+
+    /**
+     * Returns the number of sampled requests recorded since start of the application.
+     *
+     * @return Number of sampled requests.
+     */
+    public long getSampledRequests();
+
+    /**
+     * Returns the number of recorded stage executions.
+     *
+     * @return Map of resource method stages to number of executions.
+     */
+    public Map<String, Long> getCounts();
+
+    /**
+     * Returns the median latencies.
+     *
+     * @return Map of resource method stages to median latencies.
+     */
+    public Map<String, Long> getMedianLatencies();
+
+    /**
+     * Returns the 99th percentile latencies.
+     *
+     * @return Map of resource method stages to 99th percentile latencies.
+     */
+    public Map<String, Long> getP99Latencies();
+
+    /**
+     * Returns the maximal latencies.
+     *
+     * @return Map of resource method stages to maximal latencies.
+     */
+    public Map<String, Long> getMaxLatencies();
+}
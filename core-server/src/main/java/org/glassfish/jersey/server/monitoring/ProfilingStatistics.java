@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.monitoring;
+
+import java.util.Map;
+
+import org.glassfish.jersey.server.model.ResourceMethod;
+
+/**
+ * Per-stage latency statistics of resource method requests collected by the request profiler.
+ * <p>
+ * The profiler is enabled by the {@link org.glassfish.jersey.server.ServerProperties#MONITORING_PROFILING_ENABLED}
+ * property and measures only a {@link #getSamplingRate() sample} of requests in order to keep its overhead low.
+ * Durations of the processing {@link Stage stages} of every sampled request are recorded into a
+ * {@link LatencyHistogram histogram} of the stage and the matched resource method. Requests that were not matched
+ * to a resource method are not recorded.
+ * </p>
+ *
+ * @see MonitoringStatistics#getProfilingStatistics()
+ * @since 3.1.2
+ */
+public interface ProfilingStatistics {
+
+    /**
+     * Request processing stage.
+     */
+    public enum Stage {
+        /**
+         * Matching of the request to a resource method.
+         */
+        ROUTING,
+        /**
+         * Execution of post-matching {@link jakarta.ws.rs.container.ContainerRequestFilter request filters}.
+         */
+        REQUEST_FILTERS,
+        /**
+         * Reading of the request entity by {@link jakarta.ws.rs.ext.MessageBodyReader message body readers},
+         * including {@link jakarta.ws.rs.ext.ReaderInterceptor reader interceptors}.
+         */
+        ENTITY_READ,
+        /**
+         * Invocation of the resource method, excluding reading of the request entity.
+         */
+        INVOCATION,
+        /**
+         * Execution of {@link jakarta.ws.rs.container.ContainerResponseFilter response filters}.
+         */
+        RESPONSE_FILTERS,
+        /**
+         * Writing of the response entity by {@link jakarta.ws.rs.ext.MessageBodyWriter message body writers},
+         * including {@link jakarta.ws.rs.ext.WriterInterceptor writer interceptors}.
+         */
+        ENTITY_WRITE
+    }
+
+    /**
+     * Get the fraction of requests measured by the profiler.
+     *
+     * @return sampling rate between {@code 0.0} and {@code 1.0}.
+     */
+    public double getSamplingRate();
+
+    /**
+     * Get the number of sampled requests recorded since the start of the application.
+     *
+     * @return number of sampled requests.
+     */
+    public long getSampledRequests();
+
+    /**
+     * Get the latency histograms of resource methods that were matched by at least one sampled request. Values
+     * of the returned map contain histograms of the stages that the sampled requests of the method went through,
+     * e.g. the {@link Stage#ENTITY_READ} stage is missing for methods that do not read the request entity.
+     *
+     * @return map of resource methods to latency histograms of their processing stages.
+     */
+    public Map<ResourceMethod, Map<Stage, LatencyHistogram>> getResourceMethodStatistics();
+}
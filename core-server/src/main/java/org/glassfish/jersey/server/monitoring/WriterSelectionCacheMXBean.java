@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.monitoring;
+
+/**
+ * MXBean interface of the cache of message body writer and response media type selections made for
+ * {@link org.glassfish.jersey.message.StableWriteable stable} message body writers.
+ *
+ * @since 3.1.2
+ */
+public interface WriterSelectionCacheMXBean {
+    /**
+     * Returns the number of writer and media type selections answered from the cache since start of the application.
+     *
+     * @return Number of cache hits.
+     */
+    public long getHits();
+
+    /**
+     * Returns the number of writer and media type selections that were not found in the cache and had to be computed
+     * since start of the application.
+     *
+     * @return Number of cache misses.
+     */
+    public long getMisses();
+
+    /**
+     * Returns the number of currently cached selections.
+     *
+     * @return Number of cached selections.
+     */
+    public int getSize();
+}
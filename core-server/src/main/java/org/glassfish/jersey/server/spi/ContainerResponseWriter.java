@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -78,6 +78,13 @@ public interface ContainerResponseWriter {
      * otherwise -1. I/O containers may use this value to determine whether the
      * {@code "Content-Length"} header can be set or utilize chunked transfer encoding.
      * </p>
+     * <p>
+     * The returned output stream may implement {@link org.glassfish.jersey.message.DirectOutput} to let the entity
+     * providers write file regions and byte buffers without copying them through the stream, e.g. using
+     * {@code sendfile}. A container that cannot write a direct payload at the moment (e.g. because of a transport
+     * encryption) returns {@code false} from the {@code DirectOutput} method and the payload is written into
+     * the stream instead.
+     * </p>
      *
      * @param contentLength greater or equal to 0 if the content length in bytes
      *     of the entity to be written is known, otherwise -1. Containers
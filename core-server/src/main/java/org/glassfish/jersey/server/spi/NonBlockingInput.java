@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.spi;
+
+/**
+ * Request entity input stream capability of reading the entity without blocking.
+ * <p>
+ * The entity stream set by an I/O container to the {@link org.glassfish.jersey.server.ContainerRequest#setEntityStream
+ * container request} may implement this interface if the container supports non-blocking reads (e.g. using Servlet
+ * 3.1 {@code ReadListener}). Jersey then uses it to deliver the request entity by the
+ * {@link org.glassfish.jersey.server.ContainerRequest#getEntityPublisher() entity publisher} without occupying a thread
+ * while waiting for the data. Otherwise the entity stream is read in a blocking manner.
+ * </p>
+ * <p>
+ * Once a read listener has been set, the stream is read only after {@link #isReady()} returned {@code true}
+ * and never concurrently.
+ * </p>
+ *
+ * @since 3.1.2
+ */
+public interface NonBlockingInput {
+
+    /**
+     * Listener notified by the container when the entity stream can be read without blocking.
+     */
+    interface ReadListener {
+
+        /**
+         * Invoked when data, the end of the stream or a read error are available, i.e. when a subsequent read
+         * of the stream would not block, after {@link #isReady()} returned {@code false}.
+         */
+        void onDataAvailable();
+
+        /**
+         * Invoked when reading the entity failed.
+         *
+         * @param error error reading the entity.
+         */
+        void onError(Throwable error);
+    }
+
+    /**
+     * Set the read listener and switch the stream to the non-blocking mode. The listener may be set only once.
+     *
+     * @param listener listener notified when the stream can be read without blocking.
+     * @return {@code true} if the stream has been switched to the non-blocking mode, {@code false} if the non-blocking
+     * reading is not possible (e.g. the request has not been suspended yet) and the stream has to be read in a blocking
+     * manner.
+     */
+    boolean setReadListener(ReadListener listener);
+
+    /**
+     * Check whether the stream can be read without blocking. A read of a ready stream returns some data, {@code -1}
+     * at the end of the stream or throws the read error. If the stream is not ready, the
+     * {@link ReadListener#onDataAvailable() read listener} will be notified once it gets ready.
+     *
+     * @return {@code true} if the stream can be read without blocking.
+     */
+    boolean isReady();
+}
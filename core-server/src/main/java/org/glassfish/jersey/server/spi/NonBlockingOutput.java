@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.spi;
+
+/**
+ * Response entity output stream capability of writing the entity without blocking.
+ * <p>
+ * The output stream returned by {@link ContainerResponseWriter#writeResponseStatusAndHeaders} may implement this
+ * interface if the container supports non-blocking writes (e.g. using Servlet 3.1 {@code WriteListener}). Jersey then
+ * uses it to write {@link org.glassfish.jersey.server.ChunkedOutput chunked responses} without occupying a thread
+ * while a slow client is reading the response. Otherwise the response is written in a blocking manner.
+ * </p>
+ * <p>
+ * Once a write listener has been set, the stream is written, flushed and closed only after {@link #isReady()}
+ * returned {@code true} and never concurrently. A write to a ready stream never blocks; the stream buffers the data
+ * that cannot be sent immediately and reports itself as not ready until the buffered data have been sent.
+ * </p>
+ *
+ * @since 3.1.2
+ */
+public interface NonBlockingOutput {
+
+    /**
+     * Listener notified by the container when the entity stream can be written without blocking.
+     */
+    interface WriteListener {
+
+        /**
+         * Invoked when the data written before have been sent and a subsequent write would not block, after
+         * {@link #isReady()} returned {@code false}.
+         */
+        void onWritePossible();
+
+        /**
+         * Invoked when writing the entity failed.
+         *
+         * @param error error writing the entity.
+         */
+        void onError(Throwable error);
+    }
+
+    /**
+     * Set the write listener and switch the stream to the non-blocking mode. The listener may be set only once.
+     *
+     * @param listener listener notified when the stream can be written without blocking.
+     * @return {@code true} if the stream has been switched to the non-blocking mode, {@code false} if the non-blocking
+     * writing is not possible (e.g. the response has not been suspended yet) and the stream has to be written
+     * in a blocking manner.
+     */
+    boolean setWriteListener(WriteListener listener);
+
+    /**
+     * Check whether the stream can be written without blocking, i.e. whether all the data written before have been
+     * sent. If the stream is not ready, the {@link WriteListener#onWritePossible() write listener} will be notified
+     * once it gets ready.
+     *
+     * @return {@code true} if the stream can be written without blocking.
+     */
+    boolean isReady();
+}
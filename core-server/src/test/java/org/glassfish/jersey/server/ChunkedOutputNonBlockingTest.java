@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.SecurityContext;
+
+import org.glassfish.jersey.server.spi.ContainerResponseWriter;
+import org.glassfish.jersey.server.spi.NonBlockingOutput;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the {@link ChunkedOutput} writing chunks into a {@link NonBlockingOutput non-blocking} container stream.
+ *
+ * @since 3.1.2
+ */
+public class ChunkedOutputNonBlockingTest {
+
+    @Path("chunks")
+    public static class ChunkedResource {
+
+        private volatile ChunkedOutput<String> output;
+
+        @GET
+        public ChunkedOutput<String> get() {
+            output = new ChunkedOutput<>(String.class, ";");
+            return output;
+        }
+    }
+
+    /**
+     * Non-blocking container stream whose writability is driven by the test.
+     */
+    private static class NonBlockingStream extends ByteArrayOutputStream implements NonBlockingOutput {
+
+        private final AtomicInteger writers = new AtomicInteger();
+        private final AtomicInteger closes = new AtomicInteger();
+        private volatile boolean ready = true;
+        private volatile boolean misused;
+        volatile WriteListener listener;
+
+        @Override
+        public boolean setWriteListener(final WriteListener listener) {
+            this.listener = listener;
+            return true;
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void write(final int b) {
+            enter();
+            try {
+                super.write(b);
+            } finally {
+                writers.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            enter();
+            try {
+                super.write(b, off, len);
+            } finally {
+                writers.decrementAndGet();
+            }
+        }
+
+        private void enter() {
+            // concurrent writes or writes after close are a misuse of the container stream
+            if (writers.getAndIncrement() != 0 || closes.get() != 0) {
+                misused = true;
+            }
+        }
+
+        @Override
+        public void close() {
+            closes.incrementAndGet();
+        }
+
+        String content() {
+            return toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static class Writer implements ContainerResponseWriter {
+
+        private final OutputStream stream;
+
+        Writer(final OutputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public OutputStream writeResponseStatusAndHeaders(final long contentLength, final ContainerResponse responseContext) {
+            return stream;
+        }
+
+        @Override
+        public boolean suspend(final long timeOut, final TimeUnit timeUnit, final TimeoutHandler timeoutHandler) {
+            return true;
+        }
+
+        @Override
+        public void setSuspendTimeout(final long timeOut, final TimeUnit timeUnit) {
+        }
+
+        @Override
+        public void commit() {
+        }
+
+        @Override
+        public void failure(final Throwable error) {
+        }
+
+        @Override
+        public boolean enableResponseBuffering() {
+            return false;
+        }
+    }
+
+    private NonBlockingStream stream;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        stream = new NonBlockingStream();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private ChunkedOutput<String> start() {
+        final ChunkedResource resource = new ChunkedResource();
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig().registerInstances(resource));
+        final ContainerRequest request = RequestContextBuilder.from("/chunks", "GET").build();
+        request.setSecurityContext(new SecurityContext() {
+            @Override
+            public Principal getUserPrincipal() {
+                return null;
+            }
+
+            @Override
+            public boolean isUserInRole(final String role) {
+                return false;
+            }
+
+            @Override
+            public boolean isSecure() {
+                return false;
+            }
+
+            @Override
+            public String getAuthenticationScheme() {
+                return null;
+            }
+        });
+        request.setWriter(new Writer(stream));
+        handler.handle(request);
+        assertNotNull(resource.output);
+        return resource.output;
+    }
+
+    @Test
+    public void testResumedByWriteListener() throws Exception {
+        final ChunkedOutput<String> output = start();
+
+        stream.ready = false;
+        final CompletableFuture<Void> written = output.writeAsync("a").toCompletableFuture();
+        assertFalse(written.isDone());
+        assertEquals("", stream.content());
+
+        stream.ready = true;
+        stream.listener.onWritePossible();
+        written.get(1, TimeUnit.SECONDS);
+        assertEquals("a;", stream.content());
+
+        output.writeAsync("b").toCompletableFuture().get(1, TimeUnit.SECONDS);
+        output.close();
+        assertEquals("a;b;", stream.content());
+        assertEquals(1, stream.closes.get());
+        assertFalse(stream.misused);
+    }
+
+    @Test
+    public void testCloseWhileAwaitingWritability() throws Exception {
+        final ChunkedOutput<String> output = start();
+
+        stream.ready = false;
+        final CompletableFuture<Void> written = output.writeAsync("a").toCompletableFuture();
+        output.close();
+        assertTrue(output.isClosed());
+        assertFalse(written.isDone());
+        assertEquals(0, stream.closes.get());
+
+        stream.ready = true;
+        stream.listener.onWritePossible();
+        written.get(1, TimeUnit.SECONDS);
+        assertEquals("a;", stream.content());
+        assertEquals(1, stream.closes.get());
+        assertFalse(stream.misused);
+    }
+
+    @Test
+    public void testErrorWhileQueued() throws Exception {
+        final ChunkedOutput<String> output = start();
+
+        stream.ready = false;
+        final CompletableFuture<Void> first = output.writeAsync("a").toCompletableFuture();
+        final CompletableFuture<Void> second = output.writeAsync("b").toCompletableFuture();
+        assertFalse(first.isDone());
+        assertFalse(second.isDone());
+
+        stream.listener.onError(new IOException("reset"));
+        assertTrue(output.isClosed());
+        for (final CompletableFuture<Void> written : List.of(first, second)) {
+            final ExecutionException e = assertThrows(ExecutionException.class, () -> written.get(1, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof IOException, String.valueOf(e.getCause()));
+        }
+
+        final CompletableFuture<Void> late = output.writeAsync("c").toCompletableFuture();
+        assertThrows(ExecutionException.class, () -> late.get(1, TimeUnit.SECONDS));
+        assertEquals("", stream.content());
+        assertEquals(1, stream.closes.get());
+    }
+
+    @Test
+    public void testConcurrentWriteAsyncAndClose() throws Exception {
+        final AtomicInteger readiness = new AtomicInteger();
+        stream = new NonBlockingStream() {
+            @Override
+            public boolean isReady() {
+                if (readiness.incrementAndGet() % 3 == 0) {
+                    // the container notifies the listener from its own thread once the buffered data have been sent
+                    executor.execute(() -> listener.onWritePossible());
+                    return false;
+                }
+                return true;
+            }
+        };
+        final ChunkedOutput<String> output = start();
+
+        final int producers = 4;
+        final int chunks = 200;
+        final CountDownLatch started = new CountDownLatch(producers);
+        final List<CompletableFuture<List<CompletableFuture<Void>>>> results = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            results.add(CompletableFuture.supplyAsync(() -> {
+                final List<CompletableFuture<Void>> written = new ArrayList<>();
+                started.countDown();
+                for (int i = 0; i < chunks; i++) {
+                    written.add(output.writeAsync("x").toCompletableFuture());
+                }
+                return written;
+            }, executor));
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        output.close();
+
+        int succeeded = 0;
+        for (final CompletableFuture<List<CompletableFuture<Void>>> result : results) {
+            for (final CompletableFuture<Void> written : result.get(5, TimeUnit.SECONDS)) {
+                try {
+                    written.get(5, TimeUnit.SECONDS);
+                    succeeded++;
+                } catch (final ExecutionException e) {
+                    // rejected by the closed chunked output
+                }
+            }
+        }
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (stream.closes.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, stream.closes.get());
+        assertEquals(succeeded, stream.content().length() / 2);
+        assertFalse(stream.misused);
+    }
+}
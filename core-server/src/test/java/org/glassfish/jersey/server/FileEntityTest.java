@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
+
+import org.glassfish.jersey.message.MessageProperties;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of writing {@link File} entities with a {@code Content-Range} header.
+ */
+public class FileEntityTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    private static File file;
+
+    @BeforeAll
+    public static void setUp() throws IOException {
+        file = File.createTempFile("jersey-file-entity", ".txt");
+        Files.write(file.toPath(), CONTENT.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        file.delete();
+    }
+
+    @Path("file")
+    public static class FileResource {
+
+        @GET
+        public Response get(@QueryParam("status") final int status, @QueryParam("range") final String range) {
+            return Response.status(status).header("Content-Range", range).entity(file).build();
+        }
+    }
+
+    @Test
+    public void testPartialContent() throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(
+                new ResourceConfig(FileResource.class).property(MessageProperties.FILE_CONTENT_RANGE, true));
+        assertEquals("abcde", get(handler, 206, "bytes%2010-14/20"));
+        assertEquals("abcde", get(handler, 206, "bytes%2010-14/*"));
+        // headers which do not specify a range of the file are not applied
+        assertEquals(CONTENT, get(handler, 206, "bytes%20500-599/1000"));
+        assertEquals(CONTENT, get(handler, 416, "bytes%20*/20"));
+        assertEquals(CONTENT, get(handler, 200, "items%200-1/20"));
+    }
+
+    @Test
+    public void testContentRangeDisabledByDefault() throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(FileResource.class));
+        assertEquals(CONTENT, get(handler, 206, "bytes%2010-14/20"));
+    }
+
+    private static String get(final ApplicationHandler handler, final int status, final String range) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ContainerResponse response = handler.apply(
+                RequestContextBuilder.from("/file?status=" + status + "&range=" + range, "GET").build(), out).get();
+        assertEquals(status, response.getStatus());
+        return out.toString(StandardCharsets.US_ASCII.name());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.glassfish.jersey.internal.util.VirtualThreads;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test {@link ManagedAsync} resource methods executed with {@link ServerProperties#THREADS_USE_VIRTUAL} enabled.
+ */
+public class ManagedAsyncVirtualThreadsTest {
+
+    @Path("thread")
+    public static class ThreadResource {
+
+        @GET
+        @ManagedAsync
+        public String get() throws Exception {
+            final Thread thread = Thread.currentThread();
+            final boolean virtual = VirtualThreads.isSupported()
+                    && (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+            return thread.getName() + ":" + virtual;
+        }
+    }
+
+    @Test
+    public void testManagedAsyncOnVirtualThread() throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(ThreadResource.class)
+                .property(ServerProperties.THREADS_USE_VIRTUAL, true));
+
+        final ContainerResponse response = handler.apply(RequestContextBuilder.from("/thread", "GET").build()).get();
+        assertEquals(200, response.getStatus());
+
+        final String[] result = ((String) response.getEntity()).split(":");
+        assertTrue(result[0].startsWith("jersey-server-managed-async-executor-"), result[0]);
+        assertEquals(String.valueOf(VirtualThreads.isSupported()), result[1]);
+    }
+}
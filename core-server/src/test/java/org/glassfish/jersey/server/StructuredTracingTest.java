@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.glassfish.jersey.message.internal.TracingLogger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the structured and sampled tracing support.
+ */
+public class StructuredTracingTest {
+
+    @TempDir
+    java.nio.file.Path tempDir;
+
+    @Path("resource")
+    public static class Resource {
+
+        @GET
+        public String get() {
+            return "get";
+        }
+    }
+
+    @Test
+    public void testStructuredOnDemand() throws Exception {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(Resource.class)
+                .property(ServerProperties.TRACING, TracingConfig.ON_DEMAND.name())
+                .property(ServerProperties.TRACING_STRUCTURED, true));
+
+        final ContainerResponse response = handler.apply(RequestContextBuilder.from("/resource", "GET")
+                .header(TracingLogger.HEADER_ACCEPT, "").build()).get();
+        assertEquals(200, response.getStatus());
+        assertNotNull(response.getHeaderString("X-Jersey-Tracing-000"));
+
+        final ContainerResponse untraced = handler.apply(RequestContextBuilder.from("/resource", "GET").build()).get();
+        assertNull(untraced.getHeaderString("X-Jersey-Tracing-000"));
+    }
+
+    @Test
+    public void testSampledExport() throws Exception {
+        final java.nio.file.Path file = tempDir.resolve("trace.log");
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(Resource.class)
+                .property(ServerProperties.TRACING, TracingConfig.SAMPLED.name())
+                .property(ServerProperties.TRACING_SAMPLING_RATE, 1)
+                .property(ServerProperties.TRACING_EXPORT_FILE, file.toString()));
+
+        final ContainerResponse response = handler.apply(RequestContextBuilder.from("/resource", "GET").build()).get();
+        assertEquals(200, response.getStatus());
+        assertEquals("get", response.getEntity());
+        // sampled requests are not traced in the response headers
+        assertNull(response.getHeaderString("X-Jersey-Tracing-000"));
+
+        final String trace = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(trace.contains("START"), trace);
+        assertTrue(trace.contains("FINISHED"), trace);
+    }
+
+    @Test
+    public void testNotSampled() throws Exception {
+        final java.nio.file.Path file = tempDir.resolve("trace.log");
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(Resource.class)
+                .property(ServerProperties.TRACING, TracingConfig.SAMPLED.name())
+                .property(ServerProperties.TRACING_SAMPLING_RATE, 0.0)
+                .property(ServerProperties.TRACING_EXPORT_FILE, file.toString()));
+
+        handler.apply(RequestContextBuilder.from("/resource", "GET").build()).get();
+        assertTrue(Files.notExists(file));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server;
+
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.StableWriteable;
+import org.glassfish.jersey.message.internal.MessageBodyFactory;
+import org.glassfish.jersey.message.internal.WriterSelectionCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests memoization of message body writer selection for {@link StableWriteable stable} writers.
+ */
+public class WriterSelectionCacheTest {
+
+    public static class Bean {
+    }
+
+    public static class StableBean {
+    }
+
+    @Produces("text/plain")
+    public static class BeanWriter implements MessageBodyWriter<Bean> {
+
+        @Override
+        public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return type == Bean.class;
+        }
+
+        @Override
+        public void writeTo(Bean bean, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) {
+        }
+    }
+
+    @Produces("text/plain")
+    @StableWriteable
+    public static class StableBeanWriter implements MessageBodyWriter<StableBean> {
+
+        @Override
+        public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return type == StableBean.class;
+        }
+
+        @Override
+        public void writeTo(StableBean bean, Class<?> type, Type genericType, Annotation[] annotations,
+                            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+                            OutputStream entityStream) {
+        }
+    }
+
+    private static MessageBodyFactory createWorkers(final Class<?>... writers) {
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(writers));
+        return (MessageBodyFactory) handler.getInjectionManager().getInstance(MessageBodyWorkers.class);
+    }
+
+    @Test
+    public void testStableWriterSelectionCached() {
+        final MessageBodyFactory workers = createWorkers(BeanWriter.class, StableBeanWriter.class);
+        final WriterSelectionCache cache = workers.getWriterSelectionCache();
+        final Annotation[] annotations = new Annotation[0];
+        final long hits = cache.getHits();
+        final long misses = cache.getMisses();
+
+        final MessageBodyWriter<StableBean> first = workers.getMessageBodyWriter(
+                StableBean.class, StableBean.class, annotations, MediaType.TEXT_PLAIN_TYPE);
+        final MessageBodyWriter<StableBean> second = workers.getMessageBodyWriter(
+                StableBean.class, StableBean.class, annotations, MediaType.TEXT_PLAIN_TYPE);
+
+        assertSame(first, second);
+        assertEquals(StableBeanWriter.class, second.getClass());
+        assertEquals(hits + 1, cache.getHits());
+        assertEquals(misses + 1, cache.getMisses());
+    }
+
+    @Test
+    public void testBuiltInWriterSelectionCached() {
+        final MessageBodyFactory workers = createWorkers(BeanWriter.class, StableBeanWriter.class);
+        final WriterSelectionCache cache = workers.getWriterSelectionCache();
+        final Annotation[] annotations = new Annotation[0];
+        final long hits = cache.getHits();
+        final long misses = cache.getMisses();
+
+        workers.getMessageBodyWriter(String.class, String.class, annotations, MediaType.TEXT_PLAIN_TYPE);
+        workers.getMessageBodyWriter(String.class, String.class, annotations, MediaType.TEXT_PLAIN_TYPE);
+        // different annotation array instance is a different key
+        workers.getMessageBodyWriter(String.class, String.class, new Annotation[0], MediaType.TEXT_PLAIN_TYPE);
+
+        assertEquals(hits + 1, cache.getHits());
+        assertEquals(misses + 2, cache.getMisses());
+    }
+
+    @Test
+    public void testUnstableWriterSelectionNotCached() {
+        final MessageBodyFactory workers = createWorkers(BeanWriter.class, StableBeanWriter.class);
+        final WriterSelectionCache cache = workers.getWriterSelectionCache();
+        final Annotation[] annotations = new Annotation[0];
+        final long hits = cache.getHits();
+        final long misses = cache.getMisses();
+
+        final MessageBodyWriter<Bean> first = workers.getMessageBodyWriter(
+                Bean.class, Bean.class, annotations, MediaType.TEXT_PLAIN_TYPE);
+        final MessageBodyWriter<Bean> second = workers.getMessageBodyWriter(
+                Bean.class, Bean.class, annotations, MediaType.TEXT_PLAIN_TYPE);
+
+        assertSame(first, second);
+        assertEquals(BeanWriter.class, second.getClass());
+        assertEquals(hits, cache.getHits());
+        assertEquals(misses + 2, cache.getMisses());
+    }
+
+    @Test
+    public void testResponseMediaTypeCached() {
+        final MessageBodyFactory workers = createWorkers(StableBeanWriter.class);
+        final WriterSelectionCache cache = workers.getWriterSelectionCache();
+        final Annotation[] annotations = new Annotation[0];
+        final long hits = cache.getHits();
+        final long misses = cache.getMisses();
+
+        final MediaType first = workers.getMessageBodyWriterMediaType(StableBean.class, StableBean.class, annotations,
+                Arrays.asList(MediaType.TEXT_PLAIN_TYPE, MediaType.WILDCARD_TYPE));
+        final MediaType second = workers.getMessageBodyWriterMediaType(StableBean.class, StableBean.class, annotations,
+                Arrays.asList(MediaType.TEXT_PLAIN_TYPE, MediaType.WILDCARD_TYPE));
+
+        assertEquals(MediaType.TEXT_PLAIN_TYPE, first);
+        assertEquals(first, second);
+        assertEquals(hits + 1, cache.getHits());
+        assertEquals(misses + 1, cache.getMisses());
+    }
+
+    @Test
+    public void testUnstableResponseMediaTypeNotCached() {
+        final MessageBodyFactory workers = createWorkers(BeanWriter.class);
+        final WriterSelectionCache cache = workers.getWriterSelectionCache();
+        final Annotation[] annotations = new Annotation[0];
+        final long hits = cache.getHits();
+        final long misses = cache.getMisses();
+
+        assertEquals(MediaType.TEXT_PLAIN_TYPE, workers.getMessageBodyWriterMediaType(Bean.class, Bean.class, annotations,
+                Collections.singletonList(MediaType.TEXT_PLAIN_TYPE)));
+        assertEquals(MediaType.TEXT_PLAIN_TYPE, workers.getMessageBodyWriterMediaType(Bean.class, Bean.class, annotations,
+                Collections.singletonList(MediaType.TEXT_PLAIN_TYPE)));
+        assertEquals(hits, cache.getHits());
+        assertEquals(misses + 2, cache.getMisses());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,6 +17,7 @@
 package org.glassfish.jersey.server.filter;
 
 import org.glassfish.jersey.message.GZipEncoder;
+import org.glassfish.jersey.message.MessageProperties;
 import org.glassfish.jersey.server.ApplicationHandler;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.ContainerResponse;
@@ -137,13 +138,63 @@ public class EncodingFilterTest {
         assertNull(response.getHeaders().getFirst(HttpHeaders.VARY));
     }
 
+    @Test
+    public void testSmallEntityNotEncoded() throws IOException {
+        assertNull(filterWithMinSize(5, "OK!", "gzip"));
+    }
+
+    @Test
+    public void testLargeEntityEncoded() throws IOException {
+        assertEquals("gzip", filterWithMinSize(3, "OK!", "gzip"));
+        assertEquals("gzip", filterWithMinSize(3, new byte[10], "gzip"));
+    }
+
+    @Test
+    public void testMultiByteStringEntityEncoded() throws IOException {
+        // 3 characters, 6 bytes in UTF-8
+        assertEquals("gzip", filterWithMinSize(5, "\u011b\u0161\u010d", "gzip"));
+        assertNull(filterWithMinSize(5, Response.ok("\u011b\u0161\u010d", "text/plain;charset=ISO-8859-2").build(), "gzip"));
+    }
+
+    @Test
+    public void testEntityOfUnknownSizeEncoded() throws IOException {
+        assertEquals("gzip", filterWithMinSize(1000, new Object(), "gzip"));
+    }
+
+    @Test
+    public void testSmallEntityEncodedIfIdentityForbidden() throws IOException {
+        assertEquals("gzip", filterWithMinSize(1000, "OK!", "gzip", "identity; q=0"));
+        assertEquals("gzip", filterWithMinSize(1000, "OK!", "gzip", "*; q=0"));
+        assertNull(filterWithMinSize(1000, "OK!", "gzip", "identity; q=0.5", "*; q=0"));
+    }
+
     @SuppressWarnings("unchecked")
     private EncodingFilter initializeAndGetFilter() {
-        ResourceConfig rc = new ResourceConfig();
+        return initializeAndGetFilter(new ResourceConfig());
+    }
+
+    private EncodingFilter initializeAndGetFilter(ResourceConfig rc) {
         EncodingFilter.enableFor(rc, FooEncoding.class, GZipEncoder.class);
         return (EncodingFilter) new ApplicationHandler(rc).getInjectionManager().getInstance(ContainerResponseFilter.class);
     }
 
+    private String filterWithMinSize(int minSize, Object entity, String... accepted) throws IOException {
+        return filterWithMinSize(minSize, Response.ok(entity).build(), accepted);
+    }
+
+    private String filterWithMinSize(int minSize, Response entityResponse, String... accepted) throws IOException {
+        EncodingFilter filter = initializeAndGetFilter(
+                new ResourceConfig().property(MessageProperties.ENCODING_MIN_SIZE, minSize));
+        RequestContextBuilder builder = RequestContextBuilder.from("/resource", "GET");
+        for (String a : accepted) {
+            builder.header(HttpHeaders.ACCEPT_ENCODING, a);
+        }
+        ContainerRequest request = builder.build();
+        ContainerResponse response = new ContainerResponse(request, entityResponse);
+        filter.filter(request, response);
+        return response.getHeaderString(HttpHeaders.CONTENT_ENCODING);
+    }
+
     private void testEncoding(String expected, String... accepted) throws IOException {
         EncodingFilter filter = initializeAndGetFilter();
         RequestContextBuilder builder = RequestContextBuilder.from("/resource", "GET");
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.glassfish.jersey.server.internal.scanning.ResourceIndex;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the {@link ResourceIndexProcessor}.
+ */
+public class ResourceIndexProcessorTest {
+
+    @Test
+    public void testIndex(@TempDir final Path dir) throws Exception {
+        final Path output = Files.createDirectory(dir.resolve("classes"));
+        compile(output,
+                source(dir, "a.A", "@jakarta.ws.rs.Path(\"a\") public class A {"
+                        + " @jakarta.ws.rs.ext.Provider public static class Nested {}"
+                        + " @jakarta.ws.rs.Path(\"inner\") public class Inner {} }"),
+                source(dir, "a.B", "public class B {}"),
+                source(dir, "b.C", "@jakarta.ws.rs.ext.Provider class C {}"));
+
+        assertEquals(Arrays.asList("a.A", "a.A$Nested"), readIndex(output));
+    }
+
+    @Test
+    public void testIncrementalCompilationMergesIndex(@TempDir final Path dir) throws Exception {
+        final Path output = Files.createDirectory(dir.resolve("classes"));
+        compile(output,
+                source(dir, "a.A", "@jakarta.ws.rs.Path(\"a\") public class A {"
+                        + " @jakarta.ws.rs.ext.Provider public static class Nested {} }"),
+                source(dir, "a.B", "@jakarta.ws.rs.Path(\"b\") public class B {}"),
+                source(dir, "a.C", "@jakarta.ws.rs.Path(\"c\") public class C {}"));
+
+        // recompile A without the nested provider, C no longer annotated, B not recompiled
+        compile(output,
+                source(dir, "a.A", "@jakarta.ws.rs.Path(\"a\") public class A {}"),
+                source(dir, "a.C", "public class C {}"),
+                source(dir, "a.D", "@jakarta.ws.rs.Path(\"d\") public class D {}"));
+
+        assertEquals(Arrays.asList("a.A", "a.B", "a.D"), readIndex(output));
+    }
+
+    private static File source(final Path dir, final String className, final String body) throws IOException {
+        final int lastDot = className.lastIndexOf('.');
+        final Path file = dir.resolve("src").resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(file.getParent());
+        Files.write(file, ("package " + className.substring(0, lastDot) + "; " + body).getBytes(StandardCharsets.UTF_8));
+        return file.toFile();
+    }
+
+    private static void compile(final Path output, final File... sources) throws Exception {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        // the JAX-RS annotations are resolved from the class-path of the test
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singleton(output.toFile()));
+
+            final Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(sources);
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    Collections.singletonList("-proc:only"), null, units);
+            task.setProcessors(Collections.singletonList(new ResourceIndexProcessor()));
+            assertTrue(task.call());
+        }
+    }
+
+    private static List<String> readIndex(final Path output) throws IOException {
+        final List<String> classNames = new ArrayList<>();
+        try (InputStream in = Files.newInputStream(output.resolve(ResourceIndex.LOCATION))) {
+            ResourceIndex.read(in, classNames);
+        }
+        return classNames;
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Flow;
+
+import org.glassfish.jersey.server.spi.NonBlockingInput;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link EntityPublisher}.
+ */
+public class EntityPublisherTest {
+
+    @Test
+    public void testBlockingStream() {
+        final byte[] content = content(10_000);
+        final CollectingSubscriber subscriber = new CollectingSubscriber(1);
+
+        new EntityPublisher(new ByteArrayInputStream(content), 1024).subscribe(subscriber);
+
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+        assertEquals(10, subscriber.chunks);
+        assertEquals(new String(content, StandardCharsets.ISO_8859_1),
+                new String(subscriber.content.toByteArray(), StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void testNonBlockingStream() {
+        final NonBlockingStream stream = new NonBlockingStream();
+        final CollectingSubscriber subscriber = new CollectingSubscriber(1);
+
+        new EntityPublisher(stream, 1024).subscribe(subscriber);
+        assertEquals(0, subscriber.chunks);
+
+        stream.offer("Hello ");
+        assertEquals("Hello ", subscriber.content());
+
+        stream.offer("non-blocking ");
+        stream.offer("world");
+        assertEquals("Hello non-blocking world", subscriber.content());
+        assertFalse(subscriber.completed);
+
+        stream.end();
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void testDemand() {
+        final NonBlockingStream stream = new NonBlockingStream();
+        stream.offer("a");
+        stream.offer("b");
+        stream.offer("c");
+        final CollectingSubscriber subscriber = new CollectingSubscriber(0);
+
+        new EntityPublisher(stream, 1024).subscribe(subscriber);
+        assertEquals(0, subscriber.chunks);
+
+        subscriber.subscription.request(2);
+        assertEquals("ab", subscriber.content());
+
+        stream.end();
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(2);
+        assertEquals("abc", subscriber.content());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testCancel() {
+        final NonBlockingStream stream = new NonBlockingStream();
+        final CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        new EntityPublisher(stream, 1024).subscribe(subscriber);
+        stream.offer("a");
+        subscriber.subscription.cancel();
+        stream.offer("b");
+        stream.end();
+
+        assertEquals("a", subscriber.content());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void testReadError() {
+        final InputStream stream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+        final CollectingSubscriber subscriber = new CollectingSubscriber(1);
+
+        new EntityPublisher(stream, 1024).subscribe(subscriber);
+
+        assertTrue(subscriber.error instanceof IOException);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void testSingleSubscriber() {
+        final EntityPublisher publisher = new EntityPublisher(new ByteArrayInputStream(new byte[0]), 1024);
+        final CollectingSubscriber first = new CollectingSubscriber(1);
+        final CollectingSubscriber second = new CollectingSubscriber(1);
+
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+
+        assertTrue(first.completed);
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    private static byte[] content(final int size) {
+        final byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) ('a' + i % 26);
+        }
+        return content;
+    }
+
+    /**
+     * Entity stream failing on reads that would block.
+     */
+    private static class NonBlockingStream extends InputStream implements NonBlockingInput {
+
+        private final Deque<byte[]> chunks = new ArrayDeque<>();
+        private boolean ended;
+        private boolean awaiting;
+        private ReadListener listener;
+
+        void offer(final String chunk) {
+            chunks.add(chunk.getBytes(StandardCharsets.US_ASCII));
+            notifyListener();
+        }
+
+        void end() {
+            ended = true;
+            notifyListener();
+        }
+
+        private void notifyListener() {
+            if (awaiting) {
+                awaiting = false;
+                listener.onDataAvailable();
+            }
+        }
+
+        @Override
+        public boolean setReadListener(final ReadListener listener) {
+            this.listener = listener;
+            return true;
+        }
+
+        @Override
+        public boolean isReady() {
+            awaiting = chunks.isEmpty() && !ended;
+            return !awaiting;
+        }
+
+        @Override
+        public int read() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (chunks.isEmpty()) {
+                if (ended) {
+                    return -1;
+                }
+                throw new IllegalStateException("Blocking read.");
+            }
+            final byte[] chunk = chunks.poll();
+            System.arraycopy(chunk, 0, b, off, chunk.length);
+            return chunk.length;
+        }
+    }
+
+    private static class CollectingSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+        private final long initialDemand;
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private Flow.Subscription subscription;
+        private int chunks;
+        private boolean completed;
+        private Throwable error;
+
+        CollectingSubscriber(final long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        String content() {
+            return new String(content.toByteArray(), StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(final ByteBuffer item) {
+            chunks++;
+            content.write(item.array(), item.arrayOffset() + item.position(), item.remaining());
+            if (initialDemand == 1) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link BucketedSlidingWindowTimeReservoir}.
+ */
+public class BucketedSlidingWindowTimeReservoirTest extends AbstractNanosReservoirTest {
+
+    @Test
+    public void testSlidingWindowZeroTime() {
+        testSlidingWindow(0);
+    }
+
+    @Test
+    public void testSlidingWindowSystemTime() {
+        testSlidingWindow(System.nanoTime());
+    }
+
+    private void testSlidingWindow(final long now) {
+        // one nanosecond buckets
+        final BucketedSlidingWindowTimeReservoir reservoir = new BucketedSlidingWindowTimeReservoir(
+                BucketedSlidingWindowTimeReservoir.BUCKET_COUNT, TimeUnit.NANOSECONDS, now, TimeUnit.NANOSECONDS);
+
+        reservoirUpdateInNanos(reservoir, 10, now);
+        reservoirUpdateInNanos(reservoir, 20, now);
+        reservoirUpdateInNanos(reservoir, 30, now + 1);
+        reservoirUpdateInNanos(reservoir, 40, now + 30);
+        checkInNanos(reservoir, now + 30, 4, 10, 40, 25, 30);
+
+        // at 'now + 60' the requests from 'now' are out of the window
+        checkInNanos(reservoir, now + 60, 2, 30, 40, 35, 60);
+        checkInNanos(reservoir, now + 90, 0, 0, 0, 0, 60);
+
+        // a value older than the window replacing it in the ring is ignored
+        reservoirUpdateInNanos(reservoir, 50, now + 200);
+        reservoirUpdateInNanos(reservoir, 60, now + 140);
+        checkInNanos(reservoir, now + 200, 1, 50, 50, 50, 60);
+    }
+
+    @Test
+    public void testUnlimitedWindow() {
+        final long now = System.nanoTime();
+        final BucketedSlidingWindowTimeReservoir reservoir =
+                new BucketedSlidingWindowTimeReservoir(0, TimeUnit.NANOSECONDS, now, TimeUnit.NANOSECONDS);
+
+        for (int i = 1; i <= 1000; i++) {
+            reservoirUpdateInNanos(reservoir, i, now + i * 1000L);
+        }
+        checkInNanos(reservoir, now + 1_000_000, 1000, 1, 1000, 500.5, 1_000_000);
+
+        // the first update older than the start time extends the measured interval
+        reservoirUpdateInNanos(reservoir, 2000, now - 10);
+        checkInNanos(reservoir, now + 1_000_000, 1001, 1, 2000, 502_500 / 1001.0, 1_000_010);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -221,6 +221,27 @@ public class MonitoringStatisticsTest {
     }
 
 
+    @Test
+    public void testPerRequestResourceMethodInstances() {
+        final MonitoringStatisticsImpl.Builder statBuilder = getProgStats();
+
+        // sub-resource locators build a new resource model (and new resource method instances) for every request
+        for (int i = 1; i <= 3000; i++) {
+            final Resource.Builder resourceBuilder = Resource.builder("locator");
+            resourceBuilder.addMethod("GET").handledBy(MyInflector.class);
+            final ResourceMethod method = resourceBuilder.build().getResourceMethods().get(0);
+            statBuilder.addExecution("/locator", method, i, 1, i, 1);
+        }
+
+        final MonitoringStatisticsImpl stat = statBuilder.build();
+        final Map<ResourceMethod, ResourceMethodStatistics> resourceMethodStatistics
+                = stat.getUriStatistics().get("/locator").getResourceMethodStatistics();
+        Assertions.assertEquals(1, resourceMethodStatistics.size());
+        Assertions.assertEquals(3000,
+                resourceMethodStatistics.values().iterator().next().getMethodStatistics().getLastStartTime().getTime());
+    }
+
+
     private void check(Iterator<Map.Entry<String, ResourceStatistics>> it,
                        String expectedUri, int expectedMethods) {
         Map.Entry<String, ResourceStatistics> entry = it.next();
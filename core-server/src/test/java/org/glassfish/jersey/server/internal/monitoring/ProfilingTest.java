@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.monitoring;
+
+import java.util.Map;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.container.ContainerRequestContext;
+
+import org.glassfish.jersey.process.Inflector;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.LatencyHistogram;
+import org.glassfish.jersey.server.monitoring.ProfilingStatistics.Stage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of request profiling and of the latency histogram.
+ */
+public class ProfilingTest {
+
+    @Path("profiled")
+    public static class ProfiledResource {
+
+        @GET
+        public String get() {
+            return "get";
+        }
+
+        @POST
+        public String post(final String entity) {
+            return entity;
+        }
+
+        @Path("locator")
+        public Resource locator() {
+            // new resource model and resource method instances for every request
+            final Resource.Builder builder = Resource.builder();
+            builder.addMethod("GET").handledBy(new Inflector<ContainerRequestContext, String>() {
+                @Override
+                public String apply(final ContainerRequestContext context) {
+                    return "located";
+                }
+            });
+            return builder.build();
+        }
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        final LatencyHistogramImpl histogram = new LatencyHistogramImpl();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(1000, histogram.getMin());
+        assertEquals(100_000_000, histogram.getMax());
+        assertEquals(50_000_500.0, histogram.getMean(), 0.1);
+        assertEquals(50_000_000, histogram.getValueAtPercentile(50.0), 50_000_000 / 32);
+        assertEquals(99_000_000, histogram.getValueAtPercentile(99.0), 99_000_000 / 32);
+        assertEquals(1000, histogram.getValueAtPercentile(0.0), 1000 / 32);
+        assertEquals(100_000_000, histogram.getValueAtPercentile(100.0));
+    }
+
+    @Test
+    public void testHistogramBuckets() {
+        long previous = -1;
+        for (long value = 0; value < 1 << 20; value++) {
+            final int index = LatencyHistogramImpl.bucketIndex(value);
+            assertTrue(value <= LatencyHistogramImpl.highestEquivalentValue(index));
+            assertTrue(index == 0 || value > LatencyHistogramImpl.highestEquivalentValue(index - 1));
+            assertTrue(index >= previous);
+            previous = index;
+        }
+        assertEquals(LatencyHistogramImpl.MAX_TRACKABLE_VALUE, LatencyHistogramImpl.highestEquivalentValue(
+                LatencyHistogramImpl.bucketIndex(LatencyHistogramImpl.MAX_TRACKABLE_VALUE)));
+    }
+
+    @Test
+    public void testEmptyHistogram() {
+        final LatencyHistogramImpl histogram = new LatencyHistogramImpl();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0.0, histogram.getMean());
+        assertEquals(0, histogram.getValueAtPercentile(99.0));
+    }
+
+    @Test
+    public void testStagesRecorded() throws Exception {
+        final ApplicationHandler handler = createApplication(1.0);
+
+        ContainerResponse response = handler.apply(RequestContextBuilder.from("/profiled", "GET").build()).get();
+        assertEquals("get", response.getEntity());
+        response = handler.apply(RequestContextBuilder.from("/profiled", "POST")
+                .type("text/plain").entity("posted").build()).get();
+        assertEquals("posted", response.getEntity());
+
+        final ProfilingStatisticsImpl statistics = handler.getInjectionManager().getInstance(ProfilingStatisticsImpl.class);
+        assertEquals(1.0, statistics.getSamplingRate());
+        assertEquals(2, statistics.getSampledRequests());
+
+        final Map<ResourceMethod, Map<Stage, LatencyHistogram>> methods = statistics.getResourceMethodStatistics();
+        assertEquals(2, methods.size());
+        for (final Map.Entry<ResourceMethod, Map<Stage, LatencyHistogram>> method : methods.entrySet()) {
+            final Map<Stage, LatencyHistogram> stages = method.getValue();
+            assertEquals(1, stages.get(Stage.ROUTING).getCount());
+            assertEquals(1, stages.get(Stage.REQUEST_FILTERS).getCount());
+            assertEquals(1, stages.get(Stage.INVOCATION).getCount());
+            assertEquals(1, stages.get(Stage.RESPONSE_FILTERS).getCount());
+            assertEquals(1, stages.get(Stage.ENTITY_WRITE).getCount());
+            if ("POST".equals(method.getKey().getHttpMethod())) {
+                assertNotNull(stages.get(Stage.ENTITY_READ));
+            } else {
+                assertFalse(stages.containsKey(Stage.ENTITY_READ));
+            }
+        }
+    }
+
+    @Test
+    public void testSubResourceLocatorMethodsMerged() throws Exception {
+        final ApplicationHandler handler = createApplication(1.0);
+
+        for (int i = 0; i < 10; i++) {
+            final ContainerResponse response = handler.apply(RequestContextBuilder.from("/profiled/locator", "GET").build())
+                    .get();
+            assertEquals("located", response.getEntity());
+        }
+
+        final ProfilingStatisticsImpl statistics = handler.getInjectionManager().getInstance(ProfilingStatisticsImpl.class);
+        assertEquals(10, statistics.getSampledRequests());
+
+        final Map<ResourceMethod, Map<Stage, LatencyHistogram>> methods = statistics.getResourceMethodStatistics();
+        assertEquals(1, methods.size());
+        assertEquals(10, methods.values().iterator().next().get(Stage.INVOCATION).getCount());
+    }
+
+    @Test
+    public void testNoRequestSampled() throws Exception {
+        final ApplicationHandler handler = createApplication(0.0);
+
+        final ContainerResponse response = handler.apply(RequestContextBuilder.from("/profiled", "GET").build()).get();
+        assertEquals(200, response.getStatus());
+
+        final ProfilingStatisticsImpl statistics = handler.getInjectionManager().getInstance(ProfilingStatisticsImpl.class);
+        assertEquals(0, statistics.getSampledRequests());
+        assertTrue(statistics.getResourceMethodStatistics().isEmpty());
+    }
+
+    private static ApplicationHandler createApplication(final double samplingRate) {
+        final ResourceConfig resourceConfig = new ResourceConfig(ProfiledResource.class);
+        resourceConfig.property(ServerProperties.MONITORING_PROFILING_ENABLED, true);
+        resourceConfig.property(ServerProperties.MONITORING_PROFILING_SAMPLING_RATE, samplingRate);
+        return new ApplicationHandler(resourceConfig);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.routing;
+
+import java.util.concurrent.ExecutionException;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.UriInfo;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.RequestContextBuilder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test that the {@link TriePathMatchingRouter trie based routing} selects the same resources as the default
+ * {@link PathMatchingRouter linear routing}.
+ */
+public class TriePathMatchingRouterTest {
+
+    @Path("/")
+    public static class RootResource {
+
+        @GET
+        public String get() {
+            return "root";
+        }
+    }
+
+    @Path("customers")
+    public static class CustomersResource {
+
+        @GET
+        public String list() {
+            return "customers";
+        }
+
+        @GET
+        @Path("{id}")
+        public String get(@PathParam("id") final String id) {
+            return "customer:" + id;
+        }
+
+        @GET
+        @Path("vip")
+        public String vip() {
+            return "vip";
+        }
+
+        @POST
+        @Path("import")
+        public String importCustomers() {
+            return "import";
+        }
+
+        @Path("{id}/orders")
+        public OrdersResource orders(@PathParam("id") final String id) {
+            return new OrdersResource(id);
+        }
+    }
+
+    @Path("customers/{id: [0-9]+}/address")
+    public static class AddressResource {
+
+        @GET
+        public String get(@PathParam("id") final String id, @Context final UriInfo uriInfo) {
+            return "address:" + id + ":" + uriInfo.getMatchedURIs();
+        }
+    }
+
+    @Path("customer.v2")
+    public static class DottedResource {
+
+        @GET
+        public String get() {
+            return "dotted";
+        }
+    }
+
+    @Path("{any}")
+    public static class CatchAllResource {
+
+        @GET
+        public String get(@PathParam("any") final String any) {
+            return "any:" + any;
+        }
+    }
+
+    public static class OrdersResource {
+
+        private final String id;
+
+        public OrdersResource(final String id) {
+            this.id = id;
+        }
+
+        @GET
+        public String get(@Context final UriInfo uriInfo) {
+            return "orders:" + id + ":" + uriInfo.getPath();
+        }
+
+        @GET
+        @Path("{order}")
+        public String order(@PathParam("order") final String order) {
+            return "order:" + id + ":" + order;
+        }
+    }
+
+    private static ApplicationHandler createApplication(final boolean trie) {
+        return new ApplicationHandler(new ResourceConfig(RootResource.class, CustomersResource.class, AddressResource.class,
+                DottedResource.class, CatchAllResource.class)
+                .property(ServerProperties.TRIE_ROUTING_ENABLED, trie));
+    }
+
+    @Test
+    public void testSameRoutingAsLinearRouter() throws Exception {
+        final ApplicationHandler linear = createApplication(false);
+        final ApplicationHandler trie = createApplication(true);
+
+        final String[][] requests = {
+                {"GET", "/"},
+                {"GET", "/customers"},
+                {"GET", "/customers/"},
+                {"GET", "/customers/vip"},
+                {"GET", "/customers/42"},
+                {"GET", "/customers/import"},
+                {"POST", "/customers/import"},
+                {"POST", "/customers/vip"},
+                {"HEAD", "/customers/vip"},
+                {"GET", "/customers/42/address"},
+                {"GET", "/customers/abc/address"},
+                {"GET", "/customers/42/orders"},
+                {"GET", "/customers/42/orders/7"},
+                {"GET", "/customer.v2"},
+                {"GET", "/customerXv2"},
+                {"GET", "/customersX"},
+                {"GET", "/unknown"},
+                {"GET", "/unknown/deeper"},
+        };
+
+        for (final String[] request : requests) {
+            final ContainerResponse expected = apply(linear, request[0], request[1]);
+            final ContainerResponse actual = apply(trie, request[0], request[1]);
+
+            final String message = request[0] + " " + request[1];
+            assertEquals(expected.getStatus(), actual.getStatus(), message);
+            assertEquals(expected.getEntity(), actual.getEntity(), message);
+        }
+    }
+
+    @Test
+    public void testLiteralPrefix() {
+        assertEquals("/customers", literalPrefix("/customers(/.*)?"));
+        assertEquals("/customer.v2", literalPrefix("/customer\\.v2(/.*)?"));
+        assertEquals("/customers/", literalPrefix("/customers/([^/]+)(/)?"));
+        assertEquals("", literalPrefix("(/.*)?"));
+        assertEquals("/a", literalPrefix("/a\\d+"));
+    }
+
+    private static String literalPrefix(final String regex) {
+        final StringBuilder prefix = new StringBuilder();
+        TriePathMatchingRouter.literalPrefix(regex, prefix);
+        return prefix.toString();
+    }
+
+    private static ContainerResponse apply(final ApplicationHandler handler, final String method, final String path)
+            throws ExecutionException, InterruptedException {
+        return handler.apply(RequestContextBuilder.from(path, method).build()).get();
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.server.internal.scanning;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import jakarta.ws.rs.GET;
+
+import org.glassfish.jersey.message.internal.ReaderWriter;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.internal.scanning.nested.NestedResource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the build-time {@link ResourceIndex resource index}.
+ */
+public class ResourceIndexTest {
+
+    private static final String PACKAGE = ResourceIndexTest.class.getPackage().getName();
+
+    @jakarta.ws.rs.Path("indexed")
+    public static class IndexedResource {
+
+        @GET
+        public String get() {
+            return "indexed";
+        }
+    }
+
+    @jakarta.ws.rs.Path("not-indexed")
+    public static class NotIndexedResource {
+
+        @GET
+        public String get() {
+            return "not-indexed";
+        }
+    }
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        final StringWriter writer = new StringWriter();
+        ResourceIndex.write(writer, Arrays.asList("b.B", "a.A"));
+
+        final List<String> classNames = new ArrayList<>();
+        ResourceIndex.read(new ByteArrayInputStream(writer.toString().getBytes(StandardCharsets.UTF_8)), classNames);
+        assertEquals(Arrays.asList("a.A", "b.B"), classNames);
+    }
+
+    @Test
+    public void testClassNamesInPackages(@TempDir final Path dir) throws Exception {
+        final ResourceIndex index = ResourceIndex.load(indexClassLoader(dir, "a.A", "a.b.B", "ab.C", "D"));
+
+        assertEquals(set("a.A"), index.getClassNames(new String[] {"a"}, false));
+        assertEquals(set("a.A", "a.b.B"), index.getClassNames(new String[] {"a"}, true));
+        assertEquals(set("a.b.B", "ab.C"), index.getClassNames(new String[] {"a.b", "ab"}, true));
+        assertEquals(set("D"), index.getClassNames(new String[] {""}, false));
+    }
+
+    @Test
+    public void testPackageScanningUsesIndex(@TempDir final Path dir) throws Exception {
+        final ClassLoader classLoader = indexClassLoader(dir, IndexedResource.class.getName());
+
+        final Set<Class<?>> classes = indexedConfig().packages(false, classLoader, PACKAGE).getClasses();
+        assertTrue(classes.contains(IndexedResource.class));
+        assertFalse(classes.contains(NotIndexedResource.class));
+    }
+
+    @Test
+    public void testPackageScanningIndexDisabledByDefault(@TempDir final Path dir) throws Exception {
+        final ClassLoader classLoader = indexClassLoader(dir, IndexedResource.class.getName());
+
+        final Set<Class<?>> classes = new ResourceConfig().packages(false, classLoader, PACKAGE).getClasses();
+        assertTrue(classes.contains(IndexedResource.class));
+        assertTrue(classes.contains(NotIndexedResource.class));
+    }
+
+    @Test
+    public void testPackageNotIndexedIsScanned(@TempDir final Path dir) throws Exception {
+        final ClassLoader classLoader = indexClassLoader(dir, "org.example.Resource");
+
+        final Set<Class<?>> classes = indexedConfig().packages(false, classLoader, PACKAGE).getClasses();
+        assertTrue(classes.contains(IndexedResource.class));
+        assertTrue(classes.contains(NotIndexedResource.class));
+    }
+
+    @Test
+    public void testMultiplePackagesPartiallyIndexed(@TempDir final Path dir) throws Exception {
+        final ClassLoader classLoader = indexClassLoader(dir, IndexedResource.class.getName());
+
+        final Set<Class<?>> classes = indexedConfig()
+                .packages(false, classLoader, PACKAGE, NestedResource.class.getPackage().getName()).getClasses();
+        assertTrue(classes.contains(IndexedResource.class));
+        assertFalse(classes.contains(NotIndexedResource.class));
+        assertTrue(classes.contains(NestedResource.class));
+    }
+
+    @Test
+    public void testRecursiveScanningOfNotIndexedNestedPackage(@TempDir final Path dir) throws Exception {
+        final ClassLoader classLoader = indexClassLoader(dir, IndexedResource.class.getName());
+
+        final Set<Class<?>> classes = indexedConfig().packages(true, classLoader, PACKAGE).getClasses();
+        assertTrue(classes.contains(IndexedResource.class));
+        assertFalse(classes.contains(NotIndexedResource.class));
+        assertTrue(classes.contains(NestedResource.class));
+    }
+
+    @Test
+    public void testRecursiveScanningOfNotIndexedParentPackage(@TempDir final Path dir) throws Exception {
+        final ClassLoader classLoader = indexClassLoader(dir, NestedResource.class.getName());
+
+        final Set<Class<?>> classes = indexedConfig().packages(true, classLoader, PACKAGE).getClasses();
+        assertTrue(classes.contains(IndexedResource.class));
+        assertTrue(classes.contains(NotIndexedResource.class));
+        assertTrue(classes.contains(NestedResource.class));
+    }
+
+    @Test
+    public void testExcludedPackagesInJar(@TempDir final Path dir) throws Exception {
+        final String packagePath = PACKAGE.replace('.', '/');
+        final File jar = dir.resolve("resources.jar").toFile();
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            // directory entries make the packages visible to ClassLoader#getResources
+            String directory = "";
+            for (final String segment : (packagePath + "/nested").split("/")) {
+                directory += segment + "/";
+                out.putNextEntry(new JarEntry(directory));
+            }
+            for (final Class<?> resource : new Class<?>[] {IndexedResource.class, NestedResource.class}) {
+                final String name = resource.getName().replace('.', '/') + ".class";
+                out.putNextEntry(new JarEntry(name));
+                try (InputStream in = ResourceIndexTest.class.getClassLoader().getResourceAsStream(name)) {
+                    ReaderWriter.writeTo(in, out);
+                }
+            }
+        }
+
+        final ClassLoader classLoader = new URLClassLoader(new URL[] {jar.toURI().toURL()}, null);
+        final PackageNamesScanner scanner = new PackageNamesScanner(classLoader, new String[] {PACKAGE}, true,
+                Collections.singleton(PACKAGE));
+        final Set<String> names = new LinkedHashSet<>();
+        while (scanner.hasNext()) {
+            names.add(scanner.next());
+        }
+        assertEquals(set(packagePath + "/nested/NestedResource.class"), names);
+    }
+
+    @Test
+    public void testCoveredPackages(@TempDir final Path dir) throws Exception {
+        final ResourceIndex index = ResourceIndex.load(indexClassLoader(dir, "a.A", "a.A2", "a.b.B", "ab.C"));
+
+        assertEquals(set("a"), index.getPackages(new String[] {"a", "c"}, false));
+        assertEquals(set("a", "a.b"), index.getPackages(new String[] {"a"}, true));
+    }
+
+    private static ResourceConfig indexedConfig() {
+        return new ResourceConfig().property(ServerProperties.PROVIDER_SCANNING_INDEX_ENABLED, true);
+    }
+
+    private static ClassLoader indexClassLoader(final Path dir, final String... classNames) throws Exception {
+        final File index = dir.resolve(ResourceIndex.LOCATION).toFile();
+        assertTrue(index.getParentFile().mkdirs());
+        Files.write(index.toPath(), String.join("\n", classNames).getBytes(StandardCharsets.UTF_8));
+        return new URLClassLoader(new URL[] {dir.toUri().toURL()}, ResourceIndexTest.class.getClassLoader());
+    }
+
+    private static Set<String> set(final String... values) {
+        return new LinkedHashSet<>(Arrays.asList(values));
+    }
+}
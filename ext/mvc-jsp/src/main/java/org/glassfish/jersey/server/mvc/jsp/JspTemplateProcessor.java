@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -47,7 +47,9 @@ import org.glassfish.jersey.server.mvc.spi.ResolvedViewable;
 
 /**
  * A JSP template processor able to process resources obtained through {@link ServletContext servlet context}. This template
- * processor does not support caching of template reference objects (in Jersey) or passing custom template object factory.
+ * processor does not support passing custom template object factory. The JSP pages are compiled by the servlet container,
+ * if caching of templates is enabled only the resolved template paths (and the template names that cannot be resolved)
+ * are cached in Jersey.
  *
  * @author Paul Sandoz
  * @author Michal Gajdos
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -53,6 +53,10 @@ public final class MvcFeature implements Feature {
 
     /**
      * If {@code true} then enable caching of template objects, i.e. to avoid multiple compilations of a template.
+     * The template names that cannot be resolved are cached as well. If the common (not template processor specific)
+     * property is enabled, the default {@link org.glassfish.jersey.server.mvc.spi.ViewableContext viewable context} caches
+     * the resolution of relative template names along the inheritance hierarchy of the resolving class too.
+     * See also {@link #CACHE_SIZE} and {@link #CACHE_CHECK_INTERVAL}.
      * <p/>
      * The default value is {@code false}.
      * <p/>
@@ -66,6 +70,42 @@ public final class MvcFeature implements Feature {
      */
     public static final String CACHE_TEMPLATES = "jersey.config.server.mvc.caching";
 
+    /**
+     * Maximal number of template resolutions kept in the cache if caching of templates is enabled by
+     * {@link #CACHE_TEMPLATES}. The cache holds the resolved template objects as well as the template names that could not
+     * be resolved, the least recently used resolutions are evicted once the cache is full.
+     * <p/>
+     * The default value is {@code 1000}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * <p/>
+     * Note: This property is used as common prefix for specific
+     * {@link org.glassfish.jersey.server.mvc.spi.TemplateProcessor template processors} properties and might not be supported by
+     * all template processors.
+     *
+     * @since 3.1.2
+     */
+    public static final String CACHE_SIZE = "jersey.config.server.mvc.cacheSize";
+
+    /**
+     * Interval in milliseconds after which the cached template resolutions are checked, intended for development. A template
+     * loaded from a file (incl. class path and servlet context resources available as files) is resolved again if the file
+     * has been modified or removed and a template name that could not be resolved is looked up again.
+     * <p/>
+     * A negative value disables the checks, {@code 0} checks the cached resolutions on each use.
+     * <p/>
+     * The default value is {@code -1}.
+     * <p/>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * <p/>
+     * Note: This property is used as common prefix for specific
+     * {@link org.glassfish.jersey.server.mvc.spi.TemplateProcessor template processors} properties and might not be supported by
+     * all template processors.
+     *
+     * @since 3.1.2
+     */
+    public static final String CACHE_CHECK_INTERVAL = "jersey.config.server.mvc.cacheCheckInterval";
+
     /**
      * Property used to pass user-configured factory able to create template objects. Value of the property is supposed to be an
      * instance of "templating engine"-specific factory, a class of the factory or class-name of the factory.
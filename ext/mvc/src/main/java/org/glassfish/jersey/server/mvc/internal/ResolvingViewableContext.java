@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,8 +16,18 @@
 
 package org.glassfish.jersey.server.mvc.internal;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.ws.rs.core.Configuration;
 import jakarta.ws.rs.core.MediaType;
 
+import jakarta.inject.Inject;
+
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.internal.util.collection.Ref;
+import org.glassfish.jersey.internal.util.collection.Refs;
+import org.glassfish.jersey.server.mvc.MvcFeature;
 import org.glassfish.jersey.server.mvc.Viewable;
 import org.glassfish.jersey.server.mvc.spi.ResolvedViewable;
 import org.glassfish.jersey.server.mvc.spi.TemplateProcessor;
@@ -39,11 +49,30 @@ import org.glassfish.jersey.server.mvc.spi.ViewableContextException;
  * class is utilized, and is set as the resolving class. Traversal up the inheritance hierarchy proceeds until an absolute
  * template name can be resolved into a template reference, or the Object class is reached,
  * which means the absolute template name could not be resolved and an error will result.
+ * <p/>
+ * If caching of templates is enabled by the {@link MvcFeature#CACHE_TEMPLATES} property, the absolute template name
+ * a relative template name resolves to (or the fact that it cannot be resolved) is cached for each template processor,
+ * media type and resolving class to avoid looking up the templates along the inheritance hierarchy on each request.
  *
  * @author Michal Gajdos
  */
 class ResolvingViewableContext implements ViewableContext {
 
+    private final Map<String, Object> properties;
+    private final Map<TemplateProcessor, TemplateResolutionCache<TemplateLocation>> caches;
+
+    /**
+     * Create an instance of the viewable context configured by the injected {@link Configuration config}.
+     *
+     * @param config configuration to configure this context from.
+     */
+    @Inject
+    public ResolvingViewableContext(final Configuration config) {
+        this.properties = config.getProperties();
+        this.caches = PropertiesHelper.getValue(properties, MvcFeature.CACHE_TEMPLATES, false, null)
+                ? new ConcurrentHashMap<>() : null;
+    }
+
     /**
      * Resolve given {@link Viewable viewable} using {@link MediaType media type}, {@code resolving class} and
      * {@link TemplateProcessor template processor}.
@@ -104,28 +133,87 @@ class ResolvingViewableContext implements ViewableContext {
     private ResolvedViewable resolveRelativeViewable(final Viewable viewable, final Class<?> resolvingClass,
                                                      final MediaType mediaType, final TemplateProcessor templateProcessor) {
         final String path = TemplateHelper.getTemplateName(viewable);
+        final Ref<Object> resolvedTemplateObject = Refs.emptyRef();
 
+        TemplateLocation location;
+        if (caches == null) {
+            location = findTemplate(path, resolvingClass, mediaType, templateProcessor, resolvedTemplateObject);
+        } else {
+            final TemplateResolutionCache<TemplateLocation> cache = caches.computeIfAbsent(templateProcessor,
+                    processor -> TemplateResolutionCache.create(properties, ""));
+
+            location = cache.get(path, mediaType, resolvingClass,
+                    source -> findTemplate(path, resolvingClass, mediaType, templateProcessor, resolvedTemplateObject));
+
+            if (location != null && resolvedTemplateObject.get() == null) {
+                // Cached location, the template object itself is cached by the template processor (if enabled).
+                resolvedTemplateObject.set(templateProcessor.resolve(location.absolutePath, mediaType));
+
+                if (resolvedTemplateObject.get() == null) {
+                    // The template has been removed.
+                    location = findTemplate(path, resolvingClass, mediaType, templateProcessor, resolvedTemplateObject);
+                    cache.put(path, mediaType, resolvingClass, location);
+                }
+            }
+        }
+
+        if (location != null) {
+            return new ResolvedViewable(templateProcessor, resolvedTemplateObject.get(), viewable,
+                    location.resolvingClass, mediaType);
+        }
+
+        return null;
+    }
+
+    /**
+     * Find the absolute template name the relative template name resolves to using {@link MediaType media type},
+     * {@code resolving class} and {@link TemplateProcessor template processor}.
+     *
+     * @param path relative template name.
+     * @param resolvingClass resolving class.
+     * @param mediaType media type of the output.
+     * @param templateProcessor template processor to be used.
+     * @param resolvedTemplateObject reference to be set to the resolved template object.
+     * @return template location or {@code null} if the template cannot be resolved.
+     */
+    private TemplateLocation findTemplate(final String path, final Class<?> resolvingClass, final MediaType mediaType,
+                                          final TemplateProcessor templateProcessor, final Ref<Object> resolvedTemplateObject) {
         // Find in directories.
         for (Class c = resolvingClass; c != Object.class; c = c.getSuperclass()) {
             final String absolutePath = TemplateHelper.getAbsolutePath(c, path, '/');
-            final Object resolvedTemplateObject = templateProcessor.resolve(absolutePath, mediaType);
+            final Object templateObject = templateProcessor.resolve(absolutePath, mediaType);
 
-            if (resolvedTemplateObject != null) {
-                return new ResolvedViewable(templateProcessor, resolvedTemplateObject, viewable, c, mediaType);
+            if (templateObject != null) {
+                resolvedTemplateObject.set(templateObject);
+                return new TemplateLocation(absolutePath, c);
             }
         }
 
         // Find in flat files.
         for (Class c = resolvingClass; c != Object.class; c = c.getSuperclass()) {
             final String absolutePath = TemplateHelper.getAbsolutePath(c, path, '.');
-            final Object resolvedTemplateObject = templateProcessor.resolve(absolutePath, mediaType);
+            final Object templateObject = templateProcessor.resolve(absolutePath, mediaType);
 
-            if (resolvedTemplateObject != null) {
-                return new ResolvedViewable(templateProcessor, resolvedTemplateObject, viewable, c, mediaType);
+            if (templateObject != null) {
+                resolvedTemplateObject.set(templateObject);
+                return new TemplateLocation(absolutePath, c);
             }
         }
 
         return null;
     }
 
+    /**
+     * Absolute template name a relative template name resolves to together with the class it resolves for.
+     */
+    private static final class TemplateLocation {
+
+        private final String absolutePath;
+        private final Class<?> resolvingClass;
+
+        private TemplateLocation(final String absolutePath, final Class<?> resolvingClass) {
+            this.absolutePath = absolutePath;
+            this.resolvingClass = resolvingClass;
+        }
+    }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.server.mvc.internal;
+
+import java.io.File;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import jakarta.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.internal.guava.Cache;
+import org.glassfish.jersey.internal.guava.CacheBuilder;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
+import org.glassfish.jersey.internal.util.collection.Ref;
+import org.glassfish.jersey.internal.util.collection.Refs;
+import org.glassfish.jersey.server.mvc.MvcFeature;
+
+/**
+ * Bounded cache of template resolutions keyed by template name, media type and resolving class. Both the resolved
+ * template references and the template names that could not be resolved ({@code null} references) are cached.
+ * <p/>
+ * If a {@link MvcFeature#CACHE_CHECK_INTERVAL check interval} is configured, a cached resolution is resolved again
+ * once the interval elapses if either the template could not be resolved or the file the template has been loaded
+ * from has been modified or removed since.
+ *
+ * @param <V> type of the cached template references.
+ * @since 3.1.2
+ */
+public final class TemplateResolutionCache<V> {
+
+    private static final long DEFAULT_CACHE_SIZE = 1000;
+
+    private final Cache<Key, Entry<V>> entries;
+    private final long checkInterval;
+
+    /**
+     * Create a new cache.
+     *
+     * @param maxSize       maximal number of cached resolutions.
+     * @param checkInterval interval in milliseconds after which cached resolutions are checked, negative value disables
+     *                      the checks.
+     */
+    public TemplateResolutionCache(final long maxSize, final long checkInterval) {
+        this.entries = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+        this.checkInterval = checkInterval < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(checkInterval);
+    }
+
+    /**
+     * Create a new cache configured by the {@link MvcFeature#CACHE_SIZE} and {@link MvcFeature#CACHE_CHECK_INTERVAL}
+     * properties. The properties with the given template processor suffix take precedence over the common ones.
+     *
+     * @param properties configuration properties.
+     * @param suffix     template processor property suffix (including the leading dot) or an empty string.
+     * @param <V>        type of the cached template references.
+     * @return new template resolution cache.
+     */
+    public static <V> TemplateResolutionCache<V> create(final Map<String, Object> properties, final String suffix) {
+        Long maxSize = PropertiesHelper.getValue(properties, MvcFeature.CACHE_SIZE + suffix, Long.class, null);
+        if (maxSize == null) {
+            maxSize = PropertiesHelper.getValue(properties, MvcFeature.CACHE_SIZE, DEFAULT_CACHE_SIZE, null);
+        }
+        Long checkInterval = PropertiesHelper.getValue(properties, MvcFeature.CACHE_CHECK_INTERVAL + suffix, Long.class, null);
+        if (checkInterval == null) {
+            checkInterval = PropertiesHelper.getValue(properties, MvcFeature.CACHE_CHECK_INTERVAL, -1L, null);
+        }
+        return new TemplateResolutionCache<>(maxSize, checkInterval);
+    }
+
+    /**
+     * Get the cached template reference or resolve it using the given resolver if there is no valid cached resolution.
+     * The resolver may set the file the template has been loaded from to the supplied reference to enable checking
+     * the file for modifications.
+     *
+     * @param name           template name.
+     * @param mediaType      media type the template is resolved for, may be {@code null}.
+     * @param resolvingClass class the template is resolved for, may be {@code null}.
+     * @param resolver       function resolving the template reference, returns {@code null} if the template cannot
+     *                       be resolved.
+     * @return template reference or {@code null} if the template cannot be resolved.
+     */
+    public V get(final String name, final MediaType mediaType, final Class<?> resolvingClass,
+                 final Function<Ref<File>, V> resolver) {
+        final Key key = new Key(name, mediaType, resolvingClass);
+
+        Entry<V> entry = entries.getIfPresent(key);
+        if (entry == null || entry.isStale(checkInterval)) {
+            final Ref<File> source = Refs.emptyRef();
+            entry = new Entry<>(resolver.apply(source), source.get());
+            entries.put(key, entry);
+        }
+        return entry.value;
+    }
+
+    /**
+     * Replace the cached resolution of a template, e.g. after the cached template reference turned out to be invalid.
+     *
+     * @param name           template name.
+     * @param mediaType      media type the template is resolved for, may be {@code null}.
+     * @param resolvingClass class the template is resolved for, may be {@code null}.
+     * @param value          template reference or {@code null} if the template cannot be resolved.
+     */
+    public void put(final String name, final MediaType mediaType, final Class<?> resolvingClass, final V value) {
+        entries.put(new Key(name, mediaType, resolvingClass), new Entry<>(value, null));
+    }
+
+    private static final class Key {
+
+        private final String name;
+        private final MediaType mediaType;
+        private final Class<?> resolvingClass;
+        private final int hash;
+
+        private Key(final String name, final MediaType mediaType, final Class<?> resolvingClass) {
+            this.name = name;
+            this.mediaType = mediaType;
+            this.resolvingClass = resolvingClass;
+            this.hash = Objects.hash(name, mediaType, resolvingClass);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return resolvingClass == other.resolvingClass
+                    && Objects.equals(name, other.name)
+                    && Objects.equals(mediaType, other.mediaType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final File source;
+        private final long lastModified;
+        private volatile long checked;
+
+        private Entry(final V value, final File source) {
+            this.value = value;
+            this.source = source;
+            this.lastModified = source != null ? source.lastModified() : 0;
+            this.checked = System.nanoTime();
+        }
+
+        private boolean isStale(final long checkInterval) {
+            if (checkInterval < 0) {
+                return false;
+            }
+            final long now = System.nanoTime();
+            if (now - checked < checkInterval) {
+                return false;
+            }
+            checked = now;
+
+            if (source != null) {
+                return source.lastModified() != lastModified;
+            }
+            // templates not loaded from a file cannot change, unresolved ones may have been added
+            return value == null;
+        }
+    }
+}
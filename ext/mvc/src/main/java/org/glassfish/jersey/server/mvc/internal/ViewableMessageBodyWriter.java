@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -73,6 +74,10 @@ final class ViewableMessageBodyWriter implements MessageBodyWriter<Viewable> {
 
     private static final Logger LOGGER = Logger.getLogger(ViewableMessageBodyWriter.class.getName());
 
+    // The providers do not change once the application is initialized, look them up only once.
+    private volatile Set<TemplateProcessor> templateProcessors;
+    private volatile ViewableContext viewableContext;
+
 
     @Override
     public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
@@ -184,11 +189,16 @@ final class ViewableMessageBodyWriter implements MessageBodyWriter<Viewable> {
      * @return set of template processors.
      */
     private Set<TemplateProcessor> getTemplateProcessors() {
-        final Set<TemplateProcessor> templateProcessors = new LinkedHashSet<>();
+        Set<TemplateProcessor> templateProcessors = this.templateProcessors;
+        if (templateProcessors == null) {
+            templateProcessors = new LinkedHashSet<>();
 
-        templateProcessors.addAll(Providers.getCustomProviders(injectionManager, TemplateProcessor.class));
-        templateProcessors.addAll(Providers.getProviders(injectionManager, TemplateProcessor.class));
+            templateProcessors.addAll(Providers.getCustomProviders(injectionManager, TemplateProcessor.class));
+            templateProcessors.addAll(Providers.getProviders(injectionManager, TemplateProcessor.class));
 
+            templateProcessors = Collections.unmodifiableSet(templateProcessors);
+            this.templateProcessors = templateProcessors;
+        }
         return templateProcessors;
     }
 
@@ -199,10 +209,16 @@ final class ViewableMessageBodyWriter implements MessageBodyWriter<Viewable> {
      * @return {@code non-null} viewable context.
      */
     private ViewableContext getViewableContext() {
-        final Set<ViewableContext> customProviders = Providers.getCustomProviders(injectionManager, ViewableContext.class);
-        if (!customProviders.isEmpty()) {
-            return customProviders.iterator().next();
+        ViewableContext viewableContext = this.viewableContext;
+        if (viewableContext == null) {
+            final Set<ViewableContext> customProviders = Providers.getCustomProviders(injectionManager, ViewableContext.class);
+            if (!customProviders.isEmpty()) {
+                viewableContext = customProviders.iterator().next();
+            } else {
+                viewableContext = Providers.getProviders(injectionManager, ViewableContext.class).iterator().next();
+            }
+            this.viewableContext = viewableContext;
         }
-        return Providers.getProviders(injectionManager, ViewableContext.class).iterator().next();
+        return viewableContext;
     }
 }
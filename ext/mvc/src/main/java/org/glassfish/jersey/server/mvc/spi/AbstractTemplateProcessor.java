@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,12 +16,15 @@
 
 package org.glassfish.jersey.server.mvc.spi;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -31,8 +34,6 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -47,10 +48,12 @@ import jakarta.servlet.ServletContext;
 
 import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.internal.util.ReflectionHelper;
+import org.glassfish.jersey.internal.util.collection.Ref;
 import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.server.mvc.MvcFeature;
 import org.glassfish.jersey.server.mvc.internal.LocalizationMessages;
 import org.glassfish.jersey.server.mvc.internal.TemplateHelper;
+import org.glassfish.jersey.server.mvc.internal.TemplateResolutionCache;
 
 /**
  * Default implementation of {@link org.glassfish.jersey.server.mvc.spi.TemplateProcessor template processor} that can be used to
@@ -58,6 +61,8 @@ import org.glassfish.jersey.server.mvc.internal.TemplateHelper;
  * <ul>
  * <li>{@link org.glassfish.jersey.server.mvc.MvcFeature#TEMPLATE_BASE_PATH}</li>
  * <li>{@link org.glassfish.jersey.server.mvc.MvcFeature#CACHE_TEMPLATES}</li>
+ * <li>{@link org.glassfish.jersey.server.mvc.MvcFeature#CACHE_SIZE}</li>
+ * <li>{@link org.glassfish.jersey.server.mvc.MvcFeature#CACHE_CHECK_INTERVAL}</li>
  * <li>{@link org.glassfish.jersey.server.mvc.MvcFeature#TEMPLATE_OBJECT_FACTORY}</li>
  * </ul>
  * If any of the properties are not supported by particular template processor then this fact should be mentioned in documentation
@@ -69,7 +74,7 @@ public abstract class AbstractTemplateProcessor<T> implements TemplateProcessor<
 
     private static final Logger LOGGER = Logger.getLogger(AbstractTemplateProcessor.class.getName());
 
-    private final ConcurrentMap<String, T> cache;
+    private final TemplateResolutionCache<T> cache;
 
     private final String suffix;
     private final Configuration config;
@@ -117,7 +122,7 @@ public abstract class AbstractTemplateProcessor<T> implements TemplateProcessor<
         if (cacheEnabled == null) {
             cacheEnabled = PropertiesHelper.getValue(properties, MvcFeature.CACHE_TEMPLATES, false, null);
         }
-        this.cache = cacheEnabled ? new ConcurrentHashMap<>() : null;
+        this.cache = cacheEnabled ? TemplateResolutionCache.create(properties, suffix) : null;
         this.encoding = TemplateHelper.getTemplateOutputEncoding(config, suffix);
     }
 
@@ -141,24 +146,22 @@ public abstract class AbstractTemplateProcessor<T> implements TemplateProcessor<
 
     @Override
     public T resolve(final String name, final MediaType mediaType) {
-        // Look into the cache if enabled.
+        // Look into the cache if enabled, the resolution does not depend on the media type.
         if (cache != null) {
-            if (!cache.containsKey(name)) {
-                cache.putIfAbsent(name, resolve(name));
-            }
-            return cache.get(name);
+            return cache.get(name, null, null, source -> resolveTemplate(name, source));
         }
 
-        return resolve(name);
+        return resolveTemplate(name, null);
     }
 
     /**
      * Resolve a template name to a template reference.
      *
      * @param name the template name.
+     * @param source (optional) reference to be set to the file the template has been loaded from, if any.
      * @return the template reference, otherwise {@code null} if the template name cannot be resolved.
      */
-    private T resolve(final String name) {
+    private T resolveTemplate(final String name, final Ref<File> source) {
         for (final String template : getTemplatePaths(name)) {
             Reader reader = null;
 
@@ -168,13 +171,23 @@ public abstract class AbstractTemplateProcessor<T> implements TemplateProcessor<
                 final String path = template.startsWith("/") ? template : "/" + template;
                 final InputStream stream = servletContext.getResourceAsStream(path);
                 reader = stream != null ? new InputStreamReader(stream) : null;
+
+                if (reader != null && source != null) {
+                    final String realPath = servletContext.getRealPath(path);
+                    source.set(realPath != null ? new File(realPath) : null);
+                }
             }
 
             // Classloader.
             if (reader == null) {
                 InputStream stream = getClass().getResourceAsStream(template);
-                if (stream == null) {
+                if (stream != null) {
+                    setSource(source, getClass().getResource(template));
+                } else {
                     stream = getClass().getClassLoader().getResourceAsStream(template);
+                    if (stream != null) {
+                        setSource(source, getClass().getClassLoader().getResource(template));
+                    }
                 }
                 reader = stream != null ? new InputStreamReader(stream) : null;
             }
@@ -183,6 +196,9 @@ public abstract class AbstractTemplateProcessor<T> implements TemplateProcessor<
             if (reader == null) {
                 try {
                     reader = new InputStreamReader(new FileInputStream(template), encoding);
+                    if (source != null) {
+                        source.set(new File(template));
+                    }
                 } catch (final FileNotFoundException fnfe) {
                     // NOOP.
                 }
@@ -205,6 +221,22 @@ public abstract class AbstractTemplateProcessor<T> implements TemplateProcessor<
         return null;
     }
 
+    /**
+     * Set the file of a class path resource as the template source, if the resource is a file.
+     *
+     * @param source (optional) reference to be set to the template file.
+     * @param url class path resource URL.
+     */
+    private static void setSource(final Ref<File> source, final URL url) {
+        if (source != null && url != null && "file".equals(url.getProtocol())) {
+            try {
+                source.set(new File(url.toURI()));
+            } catch (final URISyntaxException | IllegalArgumentException e) {
+                // NOOP, the template is not checked for modifications.
+            }
+        }
+    }
+
     /**
      * Resolve given template path and/or reader to a template reference object.
      *
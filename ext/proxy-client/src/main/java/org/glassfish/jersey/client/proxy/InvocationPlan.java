@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.proxy;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.GenericType;
+
+/**
+ * Invocation metadata of a resource interface method computed once from the method annotations and reused
+ * by {@link WebResourceFactory} for all the invocations of the method, so that an invocation only binds the arguments
+ * and executes the request.
+ */
+final class InvocationPlan {
+
+    private static final String[] EMPTY = {};
+
+    /**
+     * Invocation plans of the resource interface methods.
+     */
+    private static final ClassValue<Map<Method, InvocationPlan>> PLANS = new ClassValue<Map<Method, InvocationPlan>>() {
+        @Override
+        protected Map<Method, InvocationPlan> computeValue(final Class<?> resourceInterface) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final String httpMethod;
+    private final String path;
+    private final Class<?> responseType;
+    private final GenericType<?> responseGenericType;
+    private final String[] accepts;
+    private final String contentType;
+    private final Parameter[] parameters;
+    private final int entityIndex;
+    private final Type entityType;
+
+    /**
+     * Get the invocation plan of a resource interface method.
+     *
+     * @param resourceInterface resource interface implemented by the proxy.
+     * @param method            invoked method.
+     * @return invocation plan of the method.
+     * @throws UnsupportedOperationException if the method is neither a resource method nor a sub-resource locator.
+     */
+    static InvocationPlan of(final Class<?> resourceInterface, final Method method) {
+        final Map<Method, InvocationPlan> plans = PLANS.get(resourceInterface);
+        InvocationPlan plan = plans.get(method);
+        if (plan == null) {
+            plan = new InvocationPlan(resourceInterface, method);
+            plans.putIfAbsent(method, plan);
+        }
+        return plan;
+    }
+
+    @SuppressWarnings("unchecked")
+    private InvocationPlan(final Class<?> resourceInterface, final Method method) {
+        // determine method name
+        String httpMethod = getHttpMethodName(method);
+        if (httpMethod == null) {
+            for (final Annotation ann : method.getAnnotations()) {
+                httpMethod = getHttpMethodName(ann.annotationType());
+                if (httpMethod != null) {
+                    break;
+                }
+            }
+        }
+        this.httpMethod = httpMethod;
+
+        final Path p = method.getAnnotation(Path.class);
+        this.path = p == null ? null : p.value();
+        this.responseType = method.getReturnType();
+
+        if (httpMethod == null) {
+            if (path == null) {
+                // no path annotation on the method -> fail
+                throw new UnsupportedOperationException("Not a resource method.");
+            } else if (!responseType.isInterface()) {
+                // the method is a subresource locator, but returns class,
+                // not interface - can't help here
+                throw new UnsupportedOperationException("Return type not an interface");
+            }
+        }
+
+        // method params (Path|Form|Cookie|Matrix|Header..)Params and entity type
+        final Annotation[][] paramAnns = method.getParameterAnnotations();
+        this.parameters = new Parameter[paramAnns.length];
+        int entityIndex = -1;
+        for (int i = 0; i < paramAnns.length; i++) {
+            final Map<Class<?>, Annotation> anns = new HashMap<>();
+            for (final Annotation ann : paramAnns[i]) {
+                anns.put(ann.annotationType(), ann);
+            }
+            final boolean entity = !RequestParameters.hasAnyParamAnnotation(anns);
+            if (entity) {
+                entityIndex = i;
+            }
+            final DefaultValue defaultValue = (DefaultValue) anns.get(DefaultValue.class);
+            parameters[i] = new Parameter(Collections.unmodifiableMap(anns), entity,
+                    defaultValue == null ? null : defaultValue.value());
+        }
+        this.entityIndex = entityIndex;
+        this.entityType = entityIndex < 0 ? null : method.getGenericParameterTypes()[entityIndex];
+
+        // accepted media types
+        Produces produces = method.getAnnotation(Produces.class);
+        if (produces == null) {
+            produces = resourceInterface.getAnnotation(Produces.class);
+        }
+        this.accepts = (produces == null) ? EMPTY : produces.value();
+
+        // declared content type
+        Consumes consumes = method.getAnnotation(Consumes.class);
+        if (consumes == null) {
+            consumes = resourceInterface.getAnnotation(Consumes.class);
+        }
+        this.contentType = consumes != null && consumes.value().length > 0 ? consumes.value()[0] : null;
+
+        this.responseGenericType = new GenericType(method.getGenericReturnType());
+    }
+
+    private static String getHttpMethodName(final AnnotatedElement ae) {
+        final HttpMethod a = ae.getAnnotation(HttpMethod.class);
+        return a == null ? null : a.value();
+    }
+
+    /**
+     * Get the HTTP method.
+     *
+     * @return HTTP method or {@code null} if the method is a sub-resource locator.
+     */
+    String getHttpMethod() {
+        return httpMethod;
+    }
+
+    /**
+     * Get the value of the {@link Path @Path} annotation of the method.
+     *
+     * @return method path or {@code null} if the method is not annotated.
+     */
+    String getPath() {
+        return path;
+    }
+
+    Class<?> getResponseType() {
+        return responseType;
+    }
+
+    GenericType<?> getResponseGenericType() {
+        return responseGenericType;
+    }
+
+    /**
+     * Get the media types of the method or resource interface {@link Produces @Produces} annotation.
+     *
+     * @return accepted media types, empty if not annotated. The array must not be modified.
+     */
+    String[] getAccepts() {
+        return accepts;
+    }
+
+    /**
+     * Get the first media type of the method or resource interface {@link Consumes @Consumes} annotation.
+     *
+     * @return entity content type or {@code null} if not annotated.
+     */
+    String getContentType() {
+        return contentType;
+    }
+
+    Parameter[] getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Get the index of the entity parameter.
+     *
+     * @return index of the last parameter without a parameter annotation or {@code -1} if there is none.
+     */
+    int getEntityIndex() {
+        return entityIndex;
+    }
+
+    /**
+     * Get the generic type of the entity parameter.
+     *
+     * @return entity type or {@code null} if there is no entity parameter.
+     */
+    Type getEntityType() {
+        return entityType;
+    }
+
+    /**
+     * Check if the entity needs to be wrapped in a {@link jakarta.ws.rs.core.GenericEntity} to keep its generic type.
+     *
+     * @return {@code true} if the entity type is parameterized.
+     */
+    boolean isGenericEntity() {
+        return entityType instanceof ParameterizedType;
+    }
+
+    /**
+     * Method parameter metadata.
+     */
+    static final class Parameter {
+
+        private final Map<Class<?>, Annotation> annotations;
+        private final boolean entity;
+        private final String defaultValue;
+
+        private Parameter(final Map<Class<?>, Annotation> annotations, final boolean entity, final String defaultValue) {
+            this.annotations = annotations;
+            this.entity = entity;
+            this.defaultValue = defaultValue;
+        }
+
+        /**
+         * Get the parameter annotations keyed by their type.
+         *
+         * @return parameter annotations.
+         */
+        Map<Class<?>, Annotation> getAnnotations() {
+            return annotations;
+        }
+
+        /**
+         * Check if the parameter is an entity, i.e. it has no parameter annotation.
+         *
+         * @return {@code true} if the parameter is an entity.
+         */
+        boolean isEntity() {
+            return entity;
+        }
+
+        /**
+         * Get the value of the {@link DefaultValue @DefaultValue} annotation.
+         *
+         * @return default value or {@code null} if not annotated.
+         */
+        String getDefaultValue() {
+            return defaultValue;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,31 +16,24 @@
 
 package org.glassfish.jersey.client.proxy;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Type;
-import java.lang.reflect.ParameterizedType;
 import java.security.AccessController;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.ws.rs.BeanParam;
-import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.CookieParam;
-import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.FormParam;
 import jakarta.ws.rs.HeaderParam;
-import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.MatrixParam;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
-import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
@@ -48,7 +41,6 @@ import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.Cookie;
 import jakarta.ws.rs.core.Form;
 import jakarta.ws.rs.core.GenericEntity;
-import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedHashMap;
@@ -65,9 +57,9 @@ import org.glassfish.jersey.internal.util.ReflectionHelper;
  */
 public final class WebResourceFactory implements InvocationHandler {
 
-    private static final String[] EMPTY = {};
-
+    private final Class<?> resourceInterface;
     private final WebTarget target;
+    private final Map<Method, WebTarget> methodTargets = new ConcurrentHashMap<>();
     private final MultivaluedMap<String, Object> headers;
     private final List<Cookie> cookies;
     private final Form form;
@@ -119,12 +111,14 @@ public final class WebResourceFactory implements InvocationHandler {
 
         return (C) Proxy.newProxyInstance(AccessController.doPrivileged(ReflectionHelper.getClassLoaderPA(resourceInterface)),
                 new Class[] {resourceInterface},
-                new WebResourceFactory(ignoreResourcePath ? target : addPathFromAnnotation(resourceInterface, target),
+                new WebResourceFactory(resourceInterface,
+                        ignoreResourcePath ? target : addPathFromAnnotation(resourceInterface, target),
                         headers, cookies, form));
     }
 
-    private WebResourceFactory(final WebTarget target, final MultivaluedMap<String, Object> headers,
-                               final List<Cookie> cookies, final Form form) {
+    private WebResourceFactory(final Class<?> resourceInterface, final WebTarget target,
+                               final MultivaluedMap<String, Object> headers, final List<Cookie> cookies, final Form form) {
+        this.resourceInterface = resourceInterface;
         this.target = target;
         this.headers = headers;
         this.cookies = cookies;
@@ -148,77 +142,37 @@ public final class WebResourceFactory implements InvocationHandler {
             return equals(args[0]);
         }
 
-        // get the interface describing the resource
-        final Class<?> proxyIfc = proxy.getClass().getInterfaces()[0];
-
-        // response type
-        final Class<?> responseType = method.getReturnType();
+        final InvocationPlan plan = InvocationPlan.of(resourceInterface, method);
+        final String httpMethod = plan.getHttpMethod();
 
-        // determine method name
-        String httpMethod = getHttpMethodName(method);
-        if (httpMethod == null) {
-            for (final Annotation ann : method.getAnnotations()) {
-                httpMethod = getHttpMethodName(ann.annotationType());
-                if (httpMethod != null) {
-                    break;
-                }
-            }
-        }
-
-        // create a new UriBuilder appending the @Path attached to the method
-        WebTarget newTarget = addPathFromAnnotation(method, target);
-
-        if (httpMethod == null) {
-            if (newTarget == target) {
-                // no path annotation on the method -> fail
-                throw new UnsupportedOperationException("Not a resource method.");
-            } else if (!responseType.isInterface()) {
-                // the method is a subresource locator, but returns class,
-                // not interface - can't help here
-                throw new UnsupportedOperationException("Return type not an interface");
-            }
-        }
+        // append the @Path attached to the method
+        WebTarget newTarget = getMethodTarget(method, plan);
 
         // process method params (build maps of (Path|Form|Cookie|Matrix|Header..)Params
-        // and extract entity type
-        RequestParameters requestParameters = new RequestParameters(newTarget, headers, cookies, form);
-        final Annotation[][] paramAnns = method.getParameterAnnotations();
-        Object entity = null;
-        Type entityType = null;
-        for (int i = 0; i < paramAnns.length; i++) {
-            final Map<Class<?>, Annotation> anns = new HashMap<>();
-            for (final Annotation ann : paramAnns[i]) {
-                anns.put(ann.annotationType(), ann);
-            }
-            Object value = args[i];
-            if (!RequestParameters.hasAnyParamAnnotation(anns)) {
-                entityType = method.getGenericParameterTypes()[i];
-                entity = value;
-            } else {
-                Annotation ann;
-                if (value == null && (ann = anns.get(DefaultValue.class)) != null) {
-                    value = ((DefaultValue) ann).value();
+        // and extract entity
+        final RequestParameters requestParameters = new RequestParameters(newTarget, headers, cookies, form);
+        final InvocationPlan.Parameter[] parameters = plan.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            final InvocationPlan.Parameter parameter = parameters[i];
+            if (!parameter.isEntity()) {
+                Object value = args[i];
+                if (value == null) {
+                    value = parameter.getDefaultValue();
                 }
                 if (value != null) {
-                    requestParameters.addParameter(value, anns);
+                    requestParameters.addParameter(value, parameter.getAnnotations());
                 }
             }
         }
+        Object entity = plan.getEntityIndex() < 0 ? null : args[plan.getEntityIndex()];
         newTarget = requestParameters.getNewTarget();
 
         if (httpMethod == null) {
             // the method is a subresource locator
-            return WebResourceFactory.newResource(responseType, newTarget, true,
+            return WebResourceFactory.newResource(plan.getResponseType(), newTarget, true,
                     requestParameters.getHeaders(), requestParameters.getCookies(), requestParameters.getForm());
         }
 
-        // accepted media types
-        Produces produces = method.getAnnotation(Produces.class);
-        if (produces == null) {
-            produces = proxyIfc.getAnnotation(Produces.class);
-        }
-        final String[] accepts = (produces == null) ? EMPTY : produces.value();
-
         // determine content type
         String contentType = null;
         if (entity != null) {
@@ -226,19 +180,13 @@ public final class WebResourceFactory implements InvocationHandler {
             if ((contentTypeEntries != null) && (!contentTypeEntries.isEmpty())) {
                 contentType = contentTypeEntries.get(0).toString();
             } else {
-                Consumes consumes = method.getAnnotation(Consumes.class);
-                if (consumes == null) {
-                    consumes = proxyIfc.getAnnotation(Consumes.class);
-                }
-                if (consumes != null && consumes.value().length > 0) {
-                    contentType = consumes.value()[0];
-                }
+                contentType = plan.getContentType();
             }
         }
 
         Invocation.Builder builder = newTarget.request()
                 .headers(requestParameters.getHeaders()) // this resets all headers so do this first
-                .accept(accepts); // if @Produces is defined, propagate values into Accept header; empty array is NO-OP
+                .accept(plan.getAccepts()); // if @Produces is defined, propagate values into Accept header; empty array is NO-OP
 
         for (final Cookie c : requestParameters.getCookies()) {
             builder = builder.cookie(c);
@@ -262,19 +210,30 @@ public final class WebResourceFactory implements InvocationHandler {
             }
         }
 
-        final GenericType<?> responseGenericType = new GenericType(method.getGenericReturnType());
         if (entity != null) {
-            if (entityType instanceof ParameterizedType) {
-                entity = new GenericEntity(entity, entityType);
+            if (plan.isGenericEntity()) {
+                entity = new GenericEntity(entity, plan.getEntityType());
             }
-            result = builder.method(httpMethod, Entity.entity(entity, contentType), responseGenericType);
+            result = builder.method(httpMethod, Entity.entity(entity, contentType), plan.getResponseGenericType());
         } else {
-            result = builder.method(httpMethod, responseGenericType);
+            result = builder.method(httpMethod, plan.getResponseGenericType());
         }
 
         return result;
     }
 
+    private WebTarget getMethodTarget(final Method method, final InvocationPlan plan) {
+        final String path = plan.getPath();
+        if (path == null) {
+            return target;
+        }
+        WebTarget methodTarget = methodTargets.get(method);
+        if (methodTarget == null) {
+            methodTarget = target.path(path);
+            methodTargets.putIfAbsent(method, methodTarget);
+        }
+        return methodTarget;
+    }
 
     private static WebTarget addPathFromAnnotation(final AnnotatedElement ae, WebTarget target) {
         final Path p = ae.getAnnotation(Path.class);
@@ -288,9 +247,4 @@ public final class WebResourceFactory implements InvocationHandler {
     public String toString() {
         return target.toString();
     }
-
-    private static String getHttpMethodName(final AnnotatedElement ae) {
-        final HttpMethod a = ae.getAnnotation(HttpMethod.class);
-        return a == null ? null : a.value();
-    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.client.proxy;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import jakarta.ws.rs.core.MediaType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the cached {@link InvocationPlan invocation plans}.
+ */
+public class InvocationPlanTest {
+
+    @Test
+    public void testPlanIsCached() throws Exception {
+        final Method method = MyResourceIfc.class.getMethod("getId", String.class);
+        assertSame(InvocationPlan.of(MyResourceIfc.class, method), InvocationPlan.of(MyResourceIfc.class, method));
+    }
+
+    @Test
+    public void testResourceMethod() throws Exception {
+        final InvocationPlan plan = InvocationPlan.of(MyResourceIfc.class, MyResourceIfc.class.getMethod("getId", String.class));
+
+        assertEquals("GET", plan.getHttpMethod());
+        assertEquals("{id}", plan.getPath());
+        assertArrayEquals(new String[] {MediaType.TEXT_PLAIN}, plan.getAccepts());
+        assertEquals(-1, plan.getEntityIndex());
+        assertFalse(plan.getParameters()[0].isEntity());
+    }
+
+    @Test
+    public void testEntityParameter() throws Exception {
+        final InvocationPlan plan = InvocationPlan.of(MyResourceIfc.class, MyResourceIfc.class.getMethod("postIt", List.class));
+
+        assertEquals("POST", plan.getHttpMethod());
+        assertNull(plan.getPath());
+        assertEquals(MediaType.APPLICATION_XML, plan.getContentType());
+        assertEquals(0, plan.getEntityIndex());
+        assertTrue(plan.getParameters()[0].isEntity());
+        assertTrue(plan.isGenericEntity());
+    }
+}
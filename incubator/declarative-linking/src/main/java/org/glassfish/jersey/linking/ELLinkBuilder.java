@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,9 +17,11 @@
 package org.glassfish.jersey.linking;
 
 import java.net.URI;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
@@ -44,6 +46,17 @@ final class ELLinkBuilder {
     private static final ExpressionFactory expressionFactory =
             ExpressionFactory.newInstance();
 
+    /**
+     * Maximal number of cached parsed expressions and template parameter names, the caches are cleared once full.
+     */
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    // Parsed expressions do not depend on the context they are evaluated in, the context has no function
+    // and variable mappers, so they are cached per expression string and evaluated against each new context.
+    private static final Map<String, ValueExpression> conditions = new ConcurrentHashMap<>();
+    private static final Map<String, ValueExpression> expressions = new ConcurrentHashMap<>();
+    private static final Map<String, List<String>> templateParameters = new ConcurrentHashMap<>();
+
     /**
      * Evaluates the condition
      *
@@ -62,7 +75,7 @@ final class ELLinkBuilder {
             return true;
         }
         LinkELContext context = new LinkELContext(entity, resource, instance);
-        ValueExpression expr = expressionFactory.createValueExpression(context, condition, boolean.class);
+        ValueExpression expr = getExpression(conditions, context, condition, boolean.class);
 
         Object result = expr.getValue(context).toString();
         return "true".equals(result);
@@ -90,14 +103,12 @@ final class ELLinkBuilder {
 
         // first process any embedded EL expressions
         LinkELContext context = new LinkELContext(entity, resource, instance);
-        ValueExpression expr = expressionFactory.createValueExpression(context,
-                template, String.class);
+        ValueExpression expr = getExpression(expressions, context, template, String.class);
         template = expr.getValue(context).toString();
 
         // now process any embedded URI template parameters
         UriBuilder ub = applyLinkStyle(template, link.getLinkStyle(), uriInfo);
-        UriTemplateParser parser = new UriTemplateParser(template);
-        List<String> parameterNames = parser.getNames();
+        List<String> parameterNames = getParameterNames(template);
         Map<String, Object> valueMap = getParameterValues(parameterNames, link, context, uriInfo);
         return ub.buildFromMap(valueMap);
     }
@@ -137,8 +148,7 @@ final class ELLinkBuilder {
                 }
                 elExpression = "${" + ResponseContextResolver.INSTANCE_OBJECT + "." + name + "}";
             }
-            ValueExpression expr = expressionFactory.createValueExpression(context,
-                        elExpression, String.class);
+            ValueExpression expr = getExpression(expressions, context, elExpression, String.class);
 
             Object value = expr.getValue(context);
             values.put(name, value != null ? value.toString() : null);
@@ -146,4 +156,30 @@ final class ELLinkBuilder {
         return values;
     }
 
+    private static ValueExpression getExpression(Map<String, ValueExpression> cache,
+                                                 LinkELContext context,
+                                                 String expression,
+                                                 Class<?> expectedType) {
+        ValueExpression expr = cache.get(expression);
+        if (expr == null) {
+            expr = expressionFactory.createValueExpression(context, expression, expectedType);
+            if (cache.size() >= MAX_CACHE_SIZE) {
+                cache.clear();
+            }
+            cache.put(expression, expr);
+        }
+        return expr;
+    }
+
+    private static List<String> getParameterNames(String template) {
+        List<String> names = templateParameters.get(template);
+        if (names == null) {
+            names = Collections.unmodifiableList(new UriTemplateParser(template).getNames());
+            if (templateParameters.size() >= MAX_CACHE_SIZE) {
+                templateParameters.clear();
+            }
+            templateParameters.put(template, names);
+        }
+        return names;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,15 +19,23 @@ package org.glassfish.jersey.linking;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.net.URI;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Currency;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.ws.rs.core.Link;
 
+import jakarta.xml.bind.annotation.XmlTransient;
+
 /**
  * Describes an entity in terms of its fields, bean properties and {@link InjectLink}
  * annotated fields.
@@ -38,16 +46,10 @@ import jakarta.ws.rs.core.Link;
 class EntityDescriptor {
 
     // Maintains an internal static cache to optimize processing
-    private static final Map<Class<?>, EntityDescriptor> descriptors = new HashMap<>();
-
-    static synchronized EntityDescriptor getInstance(Class<?> entityClass) {
-        if (descriptors.containsKey(entityClass)) {
-            return descriptors.get(entityClass);
-        } else {
-            EntityDescriptor descriptor = new EntityDescriptor(entityClass);
-            descriptors.put(entityClass, descriptor);
-            return descriptor;
-        }
+    private static final Map<Class<?>, EntityDescriptor> descriptors = new ConcurrentHashMap<>();
+
+    static EntityDescriptor getInstance(Class<?> entityClass) {
+        return descriptors.computeIfAbsent(entityClass, EntityDescriptor::new);
     }
 
     // instance
@@ -55,6 +57,8 @@ class EntityDescriptor {
     private Map<String, FieldDescriptor> nonLinkFields;
     private Map<String, FieldDescriptor> linkFields;
     private List<LinkHeaderDescriptor> linkHeaders;
+    private final List<FieldDescriptor> followedFields;
+    private final boolean mayContainLinks;
 
     /**
      * Construct an new descriptor by inspecting the supplied class.
@@ -73,6 +77,20 @@ class EntityDescriptor {
         findFields(entityClass);
         this.nonLinkFields = Collections.unmodifiableMap(this.nonLinkFields);
         this.linkFields = Collections.unmodifiableMap(this.linkFields);
+
+        // find the fields whose values may contain links to skip the rest of the entity graph when processing it
+        List<FieldDescriptor> followed = new ArrayList<>();
+        for (FieldDescriptor field : nonLinkFields.values()) {
+            if (isFollowed(field.field)) {
+                followed.add(field);
+            }
+        }
+        this.followedFields = Collections.unmodifiableList(followed);
+        this.mayContainLinks = !linkFields.isEmpty()
+                || !followedFields.isEmpty()
+                || Object[].class.isAssignableFrom(entityClass)
+                || Iterable.class.isAssignableFrom(entityClass)
+                || Map.class.isAssignableFrom(entityClass);
     }
 
     Collection<FieldDescriptor> getLinkFields() {
@@ -83,10 +101,64 @@ class EntityDescriptor {
         return nonLinkFields.values();
     }
 
+    /**
+     * Get the non-link fields whose values have to be introspected for links, i.e. the fields that are not
+     * excluded from the introspection and whose type may reference an instance containing links.
+     *
+     * @return the fields to be followed when injecting links.
+     */
+    Collection<FieldDescriptor> getFollowedFields() {
+        return followedFields;
+    }
+
+    /**
+     * Check whether an instance of the described class may contain links to inject, either in its own link fields
+     * or in its members and followed fields.
+     *
+     * @return {@code false} if the instances of the described class do not need to be processed.
+     */
+    boolean mayContainLinks() {
+        return mayContainLinks;
+    }
+
     List<LinkHeaderDescriptor> getLinkHeaders() {
         return linkHeaders;
     }
 
+    private static boolean isFollowed(Field f) {
+        return !f.isSynthetic()
+                && !Modifier.isTransient(f.getModifiers())
+                && !f.isAnnotationPresent(InjectLinkNoFollow.class)
+                && !f.isAnnotationPresent(XmlTransient.class)
+                && !isValueType(f.getType());
+    }
+
+    /**
+     * Check whether the type is a primitive or a JDK value type (or an array of them) that never references
+     * an instance containing links.
+     */
+    private static boolean isValueType(Class<?> type) {
+        if (type.isArray()) {
+            return isValueType(type.getComponentType());
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        final String name = type.getName();
+        if (name.startsWith("java.lang.")) {
+            // String, boxed primitives, ... but not Object, Number, CharSequence or Iterable
+            return Modifier.isFinal(type.getModifiers());
+        }
+        return name.startsWith("java.math.")
+                || name.startsWith("java.time.")
+                || Date.class.isAssignableFrom(type)
+                || type == UUID.class
+                || type == Locale.class
+                || type == Currency.class
+                || type == URI.class
+                || type == URL.class;
+    }
+
     /**
      * Find and cache the fields of the supplied class and its superclasses and
      * interfaces.
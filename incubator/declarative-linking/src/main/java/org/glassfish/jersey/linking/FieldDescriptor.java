@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,9 @@
 
 package org.glassfish.jersey.linking;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.security.AccessController;
@@ -31,23 +34,80 @@ import java.util.logging.Logger;
  */
 class FieldDescriptor {
 
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
     protected Field field;
 
+    // field accessors are created lazily as the fields of classes never processed do not need to be made accessible
+    private volatile MethodHandle getter;
+    private volatile MethodHandle setter;
+
     FieldDescriptor(Field f) {
         this.field = f;
     }
 
     Object getFieldValue(Object instance) {
-        setAccessibleField(field);
         Object value = null;
         try {
-            value = field.get(instance);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+            value = (Object) getter().invokeExact(instance);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable ex) {
             Logger.getLogger(FieldDescriptor.class.getName()).log(Level.FINE, null, ex);
         }
         return value;
     }
 
+    /**
+     * Set the value of the field.
+     *
+     * @param instance the instance that contains the field.
+     * @param value    the value to be set.
+     * @throws IllegalArgumentException if the value is not assignable to the field or the instance does not contain it.
+     * @throws IllegalAccessException   if the field cannot be set.
+     */
+    void setFieldValue(Object instance, Object value) throws IllegalAccessException {
+        final MethodHandle setter = setter();
+        try {
+            setter.invokeExact(instance, value);
+        } catch (ClassCastException | NullPointerException ex) {
+            throw new IllegalArgumentException(ex);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    private MethodHandle getter() throws IllegalAccessException {
+        MethodHandle getter = this.getter;
+        if (getter == null) {
+            setAccessibleField(field);
+            getter = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            getter = getter.asType(GETTER_TYPE);
+            this.getter = getter;
+        }
+        return getter;
+    }
+
+    private MethodHandle setter() throws IllegalAccessException {
+        MethodHandle setter = this.setter;
+        if (setter == null) {
+            setAccessibleField(field);
+            setter = MethodHandles.lookup().unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+            setter = setter.asType(SETTER_TYPE);
+            this.setter = setter;
+        }
+        return setter;
+    }
+
     public String getFieldName() {
         return field.getName();
     }
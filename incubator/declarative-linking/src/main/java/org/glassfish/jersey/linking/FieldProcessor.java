@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,7 +16,6 @@
 
 package org.glassfish.jersey.linking;
 
-import java.lang.reflect.Modifier;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -29,8 +28,6 @@ import java.util.logging.Logger;
 import jakarta.ws.rs.core.Link;
 import jakarta.ws.rs.core.UriInfo;
 
-import jakarta.xml.bind.annotation.XmlTransient;
-
 import org.glassfish.jersey.linking.contributing.ResourceLinkContributionContext;
 import org.glassfish.jersey.linking.mapping.ResourceMappingContext;
 
@@ -43,7 +40,7 @@ import org.glassfish.jersey.linking.mapping.ResourceMappingContext;
  */
 class FieldProcessor<T> {
 
-    private EntityDescriptor instanceDescriptor;
+    private final EntityDescriptor instanceDescriptor;
     private static final Logger log = Logger.getLogger(FieldProcessor.class.getName());
 
     FieldProcessor(Class<T> c) {
@@ -60,15 +57,19 @@ class FieldProcessor<T> {
      * @param rlcc    the ResourceLinkContributionContext used to find link contributors
      */
     void processLinks(T entity, UriInfo uriInfo, ResourceMappingContext rmc, ResourceLinkContributionContext rlcc) {
+        if (entity == null || !instanceDescriptor.mayContainLinks()) {
+            return;
+        }
         Set<Object> processed = new HashSet<Object>();
         Object resource = uriInfo.getMatchedResources().get(0);
-        processLinks(entity, resource, entity, processed, uriInfo, rmc, rlcc);
+        processLinks(instanceDescriptor, entity, resource, entity, processed, uriInfo, rmc, rlcc);
     }
 
     /**
      * Inject any {@link org.glassfish.jersey.linking.InjectLink} annotated fields in the supplied instance. Called
      * once for the entity and then recursively for each member and field.
      *
+     * @param instanceDescriptor the descriptor of the instance class
      * @param entity    the entity object returned by the resource method
      * @param processed a list of already processed objects, used to break
      *                  recursion when processing circular references.
@@ -76,7 +77,8 @@ class FieldProcessor<T> {
      * @param rmc       the ResourceMappingContext used for building URIs
      * @param rlcc      the ResourceLinkContributionContext used to find link contributors
      */
-    private void processLinks(Object entity, Object resource, Object instance,
+    private static void processLinks(EntityDescriptor instanceDescriptor,
+            Object entity, Object resource, Object instance,
             Set<Object> processed, UriInfo uriInfo,
             ResourceMappingContext rmc, ResourceLinkContributionContext rlcc) {
 
@@ -147,31 +149,21 @@ class FieldProcessor<T> {
             }
         }
 
-        // Recursively process all member fields
-        for (FieldDescriptor member : instanceDescriptor.getNonLinkFields()) {
-
-            if (fieldSuitableForIntrospection(member)) {
-                processMember(entity, resource, member.getFieldValue(instance), processed, uriInfo, rmc, rlcc);
-            }
+        // Recursively process the member fields that may contain links
+        for (FieldDescriptor member : instanceDescriptor.getFollowedFields()) {
+            processMember(entity, resource, member.getFieldValue(instance), processed, uriInfo, rmc, rlcc);
         }
 
     }
 
-    private boolean fieldSuitableForIntrospection(FieldDescriptor member) {
-        return member.field == null
-                || (!member.field.isSynthetic()
-                    && !Modifier.isTransient(member.field.getModifiers())
-                    && !member.field.getType().isPrimitive()
-                    && member.field.getType() != String.class
-                    && !member.field.isAnnotationPresent(InjectLinkNoFollow.class)
-                    && !member.field.isAnnotationPresent(XmlTransient.class));
-    }
-
-    private void processMember(Object entity, Object resource, Object member, Set<Object> processed, UriInfo uriInfo,
+    private static void processMember(Object entity, Object resource, Object member, Set<Object> processed, UriInfo uriInfo,
             ResourceMappingContext rmc, ResourceLinkContributionContext rlcc) {
         if (member != null) {
-            FieldProcessor<?> proc = new FieldProcessor(member.getClass());
-            proc.processLinks(entity, resource, member, processed, uriInfo, rmc, rlcc);
+            // skip the subtrees which cannot contain any links
+            EntityDescriptor memberDescriptor = EntityDescriptor.getInstance(member.getClass());
+            if (memberDescriptor.mayContainLinks()) {
+                processLinks(memberDescriptor, entity, resource, member, processed, uriInfo, rmc, rlcc);
+            }
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -38,6 +38,7 @@ class InjectLinksFieldDescriptor extends FieldDescriptor {
 
     private final InjectLinks link;
     private final Class<?> type;
+    private final InjectLinkFieldDescriptor[] linksToInject;
 
     /**
      * C'tor
@@ -50,6 +51,12 @@ class InjectLinksFieldDescriptor extends FieldDescriptor {
         super(f);
         link = l;
         type = t;
+
+        final InjectLink[] listOfLinks = l.value();
+        linksToInject = new InjectLinkFieldDescriptor[listOfLinks.length];
+        for (int i = 0; i < linksToInject.length; i++) {
+            linksToInject[i] = new InjectLinkFieldDescriptor(f, listOfLinks[i], Link.class);
+        }
     }
 
     /**
@@ -63,7 +70,6 @@ class InjectLinksFieldDescriptor extends FieldDescriptor {
      * @param list the list of links to inject
      */
     public void setPropertyValue(Object instance, List<Link> list) {
-        setAccessibleField(field);
         try {
             List<Link> merged = mergeWithExistingField(instance, list);
 
@@ -76,7 +82,7 @@ class InjectLinksFieldDescriptor extends FieldDescriptor {
                 throw new IllegalArgumentException("Field type " + type + " not one of supported List<Link> or Link[]");
             }
 
-            field.set(instance, value);
+            setFieldValue(instance, value);
 
 
         } catch (IllegalArgumentException | IllegalAccessException ex) {
@@ -84,8 +90,8 @@ class InjectLinksFieldDescriptor extends FieldDescriptor {
         }
     }
 
-    private List<Link> mergeWithExistingField(Object instance, List<Link> list) throws IllegalAccessException {
-        Object existing = field.get(instance);
+    private List<Link> mergeWithExistingField(Object instance, List<Link> list) {
+        Object existing = getFieldValue(instance);
         if (existing != null) {
             if (Collection.class.isAssignableFrom(existing.getClass()) && !((Collection) existing).isEmpty()) {
                 List<Link> merged  = new ArrayList<>(list);
@@ -101,14 +107,9 @@ class InjectLinksFieldDescriptor extends FieldDescriptor {
     }
 
     /**
-     * Creates {@link InjectLinkFieldDescriptor} for each link to inject.
+     * Returns {@link InjectLinkFieldDescriptor} for each link to inject.
      */
     InjectLinkFieldDescriptor[] getLinksToInject() {
-        final InjectLink[] listOfLinks = link.value();
-        InjectLinkFieldDescriptor[] fields = new InjectLinkFieldDescriptor[listOfLinks.length];
-        for (int i = 0; i < fields.length; i++) {
-            fields[i] = new InjectLinkFieldDescriptor(field, listOfLinks[i], Link.class);
-        }
-        return fields;
+        return linksToInject;
     }
 }
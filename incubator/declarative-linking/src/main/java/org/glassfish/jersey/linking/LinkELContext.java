@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -32,9 +32,13 @@ import jakarta.el.VariableMapper;
  */
 class LinkELContext extends ELContext {
 
+    // The bean resolver is stateless apart from its thread-safe cache of the introspected bean properties
+    private static final ELResolver BEAN_RESOLVER = new BeanELResolver(true);
+
     private Object entity;
     private Object resource;
     private Object instance;
+    private ELResolver resolver;
 
     /**
      * Convenience constructor for the common case where a context where
@@ -65,9 +69,12 @@ class LinkELContext extends ELContext {
 
     @Override
     public ELResolver getELResolver() {
-        CompositeELResolver resolver = new CompositeELResolver();
-        resolver.add(new ResponseContextResolver(entity, resource, instance));
-        resolver.add(new BeanELResolver(true));
+        if (resolver == null) {
+            CompositeELResolver composite = new CompositeELResolver();
+            composite.add(new ResponseContextResolver(entity, resource, instance));
+            composite.add(BEAN_RESOLVER);
+            resolver = composite;
+        }
         return resolver;
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,8 +16,11 @@
 
 package org.glassfish.jersey.linking;
 
+import java.math.BigDecimal;
 import java.net.URI;
+import java.util.Date;
 import java.util.Iterator;
+import java.util.List;
 
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.core.UriBuilder;
@@ -26,6 +29,8 @@ import org.glassfish.jersey.linking.mapping.ResourceMappingContext;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  *
@@ -141,4 +146,41 @@ public class EntityDescriptorTest {
         assertEquals(TEMPLATE_A, testClass.res2.toString());
     }
 
+    public static class TestClassE {
+
+        private int count;
+        private String name;
+        private Date date;
+        private BigDecimal amount;
+        private long[] values;
+        private transient Object state;
+        @InjectLinkNoFollow
+        private Object ignored;
+    }
+
+    public static class TestClassF {
+
+        private Integer id;
+        private Object value;
+        private TestClassE[] nested;
+        private List<TestClassE> members;
+    }
+
+    @Test
+    public void testFollowedFields() {
+        System.out.println("Followed fields");
+        EntityDescriptor instance = EntityDescriptor.getInstance(TestClassE.class);
+        assertEquals(7, instance.getNonLinkFields().size());
+        assertEquals(0, instance.getFollowedFields().size());
+        assertFalse(instance.mayContainLinks());
+
+        instance = EntityDescriptor.getInstance(TestClassF.class);
+        assertEquals(4, instance.getNonLinkFields().size());
+        assertEquals(3, instance.getFollowedFields().size());
+        assertTrue(instance.mayContainLinks());
+
+        assertTrue(EntityDescriptor.getInstance(TestClassD.class).mayContainLinks());
+        assertTrue(EntityDescriptor.getInstance(TestClassE[].class).mayContainLinks());
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -240,13 +240,14 @@ public abstract class AbstractCollectionJaxbProvider extends AbstractJaxbProvide
             final Charset charset = getCharset(mediaType);
             final String charsetName = charset.name();
 
-            final Marshaller m = getMarshaller(elementType, mediaType);
-            m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            final JaxbPool.Lease<Marshaller> m = borrowMarshaller(elementType, mediaType);
+            m.get().setProperty(Marshaller.JAXB_FRAGMENT, true);
             if (charset != UTF8) {
-                m.setProperty(Marshaller.JAXB_ENCODING, charsetName);
+                m.get().setProperty(Marshaller.JAXB_ENCODING, charsetName);
             }
-            setHeader(m, annotations);
-            writeCollection(elementType, c, mediaType, charset, m, entityStream);
+            setHeader(m.get(), annotations);
+            writeCollection(elementType, c, mediaType, charset, m.get(), entityStream);
+            m.release();
         } catch (JAXBException ex) {
             throw new InternalServerErrorException(ex);
         }
@@ -286,7 +287,8 @@ public abstract class AbstractCollectionJaxbProvider extends AbstractJaxbProvide
 
         try {
             final Class<?> elementType = getElementClass(type, genericType);
-            final Unmarshaller u = getUnmarshaller(elementType, mediaType);
+            final JaxbPool.Lease<Unmarshaller> lease = borrowUnmarshaller(elementType, mediaType);
+            final Unmarshaller u = lease.get();
             final XMLStreamReader r = getXMLStreamReader(elementType, mediaType, u, entityStream);
             boolean jaxbElement = false;
 
@@ -347,6 +349,7 @@ public abstract class AbstractCollectionJaxbProvider extends AbstractJaxbProvide
                     event = r.next();
                 }
             }
+            lease.release();
 
             return (type.isArray())
                     ? createArray(l, jaxbElement ? JAXBElement.class : elementType)
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -109,7 +109,10 @@ public abstract class AbstractJaxbElementProvider extends AbstractJaxbProvider<J
         final Class ta = (Class) pt.getActualTypeArguments()[0];
 
         try {
-            return readFrom(ta, mediaType, getUnmarshaller(ta, mediaType), entityStream);
+            final JaxbPool.Lease<Unmarshaller> u = borrowUnmarshaller(ta, mediaType);
+            final JAXBElement<?> element = readFrom(ta, mediaType, u.get(), entityStream);
+            u.release();
+            return element;
         } catch (UnmarshalException ex) {
             throw new BadRequestException(ex);
         } catch (JAXBException ex) {
@@ -143,13 +146,14 @@ public abstract class AbstractJaxbElementProvider extends AbstractJaxbProvider<J
             MultivaluedMap<String, Object> httpHeaders,
             OutputStream entityStream) throws IOException {
         try {
-            final Marshaller m = getMarshaller(t.getDeclaredType(), mediaType);
+            final JaxbPool.Lease<Marshaller> m = borrowMarshaller(t.getDeclaredType(), mediaType);
             final Charset c = getCharset(mediaType);
             if (c != UTF8) {
-                m.setProperty(Marshaller.JAXB_ENCODING, c.name());
+                m.get().setProperty(Marshaller.JAXB_ENCODING, c.name());
             }
-            setHeader(m, annotations);
-            writeTo(t, mediaType, c, m, entityStream);
+            setHeader(m.get(), annotations);
+            writeTo(t, mediaType, c, m.get(), entityStream);
+            m.release();
         } catch (JAXBException ex) {
             throw new InternalServerErrorException(ex);
         }
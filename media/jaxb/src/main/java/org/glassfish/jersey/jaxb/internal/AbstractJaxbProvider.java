@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,8 +19,7 @@ package org.glassfish.jersey.jaxb.internal;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.ref.WeakReference;
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -56,8 +55,20 @@ import org.xml.sax.InputSource;
  */
 public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWriterProvider<T> {
 
-    private static final Map<Class<?>, WeakReference<JAXBContext>> jaxbContexts =
-            new WeakHashMap<Class<?>, WeakReference<JAXBContext>>();
+    /**
+     * Maximal number of JAXB contexts not created by Jersey (e.g. supplied by a {@link ContextResolver}) a single
+     * provider keeps marshaller and unmarshaller pools for. The pools are dropped once the limit is reached.
+     */
+    private static final int MAX_POOLED_CONTEXTS = 32;
+
+    private static final ClassValue<StoredJaxbContext> jaxbContexts = new ClassValue<StoredJaxbContext>() {
+        @Override
+        protected StoredJaxbContext computeValue(Class<?> type) {
+            return new StoredJaxbContext(type);
+        }
+    };
+    // pools of the stored JAXB contexts are kept (and collected) together with the contexts
+    private final ConcurrentHashMap<JAXBContext, ContextPools> resolvedContextPools = new ConcurrentHashMap<>();
     private final Providers jaxrsProviders;
     private final boolean fixedResolverMediaType;
     private final Value<ContextResolver<JAXBContext>> mtContext;
@@ -65,6 +76,8 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
     private final Value<ContextResolver<Marshaller>> mtMarshaller;
     private Value<Boolean> formattedOutput = Values.of(Boolean.FALSE);
     private Value<Boolean> xmlRootElementProcessing = Values.of(Boolean.FALSE);
+    private Value<Integer> marshallerPoolSize = Values.of(MessageProperties.JAXB_DEFAULT_POOL_SIZE);
+    private Value<Integer> unmarshallerPoolSize = Values.of(MessageProperties.JAXB_DEFAULT_POOL_SIZE);
 
     /**
      * Inheritance constructor.
@@ -132,6 +145,28 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
                 return PropertiesHelper.isProperty(config.getProperty(MessageProperties.JAXB_PROCESS_XML_ROOT_ELEMENT));
             }
         });
+
+        marshallerPoolSize = Values.lazy(new Value<Integer>() {
+
+            @Override
+            public Integer get() {
+                return getPoolSize(config, MessageProperties.JAXB_MARSHALLER_POOL_SIZE);
+            }
+        });
+
+        unmarshallerPoolSize = Values.lazy(new Value<Integer>() {
+
+            @Override
+            public Integer get() {
+                return getPoolSize(config, MessageProperties.JAXB_UNMARSHALLER_POOL_SIZE);
+            }
+        });
+    }
+
+    private static int getPoolSize(final Configuration config, final String property) {
+        final int size = PropertiesHelper.getValue(config.getProperties(), property,
+                MessageProperties.JAXB_DEFAULT_POOL_SIZE, Integer.class, null);
+        return Math.max(size, 0);
     }
 
     /**
@@ -249,6 +284,108 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
         return m;
     }
 
+    /**
+     * Borrow a JAXB unmarshaller for the given class and media type.
+     * <p>
+     * Unlike {@link #getUnmarshaller(Class, MediaType)}, an unmarshaller created by Jersey is taken from (and
+     * should be {@link JaxbPool.Lease#release() released} back to) a pool of unmarshallers of the JAXB context,
+     * see {@link MessageProperties#JAXB_UNMARSHALLER_POOL_SIZE}. Unmarshallers supplied by a {@link ContextResolver}
+     * are never pooled.
+     * </p>
+     *
+     * @param type      Java type to be unmarshalled.
+     * @param mediaType entity media type.
+     * @return lease of JAXB unmarshaller for the requested Java type, media type combination.
+     * @throws JAXBException in case retrieving the unmarshaller fails with a JAXB exception.
+     */
+    final JaxbPool.Lease<Unmarshaller> borrowUnmarshaller(Class type, MediaType mediaType) throws JAXBException {
+        final ContextResolver<Unmarshaller> resolver = fixedResolverMediaType
+                ? mtUnmarshaller.get()
+                : jaxrsProviders.getContextResolver(Unmarshaller.class, mediaType);
+        if (resolver != null) {
+            Unmarshaller u = resolver.getContext(type);
+            if (u != null) {
+                return JaxbPool.unpooled(u);
+            }
+        }
+
+        final JAXBContext ctx = fixedResolverMediaType ? getJAXBContext(type) : getJAXBContext(type, mediaType);
+        if (ctx == null) {
+            return JaxbPool.unpooled(null);
+        }
+
+        final int poolSize = unmarshallerPoolSize.get();
+        if (poolSize == 0) {
+            return JaxbPool.unpooled(ctx.createUnmarshaller());
+        }
+        return getContextPools(type, ctx).unmarshallers().borrow(poolSize);
+    }
+
+    /**
+     * Borrow a JAXB marshaller for the given class and media type.
+     * <p>
+     * Unlike {@link #getMarshaller(Class, MediaType)}, a marshaller created by Jersey is taken from (and
+     * should be {@link JaxbPool.Lease#release() released} back to) a pool of marshallers of the JAXB context,
+     * see {@link MessageProperties#JAXB_MARSHALLER_POOL_SIZE}. Marshallers supplied by a {@link ContextResolver}
+     * are never pooled.
+     * </p>
+     *
+     * @param type      Java type to be marshalled.
+     * @param mediaType entity media type.
+     * @return lease of JAXB marshaller for the requested Java type, media type combination.
+     * @throws JAXBException in case retrieving the marshaller fails with a JAXB exception.
+     */
+    final JaxbPool.Lease<Marshaller> borrowMarshaller(Class type, MediaType mediaType) throws JAXBException {
+        final ContextResolver<Marshaller> resolver = fixedResolverMediaType
+                ? mtMarshaller.get()
+                : jaxrsProviders.getContextResolver(Marshaller.class, mediaType);
+        if (resolver != null) {
+            Marshaller m = resolver.getContext(type);
+            if (m != null) {
+                return JaxbPool.unpooled(m);
+            }
+        }
+
+        final JAXBContext ctx = fixedResolverMediaType ? getJAXBContext(type) : getJAXBContext(type, mediaType);
+        if (ctx == null) {
+            return JaxbPool.unpooled(null);
+        }
+
+        final int poolSize = marshallerPoolSize.get();
+        final JaxbPool.Lease<Marshaller> lease = (poolSize == 0)
+                ? JaxbPool.unpooled(ctx.createMarshaller())
+                : getContextPools(type, ctx).marshallers().borrow(poolSize);
+
+        if (formattedOutput.get()) {
+            lease.get().setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formattedOutput.get());
+        }
+        return lease;
+    }
+
+    /**
+     * Get the marshaller and unmarshaller pools of the JAXB context.
+     *
+     * @param type Java type the context has been retrieved for.
+     * @param ctx  JAXB context.
+     * @return pools of the JAXB context.
+     */
+    private ContextPools getContextPools(Class type, JAXBContext ctx) {
+        final ContextPools stored = jaxbContexts.get(type).getIfPresent();
+        if (stored != null && stored.context == ctx) {
+            return stored;
+        }
+
+        ContextPools pools = resolvedContextPools.get(ctx);
+        if (pools == null) {
+            if (resolvedContextPools.size() >= MAX_POOLED_CONTEXTS) {
+                // e.g. a context resolver creating a new context for every entity, do not keep the contexts reachable
+                resolvedContextPools.clear();
+            }
+            pools = resolvedContextPools.computeIfAbsent(ctx, ContextPools::new);
+        }
+        return pools;
+    }
+
     private JAXBContext getJAXBContext(Class type, MediaType mt) throws JAXBException {
         final ContextResolver<JAXBContext> cr = jaxrsProviders.getContextResolver(JAXBContext.class, mt);
         if (cr != null) {
@@ -281,15 +418,81 @@ public abstract class AbstractJaxbProvider<T> extends AbstractMessageReaderWrite
      * @throws JAXBException in case the JAXB context retrieval fails.
      */
     protected JAXBContext getStoredJaxbContext(Class type) throws JAXBException {
-        synchronized (jaxbContexts) {
-            final WeakReference<JAXBContext> ref = jaxbContexts.get(type);
-            JAXBContext c = (ref != null) ? ref.get() : null;
+        return jaxbContexts.get(type).get().context;
+    }
+
+    /**
+     * Weakly referenced JAXB context of a single Java type together with its marshaller and unmarshaller pools.
+     * The context is looked up without locking, only its (re-)creation is synchronized.
+     */
+    private static final class StoredJaxbContext {
+
+        private final Class<?> type;
+        private volatile WeakReference<ContextPools> context = new WeakReference<>(null);
+
+        private StoredJaxbContext(final Class<?> type) {
+            this.type = type;
+        }
+
+        private ContextPools get() throws JAXBException {
+            ContextPools c = context.get();
             if (c == null) {
-                c = JAXBContext.newInstance(type);
-                jaxbContexts.put(type, new WeakReference<JAXBContext>(c));
+                synchronized (this) {
+                    c = context.get();
+                    if (c == null) {
+                        c = new ContextPools(JAXBContext.newInstance(type));
+                        context = new WeakReference<>(c);
+                    }
+                }
             }
             return c;
         }
+
+        private ContextPools getIfPresent() {
+            return context.get();
+        }
+    }
+
+    /**
+     * JAXB context with lazily created pools of its marshallers and unmarshallers.
+     */
+    private static final class ContextPools {
+
+        private final JAXBContext context;
+        private volatile JaxbPool<Marshaller> marshallers;
+        private volatile JaxbPool<Unmarshaller> unmarshallers;
+
+        private ContextPools(final JAXBContext context) {
+            this.context = context;
+        }
+
+        private JaxbPool<Marshaller> marshallers() throws JAXBException {
+            JaxbPool<Marshaller> pool = marshallers;
+            if (pool == null) {
+                synchronized (this) {
+                    pool = marshallers;
+                    if (pool == null) {
+                        pool = JaxbPool.marshallers(context);
+                        marshallers = pool;
+                    }
+                }
+            }
+            return pool;
+        }
+
+        private JaxbPool<Unmarshaller> unmarshallers() {
+            JaxbPool<Unmarshaller> pool = unmarshallers;
+            if (pool == null) {
+                synchronized (this) {
+                    pool = unmarshallers;
+                    if (pool == null) {
+                        pool = JaxbPool.unmarshallers(context);
+                        unmarshallers = pool;
+                    }
+                }
+            }
+            return pool;
+        }
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -108,7 +108,10 @@ public abstract class AbstractRootElementJaxbProvider extends AbstractJaxbProvid
             if (entityStream.isEmpty()) {
                 throw new NoContentException(LocalizationMessages.ERROR_READING_ENTITY_MISSING());
             }
-            return readFrom(type, mediaType, getUnmarshaller(type, mediaType), entityStream);
+            final JaxbPool.Lease<Unmarshaller> u = borrowUnmarshaller(type, mediaType);
+            final Object entity = readFrom(type, mediaType, u.get(), entityStream);
+            u.release();
+            return entity;
         } catch (UnmarshalException ex) {
             throw new BadRequestException(ex);
         } catch (JAXBException ex) {
@@ -148,13 +151,14 @@ public abstract class AbstractRootElementJaxbProvider extends AbstractJaxbProvid
             MultivaluedMap<String, Object> httpHeaders,
             OutputStream entityStream) throws IOException {
         try {
-            final Marshaller m = getMarshaller(type, mediaType);
+            final JaxbPool.Lease<Marshaller> m = borrowMarshaller(type, mediaType);
             final Charset c = getCharset(mediaType);
             if (c != UTF8) {
-                m.setProperty(Marshaller.JAXB_ENCODING, c.name());
+                m.get().setProperty(Marshaller.JAXB_ENCODING, c.name());
             }
-            setHeader(m, annotations);
-            writeTo(t, mediaType, c, m, entityStream);
+            setHeader(m.get(), annotations);
+            writeTo(t, mediaType, c, m.get(), entityStream);
+            m.release();
         } catch (JAXBException ex) {
             throw new InternalServerErrorException(ex);
         }
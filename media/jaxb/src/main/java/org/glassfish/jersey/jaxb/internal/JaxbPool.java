@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jaxb.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.PropertyException;
+import jakarta.xml.bind.Unmarshaller;
+
+/**
+ * Bounded pool of JAXB {@link Marshaller marshallers} or {@link Unmarshaller unmarshallers}
+ * created from a single {@link JAXBContext}.
+ * <p>
+ * Creating a marshaller or an unmarshaller is relatively expensive while the instances are not thread-safe.
+ * The pool keeps idle instances that are borrowed by a single thread for reading or writing a single entity
+ * and returned afterwards. The number of idle instances is bounded by the borrower, so that a single pool
+ * can be shared by providers configured with different pool sizes. Returned instances are reset to their
+ * initial configuration first; instances that cannot be reset are discarded. Instances borrowed but never
+ * returned (e.g. because the (un)marshalling failed) are simply garbage collected.
+ * </p>
+ *
+ * @param <T> type of the pooled JAXB component.
+ */
+abstract class JaxbPool<T> {
+
+    private final JAXBContext context;
+    private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    private JaxbPool(final JAXBContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Create new pool of marshallers.
+     *
+     * @param context JAXB context used to create the marshallers.
+     * @return new marshaller pool.
+     * @throws JAXBException in case the initial marshaller cannot be created.
+     */
+    static JaxbPool<Marshaller> marshallers(final JAXBContext context) throws JAXBException {
+        return new MarshallerPool(context);
+    }
+
+    /**
+     * Create new pool of unmarshallers.
+     *
+     * @param context JAXB context used to create the unmarshallers.
+     * @return new unmarshaller pool.
+     */
+    static JaxbPool<Unmarshaller> unmarshallers(final JAXBContext context) {
+        return new UnmarshallerPool(context);
+    }
+
+    /**
+     * Create a lease for an instance that does not belong to any pool, i.e. the returned lease
+     * does nothing when {@link Lease#release() released}.
+     *
+     * @param instance JAXB component not managed by any pool.
+     * @param <T>      type of the JAXB component.
+     * @return lease of the given instance.
+     */
+    static <T> Lease<T> unpooled(final T instance) {
+        return new Lease<>(instance, null, 0);
+    }
+
+    /**
+     * Borrow an idle instance from the pool or create a new one if there is none.
+     *
+     * @param maxIdle maximal number of idle instances kept in the pool once the borrowed instance is released.
+     * @return lease of the borrowed instance.
+     * @throws JAXBException in case a new instance cannot be created.
+     */
+    Lease<T> borrow(final int maxIdle) throws JAXBException {
+        T instance = idle.poll();
+        if (instance != null) {
+            idleCount.decrementAndGet();
+        } else {
+            instance = create(context);
+        }
+        return new Lease<>(instance, this, maxIdle);
+    }
+
+    /**
+     * Return an instance to the pool.
+     *
+     * @param instance instance created by this pool.
+     * @param maxIdle  maximal number of idle instances kept in the pool.
+     */
+    void release(final T instance, final int maxIdle) {
+        if (!reset(instance)) {
+            return;
+        }
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offer(instance);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Get the number of idle instances in the pool.
+     *
+     * @return number of idle instances.
+     */
+    int idle() {
+        return idleCount.get();
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param context JAXB context to create the instance from.
+     * @return new instance.
+     * @throws JAXBException in case the instance cannot be created.
+     */
+    abstract T create(JAXBContext context) throws JAXBException;
+
+    /**
+     * Reset the returned instance into its initial state.
+     *
+     * @param instance returned instance.
+     * @return {@code true} if the instance has been reset and can be reused, {@code false} otherwise.
+     */
+    abstract boolean reset(T instance);
+
+    /**
+     * Instance borrowed from a pool.
+     *
+     * @param <T> type of the borrowed JAXB component.
+     */
+    static final class Lease<T> {
+
+        private final T instance;
+        private final JaxbPool<T> pool;
+        private final int maxIdle;
+
+        private Lease(final T instance, final JaxbPool<T> pool, final int maxIdle) {
+            this.instance = instance;
+            this.pool = pool;
+            this.maxIdle = maxIdle;
+        }
+
+        /**
+         * Get the borrowed instance.
+         *
+         * @return borrowed instance.
+         */
+        T get() {
+            return instance;
+        }
+
+        /**
+         * Return the borrowed instance to its pool. Must not be called more than once and the instance
+         * must not be used after it has been released.
+         */
+        void release() {
+            if (pool != null) {
+                pool.release(instance, maxIdle);
+            }
+        }
+    }
+
+    private static final class MarshallerPool extends JaxbPool<Marshaller> {
+
+        private static final String[] CONFIGURATION_PROPERTIES = {
+                Marshaller.JAXB_ENCODING, Marshaller.JAXB_FRAGMENT, Marshaller.JAXB_FORMATTED_OUTPUT};
+        private static final String[] HEADER_PROPERTIES = {
+                "org.glassfish.jaxb.xmlHeaders", "com.sun.xml.bind.xmlHeaders"};
+
+        // values of the properties set by the JAXB providers, as found in a newly created marshaller
+        private final Map<String, Object> defaults = new LinkedHashMap<>();
+        private String headerProperty;
+
+        private MarshallerPool(final JAXBContext context) throws JAXBException {
+            super(context);
+
+            final Marshaller marshaller = context.createMarshaller();
+            for (final String property : CONFIGURATION_PROPERTIES) {
+                try {
+                    final Object value = marshaller.getProperty(property);
+                    if (value != null) {
+                        defaults.put(property, value);
+                    }
+                } catch (PropertyException e) {
+                    // property not supported by this JAXB implementation
+                }
+            }
+            for (final String property : HEADER_PROPERTIES) {
+                try {
+                    marshaller.getProperty(property);
+                    headerProperty = property;
+                    break;
+                } catch (PropertyException e) {
+                    // try older property name
+                }
+            }
+            release(marshaller, 1);
+        }
+
+        @Override
+        Marshaller create(final JAXBContext context) throws JAXBException {
+            return context.createMarshaller();
+        }
+
+        @Override
+        boolean reset(final Marshaller marshaller) {
+            try {
+                for (final Map.Entry<String, Object> property : defaults.entrySet()) {
+                    marshaller.setProperty(property.getKey(), property.getValue());
+                }
+                // null header cannot be set back, empty header is the same as no header
+                if (headerProperty != null && marshaller.getProperty(headerProperty) != null) {
+                    marshaller.setProperty(headerProperty, "");
+                }
+                marshaller.setListener(null);
+                marshaller.setEventHandler(null);
+                marshaller.setSchema(null);
+                marshaller.setAttachmentMarshaller(null);
+                return true;
+            } catch (JAXBException | RuntimeException e) {
+                return false;
+            }
+        }
+    }
+
+    private static final class UnmarshallerPool extends JaxbPool<Unmarshaller> {
+
+        private UnmarshallerPool(final JAXBContext context) {
+            super(context);
+        }
+
+        @Override
+        Unmarshaller create(final JAXBContext context) throws JAXBException {
+            return context.createUnmarshaller();
+        }
+
+        @Override
+        boolean reset(final Unmarshaller unmarshaller) {
+            try {
+                unmarshaller.setListener(null);
+                unmarshaller.setEventHandler(null);
+                unmarshaller.setSchema(null);
+                unmarshaller.setAttachmentUnmarshaller(null);
+                return true;
+            } catch (JAXBException | RuntimeException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,6 +22,17 @@ package org.glassfish.jersey.jaxb.internal;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.ContextResolver;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Providers;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
 
 import javax.xml.parsers.SAXParserFactory;
 import javax.xml.transform.TransformerFactory;
@@ -33,7 +44,35 @@ import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 public class AbstractJaxbProviderTest {
+
+    private static final Providers NO_PROVIDERS = new Providers() {
+        @Override
+        public <T> MessageBodyReader<T> getMessageBodyReader(Class<T> type, Type genericType, Annotation[] annotations,
+                                                             MediaType mediaType) {
+            return null;
+        }
+
+        @Override
+        public <T> MessageBodyWriter<T> getMessageBodyWriter(Class<T> type, Type genericType, Annotation[] annotations,
+                                                             MediaType mediaType) {
+            return null;
+        }
+
+        @Override
+        public <T extends Throwable> ExceptionMapper<T> getExceptionMapper(Class<T> type) {
+            return null;
+        }
+
+        @Override
+        public <T> ContextResolver<T> getContextResolver(Class<T> contextType, MediaType mediaType) {
+            return null;
+        }
+    };
+
     private InjectionManager injectionManager;
 
     @BeforeEach
@@ -51,4 +90,32 @@ public class AbstractJaxbProviderTest {
 
         TransformerFactory.newInstance().newTransformer().transform(saxSource, new StreamResult(new ByteArrayOutputStream()));
     }
+
+    @Test
+    public void testStoredContextPooled() throws Exception {
+        final XmlRootElementJaxbProvider provider = new XmlRootElementJaxbProvider.App(
+                () -> injectionManager.getInstance(SAXParserFactory.class), NO_PROVIDERS);
+
+        final JaxbPool.Lease<Marshaller> marshaller = provider.borrowMarshaller(JaxbPoolTest.Bean.class,
+                MediaType.APPLICATION_XML_TYPE);
+        marshaller.release();
+        assertSame(marshaller.get(),
+                provider.borrowMarshaller(JaxbPoolTest.Bean.class, MediaType.APPLICATION_XML_TYPE).get());
+
+        final JaxbPool.Lease<Unmarshaller> unmarshaller = provider.borrowUnmarshaller(JaxbPoolTest.Bean.class,
+                MediaType.APPLICATION_XML_TYPE);
+        unmarshaller.release();
+        assertSame(unmarshaller.get(),
+                provider.borrowUnmarshaller(JaxbPoolTest.Bean.class, MediaType.APPLICATION_XML_TYPE).get());
+    }
+
+    @Test
+    public void testNoContext() throws Exception {
+        // the provider does not create any JAXB context
+        final XmlRootObjectJaxbProvider provider = new XmlRootObjectJaxbProvider.App(
+                () -> injectionManager.getInstance(SAXParserFactory.class), NO_PROVIDERS);
+
+        assertNull(provider.borrowUnmarshaller(Object.class, MediaType.APPLICATION_XML_TYPE).get());
+        assertNull(provider.borrowMarshaller(Object.class, MediaType.APPLICATION_XML_TYPE).get());
+    }
 }
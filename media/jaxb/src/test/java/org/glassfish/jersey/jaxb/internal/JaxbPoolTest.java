@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jaxb.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link JaxbPool}.
+ */
+public class JaxbPoolTest {
+
+    @XmlRootElement
+    public static class Bean {
+        public String value = "value";
+    }
+
+    @Test
+    public void testMarshallerReused() throws Exception {
+        final JaxbPool<Marshaller> pool = JaxbPool.marshallers(JAXBContext.newInstance(Bean.class));
+        assertEquals(1, pool.idle());
+
+        final JaxbPool.Lease<Marshaller> first = pool.borrow(4);
+        assertEquals(0, pool.idle());
+        first.release();
+        assertEquals(1, pool.idle());
+
+        final JaxbPool.Lease<Marshaller> second = pool.borrow(4);
+        assertSame(first.get(), second.get());
+        second.release();
+    }
+
+    @Test
+    public void testMarshallerReset() throws Exception {
+        final JaxbPool<Marshaller> pool = JaxbPool.marshallers(JAXBContext.newInstance(Bean.class));
+
+        final JaxbPool.Lease<Marshaller> lease = pool.borrow(4);
+        final Marshaller marshaller = lease.get();
+        marshaller.setProperty(Marshaller.JAXB_ENCODING, "ISO-8859-1");
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        marshaller.setProperty("org.glassfish.jaxb.xmlHeaders", "<!-- header -->");
+        lease.release();
+
+        final JaxbPool.Lease<Marshaller> reused = pool.borrow(4);
+        assertSame(marshaller, reused.get());
+        assertEquals("UTF-8", marshaller.getProperty(Marshaller.JAXB_ENCODING));
+        assertEquals(false, marshaller.getProperty(Marshaller.JAXB_FRAGMENT));
+        assertEquals(false, marshaller.getProperty(Marshaller.JAXB_FORMATTED_OUTPUT));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        marshaller.marshal(new Bean(), out);
+        final String xml = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(xml.startsWith("<?xml"), xml);
+        assertFalse(xml.contains("header"), xml);
+        assertFalse(xml.contains("\n"), xml);
+    }
+
+    @Test
+    public void testPoolBounded() throws Exception {
+        final JaxbPool<Unmarshaller> pool = JaxbPool.unmarshallers(JAXBContext.newInstance(Bean.class));
+
+        final JaxbPool.Lease<Unmarshaller> first = pool.borrow(2);
+        final JaxbPool.Lease<Unmarshaller> second = pool.borrow(2);
+        final JaxbPool.Lease<Unmarshaller> third = pool.borrow(2);
+        assertNotSame(first.get(), second.get());
+        assertNotSame(second.get(), third.get());
+
+        first.release();
+        second.release();
+        third.release();
+        assertEquals(2, pool.idle());
+
+        // the bound is given by the borrower, e.g. by providers configured with different pool sizes
+        pool.borrow(2).release();
+        assertEquals(2, pool.idle());
+        final JaxbPool.Lease<Unmarshaller> smaller = pool.borrow(1);
+        assertEquals(1, pool.idle());
+        smaller.release();
+        assertEquals(1, pool.idle());
+    }
+
+    @Test
+    public void testUnpooled() throws Exception {
+        final Unmarshaller unmarshaller = JAXBContext.newInstance(Bean.class).createUnmarshaller();
+        unmarshaller.setListener(new Unmarshaller.Listener() {
+        });
+
+        final JaxbPool.Lease<Unmarshaller> lease = JaxbPool.unpooled(unmarshaller);
+        lease.release();
+        assertSame(unmarshaller, lease.get());
+        // unpooled instances are left untouched
+        assertNotNull(unmarshaller.getListener());
+    }
+
+    @Test
+    public void testUnmarshallerReset() throws Exception {
+        final JaxbPool<Unmarshaller> pool = JaxbPool.unmarshallers(JAXBContext.newInstance(Bean.class));
+
+        final JaxbPool.Lease<Unmarshaller> lease = pool.borrow(4);
+        lease.get().setListener(new Unmarshaller.Listener() {
+        });
+        lease.release();
+
+        assertNull(pool.borrow(4).get().getListener());
+    }
+}
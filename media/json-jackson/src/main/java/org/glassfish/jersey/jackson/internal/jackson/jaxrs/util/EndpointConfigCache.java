@@ -0,0 +1,123 @@
+package org.glassfish.jersey.jackson.internal.jackson.jaxrs.util;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.glassfish.jersey.jackson.internal.jackson.jaxrs.cfg.AnnotationBundleKey;
+
+/**
+ * Concurrent bounded cache of resolved endpoint configurations, used instead of
+ * a synchronized {@link LRUMap} to avoid monitor contention when reading and writing
+ * JSON from many threads.
+ *<p>
+ * Lookups are done in two levels. First level is keyed by the identity of the
+ * annotations array: JAX-RS runtime passes the same array instance for every
+ * invocation of a resource method (or its parameter), so for resource methods
+ * the lookup neither allocates nor compares annotations. Second level is keyed by
+ * {@link AnnotationBundleKey}, i.e. by the annotation contents, and is only used
+ * when the array instance has not been seen yet.
+ *<p>
+ * Neither level uses locks for lookups; when a level grows over the maximum size
+ * it is simply cleared (similar to the bounded {@code LRUMap} of jackson-databind),
+ * as the entries are cheap to re-create.
+ */
+public class EndpointConfigCache<V>
+{
+    private final static Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    protected final int _maxEntries;
+
+    /**
+     * First level cache keyed by annotations array identity (arrays do not override
+     * {@code equals} and {@code hashCode}).
+     */
+    protected final ConcurrentHashMap<Annotation[], TypedEntry<V>> _byIdentity;
+
+    /**
+     * Second level cache keyed by annotation contents.
+     */
+    protected final ConcurrentHashMap<AnnotationBundleKey, V> _byContent;
+
+    public EndpointConfigCache(int initialEntries, int maxEntries)
+    {
+        _maxEntries = maxEntries;
+        _byIdentity = new ConcurrentHashMap<Annotation[], TypedEntry<V>>(initialEntries, 0.8f);
+        _byContent = new ConcurrentHashMap<AnnotationBundleKey, V>(initialEntries, 0.8f);
+    }
+
+    /**
+     * Method for finding cached endpoint configuration for given annotations and type.
+     *
+     * @return Cached value, if any; {@code null} otherwise
+     */
+    public V get(Annotation[] annotations, Class<?> type)
+    {
+        final Annotation[] ann = _annotations(annotations);
+        for (TypedEntry<V> entry = _byIdentity.get(ann); entry != null; entry = entry.next) {
+            if (entry.type == type) {
+                return entry.value;
+            }
+        }
+        // not seen this array instance yet (or evicted), try matching contents
+        final V value = _byContent.get(new AnnotationBundleKey(ann, type));
+        if (value != null) {
+            _putIdentity(ann, type, value);
+        }
+        return value;
+    }
+
+    /**
+     * Method for caching endpoint configuration resolved for given annotations and type.
+     */
+    public void put(Annotation[] annotations, Class<?> type, V value)
+    {
+        final Annotation[] ann = _annotations(annotations);
+        if (_byContent.size() >= _maxEntries) {
+            _byContent.clear();
+        }
+        _byContent.put(new AnnotationBundleKey(ann, type).immutableKey(), value);
+        _putIdentity(ann, type, value);
+    }
+
+    public int size() {
+        return _byContent.size();
+    }
+
+    public void clear() {
+        _byIdentity.clear();
+        _byContent.clear();
+    }
+
+    private void _putIdentity(Annotation[] annotations, Class<?> type, V value)
+    {
+        if (_byIdentity.size() >= _maxEntries) {
+            _byIdentity.clear();
+        }
+        // small immutable chain per array; same annotations are rarely used for many types
+        _byIdentity.compute(annotations, (ann, first) -> {
+            for (TypedEntry<V> entry = first; entry != null; entry = entry.next) {
+                if (entry.type == type) {
+                    return first;
+                }
+            }
+            return new TypedEntry<V>(type, value, first);
+        });
+    }
+
+    private static Annotation[] _annotations(Annotation[] annotations) {
+        return (annotations == null || annotations.length == 0) ? NO_ANNOTATIONS : annotations;
+    }
+
+    private final static class TypedEntry<V>
+    {
+        final Class<?> type;
+        final V value;
+        final TypedEntry<V> next;
+
+        TypedEntry(Class<?> type, V value, TypedEntry<V> next) {
+            this.type = type;
+            this.value = value;
+            this.next = next;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.jackson.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+
+import org.glassfish.jersey.jackson.internal.jackson.jaxrs.util.EndpointConfigCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class EndpointConfigCacheTest {
+
+    @Produces("application/json")
+    @Consumes("application/json")
+    private static final class Annotated {
+    }
+
+    @Test
+    public void testIdentityAndContentLookup() {
+        final EndpointConfigCache<String> cache = new EndpointConfigCache<>(4, 16);
+        final Annotation[] annotations = Annotated.class.getAnnotations();
+
+        assertNull(cache.get(annotations, String.class));
+        cache.put(annotations, String.class, "string");
+        cache.put(annotations, Integer.class, "integer");
+
+        assertSame("string", cache.get(annotations, String.class));
+        assertSame("integer", cache.get(annotations, Integer.class));
+        // different array instance with the same annotations
+        assertSame("string", cache.get(Annotated.class.getAnnotations(), String.class));
+        assertNull(cache.get(new Annotation[] {annotations[0]}, String.class));
+
+        cache.put(null, String.class, "none");
+        assertSame("none", cache.get(new Annotation[0], String.class));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testBounded() {
+        final EndpointConfigCache<String> cache = new EndpointConfigCache<>(4, 16);
+        for (int i = 0; i < 100; i++) {
+            cache.put(Annotated.class.getAnnotations(), Annotated.class, "value" + i);
+            cache.put(null, Object.class, "value");
+            assertEquals("value" + i, cache.get(Annotated.class.getAnnotations(), Annotated.class));
+        }
+        assertEquals(2, cache.size());
+
+        final Class<?>[] types = {String.class, Integer.class, Long.class, Short.class, Byte.class};
+        for (int i = 0; i < 100; i++) {
+            cache.put(new Annotation[] {Annotated.class.getAnnotations()[i % 2]}, types[i % types.length], "x");
+        }
+        assertTrue(cache.size() <= 16);
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        final EndpointConfigCache<Class<?>> cache = new EndpointConfigCache<>(4, 16);
+        final Annotation[] annotations = Annotated.class.getAnnotations();
+        final Class<?>[] types = {String.class, Integer.class, Long.class, Short.class, Byte.class};
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    for (int i = 0; i < 10000; i++) {
+                        final Class<?> type = types[i % types.length];
+                        final Class<?> value = cache.get(annotations, type);
+                        if (value == null) {
+                            cache.put(annotations, type, type);
+                        } else {
+                            assertSame(type, value);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(types.length, cache.size());
+    }
+}
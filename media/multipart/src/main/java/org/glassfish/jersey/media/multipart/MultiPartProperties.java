@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -68,6 +68,26 @@ public class MultiPartProperties {
      */
     public static final String TEMP_DIRECTORY = "jersey.config.multipart.tempDir";
 
+    /**
+     * Name of the resource property enabling the streaming mode of reading {@code multipart/form-data} request entities
+     * on the server.
+     * <p>
+     * In the streaming mode the request entity is parsed lazily while the {@link FormDataParam &#64;FormDataParam}
+     * parameters of the resource method are resolved in the order of their declaration. An {@link java.io.InputStream}
+     * parameter reads the body part directly from the container input stream as the resource method consumes it and
+     * a {@link java.io.File} parameter receives the body part written directly to the file. Only the body parts that
+     * have to be skipped to reach a later requested part are buffered, each up to the {@link #BUFFER_THRESHOLD} size
+     * in memory and then in a temporary file. The content of a streamed body part can be read only once and has to be
+     * consumed before the request processing finishes.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     *
+     * @since 3.1.2
+     */
+    public static final String STREAMING = "jersey.config.multipart.streaming";
+
     /**
      * The threshold size (in bytes) above which a body part entity will be
      * buffered to disk instead of being held in memory.
@@ -79,6 +99,11 @@ public class MultiPartProperties {
      */
     private String tempDir = null;
 
+    /**
+     * Whether the {@code multipart/form-data} request entities are read in the streaming mode.
+     */
+    private boolean streaming = false;
+
     /**
      * Load and customize (if necessary) the configuration values for the
      * {@code jersey-multipart} injection binder.
@@ -113,6 +138,16 @@ public class MultiPartProperties {
         return tempDir;
     }
 
+    /**
+     * Get whether the {@code multipart/form-data} request entities are read in the {@link #STREAMING streaming} mode.
+     *
+     * @return {@code true} if the streaming mode is enabled.
+     * @since 3.1.2
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
     /**
      * Set the size (in bytes) of the entity of an incoming {@link BodyPart} before it will be buffered to disk.
      *
@@ -138,6 +173,18 @@ public class MultiPartProperties {
         return this;
     }
 
+    /**
+     * Set whether the {@code multipart/form-data} request entities are read in the {@link #STREAMING streaming} mode.
+     *
+     * @param streaming {@code true} to enable the streaming mode.
+     * @return {@code MultiPartProperties} instance.
+     * @since 3.1.2
+     */
+    public MultiPartProperties streaming(final boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
     /**
      * Configure the values returned by this instance's getters based on
      * the contents of a properties resource, if it exists on the classpath
@@ -169,6 +216,9 @@ public class MultiPartProperties {
             if (props.containsKey(TEMP_DIRECTORY)) {
                 this.tempDir = props.getProperty(TEMP_DIRECTORY);
             }
+            if (props.containsKey(STREAMING)) {
+                this.streaming = Boolean.parseBoolean(props.getProperty(STREAMING));
+            }
         } catch (final IOException e) {
             throw new IllegalArgumentException(e);
         } finally {
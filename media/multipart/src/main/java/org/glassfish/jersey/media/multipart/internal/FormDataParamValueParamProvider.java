@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -233,8 +233,16 @@ final class FormDataParamValueParamProvider extends AbstractValueParamProvider {
 
         @Override
         public Object apply(ContainerRequest request) {
-            // Return the field value for the field specified by the sourceName property.
-            final List<FormDataBodyPart> parts = getEntity(request).getFields(parameter.getSourceName());
+            // Return the field value for the field specified by the sourceName property. Only parameters of collection
+            // types need all the fields of the name, which would make a streaming multipart parse the entire entity.
+            final FormDataMultiPart multiPart = getEntity(request);
+            final List<FormDataBodyPart> parts;
+            if (Collection.class.isAssignableFrom(parameter.getRawType())) {
+                parts = multiPart.getFields(parameter.getSourceName());
+            } else {
+                final FormDataBodyPart field = multiPart.getField(parameter.getSourceName());
+                parts = field != null ? Collections.singletonList(field) : null;
+            }
 
             final FormDataBodyPart part = parts != null ? parts.get(0) : null;
             final MediaType mediaType = part != null ? part.getMediaType() : MediaType.TEXT_PLAIN_TYPE;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -81,6 +81,9 @@ public class MultiPartReaderClientSide implements MessageBodyReader<MultiPart> {
     private Provider<MessageBodyWorkers> messageBodyWorkers;
 
     private final MIMEConfig mimeConfig;
+    private final boolean streaming;
+    private final int bufferThreshold;
+    private final String tempDir;
 
     /**
      * Accepts constructor injection of the configuration parameters for this
@@ -99,6 +102,9 @@ public class MultiPartReaderClientSide implements MessageBodyReader<MultiPart> {
         }
 
         mimeConfig = createMimeConfig(properties);
+        streaming = properties.isStreaming();
+        bufferThreshold = properties.getBufferThreshold();
+        tempDir = properties.getTempDir();
     }
 
     private MIMEConfig createMimeConfig(final MultiPartProperties properties) {
@@ -174,34 +180,28 @@ public class MultiPartReaderClientSide implements MessageBodyReader<MultiPart> {
                                       final InputStream stream) throws IOException, MIMEParsingException {
         mediaType = unquoteMediaTypeParameters(mediaType, "boundary");
 
+        final boolean formData = MediaTypes.typeEqual(mediaType, MediaType.MULTIPART_FORM_DATA_TYPE);
+        if (formData && streaming) {
+            return readStreamingMultiPart(mediaType, headers, stream);
+        }
+
         final MIMEMessage mimeMessage = new MIMEMessage(stream,
                 mediaType.getParameters().get("boundary"),
                 mimeConfig);
 
-        final boolean formData = MediaTypes.typeEqual(mediaType, MediaType.MULTIPART_FORM_DATA_TYPE);
         final MultiPart multiPart = formData ? new FormDataMultiPart() : new MultiPart();
 
         final MessageBodyWorkers workers = messageBodyWorkers.get();
         multiPart.setMessageBodyWorkers(workers);
 
-        final MultivaluedMap<String, String> multiPartHeaders = multiPart.getHeaders();
-        for (final Map.Entry<String, List<String>> entry : headers.entrySet()) {
-            final List<String> values = entry.getValue();
-
-            for (final String value : values) {
-                multiPartHeaders.add(entry.getKey(), value);
-            }
-        }
+        copyHeaders(headers, multiPart);
 
         final boolean fileNameFix;
         if (!formData) {
             multiPart.setMediaType(mediaType);
             fileNameFix = false;
         } else {
-            // see if the User-Agent header corresponds to some version of MS Internet Explorer
-            // if so, need to set fileNameFix to true to handle issue http://java.net/jira/browse/JERSEY-759
-            final String userAgent = headers.getFirst(HttpHeaders.USER_AGENT);
-            fileNameFix = userAgent != null && userAgent.contains(" MSIE ");
+            fileNameFix = isFileNameFix(headers);
         }
 
         for (final MIMEPart mimePart : getMimeParts(mimeMessage)) {
@@ -236,6 +236,49 @@ public class MultiPartReaderClientSide implements MessageBodyReader<MultiPart> {
         return multiPart;
     }
 
+    /**
+     * Create a {@code multipart/form-data} entity whose body parts are parsed lazily from the given stream in the
+     * {@link MultiPartProperties#STREAMING streaming} mode.
+     *
+     * @param mediaType media type of the entity with unquoted boundary parameter.
+     * @param headers   headers of the entity.
+     * @param stream    entity stream.
+     * @return streaming multipart entity.
+     */
+    private MultiPart readStreamingMultiPart(final MediaType mediaType,
+                                             final MultivaluedMap<String, String> headers,
+                                             final InputStream stream) {
+        final String boundary = mediaType.getParameters().get("boundary");
+        if (boundary == null || boundary.isEmpty()) {
+            throw new MIMEParsingException(LocalizationMessages.MULTIPART_STREAMING_ERROR());
+        }
+
+        final MultiPart multiPart = new StreamingFormDataMultiPart(new MultiPartStreamParser(stream, boundary),
+                messageBodyWorkers.get(), isFileNameFix(headers), bufferThreshold, tempDir);
+        multiPart.setMessageBodyWorkers(messageBodyWorkers.get());
+        copyHeaders(headers, multiPart);
+
+        return multiPart;
+    }
+
+    private static void copyHeaders(final MultivaluedMap<String, String> headers, final MultiPart multiPart) {
+        final MultivaluedMap<String, String> multiPartHeaders = multiPart.getHeaders();
+        for (final Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            final List<String> values = entry.getValue();
+
+            for (final String value : values) {
+                multiPartHeaders.add(entry.getKey(), value);
+            }
+        }
+    }
+
+    private static boolean isFileNameFix(final MultivaluedMap<String, String> headers) {
+        // see if the User-Agent header corresponds to some version of MS Internet Explorer
+        // if so, need to set fileNameFix to true to handle issue http://java.net/jira/browse/JERSEY-759
+        final String userAgent = headers.getFirst(HttpHeaders.USER_AGENT);
+        return userAgent != null && userAgent.contains(" MSIE ");
+    }
+
     /**
      * Get a list of mime part attachments from given mime message. If an exception occurs during parsing the message the parsed
      * mime parts are closed (any temporary files are deleted).
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.multipart.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jvnet.mimepull.MIMEParsingException;
+
+/**
+ * Pull parser of a MIME multipart stream.
+ * <p/>
+ * The parser reads the underlying stream only as the content of the current body part is {@link #read(byte[], int, int)
+ * read} or {@link #nextPart() skipped}, never ahead of the consumer by more than the size of its buffer. Hence a body part
+ * of any size can be streamed with a fixed amount of memory and the consumer controls the pace of reading the underlying
+ * stream.
+ * <p/>
+ * The parser is not thread-safe.
+ */
+final class MultiPartStreamParser {
+
+    /**
+     * Maximal size of the headers of a single body part.
+     */
+    static final int MAX_HEADERS_SIZE = 65536;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private enum State {
+        CONTENT, DELIMITER, END
+    }
+
+    private final InputStream in;
+    private final byte[] delimiter;
+    private final byte[] buffer;
+
+    private int position;
+    private int limit;
+    private boolean eof;
+
+    private State state = State.CONTENT;
+    // end (exclusive) of the bytes in the buffer known to be the content of the current part
+    private int contentEnd;
+    // whether the delimiter starts at the content end
+    private boolean delimiterFound;
+
+    private List<Map.Entry<String, String>> headers = new ArrayList<>();
+
+    /**
+     * Create new parser.
+     *
+     * @param in       multipart stream.
+     * @param boundary boundary of the body parts.
+     */
+    MultiPartStreamParser(final InputStream in, final String boundary) {
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.buffer = new byte[Math.max(BUFFER_SIZE, 4 * delimiter.length)];
+
+        // The first delimiter does not have to be preceded by a line break, the preamble is parsed as the content
+        // of an anonymous part preceding the first body part.
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        limit = 2;
+    }
+
+    /**
+     * Skip the rest of the current body part and parse the headers of the next one.
+     *
+     * @return {@code true} if there is a next body part, {@code false} if the closing boundary has been reached.
+     * @throws IOException         in case of an I/O error.
+     * @throws MIMEParsingException if the stream is not a valid multipart stream.
+     */
+    boolean nextPart() throws IOException {
+        while (state == State.CONTENT) {
+            if (position < contentEnd) {
+                position = contentEnd;
+            } else {
+                advanceContent();
+            }
+        }
+        if (state == State.END) {
+            return false;
+        }
+
+        ensure(2);
+        if (buffer[position] == '-' && buffer[position + 1] == '-') {
+            // closing delimiter, the epilogue is ignored
+            state = State.END;
+            return false;
+        }
+        // transport padding after the delimiter
+        readLine();
+
+        headers = new ArrayList<>();
+        int headersSize = 0;
+        String line;
+        while (!(line = readLine()).isEmpty()) {
+            headersSize += line.length() + 2;
+            if (headersSize > MAX_HEADERS_SIZE) {
+                throw new MIMEParsingException(LocalizationMessages.MULTIPART_HEADERS_TOO_LARGE(MAX_HEADERS_SIZE));
+            }
+            if ((line.charAt(0) == ' ' || line.charAt(0) == '\t') && !headers.isEmpty()) {
+                // folded header value
+                final Map.Entry<String, String> last = headers.remove(headers.size() - 1);
+                headers.add(new AbstractMap.SimpleImmutableEntry<>(last.getKey(), last.getValue() + ' ' + line.trim()));
+                continue;
+            }
+            final int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.add(new AbstractMap.SimpleImmutableEntry<>(
+                        line.substring(0, colon).trim(), line.substring(colon + 1).trim()));
+            }
+        }
+
+        state = State.CONTENT;
+        contentEnd = position;
+        return true;
+    }
+
+    /**
+     * Get the headers of the current body part in the order of their occurrence.
+     *
+     * @return headers of the current body part.
+     */
+    List<Map.Entry<String, String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Read the content of the current body part.
+     *
+     * @param b   destination buffer.
+     * @param off offset in the destination buffer.
+     * @param len maximal number of bytes to read.
+     * @return number of bytes read or {@code -1} if the end of the current body part has been reached.
+     * @throws IOException         in case of an I/O error.
+     * @throws MIMEParsingException if the stream is not a valid multipart stream.
+     */
+    int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (state == State.CONTENT) {
+            if (position < contentEnd) {
+                final int read = Math.min(len, contentEnd - position);
+                System.arraycopy(buffer, position, b, off, read);
+                position += read;
+                return read;
+            }
+            advanceContent();
+        }
+        return -1;
+    }
+
+    /**
+     * Find more content of the current part in the buffer, or the delimiter ending it, reading the underlying stream
+     * if necessary. Invoked when all the known content has been consumed.
+     */
+    private void advanceContent() throws IOException {
+        if (delimiterFound) {
+            position = contentEnd + delimiter.length;
+            contentEnd = position;
+            delimiterFound = false;
+            state = State.DELIMITER;
+            return;
+        }
+
+        final int index = indexOfDelimiter();
+        if (index >= 0) {
+            contentEnd = index;
+            delimiterFound = true;
+            return;
+        }
+
+        // the tail of the buffer may be a beginning of the delimiter
+        final int safeEnd = limit - delimiter.length + 1;
+        if (safeEnd > position) {
+            contentEnd = safeEnd;
+            return;
+        }
+
+        if (eof) {
+            throw new MIMEParsingException(LocalizationMessages.MULTIPART_CLOSING_BOUNDARY_MISSING());
+        }
+        fill();
+        contentEnd = position;
+    }
+
+    private int indexOfDelimiter() {
+        final int last = limit - delimiter.length;
+        outer:
+        for (int i = position; i <= last; i++) {
+            if (buffer[i] != '\r') {
+                continue;
+            }
+            for (int j = 1; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Read a line terminated by {@code CRLF} (or a single {@code LF}). The line has to fit into the buffer.
+     */
+    private String readLine() throws IOException {
+        int from = position;
+        while (true) {
+            for (int i = from; i < limit; i++) {
+                if (buffer[i] == '\n') {
+                    final int end = i > position && buffer[i - 1] == '\r' ? i - 1 : i;
+                    final String line = new String(buffer, position, end - position, StandardCharsets.ISO_8859_1);
+                    position = i + 1;
+                    return line;
+                }
+            }
+            if (limit - position == buffer.length) {
+                throw new MIMEParsingException(LocalizationMessages.MULTIPART_HEADERS_TOO_LARGE(buffer.length));
+            }
+            if (eof) {
+                throw new MIMEParsingException(LocalizationMessages.MULTIPART_CLOSING_BOUNDARY_MISSING());
+            }
+            from = limit - position;
+            fill();
+        }
+    }
+
+    private void ensure(final int count) throws IOException {
+        while (limit - position < count) {
+            if (eof) {
+                throw new MIMEParsingException(LocalizationMessages.MULTIPART_CLOSING_BOUNDARY_MISSING());
+            }
+            fill();
+        }
+    }
+
+    /**
+     * Move the unconsumed bytes to the beginning of the buffer and read more bytes from the underlying stream.
+     */
+    private void fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        final int read = in.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            eof = true;
+        } else {
+            limit += read;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.multipart.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.media.multipart.MultiPartProperties;
+
+/**
+ * Buffer of a body part content kept in memory up to a threshold size and written to a temporary file through
+ * a {@link FileChannel} once the threshold is exceeded.
+ */
+final class SpillingPartBuffer implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(SpillingPartBuffer.class.getName());
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final int threshold;
+    private final String tempDir;
+
+    private byte[] memory;
+    private int size;
+
+    private Path file;
+    private FileChannel channel;
+
+    /**
+     * Create new buffer.
+     *
+     * @param threshold size in bytes above which the content is written to a temporary file,
+     *                  {@link MultiPartProperties#BUFFER_THRESHOLD_MEMORY_ONLY} to keep the content in memory.
+     * @param tempDir   directory of the temporary file or {@code null} for the default temporary directory.
+     */
+    SpillingPartBuffer(final int threshold, final String tempDir) {
+        this.threshold = threshold;
+        this.tempDir = tempDir;
+        this.memory = new byte[threshold == MultiPartProperties.BUFFER_THRESHOLD_MEMORY_ONLY
+                ? INITIAL_CAPACITY : Math.min(INITIAL_CAPACITY, threshold)];
+    }
+
+    /**
+     * Append the bytes to the buffer.
+     *
+     * @param b   bytes to append.
+     * @param off offset of the first byte.
+     * @param len number of bytes.
+     * @throws IOException if the temporary file cannot be created or written.
+     */
+    void write(final byte[] b, final int off, final int len) throws IOException {
+        if (channel == null) {
+            if (threshold == MultiPartProperties.BUFFER_THRESHOLD_MEMORY_ONLY || size + len <= threshold) {
+                if (size + len > memory.length) {
+                    memory = Arrays.copyOf(memory, Math.max(size + len, 2 * memory.length));
+                }
+                System.arraycopy(b, off, memory, size, len);
+                size += len;
+                return;
+            }
+            spill();
+        }
+        writeFully(ByteBuffer.wrap(b, off, len));
+    }
+
+    private void spill() throws IOException {
+        file = tempDir == null
+                ? Files.createTempFile("MIME", null)
+                : Files.createTempFile(Paths.get(tempDir), "MIME", null);
+        channel = FileChannel.open(file, StandardOpenOption.WRITE);
+        writeFully(ByteBuffer.wrap(memory, 0, size));
+        memory = EMPTY;
+        size = 0;
+    }
+
+    private void writeFully(final ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    /**
+     * Finish writing of the buffer.
+     *
+     * @throws IOException if the temporary file cannot be closed.
+     */
+    void finish() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Get a new input stream of the buffered content.
+     *
+     * @return buffered content.
+     * @throws IOException if the temporary file cannot be opened.
+     */
+    InputStream getInputStream() throws IOException {
+        if (file != null) {
+            return Files.newInputStream(file);
+        }
+        return new ByteArrayInputStream(memory, 0, size);
+    }
+
+    /**
+     * Move the buffered content to the given file. The temporary file is renamed if possible.
+     *
+     * @param target destination file.
+     * @throws IOException if the content cannot be moved.
+     */
+    void moveTo(final File target) throws IOException {
+        if (file != null) {
+            Files.move(file, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            file = null;
+        } else {
+            try (OutputStream out = Files.newOutputStream(target.toPath())) {
+                out.write(memory, 0, size);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            finish();
+        } catch (final IOException e) {
+            LOGGER.log(Level.FINE, e.getMessage(), e);
+        }
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException e) {
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.log(Level.FINE, LocalizationMessages.TEMP_FILE_NOT_DELETED(file.toAbsolutePath()), e);
+                }
+            }
+            file = null;
+        }
+        memory = EMPTY;
+        size = 0;
+    }
+}
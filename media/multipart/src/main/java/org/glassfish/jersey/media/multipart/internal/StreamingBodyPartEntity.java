@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.multipart.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.media.multipart.BodyPartEntity;
+
+import org.jvnet.mimepull.MIMEParsingException;
+
+/**
+ * Entity of a body part read in the streaming mode by {@link StreamingFormDataMultiPart}.
+ * <p/>
+ * While the body part is the current part of the multipart stream, its content is read directly from the stream. Once
+ * the multipart stream advances to a next part, the content not read yet is buffered in a {@link SpillingPartBuffer}
+ * and an input stream obtained before continues reading from the buffer.
+ */
+final class StreamingBodyPartEntity extends BodyPartEntity {
+
+    private static final Logger LOGGER = Logger.getLogger(StreamingBodyPartEntity.class.getName());
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final MultiPartStreamParser parser;
+    private final int bufferThreshold;
+    private final String tempDir;
+
+    private boolean current = true;
+    private SpillingPartBuffer buffer;
+    private volatile File file;
+
+    /**
+     * Create new entity of the current body part of the parser.
+     *
+     * @param parser          multipart stream parser positioned at the content of the body part.
+     * @param bufferThreshold memory threshold of the buffered content.
+     * @param tempDir         directory of temporary files.
+     */
+    StreamingBodyPartEntity(final MultiPartStreamParser parser, final int bufferThreshold, final String tempDir) {
+        super(null);
+        this.parser = parser;
+        this.bufferThreshold = bufferThreshold;
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * Gets the input stream of the raw bytes of this body part entity. If the body part is the current part of the multipart
+     * stream the input stream reads the part directly from the multipart stream and the content can be read only once.
+     *
+     * @return the input stream of the body part entity.
+     */
+    @Override
+    public InputStream getInputStream() {
+        if (current) {
+            return new PartInputStream();
+        }
+        try {
+            return buffer != null ? buffer.getInputStream() : InputStream.nullInputStream();
+        } catch (final IOException e) {
+            throw new MIMEParsingException(e);
+        }
+    }
+
+    /**
+     * Buffer the content of the body part not read yet as the multipart stream advances to a next part.
+     *
+     * @throws IOException in case of an I/O error.
+     */
+    void detach() throws IOException {
+        final byte[] chunk = new byte[CHUNK_SIZE];
+        int read;
+        while ((read = parser.read(chunk, 0, chunk.length)) != -1) {
+            if (buffer == null) {
+                buffer = new SpillingPartBuffer(bufferThreshold, tempDir);
+            }
+            buffer.write(chunk, 0, read);
+        }
+        if (buffer != null) {
+            buffer.finish();
+        }
+        current = false;
+    }
+
+    @Override
+    public void cleanup() {
+        if (buffer != null) {
+            buffer.close();
+        }
+
+        if (file != null) {
+            final boolean deleted = file.delete();
+            if (!deleted) {
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.log(Level.FINE, LocalizationMessages.TEMP_FILE_NOT_DELETED(file.getAbsolutePath()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Move the content of this body part to the given file. The content of the current part is written to the file directly
+     * from the multipart stream.
+     *
+     * @param file destination file.
+     */
+    @Override
+    public void moveTo(final File file) {
+        try {
+            if (current) {
+                try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE,
+                        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    final byte[] chunk = new byte[CHUNK_SIZE];
+                    final ByteBuffer source = ByteBuffer.wrap(chunk);
+                    int read;
+                    while ((read = parser.read(chunk, 0, chunk.length)) != -1) {
+                        source.clear().limit(read);
+                        while (source.hasRemaining()) {
+                            channel.write(source);
+                        }
+                    }
+                }
+            } else if (buffer != null) {
+                buffer.moveTo(file);
+            } else {
+                Files.newOutputStream(file.toPath()).close();
+            }
+        } catch (final IOException e) {
+            throw new MIMEParsingException(e);
+        }
+
+        // Remember the file where the body part has been stored to delete it on cleanup.
+        this.file = file;
+    }
+
+    /**
+     * Input stream of the body part content, reading from the multipart stream while the body part is the current part
+     * and from the buffered content afterwards.
+     */
+    private final class PartInputStream extends InputStream {
+
+        private final byte[] single = new byte[1];
+        private InputStream buffered;
+
+        @Override
+        public int read() throws IOException {
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (current) {
+                try {
+                    return parser.read(b, off, len);
+                } catch (final MIMEParsingException e) {
+                    throw new IOException(e);
+                }
+            }
+            if (buffered == null) {
+                buffered = buffer != null ? buffer.getInputStream() : InputStream.nullInputStream();
+            }
+            return buffered.read(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (buffered != null) {
+                buffered.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.multipart.internal;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.media.multipart.BodyPart;
+import org.glassfish.jersey.media.multipart.FormDataBodyPart;
+import org.glassfish.jersey.media.multipart.FormDataMultiPart;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+
+import org.jvnet.mimepull.MIMEParsingException;
+
+/**
+ * {@link FormDataMultiPart} read lazily from the multipart stream in the
+ * {@link org.glassfish.jersey.media.multipart.MultiPartProperties#STREAMING streaming} mode.
+ * <p/>
+ * Body parts are parsed as they are requested: {@link #getField(String)} parses the stream only up to the first body part
+ * of the given name and the entity of the body part then reads the content directly from the stream. Methods working with
+ * all body parts, e.g. {@link #getBodyParts()}, parse the rest of the stream and buffer the content of the body parts.
+ */
+final class StreamingFormDataMultiPart extends FormDataMultiPart {
+
+    private static final Logger LOGGER = Logger.getLogger(StreamingFormDataMultiPart.class.getName());
+
+    private final MultiPartStreamParser parser;
+    private final MessageBodyWorkers workers;
+    private final boolean fileNameFix;
+    private final int bufferThreshold;
+    private final String tempDir;
+
+    private StreamingBodyPartEntity current;
+    private boolean complete;
+
+    /**
+     * Create new streaming multipart.
+     *
+     * @param parser          multipart stream parser.
+     * @param workers         message body workers of the body parts.
+     * @param fileNameFix     whether the file names of the body parts should be fixed for MS Internet Explorer.
+     * @param bufferThreshold memory threshold of the buffered body part content.
+     * @param tempDir         directory of temporary files.
+     */
+    StreamingFormDataMultiPart(final MultiPartStreamParser parser,
+                               final MessageBodyWorkers workers,
+                               final boolean fileNameFix,
+                               final int bufferThreshold,
+                               final String tempDir) {
+        this.parser = parser;
+        this.workers = workers;
+        this.fileNameFix = fileNameFix;
+        this.bufferThreshold = bufferThreshold;
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * Gets the list of all body parts. The rest of the multipart stream is parsed and the content of the body parts not read
+     * yet is buffered.
+     *
+     * @return mutable list of body parts.
+     */
+    @Override
+    public List<BodyPart> getBodyParts() {
+        while (nextPart() != null) {
+            // Parse the rest of the stream.
+        }
+        return super.getBodyParts();
+    }
+
+    /**
+     * Gets a form data body part given a control name. The multipart stream is parsed only up to the first body part
+     * with the given control name.
+     *
+     * @param name the control name.
+     * @return the form data body part, otherwise null if no part is present with the given control name.
+     */
+    @Override
+    public FormDataBodyPart getField(final String name) {
+        for (final BodyPart bodyPart : super.getBodyParts()) {
+            if (bodyPart instanceof FormDataBodyPart && name.equals(((FormDataBodyPart) bodyPart).getName())) {
+                return (FormDataBodyPart) bodyPart;
+            }
+        }
+
+        FormDataBodyPart bodyPart;
+        while ((bodyPart = nextPart()) != null) {
+            if (name.equals(bodyPart.getName())) {
+                return bodyPart;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void cleanup() {
+        for (final BodyPart bodyPart : super.getBodyParts()) {
+            bodyPart.cleanup();
+        }
+    }
+
+    /**
+     * Parse the next body part of the multipart stream.
+     *
+     * @return next body part or {@code null} if all body parts have been parsed.
+     */
+    private FormDataBodyPart nextPart() {
+        if (complete) {
+            return null;
+        }
+
+        try {
+            if (current != null) {
+                current.detach();
+                current = null;
+            }
+            if (!parser.nextPart()) {
+                complete = true;
+                return null;
+            }
+        } catch (final MIMEParsingException mpe) {
+            complete = true;
+            LOGGER.log(Level.FINE, LocalizationMessages.PARSING_ERROR(), mpe);
+            throw new BadRequestException(mpe);
+        } catch (final IOException ioe) {
+            complete = true;
+            throw new ProcessingException(LocalizationMessages.MULTIPART_STREAMING_ERROR(), ioe);
+        }
+
+        final FormDataBodyPart bodyPart = new FormDataBodyPart(fileNameFix);
+
+        // Configure providers.
+        bodyPart.setMessageBodyWorkers(workers);
+
+        // Copy headers.
+        for (final Map.Entry<String, String> header : parser.getHeaders()) {
+            bodyPart.getHeaders().add(header.getKey(), header.getValue());
+        }
+
+        try {
+            final String contentType = bodyPart.getHeaders().getFirst("Content-Type");
+            if (contentType != null) {
+                bodyPart.setMediaType(MediaType.valueOf(contentType));
+            }
+
+            bodyPart.getContentDisposition();
+        } catch (final IllegalArgumentException ex) {
+            complete = true;
+            throw new BadRequestException(ex);
+        }
+
+        current = new StreamingBodyPartEntity(parser, bufferThreshold, tempDir);
+        bodyPart.setEntity(current);
+
+        super.getBodyParts().add(bodyPart);
+        return bodyPart;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.multipart.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.glassfish.jersey.media.multipart.BodyPart;
+import org.glassfish.jersey.media.multipart.FormDataBodyPart;
+import org.glassfish.jersey.media.multipart.FormDataMultiPart;
+import org.glassfish.jersey.media.multipart.FormDataParam;
+import org.glassfish.jersey.media.multipart.MultiPartProperties;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of the {@link MultiPartProperties#STREAMING streaming} mode of reading {@code multipart/form-data} entities.
+ */
+public class StreamingFormDataMultiPartTest extends MultiPartJerseyTest {
+
+    private static final int THRESHOLD = 1024;
+
+    @Override
+    protected Application configure() {
+        return ((ResourceConfig) super.configure())
+                .register(new MultiPartProperties().streaming(true).bufferThreshold(THRESHOLD).resolver());
+    }
+
+    @Override
+    protected Set<Class<?>> getResourceClasses() {
+        return new HashSet<>(Arrays.asList(StreamingResource.class));
+    }
+
+    @Path("/streaming")
+    public static class StreamingResource {
+
+        @POST
+        @Path("stream")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String stream(@FormDataParam("name") final String name,
+                             @FormDataParam("file") final InputStream file) throws IOException {
+            return name + ":" + checksum(file);
+        }
+
+        @POST
+        @Path("skip")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String skip(@FormDataParam("name") final String name,
+                           @FormDataParam("file") final File file) {
+            return name + ":" + file.length();
+        }
+
+        @POST
+        @Path("all")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String all(final FormDataMultiPart multiPart) throws IOException {
+            final StringBuilder result = new StringBuilder();
+            for (final BodyPart bodyPart : multiPart.getBodyParts()) {
+                final FormDataBodyPart part = (FormDataBodyPart) bodyPart;
+                result.append(part.getName()).append(':').append(checksum(part.getValueAs(InputStream.class))).append(';');
+            }
+            return result.toString();
+        }
+
+        @POST
+        @Path("missing")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String missing(@FormDataParam("missing") final String missing) {
+            return String.valueOf(missing);
+        }
+    }
+
+    private static long checksum(final InputStream stream) throws IOException {
+        long checksum = 0;
+        int b;
+        while ((b = stream.read()) != -1) {
+            checksum = 31 * checksum + b;
+        }
+        return checksum;
+    }
+
+    private static byte[] content(final int size) {
+        final byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (i * 7 + i / 251);
+        }
+        return content;
+    }
+
+    private static long checksum(final byte[] content) {
+        long checksum = 0;
+        for (final byte b : content) {
+            checksum = 31 * checksum + (b & 0xff);
+        }
+        return checksum;
+    }
+
+    @Test
+    public void testStreamedInputStream() {
+        final byte[] content = content(100 * THRESHOLD);
+        final FormDataMultiPart entity = new FormDataMultiPart()
+                .field("name", "upload")
+                .field("file", content, MediaType.APPLICATION_OCTET_STREAM_TYPE);
+
+        final String response = target("streaming/stream").request()
+                .post(Entity.entity(entity, MediaType.MULTIPART_FORM_DATA_TYPE), String.class);
+
+        assertEquals("upload:" + checksum(content), response);
+    }
+
+    @Test
+    public void testSkippedPartIsBuffered() {
+        final byte[] content = content(10 * THRESHOLD + 1);
+        final FormDataMultiPart entity = new FormDataMultiPart()
+                .field("file", content, MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                .field("name", "upload");
+
+        final String response = target("streaming/skip").request()
+                .post(Entity.entity(entity, MediaType.MULTIPART_FORM_DATA_TYPE), String.class);
+
+        assertEquals("upload:" + content.length, response);
+    }
+
+    @Test
+    public void testAllBodyParts() {
+        final byte[] small = content(THRESHOLD / 2);
+        final byte[] large = content(5 * THRESHOLD);
+        final FormDataMultiPart entity = new FormDataMultiPart()
+                .field("small", small, MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                .field("large", large, MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                .field("empty", new byte[0], MediaType.APPLICATION_OCTET_STREAM_TYPE);
+
+        final String response = target("streaming/all").request()
+                .post(Entity.entity(entity, MediaType.MULTIPART_FORM_DATA_TYPE), String.class);
+
+        assertEquals("small:" + checksum(small) + ";large:" + checksum(large) + ";empty:0;", response);
+    }
+
+    @Test
+    public void testMissingClosingBoundary() {
+        final String entity = "--B\r\n"
+                + "Content-Disposition: form-data; name=\"name\"\r\n"
+                + "\r\n"
+                + "value";
+
+        final Response response = target("streaming/missing").request()
+                .post(Entity.entity(entity, "multipart/form-data; boundary=B"));
+
+        assertEquals(400, response.getStatus());
+    }
+}
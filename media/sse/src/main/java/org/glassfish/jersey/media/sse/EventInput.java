@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,16 +16,25 @@
 
 package org.glassfish.jersey.media.sse;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 
 import org.glassfish.jersey.client.ChunkParser;
 import org.glassfish.jersey.client.ChunkedInput;
+import org.glassfish.jersey.client.spi.NonBlockingInput;
 import org.glassfish.jersey.internal.PropertiesDelegate;
 import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.message.internal.EntityInputStream;
 
 /**
  * Inbound Server-Sent Events channel.
@@ -35,6 +44,10 @@ import org.glassfish.jersey.message.MessageBodyWorkers;
  * @author Marek Potociar
  */
 public class EventInput extends ChunkedInput<InboundEvent> {
+
+    private static final Logger LOGGER = Logger.getLogger(EventInput.class.getName());
+    private static final int READ_BUFFER_SIZE = 8192;
+
     /**
      * SSE event chunk parser - SSE chunks are delimited with a fixed "\n\n" and "\r\n\r\n" delimiter in the response stream.
      */
@@ -60,4 +73,190 @@ public class EventInput extends ChunkedInput<InboundEvent> {
 
         super.setParser(SSE_EVENT_PARSER);
     }
+
+    /**
+     * Start reading the events without blocking a thread while waiting for the data.
+     * <p>
+     * The non-blocking reading is possible only if the response entity stream provided by the client
+     * {@link org.glassfish.jersey.client.spi.Connector connector} supports it (see {@link NonBlockingInput}) and no
+     * {@link jakarta.ws.rs.ext.ReaderInterceptor reader interceptor} replaced the stream. The events are then parsed
+     * as the data arrive and the listener is notified in the tasks submitted to the supplied executor, one task at a time.
+     * Once the end of the event stream is reached or reading the stream fails, the input is closed and the close callback
+     * is invoked. The callback is not invoked if the input is closed using {@link #close()}.
+     * </p>
+     * <p>
+     * Once the non-blocking reading has been started, the input must not be {@link #read() read} in a blocking manner.
+     * </p>
+     *
+     * @param executor executor running the event parsing and the listener notifications.
+     * @param listener listener notified about the received events.
+     * @param onClose  callback invoked once the end of the event stream has been reached or reading the stream failed.
+     * @return {@code true} if the non-blocking reading has been started, {@code false} if the response entity stream
+     * cannot be read without blocking and the events have to be {@link #read() read} in a blocking manner.
+     * @since 3.1.2
+     */
+    public boolean readNonBlocking(final Executor executor, final EventListener listener, final Runnable onClose) {
+        InputStream stream = getInputStream();
+        while (stream instanceof EntityInputStream) {
+            stream = ((EntityInputStream) stream).getWrappedStream();
+        }
+        if (!(stream instanceof NonBlockingInput)) {
+            return false;
+        }
+
+        final NonBlockingEventReader reader = new NonBlockingEventReader(stream, executor, listener, onClose);
+        if (!((NonBlockingInput) stream).setReadListener(reader)) {
+            return false;
+        }
+        reader.onDataAvailable();
+        return true;
+    }
+
+    /**
+     * Incremental event parser reading the response entity stream only when it is ready. The stream is split into
+     * the event chunks at the same {@code "\n\n"} and {@code "\r\n\r\n"} delimiters as by the blocking
+     * chunk parser.
+     */
+    private final class NonBlockingEventReader implements NonBlockingInput.ReadListener, Runnable {
+
+        private final InputStream stream;
+        private final NonBlockingInput input;
+        private final Executor executor;
+        private final EventListener listener;
+        private final Runnable onClose;
+        private final AtomicBoolean finished = new AtomicBoolean();
+        // number of notifications not handled yet, a task is submitted only for the first one
+        private final AtomicInteger wip = new AtomicInteger();
+        private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+
+        // accessed by a single task at a time
+        private byte[] data = new byte[READ_BUFFER_SIZE];
+        private int length;
+        private int scanned;
+
+        private NonBlockingEventReader(final InputStream stream,
+                                       final Executor executor,
+                                       final EventListener listener,
+                                       final Runnable onClose) {
+            this.stream = stream;
+            this.input = (NonBlockingInput) stream;
+            this.executor = executor;
+            this.listener = listener;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public void onDataAvailable() {
+            // a spurious notification must not start a second task reading the stream concurrently
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                try {
+                    while (!isClosed() && input.isReady()) {
+                        final int read = stream.read(readBuffer);
+                        if (read < 0) {
+                            if (length > 0) {
+                                // the stream ended in the middle of an event, the blocking parser returns the rest as a chunk
+                                dispatch(Arrays.copyOf(data, length));
+                            }
+                            finish();
+                            return;
+                        }
+                        append(read);
+                        parse();
+                    }
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.log(Level.FINE, e.getMessage(), e);
+                    finish();
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void append(final int read) {
+            if (length + read > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + read));
+            }
+            System.arraycopy(readBuffer, 0, data, length, read);
+            length += read;
+        }
+
+        private void parse() throws IOException {
+            int start = 0;
+            int i = scanned;
+            while (i < length) {
+                final int delimiter = delimiterAt(i);
+                if (delimiter < 0) {
+                    // a potential delimiter is not complete yet
+                    break;
+                } else if (delimiter > 0) {
+                    if (i > start) {
+                        // empty chunks are skipped
+                        dispatch(Arrays.copyOfRange(data, start, i));
+                    }
+                    i += delimiter;
+                    start = i;
+                } else {
+                    i++;
+                }
+            }
+
+            if (start > 0) {
+                System.arraycopy(data, start, data, 0, length - start);
+                length -= start;
+            }
+            scanned = i - start;
+        }
+
+        /**
+         * Get the length of the event delimiter at the given position.
+         *
+         * @param i position in the data.
+         * @return delimiter length, {@code 0} if there is no delimiter at the position or {@code -1} if more data are
+         * needed to decide.
+         */
+        private int delimiterAt(final int i) {
+            if (data[i] == '\n') {
+                if (i + 1 >= length) {
+                    return -1;
+                }
+                return data[i + 1] == '\n' ? 2 : 0;
+            } else if (data[i] == '\r') {
+                for (int j = 1; j < 4; j++) {
+                    if (i + j >= length) {
+                        return -1;
+                    }
+                    if (data[i + j] != (j % 2 == 0 ? '\r' : '\n')) {
+                        return 0;
+                    }
+                }
+                return 4;
+            }
+            return 0;
+        }
+
+        private void dispatch(final byte[] chunk) throws IOException {
+            final InboundEvent event = readChunk(chunk);
+            if (event != null && !isClosed()) {
+                listener.onEvent(event);
+            }
+        }
+
+        private void finish() {
+            if (finished.compareAndSet(false, true)) {
+                final boolean closedByUser = isClosed();
+                close();
+                if (!closedByUser) {
+                    onClose.run();
+                }
+            }
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -37,7 +37,9 @@ import jakarta.ws.rs.client.WebTarget;
 import org.glassfish.jersey.client.ClientExecutor;
 import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
 import org.glassfish.jersey.internal.util.ExtendedLogger;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.media.sse.internal.EventProcessor;
+import org.glassfish.jersey.media.sse.internal.SharedEventScheduler;
 
 /**
  * Client for reading and processing {@link InboundEvent incoming Server-Sent Events}.
@@ -104,6 +106,14 @@ import org.glassfish.jersey.media.sse.internal.EventProcessor;
  * HTTP connections, you may do so by invoking the {@link Builder#usePersistentConnections() usePersistentConnections()} method
  * on an event source builder prior to creating a new event source instance.
  * </p>
+ * <h3>Non-blocking mode</h3>
+ * <p>
+ * By default, each open event source holds a thread of its internal executor service that waits for the incoming events.
+ * An event source built with the {@link Builder#nonBlocking() nonBlocking()} builder method or targeting a client configured
+ * with the {@link SseFeature#NON_BLOCKING_CLIENT} property connects to the SSE endpoint asynchronously and processes
+ * the events as they arrive in a scheduler shared by all the non-blocking event sources. See
+ * {@link SseFeature#NON_BLOCKING_CLIENT} for details.
+ * </p>
  *
  * @author Pavel Bucek
  * @author Marek Potociar
@@ -133,9 +143,17 @@ public class EventSource implements EventListener {
      */
     private final boolean disableKeepAlive;
     /**
-     * Incoming SSE event processing task executor.
+     * Flag indicating if the events should be read without blocking a thread.
+     */
+    private final boolean nonBlocking;
+    /**
+     * Incoming SSE event processing task executor, {@code null} in the non-blocking mode.
      */
     private final CloseableClientExecutor executor;
+    /**
+     * Event processor of the open event source.
+     */
+    private volatile EventProcessor processor;
     /**
      * Event source internal state.
      */
@@ -221,13 +239,14 @@ public class EventSource implements EventListener {
      * @throws NullPointerException in case the supplied web target is {@code null}.
      */
     public EventSource(final WebTarget endpoint, final boolean open) {
-        this(endpoint, null, RECONNECT_DEFAULT, true, open);
+        this(endpoint, null, RECONNECT_DEFAULT, true, false, open);
     }
 
     private EventSource(final WebTarget target,
                         final String name,
                         final long reconnectDelay,
                         final boolean disableKeepAlive,
+                        final boolean nonBlocking,
                         final boolean open) {
         if (target == null) {
             throw new NullPointerException("Web target is 'null'.");
@@ -236,12 +255,19 @@ public class EventSource implements EventListener {
         this.reconnectDelay = reconnectDelay;
         this.disableKeepAlive = disableKeepAlive;
 
-        final String esName = (name == null) ? createDefaultName(target) : name;
+        this.nonBlocking = nonBlocking
+                || PropertiesHelper.isProperty(this.target.getConfiguration().getProperty(SseFeature.NON_BLOCKING_CLIENT));
 
-        this.executor = new CloseableClientExecutor(Executors.newSingleThreadScheduledExecutor(
-                new ThreadFactoryBuilder().setNameFormat(esName + "-%d")
-                                          .setDaemon(true)
-                                          .build()));
+        if (this.nonBlocking) {
+            this.executor = null;
+        } else {
+            final String esName = (name == null) ? createDefaultName(target) : name;
+
+            this.executor = new CloseableClientExecutor(Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat(esName + "-%d")
+                                              .setDaemon(true)
+                                              .build()));
+        }
 
         if (open) {
             open();
@@ -268,8 +294,9 @@ public class EventSource implements EventListener {
             }
         }
 
+        final ClientExecutor processorExecutor = nonBlocking ? SharedEventScheduler.getInstance() : executor;
         EventProcessor.Builder builder =
-                EventProcessor.builder(target, state, executor, this, shutdownHandler)
+                EventProcessor.builder(target, state, processorExecutor, this, shutdownHandler)
                               .boundListeners(boundListeners)
                               .unboundListeners(unboundListeners)
                               .reconnectDelay(reconnectDelay, TimeUnit.MILLISECONDS);
@@ -277,10 +304,14 @@ public class EventSource implements EventListener {
         if (disableKeepAlive) {
             builder.disableKeepAlive();
         }
+        if (nonBlocking) {
+            builder.nonBlocking();
+        }
 
         EventProcessor processor = builder.build();
+        this.processor = processor;
 
-        executor.submit(processor);
+        processorExecutor.submit(processor);
 
         // return only after the first request to the SSE endpoint has been made
         processor.awaitFirstContact();
@@ -391,6 +422,10 @@ public class EventSource implements EventListener {
      */
     public boolean close(final long timeout, final TimeUnit unit) {
         shutdown();
+        if (nonBlocking) {
+            // there is no event processing task to wait for
+            return true;
+        }
         try {
             if (!executor.awaitTermination(timeout, unit)) {
                 LOGGER.log(CONNECTION_ERROR_LEVEL,
@@ -410,7 +445,14 @@ public class EventSource implements EventListener {
         if (state.getAndSet(EventProcessor.State.CLOSED) != EventProcessor.State.CLOSED) {
             // shut down only if has not been shut down before
             LOGGER.debugLog("Shutting down event processing.");
-            executor.close();
+            if (nonBlocking) {
+                final EventProcessor processor = this.processor;
+                if (processor != null) {
+                    processor.disconnect();
+                }
+            } else {
+                executor.close();
+            }
         }
     }
 
@@ -503,6 +545,7 @@ public class EventSource implements EventListener {
         private long reconnect = EventSource.RECONNECT_DEFAULT;
         private String name = null;
         private boolean disableKeepAlive = true;
+        private boolean nonBlocking = false;
 
         private Builder(final WebTarget endpoint) {
             this.endpoint = endpoint;
@@ -542,6 +585,22 @@ public class EventSource implements EventListener {
             return this;
         }
 
+        /**
+         * Instruct event source to process the incoming events without holding a thread while waiting for them.
+         * <p>
+         * The event source connects to the SSE endpoint asynchronously and the incoming events are parsed and the
+         * listeners notified as the events arrive, in a scheduler shared by all the non-blocking event sources.
+         * The listeners should therefore not block. See {@link SseFeature#NON_BLOCKING_CLIENT} for details.
+         * </p>
+         *
+         * @return updated event source builder instance.
+         * @since 3.1.2
+         */
+        public Builder nonBlocking() {
+            nonBlocking = true;
+            return this;
+        }
+
         /**
          * Set the initial reconnect delay to be used by the event source.
          * <p>
@@ -578,7 +637,7 @@ public class EventSource implements EventListener {
          * @see #open()
          */
         public EventSource build() {
-            return new EventSource(endpoint, name, reconnect, disableKeepAlive, false);
+            return new EventSource(endpoint, name, reconnect, disableKeepAlive, nonBlocking, false);
         }
 
         /**
@@ -599,7 +658,7 @@ public class EventSource implements EventListener {
          */
         public EventSource open() {
             // opening directly in the constructor is just plain ugly...
-            final EventSource source = new EventSource(endpoint, name, reconnect, disableKeepAlive, false);
+            final EventSource source = new EventSource(endpoint, name, reconnect, disableKeepAlive, nonBlocking, false);
             source.open();
             return source;
         }
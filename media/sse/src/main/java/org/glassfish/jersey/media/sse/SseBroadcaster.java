@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -50,4 +50,31 @@ public class SseBroadcaster extends Broadcaster<OutboundEvent> {
     protected SseBroadcaster(final Class<? extends SseBroadcaster> subclass) {
         super(subclass);
     }
+
+    /**
+     * Creates a new instance, optionally serializing each broadcast event only once.
+     *
+     * @param serializeOnce if {@code true}, each broadcast event is serialized only once and the serialized bytes
+     *                      are written to all the registered {@link EventOutput} instances.
+     * @see org.glassfish.jersey.server.Broadcaster#Broadcaster(boolean)
+     * @since 3.1.2
+     */
+    public SseBroadcaster(final boolean serializeOnce) {
+        this(SseBroadcaster.class, serializeOnce);
+    }
+
+    /**
+     * Can be used by subclasses to override the default functionality of adding self to the set of
+     * {@link org.glassfish.jersey.server.BroadcasterListener listeners} and to enable serializing each broadcast event
+     * only once.
+     *
+     * @param subclass      subclass of SseBroadcaster that should not be registered as a listener - if creating a direct
+     *                      instance of this subclass, this constructor will not register the new instance as a listener.
+     * @param serializeOnce if {@code true}, each broadcast event is serialized only once.
+     * @see #SseBroadcaster(Class)
+     * @since 3.1.2
+     */
+    protected SseBroadcaster(final Class<? extends SseBroadcaster> subclass, final boolean serializeOnce) {
+        super(subclass, serializeOnce);
+    }
 }
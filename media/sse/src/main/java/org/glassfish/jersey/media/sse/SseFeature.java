@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -91,6 +91,48 @@ public class SseFeature implements Feature {
     @Property
     public static final String DISABLE_SSE_SERVER = "jersey.config.server.media.sse.disable";
 
+    /**
+     * If {@code true}, each event broadcast by the {@link jakarta.ws.rs.sse.SseBroadcaster} obtained from
+     * {@link jakarta.ws.rs.sse.Sse#newBroadcaster()} is serialized only once and the serialized bytes are written
+     * to all the registered {@link jakarta.ws.rs.sse.SseEventSink event sinks}.
+     * <p>
+     * See {@link org.glassfish.jersey.server.SharedChunk} for details.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 3.1.2
+     */
+    @Property
+    public static final String BROADCAST_SERIALIZE_ONCE = "jersey.config.server.media.sse.broadcast.serializeOnce";
+
+    /**
+     * If {@code true}, the client {@link EventSource} and {@link jakarta.ws.rs.sse.SseEventSource} instances do not hold
+     * a thread for each open event stream. The connection to the SSE endpoint is established asynchronously and the
+     * incoming events are parsed as they arrive, with all the event sources sharing a small pool of scheduler threads
+     * that also runs the reconnect timers. The event listeners are notified in the shared scheduler threads and
+     * should therefore not block.
+     * <p>
+     * The events are read without blocking only if the client {@link org.glassfish.jersey.client.spi.Connector connector}
+     * supports it (see {@link org.glassfish.jersey.client.spi.NonBlockingInput}), e.g. the Netty connector. With other
+     * connectors each open event stream is read in a thread of the client asynchronous executor service.
+     * </p>
+     * <p>
+     * The default value is {@code false}.
+     * </p>
+     * <p>
+     * The name of the configuration property is <tt>{@value}</tt>.
+     * </p>
+     *
+     * @since 3.1.2
+     */
+    @Property
+    public static final String NON_BLOCKING_CLIENT = "jersey.config.client.media.sse.nonBlocking";
+
     /**
      * A "reconnection not set" value for the SSE reconnect delay set via {@code retry} field.
      *
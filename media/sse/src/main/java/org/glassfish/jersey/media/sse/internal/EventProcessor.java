@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -27,8 +27,10 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.ServiceUnavailableException;
 import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.InvocationCallback;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.sse.SseEvent;
 
@@ -71,6 +73,14 @@ public class EventProcessor implements Runnable, EventListener {
      * Flag indicating if the persistent HTTP connections should be disabled.
      */
     private final boolean disableKeepAlive;
+    /**
+     * Flag indicating if the events should be read without blocking a thread.
+     */
+    private final boolean nonBlocking;
+    /**
+     * Event stream currently read in the non-blocking mode.
+     */
+    private volatile EventInput currentInput;
     /**
      * Incoming SSE event processing task executor.
      */
@@ -105,6 +115,7 @@ public class EventProcessor implements Runnable, EventListener {
         this.lastEventId = that.lastEventId;
         this.target = that.target;
         this.disableKeepAlive = that.disableKeepAlive;
+        this.nonBlocking = that.nonBlocking;
         this.executor = that.executor;
         this.state = that.state;
         this.boundListeners = that.boundListeners;
@@ -122,6 +133,7 @@ public class EventProcessor implements Runnable, EventListener {
         this.lastEventId = builder.lastEventId;
         this.target = builder.target;
         this.disableKeepAlive = builder.disableKeepAlive;
+        this.nonBlocking = builder.nonBlocking;
         this.executor = builder.clientExecutor;
         this.state = builder.state;
         this.boundListeners = builder.boundListeners == null ? Collections.EMPTY_MAP : builder.boundListeners;
@@ -151,6 +163,11 @@ public class EventProcessor implements Runnable, EventListener {
 
     @Override
     public void run() {
+        if (nonBlocking) {
+            connect();
+            return;
+        }
+
         LOGGER.debugLog("Listener task started.");
 
         EventInput eventInput = null;
@@ -163,10 +180,7 @@ public class EventProcessor implements Runnable, EventListener {
                     LOGGER.debugLog("Connected!");
                 }
             } finally {
-                if (firstContactSignal != null) {
-                    // release the signal regardless of event source state or connection request outcome
-                    firstContactSignal.countDown();
-                }
+                releaseFirstContact();
             }
 
             final Thread execThread = Thread.currentThread();
@@ -181,24 +195,9 @@ public class EventProcessor implements Runnable, EventListener {
                 }
             }
         } catch (ServiceUnavailableException ex) {
-            LOGGER.debugLog("Received HTTP 503");
-            long delay = reconnectDelay;
-            if (ex.hasRetryAfter()) {
-                LOGGER.debugLog("Recovering from HTTP 503 using HTTP Retry-After header value as a reconnect delay");
-                final Date requestTime = new Date();
-                delay = ex.getRetryTime(requestTime).getTime() - requestTime.getTime();
-                delay = (delay > 0) ? delay : 0;
-            }
-
-            LOGGER.debugLog("Recovering from HTTP 503 - scheduling to reconnect in {0} ms", delay);
-            scheduleReconnect(delay);
+            recover(ex);
         } catch (Exception ex) {
-            if (LOGGER.isLoggable(CONNECTION_ERROR_LEVEL)) {
-                LOGGER.log(CONNECTION_ERROR_LEVEL, String.format("Unable to connect - closing the event source to %s.",
-                        target.getUri().toASCIIString()), ex);
-            }
-            // if we're here, an unrecoverable error has occurred - just turn off the lights...
-            shutdownHandler.shutdown();
+            fail(ex);
         } finally {
             if (eventInput != null && !eventInput.isClosed()) {
                 eventInput.close();
@@ -207,6 +206,123 @@ public class EventProcessor implements Runnable, EventListener {
         }
     }
 
+    /**
+     * Connect to the SSE stream asynchronously and read the events without blocking, if supported by the connector.
+     * Otherwise the events are read in the thread completing the connection request.
+     */
+    private void connect() {
+        try {
+            final Invocation.Builder request = prepareHandshakeRequest();
+            if (state.get() != State.OPEN) { // attempt to connect only if even source is open
+                releaseFirstContact();
+                return;
+            }
+
+            LOGGER.debugLog("Connecting...");
+            request.async().get(new InvocationCallback<EventInput>() {
+                @Override
+                public void completed(final EventInput input) {
+                    LOGGER.debugLog("Connected!");
+                    releaseFirstContact();
+                    read(input);
+                }
+
+                @Override
+                public void failed(final Throwable throwable) {
+                    releaseFirstContact();
+                    final Throwable cause = throwable instanceof ProcessingException && throwable.getCause() != null
+                            ? throwable.getCause() : throwable;
+                    if (cause instanceof ServiceUnavailableException) {
+                        recover((ServiceUnavailableException) cause);
+                    } else {
+                        fail(cause);
+                    }
+                }
+            });
+        } catch (Exception ex) {
+            releaseFirstContact();
+            fail(ex);
+        }
+    }
+
+    private void read(final EventInput input) {
+        if (input == null) {
+            reconnect();
+            return;
+        }
+
+        currentInput = input;
+        if (state.get() != State.OPEN) {
+            // closed while connecting
+            input.close();
+            return;
+        }
+
+        try {
+            if (input.readNonBlocking(SharedEventScheduler.getInstance()::submit, this, this::reconnect)) {
+                return;
+            }
+
+            LOGGER.debugLog("Connector does not support non-blocking reading - reading the events in a blocking manner.");
+            while (state.get() == State.OPEN && !input.isClosed()) {
+                this.onEvent(input.read());
+            }
+        } catch (Exception ex) {
+            LOGGER.log(CONNECTION_ERROR_LEVEL, ex.getMessage(), ex);
+        }
+        reconnect();
+    }
+
+    private void reconnect() {
+        final EventInput input = currentInput;
+        if (input != null && !input.isClosed()) {
+            input.close();
+        }
+        LOGGER.debugLog("Connection lost - scheduling reconnect in {0} ms", reconnectDelay);
+        scheduleReconnect(reconnectDelay);
+    }
+
+    private void recover(final ServiceUnavailableException ex) {
+        LOGGER.debugLog("Received HTTP 503");
+        long delay = reconnectDelay;
+        if (ex.hasRetryAfter()) {
+            LOGGER.debugLog("Recovering from HTTP 503 using HTTP Retry-After header value as a reconnect delay");
+            final Date requestTime = new Date();
+            delay = ex.getRetryTime(requestTime).getTime() - requestTime.getTime();
+            delay = (delay > 0) ? delay : 0;
+        }
+
+        LOGGER.debugLog("Recovering from HTTP 503 - scheduling to reconnect in {0} ms", delay);
+        scheduleReconnect(delay);
+    }
+
+    private void fail(final Throwable ex) {
+        if (LOGGER.isLoggable(CONNECTION_ERROR_LEVEL)) {
+            LOGGER.log(CONNECTION_ERROR_LEVEL, String.format("Unable to connect - closing the event source to %s.",
+                    target.getUri().toASCIIString()), ex);
+        }
+        // if we're here, an unrecoverable error has occurred - just turn off the lights...
+        shutdownHandler.shutdown();
+    }
+
+    private void releaseFirstContact() {
+        if (firstContactSignal != null) {
+            // release the signal regardless of event source state or connection request outcome
+            firstContactSignal.countDown();
+        }
+    }
+
+    /**
+     * Close the event stream read in the non-blocking mode. Invoked by the owner of the event processor
+     * once the state has been set to {@link State#CLOSED}.
+     */
+    public void disconnect() {
+        final EventInput input = currentInput;
+        if (input != null && !input.isClosed()) {
+            input.close();
+        }
+    }
+
     /**
      * Called by the event source when an inbound event is received.
      *
@@ -279,8 +395,9 @@ public class EventProcessor implements Runnable, EventListener {
             return;
         }
 
-        // propagate the current reconnectDelay, but schedule based on the delay parameter
-        final EventProcessor processor = new EventProcessor(this);
+        // propagate the current reconnectDelay, but schedule based on the delay parameter;
+        // the non-blocking processor is reused so that the owner can close the current connection
+        final EventProcessor processor = nonBlocking ? this : new EventProcessor(this);
         if (delay > 0) {
             executor.schedule(processor, delay, TimeUnit.MILLISECONDS);
         } else {
@@ -355,6 +472,7 @@ public class EventProcessor implements Runnable, EventListener {
         private TimeUnit reconnectUnit;
         private String lastEventId;
         private boolean disableKeepAlive;
+        private boolean nonBlocking;
         private List<EventListener> unboundListeners;
         private Map<String, List<EventListener>> boundListeners;
 
@@ -420,6 +538,21 @@ public class EventProcessor implements Runnable, EventListener {
             return this;
         }
 
+        /**
+         * Read the events without blocking a thread.
+         * <p>
+         * The processor connects asynchronously and reads the events as they arrive, parsing them and notifying
+         * the listeners in the {@link SharedEventScheduler shared scheduler}. The processor should then be submitted
+         * to the shared scheduler as well.
+         * </p>
+         *
+         * @return updated builder instance.
+         */
+        public Builder nonBlocking() {
+            this.nonBlocking = true;
+            return this;
+        }
+
         /**
          * Build the {@link EventProcessor}.
          *
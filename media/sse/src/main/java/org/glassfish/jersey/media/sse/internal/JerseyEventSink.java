@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,7 +19,6 @@ package org.glassfish.jersey.media.sse.internal;
 import java.io.Flushable;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
@@ -71,7 +70,8 @@ class JerseyEventSink extends ChunkedOutput<OutboundSseEvent>
         if (isClosed()) {
             subscription.cancel();
         } else {
-            subscription.request(Long.MAX_VALUE);
+            // request the next item once the previous one has been written, so that a slow client slows down the publisher
+            subscription.request(1);
         }
     }
 
@@ -84,17 +84,26 @@ class JerseyEventSink extends ChunkedOutput<OutboundSseEvent>
         try {
             checkClosed();
             MediaType implicitType = resolveMediaType(item);
+            final CompletionStage<Void> written;
             if (MediaType.SERVER_SENT_EVENTS_TYPE.equals(implicitType)) {
                 // already wrapped
-                write((OutboundSseEvent) item);
+                written = writeAsync((OutboundSseEvent) item);
             } else {
                 // implicit wrapping
                 // TODO: Jersey annotation for explicit media type
-                write(new OutboundEvent.Builder()
+                written = writeAsync(new OutboundEvent.Builder()
                         .mediaType(implicitType)
                         .data(item)
                         .build());
             }
+            written.whenComplete((result, error) -> {
+                if (error != null) {
+                    LOGGER.log(Level.SEVERE, LocalizationMessages.EVENT_SINK_NEXT_FAILED(), error);
+                    cancelSubscription();
+                } else if (!isClosed()) {
+                    subscription.request(1);
+                }
+            });
         } catch (final Throwable e) {
             // spec allows only NPE to be thrown from onNext
             LOGGER.log(Level.SEVERE, LocalizationMessages.EVENT_SINK_NEXT_FAILED(), e);
@@ -136,13 +145,11 @@ class JerseyEventSink extends ChunkedOutput<OutboundSseEvent>
     @Override
     public CompletionStage<?> send(OutboundSseEvent event) {
         checkClosed();
-        try {
-            this.write(event);
-            return CompletableFuture.completedFuture(null);
-        } catch (IOException e) {
-            CompletableFuture<Void> future = new CompletableFuture<>();
-            future.completeExceptionally(e);
-            return future;
+        // the stage completes once the event has been written, i.e. later if the client is not able to receive it yet
+        if (event instanceof SharedOutboundEvent) {
+            return writeSharedAsync(((SharedOutboundEvent) event).getSharedChunk());
+        } else {
+            return writeAsync(event);
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,12 +19,15 @@ package org.glassfish.jersey.media.sse.internal;
 import java.util.concurrent.ExecutorService;
 
 
+import jakarta.ws.rs.core.Configuration;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.sse.OutboundSseEvent;
 import jakarta.ws.rs.sse.Sse;
 import jakarta.ws.rs.sse.SseBroadcaster;
 
 import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.glassfish.jersey.server.ServerProperties;
 
 /**
  * Implementation of server-side injectable Server-Sent Event "context".
@@ -36,6 +39,9 @@ class JerseySse implements Sse {
     @Context
     private ExecutorService executorService;
 
+    @Context
+    private Configuration configuration;
+
     @Override
     public OutboundSseEvent.Builder newEventBuilder() {
         return new OutboundEvent.Builder();
@@ -43,6 +49,8 @@ class JerseySse implements Sse {
 
     @Override
     public SseBroadcaster newBroadcaster() {
-        return new JerseySseBroadcaster(executorService);
+        final boolean serializeOnce = configuration != null && ServerProperties.getValue(
+                configuration.getProperties(), SseFeature.BROADCAST_SERIALIZE_ONCE, Boolean.FALSE, Boolean.class);
+        return new JerseySseBroadcaster(executorService, serializeOnce);
     }
 }
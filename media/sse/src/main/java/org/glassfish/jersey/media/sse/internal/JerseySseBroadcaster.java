@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -31,6 +31,7 @@ import jakarta.ws.rs.sse.SseEventSink;
 import org.glassfish.jersey.internal.jsr166.Flow;
 import org.glassfish.jersey.internal.util.JerseyPublisher;
 import org.glassfish.jersey.media.sse.LocalizationMessages;
+import org.glassfish.jersey.server.SharedChunk;
 
 /**
  * Used for broadcasting SSE to multiple {@link jakarta.ws.rs.sse.SseEventSink} instances.
@@ -51,6 +52,13 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
      */
     private final CopyOnWriteArrayList<BiConsumer<SseEventSink, Throwable>> onExceptionListeners;
 
+    /**
+     * If {@code true}, each broadcast event is serialized only once for all the event sinks.
+     */
+    private final boolean serializeOnce;
+
+    private final SharedChunk.Statistics statistics = new SharedChunk.Statistics();
+
     /**
      * Package-private constructor.
      * <p>
@@ -59,6 +67,7 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
     JerseySseBroadcaster() {
         onExceptionListeners = new CopyOnWriteArrayList<>();
         onCloseListeners = new CopyOnWriteArrayList<>();
+        serializeOnce = false;
     }
 
     /**
@@ -70,9 +79,23 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
      *                        supporting creation of at least one independent thread
      */
     JerseySseBroadcaster(final ExecutorService executorService) {
+        this(executorService, false);
+    }
+
+    /**
+     * Package-private constructor.
+     * <p>
+     * The broadcaster instance should be obtained by calling {@link Sse#newBroadcaster()}, not directly.
+     *
+     * @param executorService {@code ExecutorService} the executor to use for async delivery,
+     *                        supporting creation of at least one independent thread
+     * @param serializeOnce   if {@code true}, each broadcast event is serialized only once for all the event sinks
+     */
+    JerseySseBroadcaster(final ExecutorService executorService, final boolean serializeOnce) {
         super(executorService);
         onExceptionListeners = new CopyOnWriteArrayList<>();
         onCloseListeners = new CopyOnWriteArrayList<>();
+        this.serializeOnce = serializeOnce;
     }
 
     @Override
@@ -104,9 +127,22 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
             throw new IllegalArgumentException(LocalizationMessages.PARAM_NULL("event"));
         }
 
+        if (serializeOnce) {
+            return CompletableFuture.completedFuture(
+                    publish(new SharedOutboundEvent(new SharedChunk<>(event, statistics))));
+        }
         return CompletableFuture.completedFuture(publish(event));
     }
 
+    /**
+     * Get statistics of the events broadcast with the serialize-once mode enabled.
+     *
+     * @return shared event statistics.
+     */
+    SharedChunk.Statistics getStatistics() {
+        return statistics;
+    }
+
     private void notifyOnCompleteHandlers(Flow.Subscriber<? super OutboundSseEvent> subscriber) {
         if (subscriber instanceof SseEventSinkWrapper) {
             onCloseListeners.forEach((listener) -> listener.accept(((SseEventSinkWrapper) subscriber).sseEventSink));
@@ -123,6 +159,7 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
     private class SseEventSinkWrapper implements Flow.Subscriber<OutboundSseEvent> {
 
         private final SseEventSink sseEventSink;
+        private volatile Flow.Subscription subscription;
 
         SseEventSinkWrapper(SseEventSink sseEventSink) {
             this.sseEventSink = sseEventSink;
@@ -130,13 +167,19 @@ class JerseySseBroadcaster extends JerseyPublisher<OutboundSseEvent> implements
 
         @Override
         public void onSubscribe(final Flow.Subscription subscription) {
-            // TODO JAX-RS 2.1
-            subscription.request(Long.MAX_VALUE);
+            this.subscription = subscription;
+            // request the next event once the previous one has been written, events for a slow client are buffered
+            // by the publisher up to its buffer capacity
+            subscription.request(1);
         }
 
         @Override
         public void onNext(final OutboundSseEvent item) {
-            sseEventSink.send(item);
+            sseEventSink.send(item).whenComplete((result, error) -> {
+                if (error == null) {
+                    subscription.request(1);
+                }
+            });
         }
 
         @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -31,7 +31,9 @@ import org.glassfish.jersey.client.ClientExecutor;
 import org.glassfish.jersey.client.JerseyWebTarget;
 import org.glassfish.jersey.internal.jsr166.Flow;
 import org.glassfish.jersey.internal.util.JerseyPublisher;
+import org.glassfish.jersey.internal.util.PropertiesHelper;
 import org.glassfish.jersey.media.sse.LocalizationMessages;
+import org.glassfish.jersey.media.sse.SseFeature;
 
 /**
  * {@code SseEventSource} implementation.
@@ -72,6 +74,14 @@ public class JerseySseEventSource implements SseEventSource {
      * Client provided executor facade.
      */
     private final ClientExecutor clientExecutor;
+    /**
+     * Flag indicating if the events should be read without blocking a thread.
+     */
+    private final boolean nonBlocking;
+    /**
+     * Event processor of the open event source.
+     */
+    private volatile EventProcessor processor;
 
     /**
      * Private constructor.
@@ -88,6 +98,7 @@ public class JerseySseEventSource implements SseEventSource {
         this.reconnectDelay = reconnectDelay;
         this.reconnectTimeUnit = reconnectTimeUnit;
         this.clientExecutor = endpoint.getConfiguration().getClientExecutor();
+        this.nonBlocking = PropertiesHelper.isProperty(endpoint.getConfiguration().getProperty(SseFeature.NON_BLOCKING_CLIENT));
         this.publisher = new JerseyPublisher<>(clientExecutor::submit, JerseyPublisher.PublisherStrategy.BLOCKING);
     }
 
@@ -170,11 +181,23 @@ public class JerseySseEventSource implements SseEventSource {
         }
 
 
-        EventProcessor processor = EventProcessor
-                .builder(endpoint, state, clientExecutor, this::onEvent, this::close)
+        final EventProcessor.Builder builder;
+        if (nonBlocking) {
+            builder = EventProcessor
+                    .builder(endpoint, state, SharedEventScheduler.getInstance(), this::onEvent, this::close)
+                    .nonBlocking();
+        } else {
+            builder = EventProcessor.builder(endpoint, state, clientExecutor, this::onEvent, this::close);
+        }
+        final EventProcessor processor = builder
                 .reconnectDelay(reconnectDelay, reconnectTimeUnit)
                 .build();
-        clientExecutor.submit(processor);
+        this.processor = processor;
+        if (nonBlocking) {
+            SharedEventScheduler.getInstance().submit(processor);
+        } else {
+            clientExecutor.submit(processor);
+        }
 
         // return only after the first request to the SSE endpoint has been made
         processor.awaitFirstContact();
@@ -188,6 +211,10 @@ public class JerseySseEventSource implements SseEventSource {
     @Override
     public boolean close(final long timeout, final TimeUnit unit) {
         if (state.getAndSet(EventProcessor.State.CLOSED) != EventProcessor.State.CLOSED) {
+            final EventProcessor processor = this.processor;
+            if (nonBlocking && processor != null) {
+                processor.disconnect();
+            }
             publisher.close();
         }
         return true;
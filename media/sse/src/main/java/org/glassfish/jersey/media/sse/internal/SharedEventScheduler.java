@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.media.sse.internal;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.client.ClientExecutor;
+import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
+
+/**
+ * Scheduler shared by all event sources running in the non-blocking mode (see
+ * {@link org.glassfish.jersey.media.sse.SseFeature#NON_BLOCKING_CLIENT}).
+ * <p>
+ * The scheduler parses the incoming events, notifies the event listeners and runs the connect and reconnect tasks
+ * of all the non-blocking event sources on a small pool of daemon threads. None of the tasks blocks while waiting
+ * for data, reconnect delays are kept as timers in the delay queue of the pool. The pool is created on the first use
+ * and is never shut down.
+ * </p>
+ */
+public final class SharedEventScheduler implements ClientExecutor {
+
+    private static final int THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    private SharedEventScheduler() {
+        executor = new ScheduledThreadPoolExecutor(THREADS, new ThreadFactoryBuilder()
+                .setNameFormat("jersey-sse-event-scheduler-%d")
+                .setDaemon(true)
+                .build());
+        // cancelled reconnect timers of closed event sources should not stay in the queue until they expire
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Get the shared scheduler instance.
+     *
+     * @return shared scheduler.
+     */
+    public static SharedEventScheduler getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    @Override
+    public <T> Future<T> submit(final Callable<T> task) {
+        return executor.submit(task);
+    }
+
+    @Override
+    public Future<?> submit(final Runnable task) {
+        return executor.submit(task);
+    }
+
+    @Override
+    public <T> Future<T> submit(final Runnable task, final T result) {
+        return executor.submit(task, result);
+    }
+
+    @Override
+    public <T> ScheduledFuture<T> schedule(final Callable<T> callable, final long delay, final TimeUnit unit) {
+        return executor.schedule(callable, delay, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+        return executor.schedule(command, delay, unit);
+    }
+
+    /**
+     * Lazy initialization holder.
+     */
+    private static final class Holder {
+
+        private static final SharedEventScheduler INSTANCE = new SharedEventScheduler();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.media.sse.internal;
+
+import java.lang.reflect.Type;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+
+import org.glassfish.jersey.server.SharedChunk;
+
+/**
+ * Outbound event broadcast to multiple event sinks, that is serialized only once.
+ * <p>
+ * The Jersey {@link JerseyEventSink event sinks} write the {@link SharedChunk shared} serialized event, the other
+ * {@link jakarta.ws.rs.sse.SseEventSink} implementations get the event data of the delegate event.
+ *
+ * @see org.glassfish.jersey.media.sse.SseFeature#BROADCAST_SERIALIZE_ONCE
+ */
+final class SharedOutboundEvent implements OutboundSseEvent {
+
+    private final SharedChunk<OutboundSseEvent> sharedChunk;
+    private final OutboundSseEvent event;
+
+    SharedOutboundEvent(final SharedChunk<OutboundSseEvent> sharedChunk) {
+        this.sharedChunk = sharedChunk;
+        this.event = sharedChunk.getChunk();
+    }
+
+    /**
+     * Get the shared event.
+     *
+     * @return shared event.
+     */
+    SharedChunk<OutboundSseEvent> getSharedChunk() {
+        return sharedChunk;
+    }
+
+    @Override
+    public Class<?> getType() {
+        return event.getType();
+    }
+
+    @Override
+    public Type getGenericType() {
+        return event.getGenericType();
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return event.getMediaType();
+    }
+
+    @Override
+    public Object getData() {
+        return event.getData();
+    }
+
+    @Override
+    public String getId() {
+        return event.getId();
+    }
+
+    @Override
+    public String getName() {
+        return event.getName();
+    }
+
+    @Override
+    public String getComment() {
+        return event.getComment();
+    }
+
+    @Override
+    public long getReconnectDelay() {
+        return event.getReconnectDelay();
+    }
+
+    @Override
+    public boolean isReconnectDelaySet() {
+        return event.isReconnectDelaySet();
+    }
+
+    @Override
+    public String toString() {
+        return event.toString();
+    }
+}
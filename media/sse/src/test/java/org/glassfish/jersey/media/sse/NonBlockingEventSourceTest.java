@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.media.sse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.sse.SseEventSource;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.spi.NonBlockingInput;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the non-blocking mode of the {@link EventSource} and {@link SseEventSource} implementations.
+ */
+public class NonBlockingEventSourceTest extends JerseyTest {
+
+    private static final String SCHEDULER_THREAD = "jersey-sse-event-scheduler";
+    private static final AtomicBoolean CONCURRENT_READ = new AtomicBoolean();
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(EventsResource.class);
+    }
+
+    @Override
+    protected void configureClient(ClientConfig config) {
+        config.register(SseFeature.class);
+    }
+
+    @Test
+    public void testEventSourceReconnects() throws InterruptedException {
+        final WebTarget events = target("events").register(NonBlockingStreamFilter.class);
+        final List<String> data = new CopyOnWriteArrayList<>();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final CountDownLatch reconnected = new CountDownLatch(1);
+
+        final EventSource eventSource = EventSource.target(events)
+                .nonBlocking()
+                .reconnectingEvery(100, TimeUnit.MILLISECONDS)
+                .build();
+        eventSource.register(event -> {
+            data.add(event.readData());
+            threads.add(Thread.currentThread().getName());
+            if (event.readData().startsWith("reconnected")) {
+                reconnected.countDown();
+            }
+        });
+        eventSource.open();
+        try {
+            assertTrue(reconnected.await(5, TimeUnit.SECONDS));
+        } finally {
+            assertTrue(eventSource.close(1, TimeUnit.SECONDS));
+        }
+
+        assertEquals(Arrays.asList("event-0", "event-1", "event-2", "reconnected-2"), data.subList(0, 4));
+        assertTrue(threads.stream().allMatch(name -> name.startsWith(SCHEDULER_THREAD)), threads.toString());
+        assertFalse(eventSource.isOpen());
+    }
+
+    @Test
+    public void testSseEventSource() throws InterruptedException {
+        final WebTarget events = target("events")
+                .property(SseFeature.NON_BLOCKING_CLIENT, true)
+                .register(NonBlockingStreamFilter.class);
+        final List<String> data = new CopyOnWriteArrayList<>();
+        final CountDownLatch received = new CountDownLatch(3);
+
+        try (SseEventSource eventSource = SseEventSource.target(events).reconnectingEvery(100, TimeUnit.MILLISECONDS).build()) {
+            eventSource.register(event -> {
+                data.add(event.readData());
+                received.countDown();
+            });
+            eventSource.open();
+            assertTrue(received.await(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(Arrays.asList("event-0", "event-1", "event-2"), data.subList(0, 3));
+    }
+
+    @Test
+    public void testSpuriousNotifications() throws InterruptedException {
+        CONCURRENT_READ.set(false);
+        final WebTarget events = target("events").register(SpuriousNotificationStreamFilter.class);
+        final List<String> data = new CopyOnWriteArrayList<>();
+        final CountDownLatch received = new CountDownLatch(3);
+
+        final EventSource eventSource = EventSource.target(events).nonBlocking().build();
+        eventSource.register(event -> {
+            data.add(event.readData());
+            received.countDown();
+        });
+        eventSource.open();
+        try {
+            assertTrue(received.await(5, TimeUnit.SECONDS));
+        } finally {
+            eventSource.close();
+        }
+
+        assertEquals(Arrays.asList("event-0", "event-1", "event-2"), data.subList(0, 3));
+        assertFalse(CONCURRENT_READ.get(), "The entity stream was read by concurrent tasks.");
+    }
+
+    @Test
+    public void testBlockingConnectorFallback() throws InterruptedException {
+        final List<String> data = new CopyOnWriteArrayList<>();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final CountDownLatch received = new CountDownLatch(3);
+
+        final EventSource eventSource = EventSource.target(target("events")).nonBlocking().build();
+        eventSource.register(event -> {
+            data.add(event.readData());
+            threads.add(Thread.currentThread().getName());
+            received.countDown();
+        });
+        eventSource.open();
+        try {
+            assertTrue(received.await(5, TimeUnit.SECONDS));
+        } finally {
+            eventSource.close();
+        }
+
+        assertEquals(Arrays.asList("event-0", "event-1", "event-2"), data.subList(0, 3));
+        assertTrue(threads.stream().noneMatch(name -> name.startsWith(SCHEDULER_THREAD)), threads.toString());
+    }
+
+    @Path("events")
+    public static class EventsResource {
+
+        @GET
+        @Produces(SseFeature.SERVER_SENT_EVENTS)
+        public EventOutput events(@HeaderParam(SseFeature.LAST_EVENT_ID_HEADER) final String lastEventId) {
+            final EventOutput output = new EventOutput();
+            new Thread(() -> {
+                try {
+                    if (lastEventId == null) {
+                        for (int i = 0; i < 3; i++) {
+                            output.write(new OutboundEvent.Builder().id(String.valueOf(i)).data("event-" + i).build());
+                            Thread.sleep(20);
+                        }
+                    } else {
+                        output.write(new OutboundEvent.Builder().data("reconnected-" + lastEventId).build());
+                    }
+                } catch (IOException | InterruptedException e) {
+                    // the client disconnected
+                } finally {
+                    try {
+                        output.close();
+                    } catch (IOException e) {
+                        // ignore
+                    }
+                }
+            }).start();
+            return output;
+        }
+    }
+
+    /**
+     * Replaces the SSE response entity stream with a stream that can be read without blocking, as provided
+     * by the connectors receiving the response entity asynchronously.
+     */
+    public static class NonBlockingStreamFilter implements ClientResponseFilter {
+
+        @Override
+        public void filter(final ClientRequestContext requestContext, final ClientResponseContext responseContext) {
+            if (SseFeature.SERVER_SENT_EVENTS_TYPE.isCompatible(responseContext.getMediaType())) {
+                responseContext.setEntityStream(new NonBlockingStream(responseContext.getEntityStream()));
+            }
+        }
+    }
+
+    /**
+     * Replaces the SSE response entity stream with a non-blocking stream that notifies the read listener whenever
+     * it reports to be ready, i.e. when the listener is not waiting for the data.
+     */
+    public static class SpuriousNotificationStreamFilter implements ClientResponseFilter {
+
+        @Override
+        public void filter(final ClientRequestContext requestContext, final ClientResponseContext responseContext) {
+            if (SseFeature.SERVER_SENT_EVENTS_TYPE.isCompatible(responseContext.getMediaType())) {
+                responseContext.setEntityStream(new NonBlockingStream(responseContext.getEntityStream(), true));
+            }
+        }
+    }
+
+    /**
+     * Stream fed by a pump thread reading the original entity stream.
+     */
+    private static class NonBlockingStream extends InputStream implements NonBlockingInput {
+
+        private final InputStream original;
+        private final boolean spurious;
+        private final ArrayDeque<byte[]> chunks = new ArrayDeque<>();
+        private final AtomicInteger readers = new AtomicInteger();
+        private boolean end;
+        private boolean awaiting;
+        private ReadListener listener;
+
+        private NonBlockingStream(final InputStream original) {
+            this(original, false);
+        }
+
+        private NonBlockingStream(final InputStream original, final boolean spurious) {
+            this.original = original;
+            this.spurious = spurious;
+            final Thread pump = new Thread(() -> {
+                final byte[] buffer = new byte[16];
+                try {
+                    int read;
+                    while ((read = original.read(buffer)) >= 0) {
+                        publish(Arrays.copyOf(buffer, read));
+                    }
+                } catch (IOException e) {
+                    // end of the stream
+                } finally {
+                    publish(null);
+                }
+            });
+            pump.setDaemon(true);
+            pump.start();
+        }
+
+        private void publish(final byte[] chunk) {
+            final ReadListener notified;
+            synchronized (this) {
+                if (chunk == null) {
+                    end = true;
+                } else if (chunk.length > 0) {
+                    chunks.add(chunk);
+                }
+                notified = awaiting ? listener : null;
+                awaiting = false;
+            }
+            if (notified != null) {
+                notified.onDataAvailable();
+            }
+        }
+
+        @Override
+        public synchronized boolean setReadListener(final ReadListener listener) {
+            this.listener = listener;
+            return true;
+        }
+
+        @Override
+        public boolean isReady() {
+            final ReadListener notified;
+            synchronized (this) {
+                if (chunks.isEmpty() && !end) {
+                    awaiting = true;
+                    return false;
+                }
+                notified = spurious ? listener : null;
+            }
+            if (notified != null) {
+                // as if data published during a successful re-check notified the listener
+                notified.onDataAvailable();
+            }
+            return true;
+        }
+
+        @Override
+        public int read() {
+            final byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (readers.incrementAndGet() > 1) {
+                CONCURRENT_READ.set(true);
+            }
+            try {
+                if (spurious) {
+                    // widen the window for a concurrent read
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                }
+                return poll(b, off, len);
+            } finally {
+                readers.decrementAndGet();
+            }
+        }
+
+        private synchronized int poll(final byte[] b, final int off, final int len) {
+            final byte[] chunk = chunks.poll();
+            if (chunk == null) {
+                return end ? -1 : 0;
+            }
+            final int read = Math.min(len, chunk.length);
+            System.arraycopy(chunk, 0, b, off, read);
+            if (read < chunk.length) {
+                chunks.addFirst(Arrays.copyOfRange(chunk, read, chunk.length));
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            original.close();
+        }
+    }
+}
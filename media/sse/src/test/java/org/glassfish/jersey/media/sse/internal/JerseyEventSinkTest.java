@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,7 +16,32 @@
 
 package org.glassfish.jersey.media.sse.internal;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
 import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.spi.ContainerResponseWriter;
+import org.glassfish.jersey.server.spi.NonBlockingOutput;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -34,4 +59,146 @@ public class JerseyEventSinkTest {
             eventSink.send(null);
         });
     }
+
+    @Test
+    public void testRequestsNextEventOnceWritten() throws Exception {
+        final NonBlockingStream stream = new NonBlockingStream();
+        final ApplicationHandler handler = new ApplicationHandler(new ResourceConfig(SseEndpoint.class));
+        final ContainerRequest request = new ContainerRequest(URI.create("/"), URI.create("/sse"), "GET",
+                new NoSecurityContext(), new MapPropertiesDelegate(), handler.getConfiguration());
+        request.setWriter(new Writer(stream));
+        handler.handle(request);
+
+        final JerseyEventSink eventSink = (JerseyEventSink) SseEndpoint.eventSink;
+        final AtomicInteger requested = new AtomicInteger();
+        eventSink.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(final long n) {
+                requested.addAndGet((int) n);
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        Assertions.assertEquals(1, requested.get());
+
+        eventSink.onNext("first");
+        Assertions.assertTrue(stream.content().contains("data: first"));
+        Assertions.assertEquals(2, requested.get());
+
+        // the client does not keep up, the publisher must not be asked for more events until the event is written
+        stream.ready = false;
+        eventSink.onNext("second");
+        Assertions.assertFalse(stream.content().contains("data: second"));
+        Assertions.assertEquals(2, requested.get());
+
+        stream.ready = true;
+        stream.listener.onWritePossible();
+        Assertions.assertTrue(stream.content().contains("data: second"));
+        Assertions.assertEquals(3, requested.get());
+
+        eventSink.close();
+        Assertions.assertTrue(stream.closed);
+        Assertions.assertEquals(3, requested.get());
+    }
+
+    @Singleton
+    @Path("sse")
+    public static class SseEndpoint {
+
+        private static volatile SseEventSink eventSink;
+
+        @GET
+        @Produces(SseFeature.SERVER_SENT_EVENTS)
+        public void get(@Context final SseEventSink eventSink) {
+            SseEndpoint.eventSink = eventSink;
+        }
+    }
+
+    private static class NonBlockingStream extends ByteArrayOutputStream implements NonBlockingOutput {
+
+        private volatile boolean ready = true;
+        private volatile boolean closed;
+        private volatile WriteListener listener;
+
+        @Override
+        public boolean setWriteListener(final WriteListener listener) {
+            this.listener = listener;
+            return true;
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        String content() {
+            return toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static class Writer implements ContainerResponseWriter {
+
+        private final OutputStream stream;
+
+        Writer(final OutputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public OutputStream writeResponseStatusAndHeaders(final long contentLength, final ContainerResponse responseContext) {
+            return stream;
+        }
+
+        @Override
+        public boolean suspend(final long timeOut, final TimeUnit timeUnit, final TimeoutHandler timeoutHandler) {
+            return true;
+        }
+
+        @Override
+        public void setSuspendTimeout(final long timeOut, final TimeUnit timeUnit) {
+        }
+
+        @Override
+        public void commit() {
+        }
+
+        @Override
+        public void failure(final Throwable error) {
+        }
+
+        @Override
+        public boolean enableResponseBuffering() {
+            return false;
+        }
+    }
+
+    private static class NoSecurityContext implements SecurityContext {
+
+        @Override
+        public Principal getUserPrincipal() {
+            return null;
+        }
+
+        @Override
+        public boolean isUserInRole(final String role) {
+            return false;
+        }
+
+        @Override
+        public boolean isSecure() {
+            return false;
+        }
+
+        @Override
+        public String getAuthenticationScheme() {
+            return null;
+        }
+    }
 }
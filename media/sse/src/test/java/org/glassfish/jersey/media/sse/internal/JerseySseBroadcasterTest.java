@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,6 +18,7 @@ package org.glassfish.jersey.media.sse.internal;
 
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import jakarta.ws.rs.sse.OutboundSseEvent;
@@ -125,4 +126,37 @@ public class JerseySseBroadcasterTest {
         }
     }
 
+    @Test
+    public void testSerializeOnceForeignSink() throws InterruptedException {
+        try (JerseySseBroadcaster broadcaster = new JerseySseBroadcaster(ForkJoinPool.commonPool(), true)) {
+
+            final CountDownLatch latch = new CountDownLatch(1);
+
+            broadcaster.register(new SseEventSink() {
+                @Override
+                public boolean isClosed() {
+                    return false;
+                }
+
+                @Override
+                public CompletionStage<?> send(OutboundSseEvent event) {
+                    if ("ping".equals(event.getData()) && "name".equals(event.getName())) {
+                        latch.countDown();
+                    }
+                    return null;
+                }
+
+                @Override
+                public void close() {
+
+                }
+            });
+
+            broadcaster.broadcast(new JerseySse().newEventBuilder().name("name").data("ping").build());
+            Assertions.assertTrue(latch.await(2000, TimeUnit.MILLISECONDS));
+            // the sink is not a Jersey event sink, the event has not been serialized by the broadcaster
+            Assertions.assertEquals(0, broadcaster.getStatistics().getEncodedChunkCount());
+        }
+    }
+
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.e2e.sse;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseBroadcaster;
+import jakarta.ws.rs.sse.SseEventSink;
+import jakarta.ws.rs.sse.SseEventSource;
+
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JAX-RS {@link SseBroadcaster} test with {@link SseFeature#BROADCAST_SERIALIZE_ONCE} enabled.
+ */
+public class SerializeOnceBroadcasterTest extends JerseyTest {
+
+    private static final int SINKS = 3;
+
+    private static final CountDownLatch registeredLatch = new CountDownLatch(SINKS);
+
+    @Path("sse")
+    @Singleton
+    public static class SseResource {
+        private final Sse sse;
+        private final SseBroadcaster broadcaster;
+
+        public SseResource(@Context final Sse sse) {
+            this.sse = sse;
+            this.broadcaster = sse.newBroadcaster();
+        }
+
+        @GET
+        @Produces(MediaType.SERVER_SENT_EVENTS)
+        @Path("events")
+        public void getServerSentEvents(@Context final SseEventSink eventSink) {
+            eventSink.send(sse.newEventBuilder().data("welcome").build());
+            broadcaster.register(eventSink);
+            registeredLatch.countDown();
+        }
+
+        @GET
+        @Path("push/{msg}")
+        public String pushMessage(@PathParam("msg") final String msg) {
+            broadcaster.broadcast(sse.newEventBuilder().name("msg").id(msg).data(msg).build());
+            return msg;
+        }
+
+        @GET
+        @Path("close")
+        public String close() {
+            broadcaster.close();
+            return "closed";
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(SseResource.class)
+                .property(ServerProperties.WADL_FEATURE_DISABLE, true)
+                .property(SseFeature.BROADCAST_SERIALIZE_ONCE, true);
+    }
+
+    @Test
+    public void testBroadcast() throws InterruptedException {
+        final CountDownLatch eventsLatch = new CountDownLatch(SINKS * 3);
+        final List<List<String>> results = new CopyOnWriteArrayList<>();
+        final SseEventSource[] sources = new SseEventSource[SINKS];
+
+        for (int i = 0; i < SINKS; i++) {
+            final List<String> result = new CopyOnWriteArrayList<>();
+            results.add(result);
+
+            sources[i] = SseEventSource.target(target().path("sse/events")).build();
+            sources[i].register(event -> {
+                result.add(event.getName() + ":" + event.getId() + ":" + event.readData());
+                eventsLatch.countDown();
+            });
+            sources[i].open();
+        }
+
+        Assertions.assertTrue(registeredLatch.await(5, TimeUnit.SECONDS));
+
+        target().path("sse/push/first").request().get(String.class);
+        target().path("sse/push/second").request().get(String.class);
+
+        Assertions.assertTrue(eventsLatch.await(5, TimeUnit.SECONDS));
+        for (final List<String> result : results) {
+            Assertions.assertEquals(3, result.size());
+            Assertions.assertEquals("null:null:welcome", result.get(0));
+            Assertions.assertEquals("msg:first:first", result.get(1));
+            Assertions.assertEquals("msg:second:second", result.get(2));
+        }
+
+        target().path("sse/close").request().get(String.class);
+        for (final SseEventSource source : sources) {
+            source.close();
+        }
+    }
+}
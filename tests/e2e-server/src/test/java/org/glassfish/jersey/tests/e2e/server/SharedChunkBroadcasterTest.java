@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.e2e.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.server.Broadcaster;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.SharedChunk;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test {@link Broadcaster} serializing each broadcast chunk only once.
+ */
+public class SharedChunkBroadcasterTest extends JerseyTest {
+
+    static final Broadcaster<String> broadcaster = new Broadcaster<>(true);
+
+    @Path("/test")
+    public static class MyResource {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public ChunkedOutput<String> get() {
+            return register();
+        }
+
+        @GET
+        @Path("html")
+        @Produces(MediaType.TEXT_HTML)
+        public ChunkedOutput<String> getHtml() {
+            return register();
+        }
+
+        @POST
+        public String post(final String text) {
+            broadcaster.broadcast(text);
+            return text;
+        }
+
+        private static ChunkedOutput<String> register() {
+            final ChunkedOutput<String> result = new ChunkedOutput<String>(String.class, "|");
+
+            // write something to ensure the client does not get blocked on waiting for the first byte
+            try {
+                result.write("first");
+            } catch (final IOException e) {
+                throw new RuntimeException(e);
+            }
+
+            broadcaster.add(result);
+            return result;
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(MyResource.class);
+    }
+
+    @Test
+    public void testSerializeOnce() throws IOException {
+        final InputStream is1 = target("test").request().get(InputStream.class);
+        final InputStream is2 = target("test").request().get(InputStream.class);
+        final InputStream is3 = target("test").request().get(InputStream.class);
+        final InputStream html = target("test/html").request().get(InputStream.class);
+
+        target("test").request().post(Entity.text("text1"));
+        checkStream("first|text1|", is1, is2, is3, html);
+
+        target("test").request().post(Entity.text("text2"));
+        checkStream("text2|", is1, is2, is3, html);
+
+        final SharedChunk.Statistics statistics = broadcaster.getStatistics();
+        assertEquals(2, statistics.getEncodedChunkCount());
+        assertEquals(6, statistics.getSharedWriteCount());
+        assertEquals(2, statistics.getOutputWriteCount());
+
+        broadcaster.closeAll();
+    }
+
+    private static void checkStream(final String golden, final InputStream... inputStreams) throws IOException {
+        final byte[] bytes = golden.getBytes();
+        final byte[] entity = new byte[bytes.length];
+        for (final InputStream is : inputStreams) {
+            int bytesRead = 0;
+            int previous = 0;
+            while ((bytesRead += is.read(entity, bytesRead, entity.length - bytesRead)) < entity.length
+                    && previous != bytesRead) {
+                previous = bytesRead;
+            }
+            assertEquals(golden, new String(entity));
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,7 +18,9 @@ package org.glassfish.jersey.tests.e2e.server.mvc.spi;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Reader;
@@ -61,7 +63,8 @@ import org.junit.platform.suite.api.Suite;
         AbstractTemplateProcessorTest.CachePositiveTest.class,
         AbstractTemplateProcessorTest.CachePositiveStringTest.class,
         AbstractTemplateProcessorTest.CacheNegativeTest.class,
-        AbstractTemplateProcessorTest.CacheInvalidTest.class
+        AbstractTemplateProcessorTest.CacheInvalidTest.class,
+        AbstractTemplateProcessorTest.CacheCheckIntervalTest.class
 })
 public class AbstractTemplateProcessorTest {
 
@@ -253,4 +256,38 @@ public class AbstractTemplateProcessorTest {
             super("invalid");
         }
     }
+
+    public static class CacheCheckIntervalTest extends JerseyTest {
+
+        public CacheCheckIntervalTest() throws TestContainerException {
+            super(new ResourceConfig(Resource.class)
+                    .register(MvcFeature.class)
+                    .register(CacheTemplateProcessor.class)
+                    .property(MvcFeature.CACHE_TEMPLATES, true)
+                    .property(MvcFeature.CACHE_CHECK_INTERVAL, 0));
+        }
+
+        @Test
+        public void testModifiedTemplateResolvedAgain() throws Exception {
+            final File template = new File(AbstractTemplateProcessorTest.class
+                    .getResource("AbstractTemplateProcessorTest/Resource/index.fct").toURI());
+            final long lastModified = template.lastModified();
+
+            try {
+                Response response = target().request().get();
+                assertThat(response.readEntity(String.class), is("0"));
+
+                response = target().request().get();
+                assertThat(response.readEntity(String.class), is("0"));
+
+                assertTrue(template.setLastModified(lastModified + 10000));
+
+                response = target().request().get();
+                assertThat(response.getStatus(), is(200));
+                assertThat(response.readEntity(String.class), is("1"));
+            } finally {
+                template.setLastModified(lastModified);
+            }
+        }
+    }
 }
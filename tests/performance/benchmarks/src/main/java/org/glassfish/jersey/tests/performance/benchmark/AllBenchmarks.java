@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -33,8 +33,17 @@ public class AllBenchmarks {
         final Options opt = new OptionsBuilder()
                 // Register our benchmarks.
                 .include(ClientBenchmark.class.getSimpleName())
+                .include(ProxyClientBenchmark.class.getSimpleName())
 //                .include(JacksonBenchmark.class.getSimpleName())
+//                .include(JacksonConcurrencyBenchmark.class.getSimpleName())
+                .include(JaxbBenchmark.class.getSimpleName())
+                .include(HttpDateFormatBenchmark.class.getSimpleName())
                 .include(LocatorBenchmark.class.getSimpleName())
+                .include(RoutingBenchmark.class.getSimpleName())
+                .include(FilterBenchmark.class.getSimpleName())
+                .include(EncodingBenchmark.class.getSimpleName())
+                .include(ScanningBenchmark.class.getSimpleName())
+                .include(VirtualThreadsBenchmark.class.getSimpleName())
                 .include(JerseyUriBuilderBenchmark.class.getSimpleName())
                 .include(HeadersServerBenchmark.class.getName())
                 // Measure throughput in seconds (ops/s).
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.glassfish.jersey.message.GZipEncoder;
+import org.glassfish.jersey.message.MessageProperties;
+import org.glassfish.jersey.message.internal.CompressionPool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * {@link GZipEncoder} benchmark comparing the pooled deflaters and inflaters with a new {@link GZIPOutputStream}
+ * and {@link GZIPInputStream} per entity for JSON payloads of typical sizes and several compression levels.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 8, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 8, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+@Threads(4)
+public class EncodingBenchmark {
+
+    @Param(value = {"1024", "16384", "131072"})
+    private int size;
+
+    @Param(value = {"-1", "1", "9"})
+    private int level;
+
+    private volatile byte[] payload;
+    private volatile byte[] compressed;
+    private volatile CompressionPool pool;
+
+    @Setup
+    public void setUp() throws IOException {
+        final StringBuilder json = new StringBuilder("[");
+        for (int i = 0; json.length() < size; i++) {
+            json.append("{\"id\":").append(i)
+                    .append(",\"name\":\"Item ").append(i)
+                    .append("\",\"price\":").append(i % 100).append('.').append(i % 10)
+                    .append(",\"available\":").append(i % 3 == 0)
+                    .append("},");
+        }
+        payload = json.substring(0, size).getBytes(StandardCharsets.UTF_8);
+
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put(MessageProperties.ENCODING_COMPRESSION_LEVEL, level);
+        pool = CompressionPool.create(properties);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        }
+        compressed = out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encodePooled() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+        try (OutputStream gzip = pool.gzipOutputStream(out)) {
+            gzip.write(payload);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encodeJdk() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+        try (OutputStream gzip = new LevelGZIPOutputStream(out, level)) {
+            gzip.write(payload);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public long decodePooled() throws IOException {
+        try (InputStream gzip = pool.gzipInputStream(new ByteArrayInputStream(compressed))) {
+            return drain(gzip);
+        }
+    }
+
+    @Benchmark
+    public long decodeJdk() throws IOException {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return drain(gzip);
+        }
+    }
+
+    private static long drain(final InputStream in) throws IOException {
+        final byte[] buffer = new byte[8192];
+        long total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            total += read;
+        }
+        return total;
+    }
+
+    private static final class LevelGZIPOutputStream extends GZIPOutputStream {
+
+        private LevelGZIPOutputStream(final OutputStream out, final int level) throws IOException {
+            super(out, 8192);
+            def.setLevel(level);
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(EncodingBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
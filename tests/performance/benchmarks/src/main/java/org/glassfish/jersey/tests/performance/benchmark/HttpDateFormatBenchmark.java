@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.message.internal.HttpDateFormat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * {@link HttpDateFormat} benchmark comparing the HTTP date codec with the former implementation based on thread-local
+ * {@link SimpleDateFormat} instances.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 8, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 8, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+@Threads(4)
+public class HttpDateFormatBenchmark {
+
+    private static final ThreadLocal<List<SimpleDateFormat>> DATE_FORMATS = ThreadLocal.withInitial(() -> {
+        final SimpleDateFormat[] formats = new SimpleDateFormat[]{
+                new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US),
+                new SimpleDateFormat("EEEE, dd-MMM-yy HH:mm:ss zzz", Locale.US),
+                new SimpleDateFormat("EEE MMM d HH:mm:ss yyyy", Locale.US)
+        };
+        for (final SimpleDateFormat format : formats) {
+            format.setTimeZone(TimeZone.getTimeZone("GMT"));
+        }
+        return Collections.unmodifiableList(Arrays.asList(formats));
+    });
+
+    @Param(value = {"Sun, 06 Nov 1994 08:49:37 GMT", "Sunday, 06-Nov-94 08:49:37 GMT", "Sun Nov  6 08:49:37 1994"})
+    private String date;
+
+    @Benchmark
+    public Date readDate() throws ParseException {
+        return HttpDateFormat.readDate(date);
+    }
+
+    @Benchmark
+    public Date readDateSimpleDateFormat() throws ParseException {
+        ParseException pe = null;
+        for (final SimpleDateFormat format : DATE_FORMATS.get()) {
+            try {
+                return format.parse(date);
+            } catch (final ParseException e) {
+                pe = (pe == null) ? e : pe;
+            }
+        }
+        throw pe;
+    }
+
+    @Benchmark
+    public String formatCurrentDate() {
+        return HttpDateFormat.formatDate(new Date());
+    }
+
+    @Benchmark
+    public String formatCurrentDateSimpleDateFormat() {
+        return ((SimpleDateFormat) DATE_FORMATS.get().get(0).clone()).format(new Date());
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(HttpDateFormatBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
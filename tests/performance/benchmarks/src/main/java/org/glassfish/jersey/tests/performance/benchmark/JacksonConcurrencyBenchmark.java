@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.test.util.server.ContainerRequestBuilder;
+import org.glassfish.jersey.tests.performance.benchmark.entity.json.JacksonApplication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Multi-threaded Jackson {@link org.glassfish.jersey.server.ApplicationHandler} benchmark measuring how the JSON
+ * serialization throughput scales with the number of threads (i.e. the contention on the shared Jackson provider caches).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 8, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 8, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonConcurrencyBenchmark {
+
+    @Param(value = {"projects/basic", "projects/detailed"})
+    private String path;
+
+    private volatile ApplicationHandler handler;
+
+    @Setup
+    public void start() throws Exception {
+        handler = new ApplicationHandler(new JacksonApplication(false));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ContainerResponse threads1() throws Exception {
+        return measure();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ContainerResponse threads4() throws Exception {
+        return measure();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public ContainerResponse threads16() throws Exception {
+        return measure();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public ContainerResponse threads64() throws Exception {
+        return measure();
+    }
+
+    private ContainerResponse measure() throws Exception {
+        return handler.apply(ContainerRequestBuilder.from(path, "GET", handler.getConfiguration()).build()).get();
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(JacksonConcurrencyBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.test.util.server.ContainerRequestBuilder;
+import org.glassfish.jersey.tests.performance.benchmark.entity.xml.JaxbApplication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JAXB {@link org.glassfish.jersey.server.ApplicationHandler} benchmark based on the {@code mbw-xml-jaxb} performance test
+ * case, comparing new marshallers and unmarshallers for each entity ({@code poolSize} {@code 0}) with the pooled ones.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 8, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 8, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+@Threads(8)
+public class JaxbBenchmark {
+
+    private static final byte[] PERSON =
+            "<person><name>Joseph</name><age>23</age><address>Nazareth</address></person>".getBytes(StandardCharsets.UTF_8);
+
+    @Param(value = {"0", "32"})
+    private int poolSize;
+
+    private volatile ApplicationHandler handler;
+
+    @Setup
+    public void start() throws Exception {
+        handler = new ApplicationHandler(new JaxbApplication(poolSize));
+    }
+
+    @Benchmark
+    public ContainerResponse get() throws Exception {
+        return handler.apply(ContainerRequestBuilder
+                .from("/", "GET", handler.getConfiguration())
+                .accept(MediaType.APPLICATION_XML)
+                .build()).get();
+    }
+
+    @Benchmark
+    public ContainerResponse echo() throws Exception {
+        return handler.apply(ContainerRequestBuilder
+                .from("/", "POST", handler.getConfiguration())
+                .accept(MediaType.APPLICATION_XML)
+                .type(MediaType.APPLICATION_XML)
+                .entity(new ByteArrayInputStream(PERSON))
+                .build()).get();
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(JaxbBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
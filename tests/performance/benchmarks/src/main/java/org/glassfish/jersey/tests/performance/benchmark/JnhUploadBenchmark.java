@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
+import org.glassfish.jersey.jnh.connector.JavaNetHttpConnectorProvider;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Upload benchmark of the {@code java.net.http} connector comparing the default buffered request entity with
+ * the {@link RequestEntityProcessing#CHUNKED streamed} one. A generated entity of a gigabyte is posted to a Grizzly
+ * server counting the received bytes. Run with {@code -prof gc} to compare the allocated memory.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class JnhUploadBenchmark {
+
+    private static final URI BASE_URI = URI.create("http://localhost:9009/");
+
+    @Param(value = {"1024"})
+    private int megabytes;
+
+    @Param(value = {"BUFFERED", "CHUNKED"})
+    private RequestEntityProcessing processing;
+
+    private volatile HttpServer server;
+    private volatile Client client;
+
+    @Setup
+    public void start() throws IOException {
+        server = GrizzlyHttpServerFactory.createHttpServer(BASE_URI, new ResourceConfig(UploadResource.class), false);
+        server.start();
+        client = ClientBuilder.newClient(new ClientConfig()
+                .connectorProvider(new JavaNetHttpConnectorProvider())
+                .property(ClientProperties.REQUEST_ENTITY_PROCESSING, processing));
+    }
+
+    @TearDown
+    public void stop() {
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Benchmark
+    public Object upload() {
+        final long size = megabytes * 1024L * 1024L;
+        try (Response response = client.target(BASE_URI).path("upload").request()
+                .post(Entity.entity(new UploadOutput(size), MediaType.APPLICATION_OCTET_STREAM_TYPE))) {
+            final String received = response.readEntity(String.class);
+            if (response.getStatus() != 200 || Long.parseLong(received) != size) {
+                throw new IllegalStateException("Upload failed with status " + response.getStatus() + ": " + received);
+            }
+            return received;
+        }
+    }
+
+    @Path("upload")
+    public static class UploadResource {
+
+        @POST
+        @Consumes(MediaType.APPLICATION_OCTET_STREAM)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String upload(final InputStream entity) throws IOException {
+            final byte[] buffer = new byte[8192];
+            long total = 0;
+            int read;
+            while ((read = entity.read(buffer)) != -1) {
+                total += read;
+            }
+            return Long.toString(total);
+        }
+    }
+
+    /**
+     * Generated entity of the given size.
+     */
+    private static final class UploadOutput implements StreamingOutput {
+
+        private final long size;
+
+        private UploadOutput(final long size) {
+            this.size = size;
+        }
+
+        @Override
+        public void write(final OutputStream output) throws IOException {
+            final byte[] chunk = new byte[8192];
+            for (int i = 0; i < chunk.length; i++) {
+                chunk[i] = (byte) ('a' + i % 26);
+            }
+            for (long written = 0; written < size; written += chunk.length) {
+                output.write(chunk, 0, (int) Math.min(chunk.length, size - written));
+            }
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(JnhUploadBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.media.multipart.FormDataParam;
+import org.glassfish.jersey.media.multipart.MultiPartFeature;
+import org.glassfish.jersey.media.multipart.MultiPartProperties;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.util.server.ContainerRequestBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * {@code multipart/form-data} upload benchmark comparing the default MIMEPull based reading of the request entity with
+ * the {@link MultiPartProperties#STREAMING streaming} mode. A file of several gigabytes is uploaded to a resource method
+ * consuming it as an {@code @FormDataParam} {@link InputStream} in a JVM with a small fixed heap.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx128m")
+@State(Scope.Benchmark)
+public class MultiPartBenchmark {
+
+    private static final String BOUNDARY = "Boundary_1_2034567890_1700000000000";
+
+    @Param(value = {"1024", "4096"})
+    private int megabytes;
+
+    @Param(value = {"false", "true"})
+    private String streaming;
+
+    private volatile ApplicationHandler handler;
+
+    @Setup
+    public void start() {
+        handler = new ApplicationHandler(new ResourceConfig(UploadResource.class)
+                .register(MultiPartFeature.class)
+                .register(new MultiPartProperties().streaming(Boolean.parseBoolean(streaming)).resolver()));
+    }
+
+    @Benchmark
+    public Object upload() throws Exception {
+        final ContainerResponse response = handler.apply(ContainerRequestBuilder
+                .from("upload", "POST", handler.getConfiguration())
+                .entity(new UploadInputStream(megabytes * 1024L * 1024L))
+                .type(MediaType.MULTIPART_FORM_DATA + "; boundary=" + BOUNDARY)
+                .build()).get();
+
+        if (response.getStatus() != 200) {
+            throw new IllegalStateException("Upload failed with status " + response.getStatus());
+        }
+        return response.getEntity();
+    }
+
+    @Path("upload")
+    public static class UploadResource {
+
+        @POST
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String upload(@FormDataParam("name") final String name,
+                             @FormDataParam("file") final InputStream file) throws IOException {
+            final byte[] buffer = new byte[8192];
+            long total = 0;
+            int read;
+            while ((read = file.read(buffer)) != -1) {
+                total += read;
+            }
+            return name + ":" + total;
+        }
+    }
+
+    /**
+     * Generated {@code multipart/form-data} entity with a short text field followed by a file of the given size.
+     */
+    private static final class UploadInputStream extends InputStream {
+
+        private final byte[] head = ("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"name\"\r\n"
+                + "\r\n"
+                + "upload\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"upload.bin\"\r\n"
+                + "Content-Type: application/octet-stream\r\n"
+                + "\r\n").getBytes(StandardCharsets.US_ASCII);
+        private final byte[] tail = ("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+
+        private final long size;
+        private long position;
+
+        private UploadInputStream(final long size) {
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            final byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            final long total = head.length + size + tail.length;
+            if (position >= total) {
+                return -1;
+            }
+
+            final int count = (int) Math.min(len, total - position);
+            for (int i = 0; i < count; i++) {
+                final long index = position + i;
+                if (index < head.length) {
+                    b[off + i] = head[(int) index];
+                } else if (index < head.length + size) {
+                    b[off + i] = (byte) ('a' + index % 26);
+                } else {
+                    b[off + i] = tail[(int) (index - head.length - size)];
+                }
+            }
+            position += count;
+            return count;
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(MultiPartBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.proxy.WebResourceFactory;
+import org.glassfish.jersey.test.util.client.LoopBackConnectorProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Client benchmark comparing requests made through a {@link WebResourceFactory} proxy with the same requests made
+ * directly through a {@link WebTarget}. The requests are processed by the loop-back connector.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 16, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 16, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProxyClientBenchmark {
+
+    /**
+     * Resource interface of the proxy.
+     */
+    @Path("items")
+    @Produces(MediaType.TEXT_PLAIN)
+    @Consumes(MediaType.TEXT_PLAIN)
+    public interface ItemsResource {
+
+        @GET
+        @Path("{id}")
+        Response get(@PathParam("id") String id, @QueryParam("expand") String expand, @HeaderParam("X-Trace") String trace);
+
+        @POST
+        Response post(String item);
+    }
+
+    private volatile Client client;
+    private volatile WebTarget target;
+    private volatile ItemsResource proxy;
+
+    @Setup
+    public void start() throws Exception {
+        client = ClientBuilder.newClient(LoopBackConnectorProvider.getClientConfig());
+        target = client.target("foo");
+        proxy = WebResourceFactory.newResource(ItemsResource.class, target);
+    }
+
+    @TearDown
+    public void shutdown() {
+        client.close();
+    }
+
+    @Benchmark
+    public Response proxyGet() throws Exception {
+        return proxy.get("42", "all", "trace");
+    }
+
+    @Benchmark
+    public Response targetGet() throws Exception {
+        return target.path("items").path("{id}").resolveTemplate("id", "42").queryParam("expand", "all")
+                .request(MediaType.TEXT_PLAIN).header("X-Trace", "trace").get();
+    }
+
+    @Benchmark
+    public Response proxyPost() throws Exception {
+        return proxy.post("bar");
+    }
+
+    @Benchmark
+    public Response targetPost() throws Exception {
+        return target.path("items").request(MediaType.TEXT_PLAIN).post(Entity.entity("bar", MediaType.TEXT_PLAIN));
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(ProxyClientBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
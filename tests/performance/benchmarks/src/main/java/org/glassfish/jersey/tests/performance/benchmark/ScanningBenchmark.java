@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.internal.scanning.ResourceIndex;
+
+import jersey.repackaged.org.objectweb.asm.AnnotationVisitor;
+import jersey.repackaged.org.objectweb.asm.ClassWriter;
+import jersey.repackaged.org.objectweb.asm.MethodVisitor;
+import jersey.repackaged.org.objectweb.asm.Opcodes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Application startup benchmark comparing the package scanning of class files with the build-time
+ * {@link ResourceIndex resource index} for generated applications with a growing number of classes. Every other
+ * generated class is a root resource, the rest are plain classes the scanning has to read as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 8, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 8, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScanningBenchmark {
+
+    private static final String PACKAGE = "org.glassfish.jersey.tests.performance.benchmark.scanning";
+
+    @Param(value = {"100", "1000"})
+    private int classes;
+
+    @Param(value = {"false", "true"})
+    private String index;
+
+    private Path directory;
+    private URLClassLoader classLoader;
+
+    @Setup
+    public void start() throws Exception {
+        directory = Files.createTempDirectory("jersey-scanning");
+        final Path packageDirectory = directory.resolve(PACKAGE.replace('.', File.separatorChar));
+        Files.createDirectories(packageDirectory);
+
+        final List<String> resources = new ArrayList<>();
+        for (int i = 0; i < classes; i++) {
+            final String className = PACKAGE + ".Class" + i;
+            final boolean resource = i % 2 == 0;
+            Files.write(packageDirectory.resolve("Class" + i + ".class"),
+                    generateClass(className, resource ? "class" + i : null));
+            if (resource) {
+                resources.add(className);
+            }
+        }
+
+        final Path indexFile = directory.resolve(ResourceIndex.LOCATION);
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, String.join("\n", resources).getBytes(StandardCharsets.UTF_8));
+
+        classLoader = new URLClassLoader(new URL[] {directory.toUri().toURL()}, ScanningBenchmark.class.getClassLoader());
+    }
+
+    @TearDown
+    public void stop() throws IOException {
+        classLoader.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public Set<Class<?>> scan() {
+        return createApplication().getClasses();
+    }
+
+    @Benchmark
+    public ApplicationHandler startup() {
+        return new ApplicationHandler(createApplication());
+    }
+
+    private ResourceConfig createApplication() {
+        return new ResourceConfig()
+                .property(ServerProperties.PROVIDER_SCANNING_INDEX_ENABLED, Boolean.valueOf(index))
+                // Turn off Monitoring to not affect benchmarks.
+                .property(ServerProperties.MONITORING_ENABLED, false)
+                .property(ServerProperties.MONITORING_STATISTICS_ENABLED, false)
+                .property(ServerProperties.MONITORING_STATISTICS_MBEANS_ENABLED, false)
+                .packages(true, classLoader, PACKAGE);
+    }
+
+    /**
+     * Generate a public class, optionally a root resource with the given path and a {@code GET} resource method.
+     */
+    private static byte[] generateClass(final String className, final String path) {
+        final String internalName = className.replace('.', '/');
+        final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null, "java/lang/Object", null);
+
+        if (path != null) {
+            final AnnotationVisitor av = cw.visitAnnotation("Ljakarta/ws/rs/Path;", true);
+            av.visit("value", path);
+            av.visitEnd();
+        }
+
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "get", "()Ljava/lang/String;", null, null);
+        if (path != null) {
+            mv.visitAnnotation("Ljakarta/ws/rs/GET;", true).visitEnd();
+        }
+        mv.visitCode();
+        mv.visitLdcInsn(className);
+        mv.visitInsn(Opcodes.ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(ScanningBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.jersey.internal.util.VirtualThreads;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.test.util.server.ContainerRequestBuilder;
+import org.glassfish.jersey.tests.performance.benchmark.server.BlockingApplication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Blocking {@link org.glassfish.jersey.server.ManagedAsync managed asynchronous} resource method benchmark comparing
+ * a bounded pool of platform threads with the virtual threads. Each benchmark operation processes a batch of concurrent
+ * requests, each of them blocking for {@value BlockingApplication#BLOCKING_TIME} ms.
+ * <p>
+ * Virtual threads require JDK 21+, on an older JDK both modes use the platform threads.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 8, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 8, time = 2500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadsBenchmark {
+
+    @Param(value = {"false", "true"})
+    private String virtual;
+
+    @Param(value = {"100", "1000", "10000"})
+    private int concurrency;
+
+    private volatile ApplicationHandler handler;
+
+    @Setup
+    public void start() throws Exception {
+        if (Boolean.valueOf(virtual) && !VirtualThreads.isSupported()) {
+            System.out.println("Virtual threads are not supported by the JDK, platform threads are used.");
+        }
+        handler = new ApplicationHandler(new BlockingApplication(Boolean.valueOf(virtual)));
+    }
+
+    @Benchmark
+    public int measure() throws Exception {
+        final List<Future<ContainerResponse>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            responses.add(handler.apply(ContainerRequestBuilder
+                    .from("blocking", "GET", handler.getConfiguration())
+                    .build()));
+        }
+
+        int status = 0;
+        for (final Future<ContainerResponse> response : responses) {
+            status += response.get().getStatus();
+        }
+        return status;
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                // Register our benchmarks.
+                .include(VirtualThreadsBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
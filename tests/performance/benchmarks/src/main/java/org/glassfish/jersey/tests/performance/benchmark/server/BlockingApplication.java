@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.server;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+
+import org.glassfish.jersey.server.ManagedAsync;
+import org.glassfish.jersey.server.ManagedAsyncExecutor;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.spi.ThreadPoolExecutorProvider;
+
+/**
+ * Application with a {@link ManagedAsync managed asynchronous} resource method that blocks the executing thread
+ * to simulate a blocking I/O call. The resource methods either run on a bounded pool of platform threads, or on virtual
+ * threads.
+ */
+public class BlockingApplication extends ResourceConfig {
+
+    /**
+     * Simulated blocking I/O time in milliseconds.
+     */
+    public static final int BLOCKING_TIME = 10;
+
+    @Path("blocking")
+    @Produces("text/plain")
+    public static class BlockingResource {
+
+        @GET
+        @ManagedAsync
+        public String get() throws InterruptedException {
+            Thread.sleep(BLOCKING_TIME);
+            return "Hello World!";
+        }
+    }
+
+    /**
+     * Bounded pool of platform threads, sized as a typical request processing thread pool.
+     */
+    @ManagedAsyncExecutor
+    public static class BoundedExecutorProvider extends ThreadPoolExecutorProvider {
+
+        public BoundedExecutorProvider() {
+            super("blocking-benchmark-executor");
+        }
+
+        @Override
+        protected int getCorePoolSize() {
+            return getMaximumPoolSize();
+        }
+
+        @Override
+        protected int getMaximumPoolSize() {
+            return 200;
+        }
+    }
+
+    public BlockingApplication(final boolean virtual) {
+        register(BlockingResource.class);
+
+        if (virtual) {
+            property(ServerProperties.THREADS_USE_VIRTUAL, true);
+        } else {
+            register(BoundedExecutorProvider.class);
+        }
+
+        // Turn off Monitoring to not affect benchmarks.
+        property(ServerProperties.MONITORING_ENABLED, false);
+        property(ServerProperties.MONITORING_STATISTICS_ENABLED, false);
+        property(ServerProperties.MONITORING_STATISTICS_MBEANS_ENABLED, false);
+    }
+}
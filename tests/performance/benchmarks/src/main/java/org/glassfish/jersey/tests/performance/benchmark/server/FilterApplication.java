@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.SequenceInputStream;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NameBinding;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.DynamicFeature;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.FeatureContext;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+/**
+ * Application mirroring the {@code filter-*} and {@code interceptor-*} performance test cases. Depending on the binding,
+ * request/response filters or reader/writer interceptors are either not registered at all ({@code none}), registered
+ * globally ({@code global}), bound by name ({@code name}) or bound by a {@link DynamicFeature} ({@code dynamic}).
+ */
+public class FilterApplication extends ResourceConfig {
+
+    public FilterApplication(final String binding, final String providers) {
+        register(FilterResource.class);
+
+        final Class<?> provider = "interceptor".equals(providers) ? TestInterceptor.class : TestFilter.class;
+        final Class<?> nameBoundProvider = "interceptor".equals(providers) ? NameBoundInterceptor.class : NameBoundFilter.class;
+        switch (binding) {
+            case "global":
+                register(provider);
+                break;
+            case "name":
+                register(nameBoundProvider);
+                break;
+            case "dynamic":
+                register(new DynamicBinding(provider));
+                break;
+            default:
+                break;
+        }
+
+        // Turn off Monitoring to not affect benchmarks.
+        property(ServerProperties.MONITORING_ENABLED, false);
+        property(ServerProperties.MONITORING_STATISTICS_ENABLED, false);
+        property(ServerProperties.MONITORING_STATISTICS_MBEANS_ENABLED, false);
+    }
+
+    /**
+     * Name binding annotation.
+     */
+    @NameBinding
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.TYPE, ElementType.METHOD})
+    public @interface Bound {
+    }
+
+    /**
+     * Filtered and intercepted resource.
+     */
+    @Path("filter")
+    @Consumes(MediaType.TEXT_PLAIN)
+    @Produces(MediaType.TEXT_PLAIN)
+    @Bound
+    public static class FilterResource {
+
+        @POST
+        public String echo(final String text) {
+            return text;
+        }
+
+        @GET
+        public String get() {
+            return "text";
+        }
+    }
+
+    /**
+     * Request and response filter.
+     */
+    public static class TestFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+        @Override
+        public void filter(final ContainerRequestContext requestContext) throws IOException {
+            if (requestContext.hasEntity()) {
+                requestContext.setEntityStream(new SequenceInputStream(new ByteArrayInputStream("IN ".getBytes()),
+                        requestContext.getEntityStream()));
+            }
+        }
+
+        @Override
+        public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext)
+                throws IOException {
+            if (responseContext.hasEntity()) {
+                responseContext.setEntity(responseContext.getEntity() + " OUT", null, MediaType.TEXT_PLAIN_TYPE);
+            }
+        }
+    }
+
+    /**
+     * Name bound request and response filter.
+     */
+    @Bound
+    public static class NameBoundFilter extends TestFilter {
+    }
+
+    /**
+     * Dynamic feature binding the provider to the filtered resource.
+     */
+    public static class DynamicBinding implements DynamicFeature {
+
+        private final Class<?> provider;
+
+        public DynamicBinding(final Class<?> provider) {
+            this.provider = provider;
+        }
+
+        @Override
+        public void configure(final ResourceInfo resourceInfo, final FeatureContext context) {
+            if (FilterResource.class == resourceInfo.getResourceClass()) {
+                context.register(provider);
+            }
+        }
+    }
+
+    /**
+     * Reader and writer interceptor.
+     */
+    public static class TestInterceptor implements ReaderInterceptor, WriterInterceptor {
+
+        @Override
+        public Object aroundReadFrom(final ReaderInterceptorContext context) throws IOException {
+            context.setInputStream(new SequenceInputStream(new ByteArrayInputStream("READ ".getBytes()),
+                    context.getInputStream()));
+            return context.proceed();
+        }
+
+        @Override
+        public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+            context.getOutputStream().write("WRITE ".getBytes());
+            context.proceed();
+        }
+    }
+
+    /**
+     * Name bound reader and writer interceptor.
+     */
+    @Bound
+    public static class NameBoundInterceptor extends TestInterceptor {
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.jersey.tests.performance.benchmark.server;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.jackson.JacksonFeature;
+import org.glassfish.jersey.linking.Binding;
+import org.glassfish.jersey.linking.DeclarativeLinkingFeature;
+import org.glassfish.jersey.linking.InjectLink;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+
+/**
+ * Application returning a list of entities with links injected by the {@link DeclarativeLinkingFeature declarative
+ * linking} into each of the entities.
+ */
+public class LinkingApplication extends ResourceConfig {
+
+    /**
+     * Number of entities in the list returned by the {@code items} resource.
+     */
+    public static final int ITEMS = 10_000;
+
+    public LinkingApplication() {
+        register(ItemsResource.class);
+        register(DeclarativeLinkingFeature.class);
+        register(JacksonFeature.class);
+
+        // Turn off Monitoring to not affect benchmarks.
+        property(ServerProperties.MONITORING_ENABLED, false);
+        property(ServerProperties.MONITORING_STATISTICS_ENABLED, false);
+        property(ServerProperties.MONITORING_STATISTICS_MBEANS_ENABLED, false);
+    }
+
+    /**
+     * Resource returning the linked entities.
+     */
+    @Path("items")
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class ItemsResource {
+
+        @GET
+        public List<Item> list() {
+            final List<Item> items = new ArrayList<>(ITEMS);
+            for (int i = 0; i < ITEMS; i++) {
+                items.add(new Item(i));
+            }
+            return items;
+        }
+
+        @GET
+        @Path("{id}")
+        public Item get(@PathParam("id") final int id) {
+            return new Item(id);
+        }
+    }
+
+    /**
+     * Entity with links to itself, to its parts and to the list of items.
+     */
+    public static class Item {
+
+        private final int id;
+        private final String name;
+        private final BigDecimal price;
+        private final Date created = new Date();
+
+        @InjectLink(resource = ItemsResource.class, method = "get", style = InjectLink.Style.ABSOLUTE)
+        private URI self;
+
+        @InjectLink(value = "items/{id}/parts", condition = "${instance.id % 2 == 0}",
+                bindings = @Binding(name = "id", value = "${instance.id}"))
+        private String parts;
+
+        @InjectLink(resource = ItemsResource.class, style = InjectLink.Style.RELATIVE_PATH)
+        private String collection;
+
+        public Item(final int id) {
+            this.id = id;
+            this.name = "item-" + id;
+            this.price = BigDecimal.valueOf(id, 2);
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public Date getCreated() {
+            return created;
+        }
+
+        public URI getSelf() {
+            return self;
+        }
+
+        public String getParts() {
+            return parts;
+        }
+
+        public String getCollection() {
+            return collection;
+        }
+    }
+}
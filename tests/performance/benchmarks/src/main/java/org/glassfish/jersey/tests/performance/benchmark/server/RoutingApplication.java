@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.tests.performance.benchmark.server;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.Response;
+
+import org.glassfish.jersey.process.Inflector;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.ServerProperties;
+import org.glassfish.jersey.server.model.Resource;
+
+/**
+ * Application with a configurable number of programmatic root resources, each of them having a resource method,
+ * a sub-resource method with a literal path and a sub-resource method with a path template.
+ */
+public class RoutingApplication extends ResourceConfig {
+
+    private static final Inflector<ContainerRequestContext, Response> OK = requestContext -> Response.ok().build();
+
+    public RoutingApplication(final int resources, final boolean trie) {
+        for (int i = 0; i < resources; i++) {
+            final Resource.Builder builder = Resource.builder("resource" + i);
+            builder.addMethod("GET").handledBy(OK);
+            builder.addChildResource("items").addMethod("GET").handledBy(OK);
+            builder.addChildResource("{id}").addMethod("GET").handledBy(OK);
+            registerResources(builder.build());
+        }
+
+        property(ServerProperties.TRIE_ROUTING_ENABLED, trie);
+
+        // Turn off Monitoring to not affect benchmarks.
+        property(ServerProperties.MONITORING_ENABLED, false);
+        property(ServerProperties.MONITORING_STATISTICS_ENABLED, false);
+        property(ServerProperties.MONITORING_STATISTICS_MBEANS_ENABLED, false);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.jersey.jdk.connector.internal;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.InvocationCallback;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.Application;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.jdk.connector.JdkConnectorProperties;
+import org.glassfish.jersey.jdk.connector.JdkConnectorProvider;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stress test of the JDK connector connection pool. Measures the throughput of asynchronous requests sent
+ * to a single destination with an increasing number of requests in flight.
+ */
+public class ConnectionPoolStressTest extends JerseyTest {
+
+    private static final Logger LOGGER = Logger.getLogger(ConnectionPoolStressTest.class.getName());
+
+    private static final int[] CONCURRENCY_LEVELS = {1, 16, 128, 512, 2000};
+    private static final int REQUESTS_PER_LEVEL = 10_000;
+    private static final int MAX_CONNECTIONS = 20;
+    private static final int TIMEOUT_SECONDS = 120;
+
+    @Path("/pool")
+    public static class PoolResource {
+
+        @GET
+        public String get(@QueryParam("delay") final int delay) throws InterruptedException {
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+            return "ok";
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return new ResourceConfig(PoolResource.class);
+    }
+
+    @Override
+    protected void configureClient(final ClientConfig config) {
+        config.connectorProvider(new JdkConnectorProvider());
+        config.property(JdkConnectorProperties.MAX_CONNECTIONS_PER_DESTINATION, MAX_CONNECTIONS);
+    }
+
+    @Test
+    public void testThroughputVsConcurrency() throws InterruptedException {
+        final WebTarget target = target("pool");
+
+        // warm up the connections and the server
+        run(target, 128, REQUESTS_PER_LEVEL);
+
+        for (final int concurrency : CONCURRENCY_LEVELS) {
+            final long start = System.nanoTime();
+            final int failed = run(target, concurrency, REQUESTS_PER_LEVEL);
+            final long elapsed = System.nanoTime() - start;
+
+            assertEquals(0, failed, "Failed requests with concurrency " + concurrency);
+            LOGGER.info(String.format("concurrency: %5d, throughput: %8.0f req/s",
+                    concurrency, REQUESTS_PER_LEVEL / (elapsed / 1e9)));
+        }
+    }
+
+    @Test
+    public void testPendingRequestsLimit() throws InterruptedException {
+        final int maxPending = 10;
+        final ClientConfig config = new ClientConfig()
+                .connectorProvider(new JdkConnectorProvider())
+                .property(JdkConnectorProperties.MAX_CONNECTIONS_PER_DESTINATION, 1)
+                .property(JdkConnectorProperties.MAX_PENDING_REQUESTS_PER_DESTINATION, maxPending);
+        final Client client = ClientBuilder.newClient(config);
+
+        try {
+            final int requests = 100;
+            final CountDownLatch latch = new CountDownLatch(requests);
+            final AtomicInteger completed = new AtomicInteger();
+            final AtomicInteger rejected = new AtomicInteger();
+
+            final WebTarget target = client.target(getBaseUri()).path("pool").queryParam("delay", 100);
+            for (int i = 0; i < requests; i++) {
+                target.request().async().get(new InvocationCallback<String>() {
+                    @Override
+                    public void completed(final String response) {
+                        completed.incrementAndGet();
+                        latch.countDown();
+                    }
+
+                    @Override
+                    public void failed(final Throwable throwable) {
+                        rejected.incrementAndGet();
+                        latch.countDown();
+                    }
+                });
+            }
+
+            assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertTrue(rejected.get() > 0, "No request rejected");
+            assertTrue(completed.get() >= maxPending, "Completed requests: " + completed.get());
+            assertEquals(requests, completed.get() + rejected.get());
+        } finally {
+            client.close();
+        }
+    }
+
+    private static int run(final WebTarget target, final int concurrency, final int requests) throws InterruptedException {
+        final Semaphore inFlight = new Semaphore(concurrency);
+        final CountDownLatch latch = new CountDownLatch(requests);
+        final AtomicInteger failed = new AtomicInteger();
+
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            target.request().async().get(new InvocationCallback<String>() {
+                @Override
+                public void completed(final String response) {
+                    inFlight.release();
+                    latch.countDown();
+                }
+
+                @Override
+                public void failed(final Throwable throwable) {
+                    failed.incrementAndGet();
+                    inFlight.release();
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "Requests did not finish in time");
+        return failed.get();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,6 +18,7 @@ package org.glassfish.jersey.server.internal.monitoring;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -31,6 +32,7 @@ import org.glassfish.jersey.internal.guava.ThreadFactoryBuilder;
 
 import org.glassfish.jersey.server.internal.monitoring.core.TimeReservoir;
 import org.glassfish.jersey.server.internal.monitoring.core.UniformTimeSnapshot;
+import org.glassfish.jersey.server.monitoring.TimeWindowStatistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -88,6 +90,17 @@ public class MultiThreadingAggregatedReservoirTest {
                             time10DaysAggregatedReservoir
                     ));
 
+    private final BucketedSlidingWindowTimeReservoir unlimitedBucketedReservoir =
+            new BucketedSlidingWindowTimeReservoir(0, TimeUnit.NANOSECONDS, startTime(), startUnitTime);
+    private final BucketedSlidingWindowTimeReservoir time1DayBucketedReservoir =
+            new BucketedSlidingWindowTimeReservoir(1, TimeUnit.DAYS, startTime(), startUnitTime);
+    private final List<BucketedSlidingWindowTimeReservoir> bucketedTimeReservoirs =
+            Arrays.asList(
+                    new BucketedSlidingWindowTimeReservoir(10, TimeUnit.MICROSECONDS, startTime(), startUnitTime),
+                    new BucketedSlidingWindowTimeReservoir(1, TimeUnit.SECONDS, startTime(), startUnitTime),
+                    time1DayBucketedReservoir,
+                    unlimitedBucketedReservoir);
+
     /**
      * Determines the start time of the test.
      *
@@ -164,6 +177,128 @@ public class MultiThreadingAggregatedReservoirTest {
                      (double) sum / incrementer.get(), snapshotTime - startTime());
     }
 
+    /**
+     * Runs {@link #PRODUCER_COUNT} producers that update all the {@link #bucketedTimeReservoirs lock-free bucketed reservoirs}
+     * with sequentially increasing values generated by {@link @incrementer}. In the meantime, {@link #CONSUMER_COUNT} consumers
+     * retrieve snapshots from the reservoirs in order to increase the level of concurrency. No value may be lost regardless
+     * of the rate of updates.
+     *
+     * @throws InterruptedException If any of the thread was interrupted and the test result won't be reliable
+     */
+    @Test
+    public void parallelProducersAndConsumersTestingBucketedSlidingWindows() throws InterruptedException {
+
+        executeInParallel(consumerExecutorService, CONSUMER_COUNT, new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (!doShutdown && !Thread.currentThread().isInterrupted()) {
+                        bucketedTimeReservoirs.get(ThreadLocalRandom.current().nextInt(bucketedTimeReservoirs.size()))
+                                              .getSnapshot(System.nanoTime(), TimeUnit.NANOSECONDS);
+                        Thread.sleep(10);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        executeInParallel(producerExecutorService, PRODUCER_COUNT, new Runnable() {
+            @Override
+            public void run() {
+                while (!doShutdown) {
+                    final int value = incrementer.incrementAndGet();
+                    final long now = System.nanoTime();
+                    for (final BucketedSlidingWindowTimeReservoir reservoir : bucketedTimeReservoirs) {
+                        reservoir.update(value, now, TimeUnit.NANOSECONDS);
+                    }
+                }
+            }
+        });
+
+        shutdownAndAwaitTermination();
+
+        final long snapshotTime = System.nanoTime();
+        final long sum = (long) incrementer.get() * (incrementer.get() + 1) / 2;
+
+        LOGGER.info("Integer reached: " + incrementer.get());
+
+        checkInNanos(time1DayBucketedReservoir, snapshotTime, incrementer.get(), 1, incrementer.get(),
+                     (double) sum / incrementer.get(), snapshotTime - startTime());
+        checkInNanos(unlimitedBucketedReservoir, snapshotTime, incrementer.get(), 1, incrementer.get(),
+                     (double) sum / incrementer.get(), snapshotTime - startTime());
+    }
+
+    /**
+     * Runs {@link #PRODUCER_COUNT} producers recording request executions and response codes directly into the monitoring
+     * statistics builder while {@link #CONSUMER_COUNT} consumers build the statistics. The built statistics must account
+     * for every recorded request.
+     *
+     * @throws InterruptedException If any of the thread was interrupted and the test result won't be reliable
+     */
+    @Test
+    public void parallelProducersAndConsumersTestingMonitoringStatisticsBuilder() throws InterruptedException {
+        final MonitoringStatisticsImpl.Builder statisticsBuilder = new MonitoringStatisticsImpl.Builder();
+
+        executeInParallel(consumerExecutorService, CONSUMER_COUNT, new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (!doShutdown && !Thread.currentThread().isInterrupted()) {
+                        statisticsBuilder.build();
+                        Thread.sleep(10);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        executeInParallel(producerExecutorService, PRODUCER_COUNT, new Runnable() {
+            @Override
+            public void run() {
+                while (!doShutdown) {
+                    final int value = incrementer.incrementAndGet();
+                    statisticsBuilder.addRequestExecution(System.currentTimeMillis(), value);
+                    statisticsBuilder.addResponseCode(value % 2 == 0 ? 200 : 404);
+                    statisticsBuilder.getExceptionMapperStatisticsBuilder().addMapping(true, 1);
+                }
+            }
+        });
+
+        shutdownAndAwaitTermination();
+
+        final MonitoringStatisticsImpl statistics = statisticsBuilder.build();
+        final long count = incrementer.get();
+        final long sum = count * (count + 1) / 2;
+
+        LOGGER.info("Integer reached: " + count);
+
+        final TimeWindowStatistics infiniteWindow = statistics.getRequestStatistics().getTimeWindowStatistics().get(0L);
+        assertEquals(count, infiniteWindow.getRequestCount(), "Total count does not match!");
+        assertEquals(1, infiniteWindow.getMinimumDuration(), "Min exec time does not match!");
+        assertEquals(count, infiniteWindow.getMaximumDuration(), "Max exec time does not match!");
+        assertEquals((double) sum / count, infiniteWindow.getAverageDuration(), 1, "Average exec time does not match!");
+
+        final Map<Integer, Long> responseCodes = statistics.getResponseStatistics().getResponseCodes();
+        assertEquals(count / 2, (long) responseCodes.get(200), "Response code count does not match!");
+        assertEquals(count - count / 2, (long) responseCodes.get(404), "Response code count does not match!");
+        assertEquals(count, statistics.getExceptionMapperStatistics().getSuccessfulMappings(), "Mappings do not match!");
+    }
+
+    private void shutdownAndAwaitTermination() throws InterruptedException {
+        Thread.sleep(TEST_DURATION_MILLIS);
+        LOGGER.info("Shutting down...");
+
+        doShutdown = true;
+        producerExecutorService.shutdown();
+        consumerExecutorService.shutdown();
+        Assertions.assertTrue(consumerExecutorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS),
+                          "Consumer tasks didn't terminated peacefully, aborting this test.");
+        Assertions.assertTrue(producerExecutorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS),
+                          "Producer tasks didn't terminated peacefully, aborting this test.");
+    }
+
     private void executeInParallel(final Executor consumerExecutorService, final int count, final Runnable runnable) {
         for (int i = 0; i < count; ++i) {
             consumerExecutorService.execute(runnable);